@@ -0,0 +1,146 @@
+package io.github.coderodde.graph.hyper.benchmark;
+
+import io.github.coderodde.graph.hyper.HyperGraphEdge;
+import io.github.coderodde.graph.hyper.HyperGraphNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * This class generates the random hypergraphs of the benchmarks. The weights
+ * follow {@code demo.Demo}: the node weights are within {@code [0, 5]} and the
+ * hyperedge weights within {@code [1, 11]}. There are 2 hyperedges per 5 
+ * nodes.
+ * <p>
+ * A hyperedge size distribution is either {@code "min-max"}, drawing the 
+ * sizes uniformly from {@code [min, max]}, or {@code "power:min-max"}, drawing
+ * them from a power law with exponent 2 truncated to {@code [min, max]}, which
+ * yields mostly small hyperedges and a few large hubs.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+final class BenchmarkGraphs {
+    
+    static final int MAXIMUM_NODE_WEIGHT = 5;
+    static final int MINIMUM_EDGE_WEIGHT = 1;
+    static final int MAXIMUM_EDGE_WEIGHT = 11;
+    
+    private static final String POWER_LAW_PREFIX = "power:";
+    
+    private BenchmarkGraphs() {
+        
+    }
+    
+    static <W> List<HyperGraphNode<Integer, Integer, W>> 
+        getRandomHyperGraph(Random random,
+                            int nodeCount,
+                            String edgeSizes,
+                            IntFunction<W> weightMapper) {
+        
+        boolean powerLaw = edgeSizes.startsWith(POWER_LAW_PREFIX);
+        String range = powerLaw ? 
+                       edgeSizes.substring(POWER_LAW_PREFIX.length()) : 
+                       edgeSizes;
+        
+        String[] bounds = range.split("-");
+        int minimumEdgeSize = Integer.parseInt(bounds[0]);
+        int maximumEdgeSize = Integer.parseInt(bounds[1]);
+        int edgeCount = 2 * nodeCount / 5;
+        
+        List<HyperGraphNode<Integer, Integer, W>> nodes = 
+                new ArrayList<>(nodeCount);
+        
+        for (int id = 0; id < nodeCount; ++id) {
+            int weight = random.nextInt(MAXIMUM_NODE_WEIGHT + 1);
+            nodes.add(new HyperGraphNode<>(id, weightMapper.apply(weight)));
+        }
+        
+        for (int id = 0; id < edgeCount; ++id) {
+            int weight = MINIMUM_EDGE_WEIGHT 
+                       + random.nextInt(MAXIMUM_EDGE_WEIGHT 
+                                      - MINIMUM_EDGE_WEIGHT + 1);
+            
+            HyperGraphEdge<Integer, Integer, W> edge = 
+                    new HyperGraphEdge<>(id, weightMapper.apply(weight));
+            
+            int edgeSize = powerLaw ? 
+                    getPowerLawSize(random, minimumEdgeSize, maximumEdgeSize) :
+                    minimumEdgeSize + random.nextInt(maximumEdgeSize 
+                                                   - minimumEdgeSize + 1);
+            
+            for (int i = 0; i < edgeSize; ++i) {
+                edge.connectNode(nodes.get(random.nextInt(nodeCount)));
+            }
+        }
+        
+        return nodes;
+    }
+    
+    /**
+     * Appends {@code count} nodes with no hyperedges to {@code nodes}, with the
+     * ids following the last node, so that the graph has unreachable nodes 
+     * however well connected the rest of it is.
+     */
+    static <W> void addIsolatedNodes(List<HyperGraphNode<Integer, Integer, W>> 
+                                             nodes,
+                                     int count,
+                                     W weight) {
+        
+        for (int i = 0; i < count; ++i) {
+            nodes.add(new HyperGraphNode<>(nodes.size(), weight));
+        }
+    }
+    
+    /**
+     * Returns the index of the connected component of each node. Two nodes 
+     * are in the same component if and only if a path connects them.
+     */
+    static int[] getComponents(List<? extends HyperGraphNode<Integer, 
+                                                             Integer, 
+                                                             ?>> nodes) {
+        int[] parents = new int[nodes.size()];
+        
+        for (int i = 0; i < parents.length; ++i) {
+            parents[i] = i;
+        }
+        
+        for (HyperGraphNode<Integer, Integer, ?> node : nodes) {
+            for (HyperGraphEdge<Integer, Integer, ?> edge 
+                    : node.getIncidentHyperEdges()) {
+                
+                for (HyperGraphNode<Integer, Integer, ?> member
+                        : edge.getIncidentHyperNodes()) {
+                    
+                    int root1 = find(parents, node.getId());
+                    int root2 = find(parents, member.getId());
+                    parents[root1] = root2;
+                }
+            }
+        }
+        
+        for (int i = 0; i < parents.length; ++i) {
+            parents[i] = find(parents, i);
+        }
+        
+        return parents;
+    }
+    
+    private static int find(int[] parents, int node) {
+        while (parents[node] != node) {
+            parents[node] = parents[parents[node]];
+            node = parents[node];
+        }
+        
+        return node;
+    }
+    
+    private static int getPowerLawSize(Random random, 
+                                       int minimumEdgeSize, 
+                                       int maximumEdgeSize) {
+        double size = minimumEdgeSize / (1.0 - random.nextDouble());
+        return (int) Math.min(size, maximumEdgeSize);
+    }
+}
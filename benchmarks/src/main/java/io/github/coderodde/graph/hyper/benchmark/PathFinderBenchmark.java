@@ -0,0 +1,299 @@
+package io.github.coderodde.graph.hyper.benchmark;
+
+import io.github.coderodde.graph.hyper.DoubleWeightFunction;
+import io.github.coderodde.graph.hyper.HyperGraphNode;
+import io.github.coderodde.graph.hyper.HyperGraphPath;
+import io.github.coderodde.graph.hyper.HyperGraphPathFinder;
+import io.github.coderodde.graph.hyper.HyperGraphSnapshot;
+import io.github.coderodde.graph.hyper.HyperGraphSnapshotPathFinder;
+import io.github.coderodde.graph.hyper.LongWeightFunction;
+import io.github.coderodde.graph.hyper.SearchContext;
+import io.github.coderodde.graph.hyper.WeightFunction;
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import io.github.coderodde.graph.hyper.demo.RealWeightFunction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the point-to-point searches of 
+ * {@link HyperGraphPathFinder} and {@link HyperGraphSnapshotPathFinder}. Each
+ * invocation runs a single query, cycling through a fixed set of random 
+ * source/target pairs, so that the average time is the time of a query.
+ * <p>
+ * Build and run from the repository root with
+ * <pre>
+ * mvn install -DskipTests
+ * mvn -f benchmarks/pom.xml package
+ * java -jar benchmarks/target/benchmarks.jar PathFinderBenchmark -prof gc
+ * </pre>
+ * The {@code gc} profiler reports the bytes allocated per query as 
+ * {@code gc.alloc.rate.norm}. A subset of the parameters is chosen with, for 
+ * example, {@code -p nodeCount=100000 -p weights=bounded}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PathFinderBenchmark {
+    
+    private static final int QUERIES = 256;
+    private static final int ISOLATED_NODES = 64;
+    
+    @Param({"10000", "100000", "1000000"})
+    int nodeCount;
+    
+    /**
+     * The hyperedge size distribution, as documented in 
+     * {@link BenchmarkGraphs}.
+     */
+    @Param({"2-8", "8-32", "power:2-256"})
+    String edgeSizes;
+    
+    /**
+     * {@code integer} for the unbounded {@link IntegerWeightFunction},
+     * {@code bounded} for the {@link IntegerWeightFunction} declaring its 
+     * bound, and {@code real} for the {@link RealWeightFunction}.
+     */
+    @Param({"integer", "bounded", "real"})
+    String weights;
+    
+    /**
+     * {@code reachable} for the pairs within the largest connected component,
+     * or {@code unreachable} for the pairs with the target outside the 
+     * component of the source. Since the larger hyperedges often connect the
+     * whole graph, the unreachable pairs get {@link #ISOLATED_NODES} extra
+     * nodes with no hyperedges to choose the targets from, in addition to any
+     * smaller components.
+     */
+    @Param({"reachable", "unreachable"})
+    String pairs;
+    
+    private WeightFunction<Object> weightFunction;
+    private List<HyperGraphNode<Integer, Integer, Object>> nodes;
+    private HyperGraphSnapshot<Integer, Integer, Object> snapshot;
+    private int[] sources;
+    private int[] targets;
+    
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Random random = new Random(13L);
+        int bound = Math.max(BenchmarkGraphs.MAXIMUM_NODE_WEIGHT, 
+                             BenchmarkGraphs.MAXIMUM_EDGE_WEIGHT);
+        
+        switch (weights) {
+            case "integer" -> {
+                weightFunction = (WeightFunction<Object>)(WeightFunction<?>) 
+                        new IntegerWeightFunction();
+                
+                nodes = BenchmarkGraphs.getRandomHyperGraph(random,
+                                                            nodeCount,
+                                                            edgeSizes,
+                                                            w -> w);
+            }
+            
+            case "bounded" -> {
+                weightFunction = (WeightFunction<Object>)(WeightFunction<?>) 
+                        new IntegerWeightFunction(bound);
+                
+                nodes = BenchmarkGraphs.getRandomHyperGraph(random,
+                                                            nodeCount,
+                                                            edgeSizes,
+                                                            w -> w);
+            }
+            
+            case "real" -> {
+                weightFunction = (WeightFunction<Object>)(WeightFunction<?>) 
+                        new RealWeightFunction();
+                
+                nodes = BenchmarkGraphs.getRandomHyperGraph(random,
+                                                            nodeCount,
+                                                            edgeSizes,
+                                                            w -> (double) w);
+            }
+            
+            default -> throw new IllegalArgumentException(
+                    "Unknown weights: " + weights);
+        }
+        
+        if (pairs.equals("unreachable")) {
+            BenchmarkGraphs.addIsolatedNodes(nodes, 
+                                             ISOLATED_NODES, 
+                                             nodes.get(0).getWeight());
+        }
+        
+        snapshot = HyperGraphSnapshot.of(nodes);
+        choosePairs(random);
+    }
+    
+    /**
+     * Holds the state reused by the queries of a single benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class QueryState {
+        
+        final SearchContext context = new SearchContext();
+        int query;
+        
+        int next() {
+            query = (query + 1) % QUERIES;
+            return query;
+        }
+    }
+    
+    @Benchmark
+    public HyperGraphPath<Integer, Integer, Object> find(QueryState state) {
+        int query = state.next();
+        return HyperGraphPathFinder.find(nodes.get(sources[query]),
+                                         nodes.get(targets[query]),
+                                         weightFunction);
+    }
+    
+    @Benchmark
+    public HyperGraphPath<Integer, Integer, Object> biFind(QueryState state) {
+        int query = state.next();
+        return HyperGraphPathFinder.biFind(nodes.get(sources[query]),
+                                           nodes.get(targets[query]),
+                                           weightFunction);
+    }
+    
+    @Benchmark
+    public HyperGraphPath<Integer, Integer, Object> 
+        findReusingContext(QueryState state) {
+        int query = state.next();
+        return HyperGraphPathFinder.find(nodes.get(sources[query]),
+                                         nodes.get(targets[query]),
+                                         weightFunction,
+                                         state.context);
+    }
+    
+    @Benchmark
+    public HyperGraphPath<Integer, Integer, Object> 
+        biFindReusingContext(QueryState state) {
+        int query = state.next();
+        return HyperGraphPathFinder.biFind(nodes.get(sources[query]),
+                                           nodes.get(targets[query]),
+                                           weightFunction,
+                                           state.context);
+    }
+    
+    @Benchmark
+    public HyperGraphPath<Integer, Integer, Object> 
+        snapshotFind(QueryState state) {
+        int query = state.next();
+        return snapshotSearch(false, 
+                              sources[query], 
+                              targets[query], 
+                              state.context);
+    }
+    
+    @Benchmark
+    public HyperGraphPath<Integer, Integer, Object> 
+        snapshotBiFind(QueryState state) {
+        int query = state.next();
+        return snapshotSearch(true, 
+                              sources[query], 
+                              targets[query], 
+                              state.context);
+    }
+    
+    /**
+     * Runs the snapshot search on the primitive weights, as the weight 
+     * function allows.
+     */
+    private HyperGraphPath<Integer, Integer, Object> 
+        snapshotSearch(boolean bidirectional,
+                       int source,
+                       int target, 
+                       SearchContext context) {
+        
+        if (weightFunction instanceof LongWeightFunction<Object> longWeights) {
+            return bidirectional ? 
+                    HyperGraphSnapshotPathFinder.biFind(snapshot,
+                                                        source,
+                                                        target,
+                                                        longWeights,
+                                                        context) :
+                    HyperGraphSnapshotPathFinder.find(snapshot,
+                                                      source,
+                                                      target,
+                                                      longWeights,
+                                                      context);
+        }
+        
+        DoubleWeightFunction<Object> doubleWeights = 
+                (DoubleWeightFunction<Object>) weightFunction;
+        
+        return bidirectional ? 
+                HyperGraphSnapshotPathFinder.biFind(snapshot,
+                                                    source,
+                                                    target,
+                                                    doubleWeights,
+                                                    context) :
+                HyperGraphSnapshotPathFinder.find(snapshot,
+                                                  source,
+                                                  target,
+                                                  doubleWeights,
+                                                  context);
+    }
+    
+    /**
+     * Chooses the query pairs. The node ids equal both their positions in
+     * {@code nodes} and their snapshot indices, since the snapshot indexes the
+     * nodes in the order given.
+     */
+    private void choosePairs(Random random) {
+        int[] components = BenchmarkGraphs.getComponents(nodes);
+        int[] componentSizes = new int[nodes.size()];
+        int largestComponent = 0;
+        
+        for (int component : components) {
+            if (++componentSizes[component] > 
+                    componentSizes[largestComponent]) {
+                largestComponent = component;
+            }
+        }
+        
+        List<Integer> inside = new ArrayList<>();
+        List<Integer> outside = new ArrayList<>();
+        
+        for (int node = 0; node < nodes.size(); ++node) {
+            if (components[node] == largestComponent) {
+                inside.add(node);
+            } else {
+                outside.add(node);
+            }
+        }
+        
+        List<Integer> targetPool = 
+                pairs.equals("reachable") ? inside : outside;
+        
+        sources = new int[QUERIES];
+        targets = new int[QUERIES];
+        
+        for (int i = 0; i < QUERIES; ++i) {
+            sources[i] = inside.get(random.nextInt(inside.size()));
+            targets[i] = targetPool.get(random.nextInt(targetPool.size()));
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueue;
+import java.util.List;
+
+/**
+ * This class implements the goal-directed A* searches over a 
+ * {@link HyperGraphSnapshot}, both unidirectional and bidirectional. The 
+ * nodes are settled in the order of their labels plus a potential derived 
+ * from a consistent {@link Heuristic}, so that the nodes leading away from 
+ * the target are settled late, or not at all. With {@link Landmarks} as the
+ * heuristic, the searches are the ALT algorithm.
+ * <p>
+ * Unlike in the Dijkstra's algorithm, the first member of a hyperedge to be
+ * settled need not have the smallest label among the members, so that each 
+ * hyperedge is scanned from each of its settled members.
+ * <p>
+ * The potentials are real numbers, so that the searches run on the primitive
+ * weights only.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class AStarPathFinder {
+    
+    private AStarPathFinder() {
+        
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> find(HyperGraphSnapshot<I, J, W> graph,
+                                     HyperGraphNode<I, J, W> source,
+                                     HyperGraphNode<I, J, W> target,
+                                     LongWeightFunction<W> weights,
+                                     Heuristic heuristic) {
+        
+        return find(graph,
+                    HyperGraphSnapshotPathFinder.checkNode(graph, source),
+                    HyperGraphSnapshotPathFinder.checkNode(graph, target),
+                    weights,
+                    heuristic,
+                    new SearchContext());
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> biFind(HyperGraphSnapshot<I, J, W> graph,
+                                       HyperGraphNode<I, J, W> source,
+                                       HyperGraphNode<I, J, W> target,
+                                       LongWeightFunction<W> weights,
+                                       Heuristic heuristic) {
+        
+        return biFind(graph,
+                      HyperGraphSnapshotPathFinder.checkNode(graph, source),
+                      HyperGraphSnapshotPathFinder.checkNode(graph, target),
+                      weights,
+                      heuristic,
+                      new SearchContext());
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> find(HyperGraphSnapshot<I, J, W> graph,
+                                     HyperGraphNode<I, J, W> source,
+                                     HyperGraphNode<I, J, W> target,
+                                     DoubleWeightFunction<W> weights,
+                                     Heuristic heuristic) {
+        
+        return find(graph,
+                    HyperGraphSnapshotPathFinder.checkNode(graph, source),
+                    HyperGraphSnapshotPathFinder.checkNode(graph, target),
+                    weights,
+                    heuristic,
+                    new SearchContext());
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> biFind(HyperGraphSnapshot<I, J, W> graph,
+                                       HyperGraphNode<I, J, W> source,
+                                       HyperGraphNode<I, J, W> target,
+                                       DoubleWeightFunction<W> weights,
+                                       Heuristic heuristic) {
+        
+        return biFind(graph,
+                      HyperGraphSnapshotPathFinder.checkNode(graph, source),
+                      HyperGraphSnapshotPathFinder.checkNode(graph, target),
+                      weights,
+                      heuristic,
+                      new SearchContext());
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> find(HyperGraphSnapshot<I, J, W> graph,
+                                     int source,
+                                     int target,
+                                     LongWeightFunction<W> weights,
+                                     Heuristic heuristic,
+                                     SearchContext context) {
+        
+        return find(graph,
+                    source,
+                    target,
+                    context.longLabels(SearchContext.FORWARD, graph, weights),
+                    weights,
+                    heuristic,
+                    context);
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> biFind(HyperGraphSnapshot<I, J, W> graph,
+                                       int source,
+                                       int target,
+                                       LongWeightFunction<W> weights,
+                                       Heuristic heuristic,
+                                       SearchContext context) {
+        
+        return biFind(graph,
+                      source,
+                      target,
+                      context.longLabels(SearchContext.FORWARD, 
+                                         graph, 
+                                         weights),
+                      context.longLabels(SearchContext.BACKWARD, 
+                                         graph, 
+                                         weights),
+                      weights,
+                      heuristic,
+                      context);
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> find(HyperGraphSnapshot<I, J, W> graph,
+                                     int source,
+                                     int target,
+                                     DoubleWeightFunction<W> weights,
+                                     Heuristic heuristic,
+                                     SearchContext context) {
+        
+        return find(graph,
+                    source,
+                    target,
+                    context.doubleLabels(SearchContext.FORWARD, 
+                                         graph, 
+                                         weights),
+                    weights,
+                    heuristic,
+                    context);
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> biFind(HyperGraphSnapshot<I, J, W> graph,
+                                       int source,
+                                       int target,
+                                       DoubleWeightFunction<W> weights,
+                                       Heuristic heuristic,
+                                       SearchContext context) {
+        
+        return biFind(graph,
+                      source,
+                      target,
+                      context.doubleLabels(SearchContext.FORWARD, 
+                                           graph, 
+                                           weights),
+                      context.doubleLabels(SearchContext.BACKWARD, 
+                                           graph, 
+                                           weights),
+                      weights,
+                      heuristic,
+                      context);
+    }
+    
+    private static <I, J, W>
+        HyperGraphPath<I, J, W> find(HyperGraphSnapshot<I, J, W> graph,
+                                     int source,
+                                     int target,
+                                     SearchLabels.PrimitiveLabels labels,
+                                     WeightFunction<W> weights,
+                                     Heuristic heuristic,
+                                     SearchContext context) {
+        
+        if (!graph.areConnected(source, target)) {
+            return new HyperGraphPath<>(weights);
+        }
+        
+        Potentials potentials = 
+                context.potentials(SearchContext.FORWARD, graph);
+        
+        potentials.reset(labels, 
+                         heuristic, 
+                         source, 
+                         target, 
+                         Potentials.UNIDIRECTIONAL);
+        
+        IndexedPriorityQueue open = context.heap(SearchContext.FORWARD,
+                                                 potentials,
+                                                 graph.getNodeCount());
+        
+        labels.start(source, false);
+        open.insert(source);
+        
+        while (!open.isEmpty()) {
+            int current = open.extractMinimum();
+            
+            if (current == target) {
+                return HyperGraphSnapshotPathFinder.tracebackPath(
+                        graph,
+                        current,
+                        labels.parents,
+                        labels.parentEdges,
+                        weights);
+            }
+            
+            labels.close(current);
+            
+            for (int i = graph.nodeEdgeOffsets[current],
+                     iEnd = graph.nodeEdgeOffsets[current + 1];
+                     i < iEnd; 
+                     ++i) {
+                
+                int edge = graph.nodeEdges[i];
+                labels.loadEdge(current, edge);
+                
+                for (int j = graph.edgeNodeOffsets[edge],
+                         jEnd = graph.edgeNodeOffsets[edge + 1];
+                         j < jEnd; 
+                         ++j) {
+                    
+                    int child = graph.edgeNodes[j];
+                    
+                    if (!labels.isClosed(child) && 
+                            labels.relax(child, current, edge)) {
+                        HyperGraphSnapshotPathFinder.update(open, child);
+                    }
+                }
+            }
+        }
+        
+        // Return empty path:
+        return new HyperGraphPath<>(weights);
+    }
+    
+    /**
+     * Runs the bidirectional A* with the average potentials. The labels are 
+     * the same as in the bidirectional Dijkstra's algorithm, and the search 
+     * stops as soon as the keys of the two queue tops sum to at least the 
+     * best meeting.
+     */
+    private static <I, J, W>
+        HyperGraphPath<I, J, W> biFind(HyperGraphSnapshot<I, J, W> graph,
+                                       int source,
+                                       int target,
+                                       SearchLabels.PrimitiveLabels labelsa,
+                                       SearchLabels.PrimitiveLabels labelsb,
+                                       WeightFunction<W> weights,
+                                       Heuristic heuristic,
+                                       SearchContext context) {
+        if (source == target) {
+            return new HyperGraphPath<>(List.of(graph.getNode(source)),
+                                        List.of(),
+                                        weights);
+        }
+        
+        if (!graph.areConnected(source, target)) {
+            return new HyperGraphPath<>(weights);
+        }
+        
+        Potentials potentialsa = 
+                context.potentials(SearchContext.FORWARD, graph);
+        
+        Potentials potentialsb = 
+                context.potentials(SearchContext.BACKWARD, graph);
+        
+        potentialsa.reset(labelsa, 
+                          heuristic, 
+                          source, 
+                          target, 
+                          Potentials.FORWARD);
+        
+        potentialsb.reset(labelsb, 
+                          heuristic, 
+                          source, 
+                          target, 
+                          Potentials.BACKWARD);
+        
+        IndexedPriorityQueue opena = context.heap(SearchContext.FORWARD,
+                                                  potentialsa,
+                                                  graph.getNodeCount());
+        
+        IndexedPriorityQueue openb = context.heap(SearchContext.BACKWARD,
+                                                  potentialsb,
+                                                  graph.getNodeCount());
+        
+        labelsa.start(source, false);
+        labelsb.start(target, true);
+        opena.insert(source);
+        openb.insert(target);
+        
+        while (!opena.isEmpty() && !openb.isEmpty()) {
+            if (labelsa.hasMeeting 
+                    && potentialsa.key(opena.minimum()) 
+                     + potentialsb.key(openb.minimum()) 
+                    >= labelsa.getMeetingAsDouble()) {
+                break;
+            }
+            
+            if (opena.size() + labelsa.closedCount <= 
+                openb.size() + labelsb.closedCount) {
+                
+                HyperGraphSnapshotPathFinder.expand(graph, 
+                                                    opena,
+                                                    labelsa,
+                                                    labelsb,
+                                                    labelsa,
+                                                    true,
+                                                    false);
+            } else {
+                HyperGraphSnapshotPathFinder.expand(graph, 
+                                                    openb,
+                                                    labelsb,
+                                                    labelsa,
+                                                    labelsa,
+                                                    false,
+                                                    false);
+            }
+        }
+        
+        if (!labelsa.hasMeeting) {
+            // Return empty path:
+            return new HyperGraphPath<>(weights);
+        }
+        
+        return HyperGraphSnapshotPathFinder.tracebackPath(
+                graph,
+                labelsa.meetingNodea,
+                labelsa.meetingNodeb,
+                labelsa.meetingEdge,
+                labelsa.parents,
+                labelsa.parentEdges,
+                labelsb.parents,
+                labelsb.parentEdges,
+                weights);
+    }
+}
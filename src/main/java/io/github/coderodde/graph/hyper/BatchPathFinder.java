@@ -0,0 +1,237 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class runs batches of shortest path queries in parallel over a shared
+ * {@link HyperGraphSnapshot}. Since a snapshot is immutable, any number of 
+ * threads may search it concurrently, even while the hypergraph it was built
+ * from is being modified. The snapshot must not be built, however, while 
+ * another thread modifies the hypergraph.
+ * <p>
+ * A batch is served by at most {@code parallelism} workers submitted to the
+ * executor. Each worker owns a {@link SearchContext} and claims the queries
+ * one at a time, so that the searches of different cost are balanced among
+ * the workers and no worker allocates its search state more than once. The
+ * executor may run on platform threads, such as a {@link ForkJoinPool}, or on
+ * virtual threads.
+ * <p>
+ * The paths are returned in the order of the queries.
+ *
+ * @param <I> the type of the node identity object.
+ * @param <J> the type of the edge identity object.
+ * @param <W> the type of the weights.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class BatchPathFinder<I, J, W> {
+    
+    private final HyperGraphSnapshot<I, J, W> graph;
+    private final WeightFunction<W> weights;
+    private final Executor executor;
+    private final int parallelism;
+    
+    public BatchPathFinder(HyperGraphSnapshot<I, J, W> graph,
+                           WeightFunction<W> weights) {
+        this(graph, 
+             weights, 
+             ForkJoinPool.commonPool(), 
+             ForkJoinPool.getCommonPoolParallelism());
+    }
+    
+    public BatchPathFinder(HyperGraphSnapshot<I, J, W> graph,
+                           WeightFunction<W> weights,
+                           Executor executor,
+                           int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "Parallelism " + parallelism + " is less than 1");
+        }
+        
+        this.graph = Objects.requireNonNull(graph, "The graph is null");
+        this.weights = Objects.requireNonNull(weights, 
+                                              "The weight function is null");
+        this.executor = Objects.requireNonNull(executor, 
+                                               "The executor is null");
+        this.parallelism = parallelism;
+    }
+    
+    public HyperGraphSnapshot<I, J, W> getGraph() {
+        return graph;
+    }
+    
+    /**
+     * Runs the Dijkstra's algorithm for each query in {@code queries}.
+     * 
+     * @param queries the queries.
+     * @return the shortest paths in the order of {@code queries}.
+     */
+    public List<HyperGraphPath<I, J, W>> 
+        findAll(List<PathQuery<I, J, W>> queries) {
+        return run(queries, false);
+    }
+    
+    /**
+     * Runs the bidirectional Dijkstra's algorithm for each query in 
+     * {@code queries}.
+     * 
+     * @param queries the queries.
+     * @return the shortest paths in the order of {@code queries}.
+     */
+    public List<HyperGraphPath<I, J, W>> 
+        biFindAll(List<PathQuery<I, J, W>> queries) {
+        return run(queries, true);
+    }
+    
+    public List<HyperGraphPath<I, J, W>> 
+        findAll(Stream<PathQuery<I, J, W>> queries) {
+        return findAll(queries.collect(Collectors.toList()));
+    }
+    
+    public List<HyperGraphPath<I, J, W>> 
+        biFindAll(Stream<PathQuery<I, J, W>> queries) {
+        return biFindAll(queries.collect(Collectors.toList()));
+    }
+    
+    private List<HyperGraphPath<I, J, W>> run(List<PathQuery<I, J, W>> queries,
+                                              boolean bidirectional) {
+        int queryCount = queries.size();
+        int[] sources = new int[queryCount];
+        int[] targets = new int[queryCount];
+        
+        // Resolve all the queries before any search starts, so that an 
+        // invalid query fails in the calling thread:
+        for (int i = 0; i < queryCount; ++i) {
+            PathQuery<I, J, W> query = queries.get(i);
+            sources[i] = checkNode(query.getSource());
+            targets[i] = checkNode(query.getTarget());
+        }
+        
+        @SuppressWarnings("unchecked")
+        HyperGraphPath<I, J, W>[] paths = (HyperGraphPath<I, J, W>[]) 
+                new HyperGraphPath<?, ?, ?>[queryCount];
+        AtomicInteger cursor = new AtomicInteger();
+        int workerCount = Math.min(parallelism, queryCount);
+        List<CompletableFuture<Void>> workers = new ArrayList<>(workerCount);
+        
+        for (int i = 0; i < workerCount; ++i) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                work(sources, targets, paths, cursor, bidirectional);
+            }, executor));
+        }
+        
+        try {
+            CompletableFuture.allOf(
+                    workers.toArray(new CompletableFuture<?>[workerCount]))
+                             .join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            
+            throw ex;
+        }
+        
+        return Arrays.asList(paths);
+    }
+    
+    /**
+     * Answers the queries claimed through {@code cursor} until none are left.
+     * If a search fails, the other workers are stopped from claiming new 
+     * queries.
+     */
+    private void work(int[] sources,
+                      int[] targets,
+                      HyperGraphPath<I, J, W>[] paths,
+                      AtomicInteger cursor,
+                      boolean bidirectional) {
+        
+        SearchContext context = new SearchContext();
+        int query;
+        
+        try {
+            while ((query = cursor.getAndIncrement()) < paths.length) {
+                paths[query] = search(sources[query],
+                                      targets[query],
+                                      bidirectional,
+                                      context);
+            }
+        } catch (RuntimeException | Error ex) {
+            cursor.set(paths.length);
+            throw ex;
+        }
+    }
+    
+    private HyperGraphPath<I, J, W> search(int source, 
+                                           int target,
+                                           boolean bidirectional,
+                                           SearchContext context) {
+        
+        if (weights instanceof LongWeightFunction<W> longWeights) {
+            return bidirectional ?
+                    HyperGraphSnapshotPathFinder.biFind(graph,
+                                                        source,
+                                                        target,
+                                                        longWeights,
+                                                        context) :
+                    HyperGraphSnapshotPathFinder.find(graph,
+                                                      source,
+                                                      target,
+                                                      longWeights,
+                                                      context);
+        }
+        
+        if (weights instanceof DoubleWeightFunction<W> doubleWeights) {
+            return bidirectional ?
+                    HyperGraphSnapshotPathFinder.biFind(graph,
+                                                        source,
+                                                        target,
+                                                        doubleWeights,
+                                                        context) :
+                    HyperGraphSnapshotPathFinder.find(graph,
+                                                      source,
+                                                      target,
+                                                      doubleWeights,
+                                                      context);
+        }
+        
+        return bidirectional ?
+                HyperGraphSnapshotPathFinder.biFind(graph,
+                                                    source,
+                                                    target,
+                                                    weights,
+                                                    context) :
+                HyperGraphSnapshotPathFinder.find(graph,
+                                                  source,
+                                                  target,
+                                                  weights,
+                                                  context);
+    }
+    
+    private int checkNode(HyperGraphNode<I, J, W> node) {
+        int index = graph.getNodeIndex(node);
+        
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                    "Node " + node + " is not in the snapshot");
+        }
+        
+        return index;
+    }
+}
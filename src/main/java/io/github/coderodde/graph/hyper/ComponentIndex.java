@@ -0,0 +1,275 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * This class maintains the connected components of the hypergraphs built out
+ * of {@link HyperGraphNode} and {@link HyperGraphEdge}. Each node carries an
+ * element of a disjoint-set forest, and
+ * {@link HyperGraphEdge#connectNode(HyperGraphNode)} unites the component of
+ * the new member with the component of the other members in near-constant
+ * time. The path finders consult the index before searching, so that a query
+ * between two disconnected nodes is answered without expanding a single node.
+ * <p>
+ * A disjoint-set forest cannot split a set. Instead,
+ * {@link HyperGraphEdge#disconnectNode(HyperGraphNode)} and
+ * {@link HyperGraphEdge#clear()} mark the component as <i>dirty</i>. Since
+ * removing incidences may only split components, two nodes in distinct sets
+ * are disconnected whether or not their sets are dirty. The first query
+ * between two nodes of the same dirty set rebuilds the actual component of the
+ * first node as a new, clean set by a breadth-first search, so that the
+ * subsequent queries within it are again answered in near-constant time.
+ * <p>
+ * Any number of threads may query the index, and run the path finders over
+ * it, at the same time. The queries read the forest optimistically; a rebuild
+ * takes a global lock, and a query overlapping a rebuild either waits for its
+ * outcome or, if the index is busy, settles itself by a breadth-first search
+ * without writing anything. The mutators of the nodes and hyperedges must
+ * not run concurrently with anything else, just like in the rest of this
+ * object graph.
+ * <p>
+ * The elements live in the nodes themselves, since a hypergraph of nodes and
+ * hyperedges has no container to keep an index in. Nodes of distinct
+ * hypergraphs are never united, so that one global forest serves them all,
+ * at the cost of the rebuilds of distinct hypergraphs sharing the lock.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.2 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class ComponentIndex {
+    
+    /**
+     * Guards the rebuilds of the dirty components against the queries.
+     */
+    private static final StampedLock LOCK = new StampedLock();
+    
+    private ComponentIndex() {
+        
+    }
+    
+    /**
+     * Returns {@code true} if and only if there is a path from {@code node1} to
+     * {@code node2}. Runs in near-constant amortized time unless the common
+     * set of the two nodes is dirty, in which case the component of
+     * {@code node1} is rebuilt in time linear in its size.
+     *
+     * @param <I>   the type of the node identity object.
+     * @param <J>   the type of the edge identity object.
+     * @param <W>   the type of the weights.
+     * @param node1 the first node.
+     * @param node2 the second node.
+     * @return {@code true} if the two nodes are connected.
+     */
+    public static <I, J, W> boolean
+        areConnected(HyperGraphNode<I, J, W> node1,
+                     HyperGraphNode<I, J, W> node2) {
+        
+        Objects.requireNonNull(node1);
+        Objects.requireNonNull(node2);
+        return query(node1, node2, true);
+    }
+    
+    /**
+     * Returns {@code false} only if {@code node1} and {@code node2} are
+     * certainly disconnected. Unlike
+     * {@link #areConnected(HyperGraphNode, HyperGraphNode)}, does not search
+     * while another thread is rebuilding, but leaves the query to the path
+     * finder asking, which settles it by its own search anyway.
+     */
+    static <I, J, W> boolean mayBeConnected(HyperGraphNode<I, J, W> node1,
+                                            HyperGraphNode<I, J, W> node2) {
+        return query(node1, node2, false);
+    }
+    
+    private static <I, J, W> boolean query(HyperGraphNode<I, J, W> node1,
+                                           HyperGraphNode<I, J, W> node2,
+                                           boolean exact) {
+        if (node1.equals(node2)) {
+            return true;
+        }
+        
+        long stamp = LOCK.tryOptimisticRead();
+        Element root1 = root(node1);
+        Element root2 = root(node2);
+        boolean dirty = root1 != null && root1.dirty;
+        
+        if (LOCK.validate(stamp)) {
+            if (root1 == null || root1 != root2) {
+                return false;
+            }
+            
+            if (!dirty) {
+                return true;
+            }
+        }
+        
+        // The common set is dirty, or a rebuild overlapped the reads:
+        stamp = LOCK.tryWriteLock();
+        
+        if (stamp == 0L) {
+            return !exact || search(node1, node2);
+        }
+        
+        try {
+            root1 = root(node1);
+            
+            if (root1 != null && root1.dirty) {
+                root1 = rebuild(node1);
+            }
+            
+            return root1 != null && root1 == root(node2);
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Unites the components of the two nodes.
+     */
+    static <I, J, W> void union(HyperGraphNode<I, J, W> node1,
+                                HyperGraphNode<I, J, W> node2) {
+        
+        Element root1 = find(node1);
+        Element root2 = find(node2);
+        
+        if (root1 == root2) {
+            return;
+        }
+        
+        if (root1.rank < root2.rank) {
+            Element tmp = root1;
+            root1 = root2;
+            root2 = tmp;
+        } else if (root1.rank == root2.rank) {
+            root1.rank++;
+        }
+        
+        root2.parent = root1;
+        root1.dirty |= root2.dirty;
+    }
+    
+    /**
+     * Records that the component of {@code node} may have been split.
+     */
+    static <I, J, W> void markDirty(HyperGraphNode<I, J, W> node) {
+        find(node).dirty = true;
+    }
+    
+    /**
+     * Returns the root of the set of {@code node}, or {@code null} if the node
+     * has never been united with another one. Writes nothing.
+     */
+    private static <I, J, W> Element root(HyperGraphNode<I, J, W> node) {
+        Element element = node.component;
+        
+        if (element == null) {
+            return null;
+        }
+        
+        while (element.parent != element) {
+            element = element.parent;
+        }
+        
+        return element;
+    }
+    
+    /**
+     * Returns the root of the set of {@code node}, halving the path on the way.
+     * Only the mutators call this.
+     */
+    private static <I, J, W> Element find(HyperGraphNode<I, J, W> node) {
+        Element element = node.component;
+        
+        if (element == null) {
+            element = new Element();
+            node.component = element;
+            return element;
+        }
+        
+        while (element.parent != element) {
+            element.parent = element.parent.parent;
+            element = element.parent;
+        }
+        
+        return element;
+    }
+    
+    /**
+     * Returns {@code true} if a breadth-first search from {@code source}
+     * reaches {@code target}.
+     */
+    private static <I, J, W> boolean search(HyperGraphNode<I, J, W> source,
+                                            HyperGraphNode<I, J, W> target) {
+        return collect(source, target).contains(target);
+    }
+    
+    /**
+     * Moves all the nodes reachable from {@code source} to a new, clean set
+     * and returns its root. The nodes left behind stay in the old, dirty set.
+     */
+    private static <I, J, W> Element rebuild(HyperGraphNode<I, J, W> source) {
+        Element root = new Element();
+        
+        for (HyperGraphNode<I, J, W> node : collect(source, null)) {
+            node.component = root;
+        }
+        
+        return root;
+    }
+    
+    /**
+     * Collects the nodes reachable from {@code source}, stopping early once
+     * {@code target} is reached.
+     */
+    private static <I, J, W> Set<HyperGraphNode<I, J, W>>
+        collect(HyperGraphNode<I, J, W> source,
+                HyperGraphNode<I, J, W> target) {
+        
+        ArrayDeque<HyperGraphNode<I, J, W>> queue = new ArrayDeque<>();
+        Set<HyperGraphNode<I, J, W>> visited = new HashSet<>();
+        Set<HyperGraphEdge<I, J, W>> scannedEdges = new HashSet<>();
+        
+        visited.add(source);
+        queue.add(source);
+        
+        while (!queue.isEmpty()) {
+            HyperGraphNode<I, J, W> current = queue.remove();
+            
+            for (HyperGraphEdge<I, J, W> edge : current.edges) {
+                if (!scannedEdges.add(edge)) {
+                    continue;
+                }
+                
+                for (HyperGraphNode<I, J, W> node
+                        : edge.getIncidentHyperNodes()) {
+                    
+                    if (visited.add(node)) {
+                        if (node.equals(target)) {
+                            return visited;
+                        }
+                        
+                        queue.add(node);
+                    }
+                }
+            }
+        }
+        
+        return visited;
+    }
+    
+    /**
+     * An element of the disjoint-set forest. Only the root of a set keeps
+     * meaningful {@code rank} and {@code dirty} fields.
+     */
+    static final class Element {
+        
+        Element parent = this;
+        int rank;
+        boolean dirty;
+    }
+}
@@ -0,0 +1,570 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.ElementKeys;
+import io.github.coderodde.graph.hyper.queue.IndexedDaryHeap;
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueue;
+import java.util.Arrays;
+
+/**
+ * This class implements the contraction hierarchy of a
+ * {@link HyperGraphSnapshot}, answered by
+ * {@link ContractionHierarchyPathFinder}.
+ * <p>
+ * The hypergraph is first expanded into a directed graph over
+ * {@code n + m} vertices: the {@code n} nodes followed by one vertex per
+ * hyperedge. Each node {@code u} and each of its incident hyperedges
+ * {@code e} are joined by an arc from {@code u} to {@code e} of the weight of
+ * {@code e}, and by an arc from {@code e} to {@code u} of the weight of
+ * {@code u}. A path through the expanded graph thus costs exactly as much as
+ * the corresponding path in the cost model of {@link HyperGraphPathFinder},
+ * while a hyperedge of {@code k} members costs {@code 2k} arcs instead of a
+ * clique.
+ * <p>
+ * The vertices are then contracted one by one in the order of their
+ * importance: twice the number of the shortcuts the contraction would add,
+ * less twice the number of the arcs it would remove, plus the number of the 
+ * already contracted neighbors and the depth of the vertex in the hierarchy
+ * built so far. Contracting a vertex {@code v} adds a shortcut
+ * {@code u -> x} for each pair of arcs {@code u -> v -> x}, unless a local
+ * witness search finds a path from {@code u} to {@code x} avoiding {@code v}
+ * that is no longer. The importances are updated lazily.
+ * <p>
+ * Each shortcut remembers the two arcs it replaces, so that the paths found
+ * in the hierarchy unpack into the original nodes and hyperedges.
+ * <p>
+ * The hierarchy is built over {@code long} weights, which keep the witness
+ * comparisons exact. The hierarchy does not track later modifications of the
+ * snapshot's hypergraph.
+ *
+ * @param <I> the type of the node identity object.
+ * @param <J> the type of the edge identity object.
+ * @param <W> the type of the weights.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class ContractionHierarchy<I, J, W> {
+    
+    /**
+     * The maximum number of the nodes a witness search may settle. Hitting
+     * the limit adds a possibly unnecessary shortcut, which never breaks the
+     * correctness of the queries.
+     */
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+    
+    private static final int NIL = -1;
+    
+    final HyperGraphSnapshot<I, J, W> graph;
+    final LongWeightFunction<W> weights;
+    
+    /**
+     * The number of the vertices of the expanded graph.
+     */
+    final int vertexCount;
+    
+    /**
+     * The arc {@code a} goes from {@code arcFrom[a]} to {@code arcTo[a]} and
+     * costs {@code arcCosts[a]}. If {@code a} is a shortcut, it replaces the
+     * arcs {@code arcLefts[a]} and {@code arcRights[a]}; otherwise both are
+     * -1.
+     */
+    final int[] arcFrom;
+    final int[] arcTo;
+    final long[] arcCosts;
+    final int[] arcLefts;
+    final int[] arcRights;
+    
+    /**
+     * {@code upArcs[upOffsets[v] ... upOffsets[v + 1] - 1]} are the arcs
+     * leaving {@code v} towards the vertices contracted after {@code v}.
+     */
+    final int[] upOffsets;
+    final int[] upArcs;
+    
+    /**
+     * {@code downArcs[downOffsets[v] ... downOffsets[v + 1] - 1]} are the
+     * arcs entering {@code v} from the vertices contracted after {@code v}.
+     */
+    final int[] downOffsets;
+    final int[] downArcs;
+    
+    private final int shortcutCount;
+    
+    private ContractionHierarchy(HyperGraphSnapshot<I, J, W> graph,
+                                 LongWeightFunction<W> weights,
+                                 Contractor contractor) {
+        this.graph = graph;
+        this.weights = weights;
+        this.vertexCount = contractor.vertexCount;
+        
+        int arcCount = contractor.arcCount;
+        
+        this.arcFrom = Arrays.copyOf(contractor.arcFrom, arcCount);
+        this.arcTo = Arrays.copyOf(contractor.arcTo, arcCount);
+        this.arcCosts = Arrays.copyOf(contractor.arcCosts, arcCount);
+        this.arcLefts = Arrays.copyOf(contractor.arcLefts, arcCount);
+        this.arcRights = Arrays.copyOf(contractor.arcRights, arcCount);
+        this.shortcutCount = contractor.shortcutCount;
+        this.upOffsets = new int[vertexCount + 1];
+        this.downOffsets = new int[vertexCount + 1];
+        
+        int[] ranks = contractor.ranks;
+        
+        for (int arc = 0; arc < arcCount; ++arc) {
+            if (ranks[arcFrom[arc]] < ranks[arcTo[arc]]) {
+                upOffsets[arcFrom[arc] + 1]++;
+            } else {
+                downOffsets[arcTo[arc] + 1]++;
+            }
+        }
+        
+        for (int v = 0; v < vertexCount; ++v) {
+            upOffsets[v + 1] += upOffsets[v];
+            downOffsets[v + 1] += downOffsets[v];
+        }
+        
+        this.upArcs = new int[upOffsets[vertexCount]];
+        this.downArcs = new int[downOffsets[vertexCount]];
+        
+        int[] upFill = Arrays.copyOf(upOffsets, vertexCount);
+        int[] downFill = Arrays.copyOf(downOffsets, vertexCount);
+        
+        for (int arc = 0; arc < arcCount; ++arc) {
+            if (ranks[arcFrom[arc]] < ranks[arcTo[arc]]) {
+                upArcs[upFill[arcFrom[arc]]++] = arc;
+            } else {
+                downArcs[downFill[arcTo[arc]]++] = arc;
+            }
+        }
+    }
+    
+    /**
+     * Builds the contraction hierarchy of {@code graph}.
+     *
+     * @param <I>     the type of the node identity object.
+     * @param <J>     the type of the edge identity object.
+     * @param <W>     the type of the weights.
+     * @param graph   the snapshot.
+     * @param weights the weight function.
+     * @return the contraction hierarchy.
+     */
+    public static <I, J, W> ContractionHierarchy<I, J, W>
+        of(HyperGraphSnapshot<I, J, W> graph, LongWeightFunction<W> weights) {
+        
+        Contractor contractor = new Contractor(graph, weights);
+        contractor.contractAll();
+        return new ContractionHierarchy<>(graph, weights, contractor);
+    }
+    
+    public HyperGraphSnapshot<I, J, W> getGraph() {
+        return graph;
+    }
+    
+    public LongWeightFunction<W> getWeightFunction() {
+        return weights;
+    }
+    
+    /**
+     * Returns the number of the arcs of the expanded graph, including the
+     * shortcuts.
+     */
+    public int getArcCount() {
+        return arcFrom.length;
+    }
+    
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+    
+    /**
+     * This class contracts the expanded graph. The arcs are kept in growable
+     * arrays, and each uncontracted vertex keeps the lists of its outgoing and
+     * incoming arcs within the remaining graph.
+     */
+    private static final class Contractor {
+        
+        private static final int MINIMUM_CAPACITY = 4;
+        
+        private final LongWeightFunction<?> weights;
+        private final int vertexCount;
+        
+        private int[] arcFrom;
+        private int[] arcTo;
+        private long[] arcCosts;
+        private int[] arcLefts;
+        private int[] arcRights;
+        private int arcCount;
+        private int shortcutCount;
+        
+        private final int[][] outArcs;
+        private final int[] outDegrees;
+        private final int[][] inArcs;
+        private final int[] inDegrees;
+        
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final int[] levels;
+        private final int[] ranks;
+        
+        /**
+         * The state of the witness searches.
+         */
+        private final long[] witnessDistances;
+        private final int[] witnessStamps;
+        private int witnessEpoch;
+        private final IndexedPriorityQueue witnessQueue;
+        
+        <W> Contractor(HyperGraphSnapshot<?, ?, W> graph,
+                       LongWeightFunction<W> weights) {
+            
+            HyperGraphSnapshot.LongWeights longWeights =
+                    graph.getLongWeights(weights);
+            
+            int nodeCount = graph.getNodeCount();
+            int edgeCount = graph.getEdgeCount();
+            int memberCount = graph.edgeNodes.length;
+            
+            this.weights = weights;
+            this.vertexCount = nodeCount + edgeCount;
+            this.arcFrom = new int[2 * memberCount];
+            this.arcTo = new int[2 * memberCount];
+            this.arcCosts = new long[2 * memberCount];
+            this.arcLefts = new int[2 * memberCount];
+            this.arcRights = new int[2 * memberCount];
+            this.outArcs = new int[vertexCount][];
+            this.outDegrees = new int[vertexCount];
+            this.inArcs = new int[vertexCount][];
+            this.inDegrees = new int[vertexCount];
+            this.contracted = new boolean[vertexCount];
+            this.contractedNeighbors = new int[vertexCount];
+            this.levels = new int[vertexCount];
+            this.ranks = new int[vertexCount];
+            this.witnessDistances = new long[vertexCount];
+            this.witnessStamps = new int[vertexCount];
+            
+            ElementKeys witnessKeys = new ElementKeys() {
+                
+                @Override
+                public long key(int vertex) {
+                    return witnessDistances[vertex];
+                }
+                
+                @Override
+                public int compare(int vertex1, int vertex2) {
+                    return weights.compareAsLong(witnessDistances[vertex1],
+                                                 witnessDistances[vertex2]);
+                }
+            };
+            
+            this.witnessQueue = new IndexedDaryHeap(4,
+                                                    vertexCount,
+                                                    witnessKeys);
+            
+            for (int v = 0; v < vertexCount; ++v) {
+                outArcs[v] = new int[MINIMUM_CAPACITY];
+                inArcs[v] = new int[MINIMUM_CAPACITY];
+            }
+            
+            for (int edge = 0; edge < edgeCount; ++edge) {
+                int edgeVertex = nodeCount + edge;
+                
+                for (int i = graph.edgeNodeOffsets[edge],
+                         iEnd = graph.edgeNodeOffsets[edge + 1];
+                         i < iEnd;
+                         ++i) {
+                    
+                    int node = graph.edgeNodes[i];
+                    
+                    addArc(node,
+                           edgeVertex,
+                           longWeights.edgeWeights[edge],
+                           NIL,
+                           NIL);
+                    
+                    addArc(edgeVertex,
+                           node,
+                           longWeights.nodeWeights[node],
+                           NIL,
+                           NIL);
+                }
+            }
+        }
+        
+        void contractAll() {
+            long[] importances = new long[vertexCount];
+            IndexedPriorityQueue order =
+                    new IndexedDaryHeap(4,
+                                        vertexCount,
+                                        (ElementKeys) v -> importances[v]);
+            
+            for (int v = 0; v < vertexCount; ++v) {
+                importances[v] = getImportance(v);
+                order.insert(v);
+            }
+            
+            int rank = 0;
+            
+            while (!order.isEmpty()) {
+                int v = order.extractMinimum();
+                long importance = getImportance(v);
+                
+                if (!order.isEmpty()
+                        && importance > importances[order.minimum()]) {
+                    // The importance grew since v was queued; try again later:
+                    importances[v] = importance;
+                    order.insert(v);
+                    continue;
+                }
+                
+                contract(v, false);
+                contracted[v] = true;
+                ranks[v] = rank++;
+                
+                // Detach v from the remaining graph. Its arcs stay in the arc
+                // arrays, and end up in the hierarchy.
+                for (int i = 0; i < outDegrees[v]; ++i) {
+                    int arc = outArcs[v][i];
+                    int x = arcTo[arc];
+                    inDegrees[x] = remove(inArcs[x], inDegrees[x], arc);
+                    contractedNeighbors[x]++;
+                    levels[x] = Math.max(levels[x], levels[v] + 1);
+                }
+                
+                for (int i = 0; i < inDegrees[v]; ++i) {
+                    int arc = inArcs[v][i];
+                    int u = arcFrom[arc];
+                    outDegrees[u] = remove(outArcs[u], outDegrees[u], arc);
+                    contractedNeighbors[u]++;
+                    levels[u] = Math.max(levels[u], levels[v] + 1);
+                }
+            }
+        }
+        
+        /**
+         * Removes {@code arc} from the first {@code size} entries of 
+         * {@code arcs}.
+         * 
+         * @return the new size.
+         */
+        private static int remove(int[] arcs, int size, int arc) {
+            for (int i = 0; i < size; ++i) {
+                if (arcs[i] == arc) {
+                    arcs[i] = arcs[size - 1];
+                    return size - 1;
+                }
+            }
+            
+            return size;
+        }
+        
+        private long getImportance(int v) {
+            int removedArcs = 0;
+            
+            for (int i = 0; i < outDegrees[v]; ++i) {
+                if (!contracted[arcTo[outArcs[v][i]]]) {
+                    removedArcs++;
+                }
+            }
+            
+            for (int i = 0; i < inDegrees[v]; ++i) {
+                if (!contracted[arcFrom[inArcs[v][i]]]) {
+                    removedArcs++;
+                }
+            }
+            
+            return 2L * (contract(v, true) - removedArcs)
+                    + contractedNeighbors[v]
+                    + levels[v];
+        }
+        
+        /**
+         * Contracts {@code v}, or only counts the shortcuts the contraction
+         * would add if {@code simulate} is set.
+         *
+         * @return the number of the shortcuts.
+         */
+        private int contract(int v, boolean simulate) {
+            int shortcuts = 0;
+            
+            for (int i = 0; i < inDegrees[v]; ++i) {
+                int inArc = inArcs[v][i];
+                int u = arcFrom[inArc];
+                
+                if (contracted[u]) {
+                    continue;
+                }
+                
+                long maximumCost = weights.zeroAsLong();
+                boolean hasTargets = false;
+                
+                for (int j = 0; j < outDegrees[v]; ++j) {
+                    int outArc = outArcs[v][j];
+                    int x = arcTo[outArc];
+                    
+                    if (contracted[x] || x == u) {
+                        continue;
+                    }
+                    
+                    long cost = weights.applyAsLong(arcCosts[inArc],
+                                                    arcCosts[outArc]);
+                    
+                    if (!hasTargets
+                            || weights.compareAsLong(cost, maximumCost) > 0) {
+                        maximumCost = cost;
+                    }
+                    
+                    hasTargets = true;
+                }
+                
+                if (!hasTargets) {
+                    continue;
+                }
+                
+                searchWitnesses(u, v, maximumCost);
+                
+                for (int j = 0; j < outDegrees[v]; ++j) {
+                    int outArc = outArcs[v][j];
+                    int x = arcTo[outArc];
+                    
+                    if (contracted[x] || x == u) {
+                        continue;
+                    }
+                    
+                    long cost = weights.applyAsLong(arcCosts[inArc],
+                                                    arcCosts[outArc]);
+                    
+                    if (witnessStamps[x] == witnessEpoch
+                            && weights.compareAsLong(witnessDistances[x],
+                                                     cost) <= 0) {
+                        continue;
+                    }
+                    
+                    shortcuts++;
+                    
+                    if (!simulate) {
+                        addShortcut(u, x, cost, inArc, outArc);
+                    }
+                }
+            }
+            
+            return shortcuts;
+        }
+        
+        /**
+         * Runs the Dijkstra's algorithm from {@code source} over the
+         * uncontracted vertices other than {@code excluded}, until the
+         * distances exceed {@code maximumCost} or the settle limit is hit.
+         */
+        private void searchWitnesses(int source,
+                                     int excluded,
+                                     long maximumCost) {
+            
+            if (++witnessEpoch == 0) {
+                Arrays.fill(witnessStamps, 0);
+                witnessEpoch = 1;
+            }
+            
+            witnessQueue.clear();
+            witnessDistances[source] = weights.zeroAsLong();
+            witnessStamps[source] = witnessEpoch;
+            witnessQueue.insert(source);
+            
+            int settled = 0;
+            
+            while (!witnessQueue.isEmpty() && settled < WITNESS_SETTLE_LIMIT) {
+                int current = witnessQueue.extractMinimum();
+                settled++;
+                
+                if (weights.compareAsLong(witnessDistances[current],
+                                          maximumCost) > 0) {
+                    break;
+                }
+                
+                for (int i = 0; i < outDegrees[current]; ++i) {
+                    int arc = outArcs[current][i];
+                    int child = arcTo[arc];
+                    
+                    if (contracted[child] || child == excluded) {
+                        continue;
+                    }
+                    
+                    long tentative =
+                            weights.applyAsLong(witnessDistances[current],
+                                                arcCosts[arc]);
+                    
+                    if (witnessStamps[child] != witnessEpoch) {
+                        witnessStamps[child] = witnessEpoch;
+                        witnessDistances[child] = tentative;
+                        witnessQueue.insert(child);
+                    } else if (weights.compareAsLong(witnessDistances[child],
+                                                     tentative) > 0
+                            && witnessQueue.contains(child)) {
+                        witnessDistances[child] = tentative;
+                        witnessQueue.decreaseKey(child);
+                    }
+                }
+            }
+        }
+        
+        private void addShortcut(int u,
+                                 int x,
+                                 long cost,
+                                 int left,
+                                 int right) {
+            
+            for (int i = 0; i < outDegrees[u]; ++i) {
+                int arc = outArcs[u][i];
+                
+                if (arcTo[arc] == x) {
+                    if (weights.compareAsLong(cost, arcCosts[arc]) < 0) {
+                        arcCosts[arc] = cost;
+                        arcLefts[arc] = left;
+                        arcRights[arc] = right;
+                    }
+                    
+                    return;
+                }
+            }
+            
+            addArc(u, x, cost, left, right);
+            shortcutCount++;
+        }
+        
+        private void addArc(int from,
+                            int to,
+                            long cost,
+                            int left,
+                            int right) {
+            
+            if (arcCount == arcFrom.length) {
+                int capacity = Math.max(MINIMUM_CAPACITY, 2 * arcCount);
+                arcFrom = Arrays.copyOf(arcFrom, capacity);
+                arcTo = Arrays.copyOf(arcTo, capacity);
+                arcCosts = Arrays.copyOf(arcCosts, capacity);
+                arcLefts = Arrays.copyOf(arcLefts, capacity);
+                arcRights = Arrays.copyOf(arcRights, capacity);
+            }
+            
+            int arc = arcCount++;
+            arcFrom[arc] = from;
+            arcTo[arc] = to;
+            arcCosts[arc] = cost;
+            arcLefts[arc] = left;
+            arcRights[arc] = right;
+            
+            if (outDegrees[from] == outArcs[from].length) {
+                outArcs[from] = Arrays.copyOf(outArcs[from],
+                                              2 * outDegrees[from]);
+            }
+            
+            outArcs[from][outDegrees[from]++] = arc;
+            
+            if (inDegrees[to] == inArcs[to].length) {
+                inArcs[to] = Arrays.copyOf(inArcs[to], 2 * inDegrees[to]);
+            }
+            
+            inArcs[to][inDegrees[to]++] = arc;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class implements the queries of a {@link ContractionHierarchy}. A query
+ * runs the Dijkstra's algorithm from the source over the arcs leading to the
+ * vertices contracted later, and from the target over the reversed arcs 
+ * coming from the vertices contracted later. Every shortest path has a 
+ * shortest counterpart that only goes up from the source and only goes down 
+ * to the target, so that the best vertex settled by both searches lies on a 
+ * shortest path. A search direction stops once its queue top is no better 
+ * than the best meeting so far.
+ * <p>
+ * The arcs of the resulting path are unpacked recursively into the arcs of 
+ * the expanded graph, and thus into the nodes and the hyperedges of the 
+ * snapshot.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.2.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class ContractionHierarchyPathFinder {
+    
+    private ContractionHierarchyPathFinder() {
+        
+    }
+    
+    public static <I, J, W> HyperGraphPath<I, J, W> 
+        find(ContractionHierarchy<I, J, W> hierarchy,
+             HyperGraphNode<I, J, W> source,
+             HyperGraphNode<I, J, W> target) {
+        
+        return find(hierarchy,
+                    HyperGraphSnapshotPathFinder.checkNode(hierarchy.graph, 
+                                                           source),
+                    HyperGraphSnapshotPathFinder.checkNode(hierarchy.graph, 
+                                                           target),
+                    new SearchContext());
+    }
+    
+    public static <I, J, W> HyperGraphPath<I, J, W> 
+        find(ContractionHierarchy<I, J, W> hierarchy,
+             int source,
+             int target,
+             SearchContext context) {
+        
+        HyperGraphSnapshot<I, J, W> graph = hierarchy.graph;
+        LongWeightFunction<W> weights = hierarchy.weights;
+        
+        if (source == target) {
+            return new HyperGraphPath<>(List.of(graph.getNode(source)),
+                                        List.of(),
+                                        weights);
+        }
+        
+        if (!graph.areConnected(source, target)) {
+            return new HyperGraphPath<>(weights);
+        }
+        
+        HierarchyLabels labelsa = 
+                context.hierarchyLabels(SearchContext.FORWARD, hierarchy);
+        
+        HierarchyLabels labelsb = 
+                context.hierarchyLabels(SearchContext.BACKWARD, hierarchy);
+        
+        IndexedPriorityQueue opena = context.heap(SearchContext.FORWARD,
+                                                  labelsa,
+                                                  hierarchy.vertexCount);
+        
+        IndexedPriorityQueue openb = context.heap(SearchContext.BACKWARD,
+                                                  labelsb,
+                                                  hierarchy.vertexCount);
+        
+        labelsa.setLabel(source, weights.zeroAsLong(), -1);
+        labelsb.setLabel(target, weights.zeroAsLong(), -1);
+        opena.insert(source);
+        openb.insert(target);
+        
+        int meeting = -1;
+        long best = weights.maxAsLong();
+        
+        while (!opena.isEmpty() || !openb.isEmpty()) {
+            boolean forward = 
+                    openb.isEmpty() ||
+                    (!opena.isEmpty() && 
+                     weights.compareAsLong(
+                             labelsa.getDistance(opena.minimum()), 
+                             labelsb.getDistance(openb.minimum())) <= 0);
+            
+            IndexedPriorityQueue open = forward ? opena : openb;
+            HierarchyLabels labels = forward ? labelsa : labelsb;
+            HierarchyLabels opposite = forward ? labelsb : labelsa;
+            int current = open.minimum();
+            
+            // The smaller of the two tops is no better than the best meeting,
+            // so neither direction can improve it:
+            if (meeting != -1 &&
+                    weights.compareAsLong(labels.getDistance(current), 
+                                          best) >= 0) {
+                break;
+            }
+            
+            open.extractMinimum();
+            labels.close(current);
+            
+            if (opposite.isLabeled(current)) {
+                long distance = 
+                        weights.applyAsLong(labels.getDistance(current),
+                                            opposite.getDistance(current));
+                
+                if (meeting == -1 || 
+                        weights.compareAsLong(distance, best) < 0) {
+                    meeting = current;
+                    best = distance;
+                }
+            }
+            
+            if (isStalled(hierarchy, current, labels, forward)) {
+                continue;
+            }
+            
+            int[] offsets = forward ? hierarchy.upOffsets : 
+                                      hierarchy.downOffsets;
+            
+            int[] arcs = forward ? hierarchy.upArcs : hierarchy.downArcs;
+            int[] heads = forward ? hierarchy.arcTo : hierarchy.arcFrom;
+            
+            for (int i = offsets[current], iEnd = offsets[current + 1]; 
+                    i < iEnd; 
+                    ++i) {
+                
+                int arc = arcs[i];
+                int child = heads[arc];
+                
+                if (labels.isClosed(child)) {
+                    continue;
+                }
+                
+                long tentative = 
+                        weights.applyAsLong(labels.getDistance(current),
+                                            hierarchy.arcCosts[arc]);
+                
+                if (!labels.isLabeled(child) || 
+                        weights.compareAsLong(labels.getDistance(child),
+                                              tentative) > 0) {
+                    
+                    labels.setLabel(child, tentative, arc);
+                    HyperGraphSnapshotPathFinder.update(open, child);
+                }
+            }
+        }
+        
+        if (meeting == -1) {
+            // Return empty path:
+            return new HyperGraphPath<>(weights);
+        }
+        
+        return unpackPath(hierarchy, source, meeting, labelsa, labelsb);
+    }
+    
+    /**
+     * Returns {@code true} if {@code vertex} is reached more cheaply through a
+     * vertex contracted later, in which case the label of {@code vertex} is
+     * not a shortest distance, and its arcs need not be relaxed. This is the 
+     * stall-on-demand technique.
+     */
+    private static boolean isStalled(ContractionHierarchy<?, ?, ?> hierarchy,
+                                     int vertex,
+                                     HierarchyLabels labels,
+                                     boolean forward) {
+        
+        LongWeightFunction<?> weights = hierarchy.weights;
+        
+        // The arcs between vertex and the vertices contracted later, in the 
+        // direction opposite to the search:
+        int[] offsets = forward ? hierarchy.downOffsets : hierarchy.upOffsets;
+        int[] arcs = forward ? hierarchy.downArcs : hierarchy.upArcs;
+        int[] tails = forward ? hierarchy.arcFrom : hierarchy.arcTo;
+        long distance = labels.getDistance(vertex);
+        
+        for (int i = offsets[vertex], iEnd = offsets[vertex + 1]; 
+                i < iEnd; 
+                ++i) {
+            
+            int arc = arcs[i];
+            int tail = tails[arc];
+            
+            if (labels.isLabeled(tail) 
+                    && weights.compareAsLong(
+                            weights.applyAsLong(labels.getDistance(tail),
+                                                hierarchy.arcCosts[arc]),
+                            distance) < 0) {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    private static <I, J, W> HyperGraphPath<I, J, W> 
+        unpackPath(ContractionHierarchy<I, J, W> hierarchy,
+                   int source,
+                   int meeting,
+                   HierarchyLabels labelsa,
+                   HierarchyLabels labelsb) {
+        
+        List<Integer> arcs = new ArrayList<>();
+        
+        for (int vertex = meeting; 
+                labelsa.getParentArc(vertex) != -1; 
+                vertex = hierarchy.arcFrom[labelsa.getParentArc(vertex)]) {
+            arcs.add(labelsa.getParentArc(vertex));
+        }
+        
+        Collections.reverse(arcs);
+        
+        for (int vertex = meeting; 
+                labelsb.getParentArc(vertex) != -1; 
+                vertex = hierarchy.arcTo[labelsb.getParentArc(vertex)]) {
+            arcs.add(labelsb.getParentArc(vertex));
+        }
+        
+        HyperGraphSnapshot<I, J, W> graph = hierarchy.graph;
+        int nodeCount = graph.getNodeCount();
+        List<HyperGraphNode<I, J, W>> pathNodes = new ArrayList<>();
+        List<HyperGraphEdge<I, J, W>> pathEdges = new ArrayList<>();
+        int[] stack = new int[16];
+        
+        pathNodes.add(graph.getNode(source));
+        
+        for (int arc : arcs) {
+            int size = 0;
+            stack[size++] = arc;
+            
+            while (size > 0) {
+                int top = stack[--size];
+                
+                if (hierarchy.arcLefts[top] == -1) {
+                    int vertex = hierarchy.arcTo[top];
+                    
+                    if (vertex < nodeCount) {
+                        pathNodes.add(graph.getNode(vertex));
+                    } else {
+                        pathEdges.add(graph.getEdge(vertex - nodeCount));
+                    }
+                    
+                    continue;
+                }
+                
+                if (size + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, 2 * stack.length);
+                }
+                
+                stack[size++] = hierarchy.arcRights[top];
+                stack[size++] = hierarchy.arcLefts[top];
+            }
+        }
+        
+        return new HyperGraphPath<>(pathNodes,
+                                    pathEdges,
+                                    hierarchy.weights,
+                                    false);
+    }
+}
@@ -0,0 +1,537 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class implements the parallel delta-stepping algorithm for the
+ * single-source shortest paths over a {@link HyperGraphSnapshot}. The cost
+ * model is the same as in {@link HyperGraphPathFinder}: moving from a node to
+ * another member of a hyperedge costs the weight of the hyperedge plus the
+ * weight of the node being entered.
+ * <p>
+ * The weights are combined by {@link LongWeightFunction#applyAsLong(long, 
+ * long)} and compared by {@link LongWeightFunction#compareAsLong(long, long)}
+ * as in the other searches. Since a distance is filed under its numeric 
+ * value, the weight function must, however, order the weights naturally, and
+ * extending a path must never yield a negative distance nor one below the 
+ * distance of the path being extended. The non-negative additive weights 
+ * satisfy both, and so do, for example, the saturating or the bottleneck 
+ * ones.
+ * <p>
+ * The tentative distances are kept in bucket {@code d / delta}. A move is
+ * <i>light</i> if it costs at most {@code delta}, and <i>heavy</i> otherwise.
+ * The algorithm settles the buckets in ascending order: the light moves out
+ * of the current bucket are relaxed in phases until the bucket stays empty,
+ * after which the heavy moves out of all the nodes settled in the bucket are
+ * relaxed once. Each phase splits its frontier among the workers of a
+ * {@link ForkJoinPool}; the distances are lowered by compare-and-set, and
+ * each worker collects the nodes it improves into buckets of its own, so that
+ * the workers share nothing but the distance array.
+ * <p>
+ * A small {@code delta} approaches the Dijkstra's algorithm, and a large one
+ * approaches the Bellman-Ford algorithm. The default {@code delta} is the
+ * largest move weight divided by the average number of moves out of a node.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.2 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class DeltaSteppingFinder {
+    
+    /**
+     * The number of tasks per worker of the pool. More tasks than workers
+     * balance the load when the nodes of a frontier differ in degree.
+     */
+    private static final int TASKS_PER_WORKER = 4;
+    
+    /**
+     * The frontiers of at most this many nodes are processed by the calling
+     * thread, since forking would cost more than it saves.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 512;
+    
+    private static final long UNREACHED = Long.MAX_VALUE;
+    
+    private DeltaSteppingFinder() {
+        
+    }
+    
+    public static <I, J, W> long[]
+        compute(HyperGraphSnapshot<I, J, W> graph,
+                HyperGraphNode<I, J, W> source,
+                LongWeightFunction<W> weights) {
+        
+        return compute(graph,
+                       HyperGraphSnapshotPathFinder.checkNode(graph, source),
+                       weights);
+    }
+    
+    public static <W> long[] compute(HyperGraphSnapshot<?, ?, W> graph,
+                                     int source,
+                                     LongWeightFunction<W> weights) {
+        
+        return compute(graph,
+                       source,
+                       weights,
+                       getDefaultDelta(graph, weights),
+                       ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Computes the distances from {@code source} to all the nodes of
+     * {@code graph}. The distance of a node is the weight of the shortest path
+     * from {@code source} to the node, including the weights of both end
+     * nodes, or {@link LongWeightFunction#maxAsLong()} if the node is not
+     * reachable.
+     *
+     * @param <W>     the type of the weights.
+     * @param graph   the snapshot.
+     * @param source  the node index of the source.
+     * @param weights the weight function.
+     * @param delta   the width of a bucket.
+     * @param pool    the pool running the phases.
+     * @return the distances indexed by the node indices of {@code graph}.
+     */
+    public static <W> long[] compute(HyperGraphSnapshot<?, ?, W> graph,
+                                     int source,
+                                     LongWeightFunction<W> weights,
+                                     long delta,
+                                     ForkJoinPool pool) {
+        
+        if (source < 0 || source >= graph.getNodeCount()) {
+            throw new IllegalArgumentException(
+                    "Node index " + source + " is not in the snapshot");
+        }
+        
+        if (delta < 1L) {
+            throw new IllegalArgumentException(
+                    "The delta must be positive, was " + delta);
+        }
+        
+        Search search = new Search(graph,
+                                   weights,
+                                   graph.getLongWeights(weights),
+                                   delta,
+                                   pool);
+        search.run(source);
+        
+        long[] distances = new long[graph.getNodeCount()];
+        
+        for (int i = 0; i < distances.length; ++i) {
+            long distance = search.distances.get(i);
+            distances[i] = distance == UNREACHED ? weights.maxAsLong()
+                                                 : distance;
+        }
+        
+        return distances;
+    }
+    
+    /**
+     * Returns the largest move weight of {@code graph} divided by the average
+     * number of moves out of a node, but at least one.
+     *
+     * @param <W>     the type of the weights.
+     * @param graph   the snapshot.
+     * @param weights the weight function.
+     * @return the default delta.
+     */
+    public static <W> long getDefaultDelta(HyperGraphSnapshot<?, ?, W> graph,
+                                           LongWeightFunction<W> weights) {
+        
+        HyperGraphSnapshot.LongWeights longWeights =
+                graph.getLongWeights(weights);
+        
+        long maximumMoveWeight = 0L;
+        long moveCount = 0L;
+        
+        for (int e = 0; e < graph.getEdgeCount(); ++e) {
+            int size = graph.getEdgeSize(e);
+            
+            if (size < 2) {
+                continue;
+            }
+            
+            long maximumNodeWeight = 0L;
+            
+            for (int i = 0; i < size; ++i) {
+                maximumNodeWeight =
+                        Math.max(maximumNodeWeight,
+                                 longWeights.nodeWeights[
+                                         graph.getEdgeMember(e, i)]);
+            }
+            
+            maximumMoveWeight =
+                    Math.max(maximumMoveWeight,
+                             weights.applyAsLong(longWeights.edgeWeights[e],
+                                                 maximumNodeWeight));
+            
+            moveCount += (long) size * (size - 1);
+        }
+        
+        long movesPerNode = moveCount / Math.max(1, graph.getNodeCount());
+        return Math.max(1L, maximumMoveWeight / Math.max(1L, movesPerNode));
+    }
+    
+    /**
+     * This class holds the state of a single delta-stepping computation.
+     */
+    private static final class Search {
+        
+        private final HyperGraphSnapshot<?, ?, ?> graph;
+        private final LongWeightFunction<?> weightFunction;
+        private final long[] nodeWeights;
+        private final long[] edgeWeights;
+        private final long delta;
+        private final ForkJoinPool pool;
+        private final Worker[] workers;
+        
+        final AtomicLongArray distances;
+        
+        /**
+         * {@code processed[u]} is the distance at which the light moves out of
+         * {@code u} were last relaxed, so that a node queued several times at
+         * the same distance is expanded only once.
+         */
+        private final AtomicLongArray processed;
+        
+        /**
+         * {@code settledRounds[u] == round} if and only if {@code u} is in the
+         * settled list of some worker in the current bucket.
+         */
+        private final AtomicIntegerArray settledRounds;
+        private int round;
+        
+        private int[] frontier = new int[SEQUENTIAL_THRESHOLD];
+        private int frontierSize;
+        
+        Search(HyperGraphSnapshot<?, ?, ?> graph,
+               LongWeightFunction<?> weightFunction,
+               HyperGraphSnapshot.LongWeights weights,
+               long delta,
+               ForkJoinPool pool) {
+            
+            int nodeCount = graph.getNodeCount();
+            
+            this.graph = graph;
+            this.weightFunction = weightFunction;
+            this.nodeWeights = weights.nodeWeights;
+            this.edgeWeights = weights.edgeWeights;
+            this.delta = delta;
+            this.pool = pool;
+            this.workers = new Worker[TASKS_PER_WORKER * pool.getParallelism()];
+            this.distances = new AtomicLongArray(nodeCount);
+            this.processed = new AtomicLongArray(nodeCount);
+            this.settledRounds = new AtomicIntegerArray(nodeCount);
+            
+            for (int i = 0; i < workers.length; ++i) {
+                workers[i] = new Worker();
+            }
+            
+            for (int i = 0; i < nodeCount; ++i) {
+                distances.set(i, UNREACHED);
+                processed.set(i, -1L);
+            }
+        }
+        
+        void run(int source) {
+            distances.set(source, nodeWeights[source]);
+            workers[0].add(nodeWeights[source] / delta, source);
+            
+            long bucket;
+            
+            while ((bucket = getMinimumBucket()) != -1L) {
+                round++;
+                
+                while (gatherBucket(bucket)) {
+                    runPhase(bucket, true);
+                }
+                
+                gatherSettled();
+                runPhase(bucket, false);
+            }
+        }
+        
+        /**
+         * Relaxes the light or the heavy moves out of the frontier nodes
+         * {@code [from, to)}, queueing the improved nodes in the buckets of
+         * {@code worker}.
+         */
+        void relax(Worker worker, int from, int to, long bucket, boolean light) {
+            for (int k = from; k < to; ++k) {
+                int node = frontier[k];
+                long distance = distances.get(node);
+                
+                if (light) {
+                    if (distance / delta != bucket
+                            || processed.getAndSet(node, distance)
+                            == distance) {
+                        // Improved since queued, or already expanded:
+                        continue;
+                    }
+                    
+                    if (settledRounds.getAndSet(node, round) != round) {
+                        worker.settled.add(node);
+                    }
+                }
+                
+                for (int i = graph.nodeEdgeOffsets[node],
+                         iEnd = graph.nodeEdgeOffsets[node + 1];
+                         i < iEnd;
+                         ++i) {
+                    
+                    int edge = graph.nodeEdges[i];
+                    long edgeWeight = edgeWeights[edge];
+                    
+                    for (int j = graph.edgeNodeOffsets[edge],
+                             jEnd = graph.edgeNodeOffsets[edge + 1];
+                             j < jEnd;
+                             ++j) {
+                        
+                        int child = graph.edgeNodes[j];
+                        long weight =
+                                weightFunction.applyAsLong(edgeWeight,
+                                                           nodeWeights[child]);
+                        
+                        if (child == node || (weight <= delta) != light) {
+                            continue;
+                        }
+                        
+                        long childDistance =
+                                weightFunction.applyAsLong(
+                                        weightFunction.applyAsLong(distance,
+                                                                   edgeWeight),
+                                        nodeWeights[child]);
+                        
+                        if (decrease(child, childDistance)) {
+                            worker.add(childDistance / delta, child);
+                        }
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Lowers the distance of {@code node} to {@code distance}. Returns
+         * {@code true} if the distance was lowered.
+         */
+        private boolean decrease(int node, long distance) {
+            long current;
+            
+            do {
+                current = distances.get(node);
+                
+                if (current != UNREACHED
+                        && weightFunction.compareAsLong(distance, current)
+                        >= 0) {
+                    return false;
+                }
+            } while (!distances.compareAndSet(node, current, distance));
+            
+            return true;
+        }
+        
+        private void runPhase(long bucket, boolean light) {
+            if (frontierSize <= SEQUENTIAL_THRESHOLD) {
+                relax(workers[0], 0, frontierSize, bucket, light);
+            } else {
+                int taskCount =
+                        Math.min(workers.length,
+                                 frontierSize / SEQUENTIAL_THRESHOLD + 1);
+                
+                pool.invoke(
+                        new PhaseTask(this, 0, taskCount, taskCount, bucket, light));
+            }
+        }
+        
+        private long getMinimumBucket() {
+            long minimum = Long.MAX_VALUE;
+            
+            for (Worker worker : workers) {
+                for (int i = 0; i < worker.binCount; ++i) {
+                    minimum = Math.min(minimum, worker.binKeys[i]);
+                }
+            }
+            
+            return minimum == Long.MAX_VALUE ? -1L : minimum;
+        }
+        
+        /**
+         * Moves the nodes queued in {@code bucket} by all the workers to the
+         * frontier. Returns {@code true} if the frontier is not empty.
+         */
+        private boolean gatherBucket(long bucket) {
+            frontierSize = 0;
+            
+            for (Worker worker : workers) {
+                IntList list = worker.removeBin(bucket);
+                
+                if (list != null) {
+                    append(list);
+                }
+            }
+            
+            return frontierSize > 0;
+        }
+        
+        /**
+         * Moves the nodes settled in the current bucket to the frontier.
+         */
+        private void gatherSettled() {
+            frontierSize = 0;
+            
+            for (Worker worker : workers) {
+                append(worker.settled);
+                worker.settled.size = 0;
+            }
+        }
+        
+        private void append(IntList list) {
+            if (frontierSize + list.size > frontier.length) {
+                frontier = Arrays.copyOf(frontier,
+                                         Math.max(frontierSize + list.size,
+                                                  2 * frontier.length));
+            }
+            
+            System.arraycopy(list.array, 0, frontier, frontierSize, list.size);
+            frontierSize += list.size;
+        }
+    }
+    
+    /**
+     * This class relaxes the parts {@code [from, to)} of the frontier out of
+     * {@code partCount} equal parts, splitting the range in halves until a
+     * single part is left. The part {@code i} is always handled by the worker
+     * {@code i}. The tasks are never serialized.
+     */
+    @SuppressWarnings("serial")
+    private static final class PhaseTask extends RecursiveAction {
+        
+        private final Search search;
+        private final int from;
+        private final int to;
+        private final int partCount;
+        private final long bucket;
+        private final boolean light;
+        
+        PhaseTask(Search search,
+                  int from,
+                  int to,
+                  int partCount,
+                  long bucket,
+                  boolean light) {
+            this.search = search;
+            this.from = from;
+            this.to = to;
+            this.partCount = partCount;
+            this.bucket = bucket;
+            this.light = light;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                long size = search.frontierSize;
+                
+                search.relax(search.workers[from],
+                             (int) (from * size / partCount),
+                             (int) ((from + 1) * size / partCount),
+                             bucket,
+                             light);
+                return;
+            }
+            
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                new PhaseTask(search, from, middle, partCount, bucket, light),
+                new PhaseTask(search, middle, to, partCount, bucket, light));
+        }
+    }
+    
+    /**
+     * This class holds the nodes queued by a single worker, grouped by their
+     * buckets, and the nodes the worker settled in the current bucket. Only a
+     * few buckets are in use at a time, so that they are kept in small
+     * parallel arrays.
+     */
+    private static final class Worker {
+        
+        final IntList settled = new IntList();
+        
+        long[] binKeys = new long[4];
+        IntList[] binLists = new IntList[4];
+        int binCount;
+        
+        /**
+         * The bin most recently added to.
+         */
+        private long lastKey = -1L;
+        private IntList lastList;
+        
+        void add(long bucket, int node) {
+            if (bucket != lastKey) {
+                lastList = getBin(bucket);
+                lastKey = bucket;
+            }
+            
+            lastList.add(node);
+        }
+        
+        IntList removeBin(long bucket) {
+            for (int i = 0; i < binCount; ++i) {
+                if (binKeys[i] == bucket) {
+                    IntList list = binLists[i];
+                    
+                    binCount--;
+                    binKeys[i] = binKeys[binCount];
+                    binLists[i] = binLists[binCount];
+                    binLists[binCount] = null;
+                    
+                    if (lastKey == bucket) {
+                        lastKey = -1L;
+                        lastList = null;
+                    }
+                    
+                    return list;
+                }
+            }
+            
+            return null;
+        }
+        
+        private IntList getBin(long bucket) {
+            for (int i = 0; i < binCount; ++i) {
+                if (binKeys[i] == bucket) {
+                    return binLists[i];
+                }
+            }
+            
+            if (binCount == binKeys.length) {
+                binKeys = Arrays.copyOf(binKeys, 2 * binCount);
+                binLists = Arrays.copyOf(binLists, 2 * binCount);
+            }
+            
+            IntList list = new IntList();
+            binKeys[binCount] = bucket;
+            binLists[binCount++] = list;
+            return list;
+        }
+    }
+    
+    private static final class IntList {
+        
+        int[] array = new int[16];
+        int size;
+        
+        void add(int value) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, 2 * size);
+            }
+            
+            array[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class computes the many-to-many distance matrices. The sources are
+ * split among the workers of a {@link ForkJoinPool}, and each worker runs one
+ * Dijkstra's algorithm per source over a {@link HyperGraphSnapshot}, stopping
+ * as soon as all the targets are settled. The workers reuse their 
+ * {@link SearchContext} from one source to the next, so that a matrix of 
+ * {@code |S| * |T|} distances costs {@code |S|} searches and no per-query 
+ * allocation.
+ * <p>
+ * The searches run on the primitive weights only, so that the matrix is a
+ * primitive array as well.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class DistanceMatrixFinder {
+    
+    /**
+     * The number of tasks per worker of the pool. More tasks than workers 
+     * balance the load when the searches from different sources differ in
+     * cost.
+     */
+    private static final int TASKS_PER_WORKER = 4;
+    
+    private DistanceMatrixFinder() {
+        
+    }
+    
+    public static <I, J, W> LongDistanceMatrix 
+        compute(List<? extends HyperGraphNode<I, J, W>> sources,
+                List<? extends HyperGraphNode<I, J, W>> targets,
+                LongWeightFunction<W> weights) {
+        
+        return compute(sources, targets, weights, ForkJoinPool.commonPool());
+    }
+    
+    public static <I, J, W> LongDistanceMatrix 
+        compute(List<? extends HyperGraphNode<I, J, W>> sources,
+                List<? extends HyperGraphNode<I, J, W>> targets,
+                LongWeightFunction<W> weights,
+                ForkJoinPool pool) {
+        
+        HyperGraphSnapshot<I, J, W> graph = snapshotOf(sources, targets);
+        
+        return compute(graph, 
+                       indicesOf(graph, sources),
+                       indicesOf(graph, targets),
+                       weights,
+                       pool);
+    }
+    
+    public static <I, J, W> DoubleDistanceMatrix 
+        compute(List<? extends HyperGraphNode<I, J, W>> sources,
+                List<? extends HyperGraphNode<I, J, W>> targets,
+                DoubleWeightFunction<W> weights) {
+        
+        return compute(sources, targets, weights, ForkJoinPool.commonPool());
+    }
+    
+    public static <I, J, W> DoubleDistanceMatrix 
+        compute(List<? extends HyperGraphNode<I, J, W>> sources,
+                List<? extends HyperGraphNode<I, J, W>> targets,
+                DoubleWeightFunction<W> weights,
+                ForkJoinPool pool) {
+        
+        HyperGraphSnapshot<I, J, W> graph = snapshotOf(sources, targets);
+        
+        return compute(graph, 
+                       indicesOf(graph, sources),
+                       indicesOf(graph, targets),
+                       weights,
+                       pool);
+    }
+    
+    /**
+     * Computes the distance matrix between the nodes of {@code graph} with the
+     * given indices.
+     * 
+     * @param <W>     the type of the weights.
+     * @param graph   the snapshot.
+     * @param sources the node indices of the sources.
+     * @param targets the node indices of the targets.
+     * @param weights the weight function.
+     * @param pool    the pool running the searches.
+     * @return the distance matrix.
+     */
+    public static <W> LongDistanceMatrix 
+        compute(HyperGraphSnapshot<?, ?, W> graph,
+                int[] sources,
+                int[] targets,
+                LongWeightFunction<W> weights,
+                ForkJoinPool pool) {
+        
+        LongDistanceMatrix matrix = new LongDistanceMatrix(sources.length,
+                                                           targets.length,
+                                                           weights.maxAsLong());
+        Targets marks = new Targets(graph, sources, targets);
+        
+        pool.invoke(new RowTask(sources.length, pool, (context, row) -> {
+            SearchLabels.LongLabels labels = 
+                    context.longLabels(SearchContext.FORWARD, graph, weights);
+            
+            marks.settle(graph, sources[row], labels, context, weights);
+            
+            for (int column = 0; column < targets.length; ++column) {
+                if (labels.isClosed(targets[column])) {
+                    matrix.set(row, column, labels.getLabel(targets[column]));
+                }
+            }
+        }));
+        
+        return matrix;
+    }
+    
+    /**
+     * Computes the distance matrix between the nodes of {@code graph} with the
+     * given indices.
+     * 
+     * @param <W>     the type of the weights.
+     * @param graph   the snapshot.
+     * @param sources the node indices of the sources.
+     * @param targets the node indices of the targets.
+     * @param weights the weight function.
+     * @param pool    the pool running the searches.
+     * @return the distance matrix.
+     */
+    public static <W> DoubleDistanceMatrix 
+        compute(HyperGraphSnapshot<?, ?, W> graph,
+                int[] sources,
+                int[] targets,
+                DoubleWeightFunction<W> weights,
+                ForkJoinPool pool) {
+        
+        DoubleDistanceMatrix matrix = 
+                new DoubleDistanceMatrix(sources.length,
+                                         targets.length,
+                                         weights.maxAsDouble());
+        
+        Targets marks = new Targets(graph, sources, targets);
+        
+        pool.invoke(new RowTask(sources.length, pool, (context, row) -> {
+            SearchLabels.DoubleLabels labels = 
+                    context.doubleLabels(SearchContext.FORWARD, 
+                                         graph, 
+                                         weights);
+            
+            marks.settle(graph, sources[row], labels, context, weights);
+            
+            for (int column = 0; column < targets.length; ++column) {
+                if (labels.isClosed(targets[column])) {
+                    matrix.set(row, column, labels.getLabel(targets[column]));
+                }
+            }
+        }));
+        
+        return matrix;
+    }
+    
+    private static <I, J, W> HyperGraphSnapshot<I, J, W> 
+        snapshotOf(List<? extends HyperGraphNode<I, J, W>> sources,
+                   List<? extends HyperGraphNode<I, J, W>> targets) {
+        
+        List<HyperGraphNode<I, J, W>> nodes = 
+                new ArrayList<>(sources.size() + targets.size());
+        
+        nodes.addAll(sources);
+        nodes.addAll(targets);
+        return HyperGraphSnapshot.of(nodes);
+    }
+    
+    private static <I, J, W> int[] 
+        indicesOf(HyperGraphSnapshot<I, J, W> graph,
+                  List<? extends HyperGraphNode<I, J, W>> nodes) {
+        
+        int[] indices = new int[nodes.size()];
+        
+        for (int i = 0; i < indices.length; ++i) {
+            indices[i] = graph.getNodeIndex(nodes.get(i));
+        }
+        
+        return indices;
+    }
+    
+    /**
+     * This interface computes a single row of a distance matrix.
+     */
+    @FunctionalInterface
+    private interface RowComputation {
+        
+        void compute(SearchContext context, int row);
+    }
+    
+    /**
+     * This class marks the target nodes of a distance matrix, shared 
+     * read-only by all the row computations.
+     */
+    private static final class Targets {
+        
+        private final boolean[] isTarget;
+        private int targetCount;
+        
+        Targets(HyperGraphSnapshot<?, ?, ?> graph, 
+                int[] sources, 
+                int[] targets) {
+            
+            this.isTarget = new boolean[graph.getNodeCount()];
+            
+            for (int source : sources) {
+                checkNodeIndex(graph, source);
+            }
+            
+            for (int target : targets) {
+                checkNodeIndex(graph, target);
+                
+                if (!isTarget[target]) {
+                    isTarget[target] = true;
+                    targetCount++;
+                }
+            }
+        }
+        
+        void settle(HyperGraphSnapshot<?, ?, ?> graph,
+                    int source,
+                    SearchLabels labels,
+                    SearchContext context,
+                    WeightFunction<?> weights) {
+            
+            IndexedPriorityQueue open = 
+                    context.queue(SearchContext.FORWARD, 
+                                  weights, 
+                                  labels,
+                                  graph.getNodeCount());
+            
+            HyperGraphSnapshotPathFinder.settleTargets(graph, 
+                                                       source, 
+                                                       isTarget, 
+                                                       targetCount, 
+                                                       labels, 
+                                                       open);
+        }
+        
+        private static void checkNodeIndex(HyperGraphSnapshot<?, ?, ?> graph,
+                                           int node) {
+            if (node < 0 || node >= graph.getNodeCount()) {
+                throw new IllegalArgumentException(
+                        "Node index " + node + " is not in the snapshot");
+            }
+        }
+    }
+    
+    /**
+     * This class computes the rows {@code [from, to)} of a distance matrix, 
+     * splitting the range in halves until it is small enough for a single 
+     * task. A task computes its rows sequentially, reusing one context. The
+     * tasks are never serialized.
+     */
+    @SuppressWarnings("serial")
+    private static final class RowTask extends RecursiveAction {
+        
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final RowComputation computation;
+        
+        RowTask(int rowCount, ForkJoinPool pool, RowComputation computation) {
+            this(0,
+                 rowCount,
+                 Math.max(1, rowCount / (TASKS_PER_WORKER 
+                                       * pool.getParallelism())),
+                 computation);
+        }
+        
+        private RowTask(int from, 
+                        int to, 
+                        int threshold, 
+                        RowComputation computation) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.computation = computation;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                SearchContext context = new SearchContext();
+                
+                for (int row = from; row < to; ++row) {
+                    computation.compute(context, row);
+                }
+                
+                return;
+            }
+            
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowTask(from, middle, threshold, computation),
+                      new RowTask(middle, to, threshold, computation));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.coderodde.graph.hyper;
+
+/**
+ * This interface defines the API for the weight functions whose weights can be
+ * represented as {@code double} values. The searches over a 
+ * {@link HyperGraphSnapshot} use the primitive methods only, so that no weight
+ * object is created during the search.
+ * 
+ * @param <W> the type of the weight.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public interface DoubleWeightFunction<W> extends WeightFunction<W> {
+    
+    double toDouble(W weight);
+    W fromDouble(double weight);
+    double zeroAsDouble();
+    double maxAsDouble();
+    double applyAsDouble(double w1, double w2);
+    int compareAsDouble(double weight1, double weight2);
+    
+    @Override
+    default W zero() {
+        return fromDouble(zeroAsDouble());
+    }
+    
+    @Override
+    default W max() {
+        return fromDouble(maxAsDouble());
+    }
+    
+    @Override
+    default W apply(W w1, W w2) {
+        return fromDouble(applyAsDouble(toDouble(w1), toDouble(w2)));
+    }
+    
+    @Override
+    default int compare(W weight1, W weight2) {
+        return compareAsDouble(toDouble(weight1), toDouble(weight2));
+    }
+}
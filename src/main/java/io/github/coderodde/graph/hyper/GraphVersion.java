@@ -0,0 +1,30 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class counts the modifications of the hypergraphs built out of
+ * {@link HyperGraphNode} and {@link HyperGraphEdge}. A {@link PathCache}
+ * discards its paths as soon as the count changes, since any of them may
+ * have been made obsolete by the modification.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+final class GraphVersion {
+    
+    private static final AtomicLong VERSION = new AtomicLong();
+    
+    private GraphVersion() {
+        
+    }
+    
+    static long get() {
+        return VERSION.get();
+    }
+    
+    static void increment() {
+        VERSION.incrementAndGet();
+    }
+}
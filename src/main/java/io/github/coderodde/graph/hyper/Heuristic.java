@@ -0,0 +1,44 @@
+package io.github.coderodde.graph.hyper;
+
+/**
+ * This interface defines the API for the heuristics of the goal-directed 
+ * searches over a {@link HyperGraphSnapshot}. A heuristic estimates the cost 
+ * of the cheapest path from a node to a goal node, not counting the weight of
+ * the node itself, but counting the weight of the goal, in the same way as
+ * the moves of the searches cost the weight of the hyperedge plus the weight
+ * of the entered node.
+ * <p>
+ * A heuristic must be <i>consistent</i>: for each hyperedge {@code e} and any
+ * two of its members {@code u} and {@code v},
+ * {@code estimate(u, g) <= w(e) + w(v) + estimate(v, g)}, and
+ * {@code estimate(g, g) == 0}. A consistent heuristic never overestimates, 
+ * and settles each node at most once.
+ * <p>
+ * Under this convention, a path from {@code u} to {@code g} and its reversal
+ * differ in cost by {@code w(u) - w(g)}, and so do their estimates. The
+ * bidirectional searches estimate the costs towards the source as well, and
+ * take the difference into account themselves.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@FunctionalInterface
+public interface Heuristic {
+    
+    /**
+     * The heuristic estimating every cost with zero. A search using it is the
+     * Dijkstra's algorithm.
+     */
+    Heuristic ZERO = (node, goal) -> 0.0;
+    
+    /**
+     * Returns a lower bound on the cost of the cheapest path from 
+     * {@code node} to {@code goal}.
+     * 
+     * @param node the snapshot index of the node.
+     * @param goal the snapshot index of the goal.
+     * @return the estimated cost.
+     */
+    double estimate(int node, int goal);
+}
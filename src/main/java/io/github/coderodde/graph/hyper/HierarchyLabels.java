@@ -0,0 +1,83 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.ElementKeys;
+import java.util.Arrays;
+
+/**
+ * This class holds the labels of a single search direction over a 
+ * {@link ContractionHierarchy}. The labels are indexed by the vertices of the
+ * expanded graph, and each vertex remembers the arc it was reached through. 
+ * The arrays are stamped with the epoch of the search that wrote them, so 
+ * that {@link #reset()} runs in constant time.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+final class HierarchyLabels implements ElementKeys {
+    
+    final ContractionHierarchy<?, ?, ?> hierarchy;
+    private final LongWeightFunction<?> weights;
+    private final long[] distances;
+    private final int[] parentArcs;
+    private final int[] labeledStamps;
+    private final int[] closedStamps;
+    private int epoch;
+    
+    HierarchyLabels(ContractionHierarchy<?, ?, ?> hierarchy) {
+        this.hierarchy = hierarchy;
+        this.weights = hierarchy.weights;
+        this.distances = new long[hierarchy.vertexCount];
+        this.parentArcs = new int[hierarchy.vertexCount];
+        this.labeledStamps = new int[hierarchy.vertexCount];
+        this.closedStamps = new int[hierarchy.vertexCount];
+    }
+    
+    void reset() {
+        if (++epoch == 0) {
+            Arrays.fill(labeledStamps, 0);
+            Arrays.fill(closedStamps, 0);
+            epoch = 1;
+        }
+    }
+    
+    boolean isLabeled(int vertex) {
+        return labeledStamps[vertex] == epoch;
+    }
+    
+    boolean isClosed(int vertex) {
+        return closedStamps[vertex] == epoch;
+    }
+    
+    void close(int vertex) {
+        closedStamps[vertex] = epoch;
+    }
+    
+    long getDistance(int vertex) {
+        return distances[vertex];
+    }
+    
+    int getParentArc(int vertex) {
+        return parentArcs[vertex];
+    }
+    
+    /**
+     * Labels {@code vertex} with {@code distance}, reached through 
+     * {@code parentArc}, or -1 for the start vertex.
+     */
+    void setLabel(int vertex, long distance, int parentArc) {
+        distances[vertex] = distance;
+        parentArcs[vertex] = parentArc;
+        labeledStamps[vertex] = epoch;
+    }
+    
+    @Override
+    public long key(int vertex) {
+        return distances[vertex];
+    }
+    
+    @Override
+    public int compare(int vertex1, int vertex2) {
+        return weights.compareAsLong(distances[vertex1], distances[vertex2]);
+    }
+}
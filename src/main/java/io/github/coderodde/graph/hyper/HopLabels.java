@@ -0,0 +1,144 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.ElementComparator;
+import java.util.Arrays;
+
+/**
+ * This class holds the state of a hop-limited search over the
+ * {@link HyperGraphNode} objects. The search runs over the pairs of a node and
+ * the number of hyperedges on a path to it, called states, so that a cheap
+ * path with many hops does not hide a more expensive one with few hops. The
+ * states are assigned dense indices in the order of discovery.
+ * <p>
+ * A node is settled again only with fewer hops than before: a state popped
+ * later is no cheaper, so that it is dominated unless it has fewer hops.
+ * Hence, each node is settled at most once per hop count.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+final class HopLabels implements ElementComparator {
+    
+    private static final int MINIMUM_CAPACITY = 16;
+    
+    private final IndexMap<Long> states = new IndexMap<>();
+    private Object[] distances = new Object[MINIMUM_CAPACITY];
+    private int[] stateNodes = new int[MINIMUM_CAPACITY];
+    private int[] stateHops = new int[MINIMUM_CAPACITY];
+    private int[] parents = new int[MINIMUM_CAPACITY];
+    private int[] parentEdges = new int[MINIMUM_CAPACITY];
+    
+    /**
+     * {@code settledHops[node]} is the fewest hops {@code node} was settled
+     * with, valid if {@code settledStamps[node] == epoch}.
+     */
+    private int[] settledHops = new int[MINIMUM_CAPACITY];
+    private int[] settledStamps = new int[MINIMUM_CAPACITY];
+    private int epoch;
+    private WeightFunction<Object> weights;
+    
+    @SuppressWarnings("unchecked")
+    void reset(WeightFunction<?> weights) {
+        this.weights = (WeightFunction<Object>) weights;
+        states.clear();
+        
+        if (++epoch == 0) {
+            Arrays.fill(settledStamps, 0);
+            epoch = 1;
+        }
+    }
+    
+    /**
+     * Returns {@code true} if {@code node} was settled with at most
+     * {@code hops} hops, so that any state of it with {@code hops} hops is
+     * dominated.
+     */
+    boolean isDominated(int node, int hops) {
+        return node < settledStamps.length
+                && settledStamps[node] == epoch
+                && settledHops[node] <= hops;
+    }
+    
+    void settle(int state) {
+        int node = stateNodes[state];
+        
+        if (node >= settledStamps.length) {
+            int capacity = Math.max(node + 1, 2 * settledStamps.length);
+            settledHops = Arrays.copyOf(settledHops, capacity);
+            settledStamps = Arrays.copyOf(settledStamps, capacity);
+        }
+        
+        settledHops[node] = stateHops[state];
+        settledStamps[node] = epoch;
+    }
+    
+    /**
+     * Returns the index of the state of {@code node} with {@code hops} hops,
+     * or a negated index minus one if the state is new.
+     */
+    int stateOf(int node, int hops) {
+        int size = states.size();
+        int state = states.indexOf(((long) node << 32) | hops);
+        
+        if (state < size) {
+            return state;
+        }
+        
+        if (state == stateNodes.length) {
+            int capacity = 2 * state;
+            distances = Arrays.copyOf(distances, capacity);
+            stateNodes = Arrays.copyOf(stateNodes, capacity);
+            stateHops = Arrays.copyOf(stateHops, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            parentEdges = Arrays.copyOf(parentEdges, capacity);
+        }
+        
+        stateNodes[state] = node;
+        stateHops[state] = hops;
+        return -state - 1;
+    }
+    
+    int getNode(int state) {
+        return stateNodes[state];
+    }
+    
+    int getHops(int state) {
+        return stateHops[state];
+    }
+    
+    @SuppressWarnings("unchecked")
+    <W> W getDistance(int state) {
+        return (W) distances[state];
+    }
+    
+    int getParent(int state) {
+        return parents[state];
+    }
+    
+    int getParentEdge(int state) {
+        return parentEdges[state];
+    }
+    
+    /**
+     * Labels {@code state} with {@code distance}, reached from the state
+     * {@code parent} through the hyperedge with index {@code parentEdge}, or
+     * -1 and -1 for the start state.
+     */
+    void setLabel(int state, Object distance, int parent, int parentEdge) {
+        distances[state] = distance;
+        parents[state] = parent;
+        parentEdges[state] = parentEdge;
+    }
+    
+    /**
+     * Orders the states by their distances, and the states at the same
+     * distance by their hops, so that the states popped later are dominated.
+     */
+    @Override
+    public int compare(int state1, int state2) {
+        int cmp = weights.compare(distances[state1], distances[state2]);
+        return cmp != 0 ? cmp : Integer.compare(stateHops[state1],
+                                                stateHops[state2]);
+    }
+}
@@ -0,0 +1,561 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class implements a hub labeling distance oracle over a
+ * {@link HyperGraphSnapshot}. Each node {@code u} is assigned a label: a list
+ * of hubs {@code h}, each with the weight of a shortest path between
+ * {@code u} and {@code h}. The labels cover every pair of connected nodes
+ * with a common hub on a shortest path between them, so that the weight of a
+ * shortest path is the minimum over the common hubs of the two labels,
+ * computed by merging the two labels sorted by the hub rank.
+ * <p>
+ * The labels are built by the pruned landmark labeling: the nodes are ranked
+ * by their degree, and a Dijkstra's algorithm is run from each node in the
+ * rank order, not expanding the nodes whose distance is already covered by
+ * the labels built so far.
+ * <p>
+ * The distances follow the cost model of {@link HyperGraphPathFinder}: the
+ * weight of a path counts all its hyperedges and all its nodes, including
+ * both end nodes. A label entry stores the weight of a path without the
+ * weight of the hub, so that the hub is counted once by the query.
+ * <p>
+ * The labels are stored in flat primitive arrays. If requested at build
+ * time, each label entry also stores the next node and hyperedge towards the
+ * hub, so that the paths can be reconstructed.
+ * <p>
+ * The labels are immutable, and may be queried by any number of threads
+ * concurrently.
+ *
+ * @param <I> the type of the node identity object.
+ * @param <J> the type of the edge identity object.
+ * @param <W> the type of the weights.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class HubLabels<I, J, W> {
+    
+    private static final int MINIMUM_CAPACITY = 4;
+    
+    private final HyperGraphSnapshot<I, J, W> graph;
+    private final LongWeightFunction<W> weights;
+    
+    /**
+     * {@code hubWeights[r]} is the weight of the node of rank {@code r}.
+     */
+    private final long[] hubWeights;
+    
+    /**
+     * The label of the node {@code u} occupies the positions
+     * {@code labelOffsets[u] ... labelOffsets[u + 1] - 1} of the arrays below,
+     * sorted by the hub rank.
+     */
+    private final int[] labelOffsets;
+    private final int[] labelHubs;
+    private final long[] labelDistances;
+    
+    /**
+     * The next node and hyperedge on the path towards the hub, or -1 for the
+     * hub itself. {@code null} unless the paths are stored.
+     */
+    private final int[] labelParents;
+    private final int[] labelParentEdges;
+    
+    private HubLabels(HyperGraphSnapshot<I, J, W> graph,
+                      LongWeightFunction<W> weights,
+                      Builder builder,
+                      boolean storePaths) {
+        
+        int nodeCount = graph.getNodeCount();
+        
+        this.graph = graph;
+        this.weights = weights;
+        this.hubWeights = builder.hubWeights;
+        this.labelOffsets = new int[nodeCount + 1];
+        
+        for (int u = 0; u < nodeCount; ++u) {
+            labelOffsets[u + 1] = labelOffsets[u] + builder.sizes[u];
+        }
+        
+        int entryCount = labelOffsets[nodeCount];
+        
+        this.labelHubs = new int[entryCount];
+        this.labelDistances = new long[entryCount];
+        this.labelParents = storePaths ? new int[entryCount] : null;
+        this.labelParentEdges = storePaths ? new int[entryCount] : null;
+        
+        for (int u = 0; u < nodeCount; ++u) {
+            int offset = labelOffsets[u];
+            int size = builder.sizes[u];
+            
+            System.arraycopy(builder.hubs[u], 0, labelHubs, offset, size);
+            System.arraycopy(builder.distances[u],
+                             0,
+                             labelDistances,
+                             offset,
+                             size);
+            
+            if (storePaths) {
+                System.arraycopy(builder.parents[u],
+                                 0,
+                                 labelParents,
+                                 offset,
+                                 size);
+                
+                System.arraycopy(builder.parentEdges[u],
+                                 0,
+                                 labelParentEdges,
+                                 offset,
+                                 size);
+            }
+        }
+    }
+    
+    /**
+     * Builds the hub labels of {@code graph} without the path information.
+     *
+     * @param <I>     the type of the node identity object.
+     * @param <J>     the type of the edge identity object.
+     * @param <W>     the type of the weights.
+     * @param graph   the snapshot.
+     * @param weights the weight function.
+     * @return the hub labels.
+     */
+    public static <I, J, W> HubLabels<I, J, W>
+        of(HyperGraphSnapshot<I, J, W> graph, LongWeightFunction<W> weights) {
+        return of(graph, weights, false);
+    }
+    
+    /**
+     * Builds the hub labels of {@code graph}.
+     *
+     * @param <I>        the type of the node identity object.
+     * @param <J>        the type of the edge identity object.
+     * @param <W>        the type of the weights.
+     * @param graph      the snapshot.
+     * @param weights    the weight function.
+     * @param storePaths whether to store the information needed by
+     *                   {@link #getPath(int, int)}.
+     * @return the hub labels.
+     */
+    public static <I, J, W> HubLabels<I, J, W>
+        of(HyperGraphSnapshot<I, J, W> graph,
+           LongWeightFunction<W> weights,
+           boolean storePaths) {
+        
+        Builder builder = new Builder(graph, weights, storePaths);
+        builder.build();
+        return new HubLabels<>(graph, weights, builder, storePaths);
+    }
+    
+    public HyperGraphSnapshot<I, J, W> getGraph() {
+        return graph;
+    }
+    
+    public boolean storesPaths() {
+        return labelParents != null;
+    }
+    
+    /**
+     * Returns the total number of the label entries of all the nodes.
+     */
+    public int getEntryCount() {
+        return labelHubs.length;
+    }
+    
+    /**
+     * Returns the weight of a shortest path between {@code source} and
+     * {@code target}, or {@link LongWeightFunction#maxAsLong()} if there is no
+     * such path.
+     *
+     * @param source the snapshot index of the source node.
+     * @param target the snapshot index of the target node.
+     * @return the weight of a shortest path.
+     */
+    public long distance(int source, int target) {
+        int hub = getBestHub(source, target);
+        
+        if (hub == -1) {
+            return weights.maxAsLong();
+        }
+        
+        return getDistanceThrough(hub, source, target);
+    }
+    
+    public long distance(HyperGraphNode<I, J, W> source,
+                         HyperGraphNode<I, J, W> target) {
+        
+        return distance(HyperGraphSnapshotPathFinder.checkNode(graph, source),
+                        HyperGraphSnapshotPathFinder.checkNode(graph, target));
+    }
+    
+    /**
+     * Returns a shortest path between {@code source} and {@code target}, or
+     * the empty path if there is no such path.
+     *
+     * @param source the snapshot index of the source node.
+     * @param target the snapshot index of the target node.
+     * @return a shortest path.
+     * @throws IllegalStateException if the labels were built without the
+     *                               paths.
+     */
+    public HyperGraphPath<I, J, W> getPath(int source, int target) {
+        if (!storesPaths()) {
+            throw new IllegalStateException(
+                    "The hub labels were built without the paths");
+        }
+        
+        int hub = getBestHub(source, target);
+        
+        if (hub == -1) {
+            // Return empty path:
+            return new HyperGraphPath<>(weights);
+        }
+        
+        List<HyperGraphNode<I, J, W>> pathNodes = new ArrayList<>();
+        List<HyperGraphEdge<I, J, W>> pathEdges = new ArrayList<>();
+        List<HyperGraphNode<I, J, W>> tailNodes = new ArrayList<>();
+        List<HyperGraphEdge<I, J, W>> tailEdges = new ArrayList<>();
+        
+        traceToHub(source, hub, pathNodes, pathEdges);
+        traceToHub(target, hub, tailNodes, tailEdges);
+        
+        // Both traces end at the hub:
+        tailNodes.remove(tailNodes.size() - 1);
+        Collections.reverse(tailNodes);
+        Collections.reverse(tailEdges);
+        pathNodes.addAll(tailNodes);
+        pathEdges.addAll(tailEdges);
+        return new HyperGraphPath<>(pathNodes, pathEdges, weights, false);
+    }
+    
+    public HyperGraphPath<I, J, W> getPath(HyperGraphNode<I, J, W> source,
+                                           HyperGraphNode<I, J, W> target) {
+        
+        return getPath(HyperGraphSnapshotPathFinder.checkNode(graph, source),
+                       HyperGraphSnapshotPathFinder.checkNode(graph, target));
+    }
+    
+    /**
+     * Returns the rank of the common hub of {@code source} and {@code target}
+     * on a shortest path between them, or -1 if they are not connected.
+     */
+    private int getBestHub(int source, int target) {
+        int i = labelOffsets[source];
+        int iEnd = labelOffsets[source + 1];
+        int j = labelOffsets[target];
+        int jEnd = labelOffsets[target + 1];
+        int bestHub = -1;
+        long best = weights.maxAsLong();
+        
+        while (i < iEnd && j < jEnd) {
+            int hubi = labelHubs[i];
+            int hubj = labelHubs[j];
+            
+            if (hubi < hubj) {
+                i++;
+            } else if (hubi > hubj) {
+                j++;
+            } else {
+                long distance =
+                        weights.applyAsLong(
+                                weights.applyAsLong(labelDistances[i],
+                                                    labelDistances[j]),
+                                hubWeights[hubi]);
+                
+                if (bestHub == -1 || weights.compareAsLong(distance,
+                                                           best) < 0) {
+                    bestHub = hubi;
+                    best = distance;
+                }
+                
+                i++;
+                j++;
+            }
+        }
+        
+        return bestHub;
+    }
+    
+    private long getDistanceThrough(int hub, int source, int target) {
+        return weights.applyAsLong(
+                weights.applyAsLong(labelDistances[findEntry(source, hub)],
+                                    labelDistances[findEntry(target, hub)]),
+                hubWeights[hub]);
+    }
+    
+    /**
+     * Returns the position of the entry of {@code hub} in the label of
+     * {@code node}.
+     */
+    private int findEntry(int node, int hub) {
+        return Arrays.binarySearch(labelHubs,
+                                   labelOffsets[node],
+                                   labelOffsets[node + 1],
+                                   hub);
+    }
+    
+    private void traceToHub(int node,
+                            int hub,
+                            List<HyperGraphNode<I, J, W>> pathNodes,
+                            List<HyperGraphEdge<I, J, W>> pathEdges) {
+        
+        pathNodes.add(graph.getNode(node));
+        
+        // The parent of a labeled node was expanded by the search from the
+        // hub, so that it has an entry for the hub as well:
+        for (int entry = findEntry(node, hub);
+                labelParents[entry] != -1;
+                entry = findEntry(node, hub)) {
+            
+            pathEdges.add(graph.getEdge(labelParentEdges[entry]));
+            node = labelParents[entry];
+            pathNodes.add(graph.getNode(node));
+        }
+    }
+    
+    /**
+     * This class runs the pruned landmark labeling, keeping the labels in
+     * growable per-node arrays.
+     */
+    private static final class Builder {
+        
+        private final HyperGraphSnapshot<?, ?, ?> graph;
+        private final LongWeightFunction<?> weights;
+        private final SearchLabels.LongLabels searchLabels;
+        private final IndexedPriorityQueue open;
+        private final boolean storePaths;
+        
+        final int[] hubNodes;
+        final long[] hubWeights;
+        final int[][] hubs;
+        final long[][] distances;
+        final int[][] parents;
+        final int[][] parentEdges;
+        final int[] sizes;
+        
+        /**
+         * {@code rootDistances[r]} is the distance between the current root
+         * and the hub of rank {@code r}, if the root has an entry for it.
+         */
+        private final long[] rootDistances;
+        private final boolean[] rootHubs;
+        
+        <W> Builder(HyperGraphSnapshot<?, ?, W> graph,
+                    LongWeightFunction<W> weights,
+                    boolean storePaths) {
+            
+            int nodeCount = graph.getNodeCount();
+            SearchContext context = new SearchContext();
+            
+            this.graph = graph;
+            this.weights = weights;
+            this.storePaths = storePaths;
+            this.searchLabels = context.longLabels(SearchContext.FORWARD,
+                                                   graph,
+                                                   weights);
+            
+            this.open = context.queue(SearchContext.FORWARD,
+                                      weights,
+                                      searchLabels,
+                                      nodeCount);
+            
+            this.hubNodes = getHubOrder(graph);
+            this.hubWeights = new long[nodeCount];
+            this.hubs = new int[nodeCount][];
+            this.distances = new long[nodeCount][];
+            this.parents = storePaths ? new int[nodeCount][] : null;
+            this.parentEdges = storePaths ? new int[nodeCount][] : null;
+            this.sizes = new int[nodeCount];
+            this.rootDistances = new long[nodeCount];
+            this.rootHubs = new boolean[nodeCount];
+            
+            long[] nodeWeights = graph.getLongWeights(weights).nodeWeights;
+            
+            for (int rank = 0; rank < nodeCount; ++rank) {
+                hubWeights[rank] = nodeWeights[hubNodes[rank]];
+            }
+            
+            for (int u = 0; u < nodeCount; ++u) {
+                hubs[u] = new int[MINIMUM_CAPACITY];
+                distances[u] = new long[MINIMUM_CAPACITY];
+                
+                if (storePaths) {
+                    parents[u] = new int[MINIMUM_CAPACITY];
+                    parentEdges[u] = new int[MINIMUM_CAPACITY];
+                }
+            }
+        }
+        
+        void build() {
+            for (int rank = 0; rank < hubNodes.length; ++rank) {
+                searchFrom(rank);
+            }
+        }
+        
+        /**
+         * Runs the pruned Dijkstra's algorithm from the hub of rank
+         * {@code rank}. The labels of the search exclude the weight of the
+         * hub.
+         */
+        private void searchFrom(int rank) {
+            int root = hubNodes[rank];
+            
+            for (int i = 0; i < sizes[root]; ++i) {
+                rootHubs[hubs[root][i]] = true;
+                rootDistances[hubs[root][i]] = distances[root][i];
+            }
+            
+            searchLabels.reset();
+            open.clear();
+            searchLabels.start(root, false);
+            open.insert(root);
+            
+            while (!open.isEmpty()) {
+                int current = open.extractMinimum();
+                long distance = searchLabels.getLabel(current);
+                searchLabels.close(current);
+                
+                if (current != root && isCovered(current, distance, rank)) {
+                    continue;
+                }
+                
+                addEntry(current,
+                         rank,
+                         distance,
+                         searchLabels.parents[current],
+                         searchLabels.parentEdges[current]);
+                
+                for (int i = graph.nodeEdgeOffsets[current],
+                         iEnd = graph.nodeEdgeOffsets[current + 1];
+                         i < iEnd;
+                         ++i) {
+                    
+                    int edge = graph.nodeEdges[i];
+                    
+                    if (!searchLabels.scanEdge(edge)) {
+                        continue;
+                    }
+                    
+                    searchLabels.loadEdge(current, edge);
+                    
+                    for (int j = graph.edgeNodeOffsets[edge],
+                             jEnd = graph.edgeNodeOffsets[edge + 1];
+                             j < jEnd;
+                             ++j) {
+                        
+                        int child = graph.edgeNodes[j];
+                        
+                        if (!searchLabels.isClosed(child) &&
+                                searchLabels.relax(child, current, edge)) {
+                            HyperGraphSnapshotPathFinder.update(open, child);
+                        }
+                    }
+                }
+            }
+            
+            for (int i = 0; i < sizes[root]; ++i) {
+                rootHubs[hubs[root][i]] = false;
+            }
+        }
+        
+        /**
+         * Returns {@code true} if the labels built so far already give a path
+         * between the root of rank {@code rank} and {@code node} no heavier
+         * than {@code distance} plus the weight of the root.
+         */
+        private boolean isCovered(int node, long distance, int rank) {
+            long bound = weights.applyAsLong(distance, hubWeights[rank]);
+            
+            for (int i = 0; i < sizes[node]; ++i) {
+                int hub = hubs[node][i];
+                
+                if (!rootHubs[hub]) {
+                    continue;
+                }
+                
+                long covered =
+                        weights.applyAsLong(
+                                weights.applyAsLong(rootDistances[hub],
+                                                    distances[node][i]),
+                                hubWeights[hub]);
+                
+                if (weights.compareAsLong(covered, bound) <= 0) {
+                    return true;
+                }
+            }
+            
+            return false;
+        }
+        
+        private void addEntry(int node,
+                              int rank,
+                              long distance,
+                              int parent,
+                              int parentEdge) {
+            
+            int size = sizes[node];
+            
+            if (size == hubs[node].length) {
+                hubs[node] = Arrays.copyOf(hubs[node], 2 * size);
+                distances[node] = Arrays.copyOf(distances[node], 2 * size);
+                
+                if (storePaths) {
+                    parents[node] = Arrays.copyOf(parents[node], 2 * size);
+                    parentEdges[node] = Arrays.copyOf(parentEdges[node],
+                                                      2 * size);
+                }
+            }
+            
+            hubs[node][size] = rank;
+            distances[node][size] = distance;
+            
+            if (storePaths) {
+                parents[node][size] = parent;
+                parentEdges[node][size] = parentEdge;
+            }
+            
+            sizes[node]++;
+        }
+        
+        /**
+         * Returns the nodes in the order of decreasing number of neighbors,
+         * counted with multiplicity over the incident hyperedges.
+         */
+        private static int[] getHubOrder(HyperGraphSnapshot<?, ?, ?> graph) {
+            int nodeCount = graph.getNodeCount();
+            long[] neighbors = new long[nodeCount];
+            
+            for (int u = 0; u < nodeCount; ++u) {
+                for (int i = 0; i < graph.getIncidentEdgeCount(u); ++i) {
+                    int edge = graph.getIncidentEdge(u, i);
+                    neighbors[u] += graph.getEdgeSize(edge) - 1;
+                }
+            }
+            
+            Integer[] nodes = new Integer[nodeCount];
+            
+            for (int u = 0; u < nodeCount; ++u) {
+                nodes[u] = u;
+            }
+            
+            Arrays.sort(nodes, 
+                        (u, v) -> Long.compare(neighbors[v], neighbors[u]));
+            
+            int[] order = new int[nodeCount];
+            
+            for (int i = 0; i < nodeCount; ++i) {
+                order[i] = nodes[i];
+            }
+            
+            return order;
+        }
+    }
+}
@@ -0,0 +1,577 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This class implements a mutable hypergraph safe for concurrent use. The
+ * nodes and the hyperedges are identified by their IDs, and are created and
+ * connected by the container itself, which applies {@link Batch}es of
+ * mutations one at a time.
+ * <p>
+ * The queries run on the {@link HyperGraphSnapshot} returned by
+ * {@link #snapshot()}. Each applied batch publishes a new immutable snapshot
+ * through a volatile reference, so that a reader takes the latest version
+ * without locking, a writer never blocks the queries in flight on an older
+ * version, and no query sees a half-applied batch. An old version lives as
+ * long as a reader refers to it.
+ * <p>
+ * Applying a batch of {@code b} mutations costs {@code O(b + V + E + M)},
+ * where {@code V}, {@code E} and {@code M} are the numbers of nodes,
+ * hyperedges and memberships: the mutations themselves update the mutable 
+ * state in {@code O(b)}, but the published snapshot holds its adjacency in 
+ * flat arrays shared by no other version, which are rebuilt as a whole. The 
+ * mutations should, therefore, be applied in batches rather than one by one.
+ * A batch is applied atomically: if any of its mutations is invalid, none of
+ * them is applied, and the mutable state is rebuilt from the latest version
+ * in the same time.
+ * <p>
+ * The nodes and the hyperedges of the snapshots are not connected to each
+ * other, so that {@link HyperGraphPathFinder} sees every node of this 
+ * container isolated. They are queried either through the {@code find} and 
+ * {@code biFind} methods of this class, which search the latest version by 
+ * the node IDs, or through the snapshot path finders such as
+ * {@link HyperGraphSnapshotPathFinder}, and must not be connected through
+ * {@link HyperGraphEdge#connectNode(HyperGraphNode)}. Reading several 
+ * properties of the same version requires taking its snapshot once, since 
+ * the other reading methods of this class may each see a different version.
+ *
+ * @param <I> the type of the node identity object.
+ * @param <J> the type of the edge identity object.
+ * @param <W> the type of the weights.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.2 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class HyperGraph<I, J, W> {
+    
+    /**
+     * Guards the mutable state below. Only the writers take it.
+     */
+    private final Object writeLock = new Object();
+    
+    /**
+     * The nodes and the hyperedges of the latest version, with the IDs of
+     * the hyperedges incident to each node and of the members of each
+     * hyperedge. The iteration orders are the index orders of the next
+     * snapshot.
+     */
+    private final Map<I, HyperGraphNode<I, J, W>> nodes =
+            new LinkedHashMap<>();
+    private final Map<J, HyperGraphEdge<I, J, W>> edges =
+            new LinkedHashMap<>();
+    private final Map<I, Set<J>> incidentEdges = new HashMap<>();
+    private final Map<J, Set<I>> members = new HashMap<>();
+    
+    private volatile Version<I, J, W> current;
+    
+    public HyperGraph() {
+        this.current = publish(0L);
+    }
+    
+    /**
+     * Returns the snapshot of the latest version without locking.
+     *
+     * @return the latest snapshot.
+     */
+    public HyperGraphSnapshot<I, J, W> snapshot() {
+        return current.snapshot;
+    }
+    
+    /**
+     * Returns the number of the latest version. The empty hypergraph has the
+     * version 0, and each applied batch increments the version by one.
+     *
+     * @return the latest version number.
+     */
+    public long getVersion() {
+        return current.number;
+    }
+    
+    /**
+     * Returns the node with ID {@code id} in the latest version, or
+     * {@code null} if there is no such node. The node belongs to the 
+     * snapshot of the version, and has no hyperedges of its own.
+     *
+     * @param id the ID of the node.
+     * @return the node or {@code null}.
+     */
+    public HyperGraphNode<I, J, W> getNode(I id) {
+        Integer index = current.nodeIndices.get(id);
+        return index == null ? null : current.snapshot.getNode(index);
+    }
+    
+    /**
+     * Returns the hyperedge with ID {@code id} in the latest version, or
+     * {@code null} if there is no such hyperedge.
+     *
+     * @param id the ID of the hyperedge.
+     * @return the hyperedge or {@code null}.
+     */
+    public HyperGraphEdge<I, J, W> getEdge(J id) {
+        Integer index = current.edgeIndices.get(id);
+        return index == null ? null : current.snapshot.getEdge(index);
+    }
+    
+    /**
+     * Finds a shortest path between the nodes with IDs {@code sourceId} and
+     * {@code targetId} in the latest version.
+     *
+     * @param sourceId the ID of the source node.
+     * @param targetId the ID of the target node.
+     * @param weights  the weight function.
+     * @return the shortest path, or the nonexistent path if the target is not
+     *         reachable.
+     * @throws IllegalArgumentException if there is no node with either ID.
+     */
+    public HyperGraphPath<I, J, W> find(I sourceId,
+                                        I targetId,
+                                        WeightFunction<W> weights) {
+        Version<I, J, W> version = current;
+        
+        return HyperGraphSnapshotPathFinder.find(
+                version.snapshot,
+                version.getNodeIndex(sourceId),
+                version.getNodeIndex(targetId),
+                weights,
+                new SearchContext());
+    }
+    
+    public HyperGraphPath<I, J, W> find(I sourceId,
+                                        I targetId,
+                                        LongWeightFunction<W> weights) {
+        Version<I, J, W> version = current;
+        
+        return HyperGraphSnapshotPathFinder.find(
+                version.snapshot,
+                version.getNodeIndex(sourceId),
+                version.getNodeIndex(targetId),
+                weights,
+                new SearchContext());
+    }
+    
+    public HyperGraphPath<I, J, W> find(I sourceId,
+                                        I targetId,
+                                        DoubleWeightFunction<W> weights) {
+        Version<I, J, W> version = current;
+        
+        return HyperGraphSnapshotPathFinder.find(
+                version.snapshot,
+                version.getNodeIndex(sourceId),
+                version.getNodeIndex(targetId),
+                weights,
+                new SearchContext());
+    }
+    
+    /**
+     * Finds a shortest path between the nodes with IDs {@code sourceId} and
+     * {@code targetId} in the latest version, searching from both ends.
+     *
+     * @param sourceId the ID of the source node.
+     * @param targetId the ID of the target node.
+     * @param weights  the weight function.
+     * @return the shortest path, or the nonexistent path if the target is not
+     *         reachable.
+     * @throws IllegalArgumentException if there is no node with either ID.
+     */
+    public HyperGraphPath<I, J, W> biFind(I sourceId,
+                                          I targetId,
+                                          WeightFunction<W> weights) {
+        Version<I, J, W> version = current;
+        
+        return HyperGraphSnapshotPathFinder.biFind(
+                version.snapshot,
+                version.getNodeIndex(sourceId),
+                version.getNodeIndex(targetId),
+                weights,
+                new SearchContext());
+    }
+    
+    public HyperGraphPath<I, J, W> biFind(I sourceId,
+                                          I targetId,
+                                          LongWeightFunction<W> weights) {
+        Version<I, J, W> version = current;
+        
+        return HyperGraphSnapshotPathFinder.biFind(
+                version.snapshot,
+                version.getNodeIndex(sourceId),
+                version.getNodeIndex(targetId),
+                weights,
+                new SearchContext());
+    }
+    
+    public HyperGraphPath<I, J, W> biFind(I sourceId,
+                                          I targetId,
+                                          DoubleWeightFunction<W> weights) {
+        Version<I, J, W> version = current;
+        
+        return HyperGraphSnapshotPathFinder.biFind(
+                version.snapshot,
+                version.getNodeIndex(sourceId),
+                version.getNodeIndex(targetId),
+                weights,
+                new SearchContext());
+    }
+    
+    public int getNodeCount() {
+        return current.snapshot.getNodeCount();
+    }
+    
+    public int getEdgeCount() {
+        return current.snapshot.getEdgeCount();
+    }
+    
+    /**
+     * Applies all the mutations of {@code batch}, in order, and publishes the
+     * resulting version. The writers applying batches concurrently are
+     * serialized; the readers are not blocked.
+     *
+     * @param batch the mutations to apply.
+     * @return the number of the published version.
+     * @throws IllegalArgumentException if a mutation is invalid, in which
+     *                                  case no mutation is applied.
+     */
+    public long apply(Batch<I, J, W> batch) {
+        Objects.requireNonNull(batch, "The batch is null");
+        
+        synchronized (writeLock) {
+            try {
+                for (Mutation<I, J, W> mutation : batch.mutations) {
+                    mutation.applyTo(this);
+                }
+            } catch (RuntimeException ex) {
+                restore();
+                throw ex;
+            }
+            
+            Version<I, J, W> version = publish(current.number + 1L);
+            current = version;
+            return version.number;
+        }
+    }
+    
+    /**
+     * This class holds a sequence of mutations to apply to a
+     * {@link HyperGraph} at once. A batch only records the mutations, which
+     * are validated when the batch is applied, and may be applied any number
+     * of times and to any number of graphs. Each application creates nodes
+     * and hyperedges of its own. A batch is not safe for concurrent use.
+     *
+     * @param <I> the type of the node identity object.
+     * @param <J> the type of the edge identity object.
+     * @param <W> the type of the weights.
+     */
+    public static final class Batch<I, J, W> {
+        
+        private final List<Mutation<I, J, W>> mutations = new ArrayList<>();
+        
+        /**
+         * Adds a node. The ID must not be in use.
+         *
+         * @param id     the ID of the node.
+         * @param weight the weight of the node.
+         */
+        public void addNode(I id, W weight) {
+            Objects.requireNonNull(id);
+            Objects.requireNonNull(weight);
+            mutations.add(
+                    graph -> graph.addNode(new HyperGraphNode<>(id, weight)));
+        }
+        
+        /**
+         * Removes a node, disconnecting it from all its hyperedges.
+         *
+         * @param id the ID of the node.
+         */
+        public void removeNode(I id) {
+            Objects.requireNonNull(id);
+            mutations.add(graph -> graph.removeNode(id));
+        }
+        
+        /**
+         * Adds a hyperedge with no members. The ID must not be in use.
+         *
+         * @param id     the ID of the hyperedge.
+         * @param weight the weight of the hyperedge.
+         */
+        public void addEdge(J id, W weight) {
+            Objects.requireNonNull(id);
+            Objects.requireNonNull(weight);
+            mutations.add(
+                    graph -> graph.addEdge(new HyperGraphEdge<>(id, weight)));
+        }
+        
+        /**
+         * Removes a hyperedge, disconnecting it from all its members.
+         *
+         * @param id the ID of the hyperedge.
+         */
+        public void removeEdge(J id) {
+            Objects.requireNonNull(id);
+            mutations.add(graph -> graph.removeEdge(id));
+        }
+        
+        /**
+         * Makes a node a member of a hyperedge. Connecting a member again has
+         * no effect.
+         *
+         * @param edgeId the ID of the hyperedge.
+         * @param nodeId the ID of the node.
+         */
+        public void connect(J edgeId, I nodeId) {
+            Objects.requireNonNull(edgeId);
+            Objects.requireNonNull(nodeId);
+            mutations.add(graph -> graph.connect(edgeId, nodeId));
+        }
+        
+        /**
+         * Removes a node from the members of a hyperedge. Disconnecting a
+         * non-member has no effect.
+         *
+         * @param edgeId the ID of the hyperedge.
+         * @param nodeId the ID of the node.
+         */
+        public void disconnect(J edgeId, I nodeId) {
+            Objects.requireNonNull(edgeId);
+            Objects.requireNonNull(nodeId);
+            mutations.add(graph -> graph.disconnect(edgeId, nodeId));
+        }
+        
+        public int size() {
+            return mutations.size();
+        }
+        
+        public boolean isEmpty() {
+            return mutations.isEmpty();
+        }
+    }
+    
+    /**
+     * This interface defines a mutation recorded in a {@link Batch}.
+     */
+    @FunctionalInterface
+    private interface Mutation<I, J, W> {
+        
+        void applyTo(HyperGraph<I, J, W> graph);
+    }
+    
+    /**
+     * This class holds a published version: its snapshot and the maps from
+     * the IDs to the indices of the nodes and the hyperedges of the snapshot.
+     * The maps are built for the snapshot anyway, and are never modified 
+     * after the version is published.
+     */
+    private static final class Version<I, J, W> {
+        
+        final long number;
+        final HyperGraphSnapshot<I, J, W> snapshot;
+        final Map<I, Integer> nodeIndices;
+        final Map<J, Integer> edgeIndices;
+        
+        Version(long number,
+                HyperGraphSnapshot<I, J, W> snapshot,
+                Map<I, Integer> nodeIndices,
+                Map<J, Integer> edgeIndices) {
+            this.number = number;
+            this.snapshot = snapshot;
+            this.nodeIndices = nodeIndices;
+            this.edgeIndices = edgeIndices;
+        }
+        
+        int getNodeIndex(I id) {
+            Integer index = nodeIndices.get(id);
+            
+            if (index == null) {
+                throw new IllegalArgumentException(
+                        "Node " + id + " not found");
+            }
+            
+            return index;
+        }
+    }
+    
+    private void addNode(HyperGraphNode<I, J, W> node) {
+        if (nodes.putIfAbsent(node.getId(), node) != null) {
+            throw new IllegalArgumentException(
+                    "Node " + node.getId() + " already exists");
+        }
+        
+        incidentEdges.put(node.getId(), new LinkedHashSet<>());
+    }
+    
+    private void removeNode(I id) {
+        checkNode(id);
+        
+        for (J edgeId : incidentEdges.remove(id)) {
+            members.get(edgeId).remove(id);
+        }
+        
+        nodes.remove(id);
+    }
+    
+    private void addEdge(HyperGraphEdge<I, J, W> edge) {
+        if (edges.putIfAbsent(edge.getId(), edge) != null) {
+            throw new IllegalArgumentException(
+                    "Edge " + edge.getId() + " already exists");
+        }
+        
+        members.put(edge.getId(), new LinkedHashSet<>());
+    }
+    
+    private void removeEdge(J id) {
+        checkEdge(id);
+        
+        for (I nodeId : members.remove(id)) {
+            incidentEdges.get(nodeId).remove(id);
+        }
+        
+        edges.remove(id);
+    }
+    
+    private void connect(J edgeId, I nodeId) {
+        checkEdge(edgeId);
+        checkNode(nodeId);
+        
+        if (members.get(edgeId).add(nodeId)) {
+            incidentEdges.get(nodeId).add(edgeId);
+        }
+    }
+    
+    private void disconnect(J edgeId, I nodeId) {
+        checkEdge(edgeId);
+        checkNode(nodeId);
+        
+        if (members.get(edgeId).remove(nodeId)) {
+            incidentEdges.get(nodeId).remove(edgeId);
+        }
+    }
+    
+    private void checkNode(I id) {
+        if (!nodes.containsKey(id)) {
+            throw new IllegalArgumentException("Node " + id + " not found");
+        }
+    }
+    
+    private void checkEdge(J id) {
+        if (!edges.containsKey(id)) {
+            throw new IllegalArgumentException("Edge " + id + " not found");
+        }
+    }
+    
+    /**
+     * Builds the snapshot of the current state as the version
+     * {@code number}. The nodes and the hyperedges are indexed in the order
+     * they were added.
+     */
+    private Version<I, J, W> publish(long number) {
+        HyperGraphNode<I, J, W>[] nodeArray = nodes.values().toArray(
+                HyperGraphSnapshot.newNodeArray(nodes.size()));
+        HyperGraphEdge<I, J, W>[] edgeArray = edges.values().toArray(
+                HyperGraphSnapshot.newEdgeArray(edges.size()));
+        
+        Map<I, Integer> nodeIndices = new HashMap<>(2 * nodeArray.length);
+        Map<J, Integer> edgeIndices = new HashMap<>(2 * edgeArray.length);
+        
+        for (int i = 0; i < nodeArray.length; ++i) {
+            nodeIndices.put(nodeArray[i].getId(), i);
+        }
+        
+        for (int i = 0; i < edgeArray.length; ++i) {
+            edgeIndices.put(edgeArray[i].getId(), i);
+        }
+        
+        int[] nodeEdgeOffsets = new int[nodeArray.length + 1];
+        int[] edgeNodeOffsets = new int[edgeArray.length + 1];
+        
+        for (int i = 0; i < nodeArray.length; ++i) {
+            nodeEdgeOffsets[i + 1] =
+                    nodeEdgeOffsets[i]
+                  + incidentEdges.get(nodeArray[i].getId()).size();
+        }
+        
+        for (int i = 0; i < edgeArray.length; ++i) {
+            edgeNodeOffsets[i + 1] =
+                    edgeNodeOffsets[i]
+                  + members.get(edgeArray[i].getId()).size();
+        }
+        
+        int[] nodeEdges = new int[nodeEdgeOffsets[nodeArray.length]];
+        int[] edgeNodes = new int[edgeNodeOffsets[edgeArray.length]];
+        
+        for (int i = 0; i < nodeArray.length; ++i) {
+            int index = nodeEdgeOffsets[i];
+            
+            for (J edgeId : incidentEdges.get(nodeArray[i].getId())) {
+                nodeEdges[index++] = edgeIndices.get(edgeId);
+            }
+        }
+        
+        for (int i = 0; i < edgeArray.length; ++i) {
+            int index = edgeNodeOffsets[i];
+            
+            for (I nodeId : members.get(edgeArray[i].getId())) {
+                edgeNodes[index++] = nodeIndices.get(nodeId);
+            }
+        }
+        
+        HyperGraphSnapshot<I, J, W> snapshot =
+                new HyperGraphSnapshot<>(
+                        nodeEdgeOffsets,
+                        nodeEdges,
+                        edgeNodeOffsets,
+                        edgeNodes,
+                        null,
+                        0,
+                        new HyperGraphSnapshot.ElementFactory<>() {
+                            
+                            @Override
+                            public HyperGraphNode<I, J, W>
+                                createNode(int nodeIndex) {
+                                return nodeArray[nodeIndex];
+                            }
+                            
+                            @Override
+                            public HyperGraphEdge<I, J, W>
+                                createEdge(int edgeIndex) {
+                                return edgeArray[edgeIndex];
+                            }
+                        });
+        
+        return new Version<>(number, snapshot, nodeIndices, edgeIndices);
+    }
+    
+    /**
+     * Rebuilds the mutable state from the latest version, undoing the
+     * mutations of a failed batch.
+     */
+    private void restore() {
+        HyperGraphSnapshot<I, J, W> snapshot = current.snapshot;
+        
+        nodes.clear();
+        edges.clear();
+        incidentEdges.clear();
+        members.clear();
+        
+        for (int i = 0; i < snapshot.getNodeCount(); ++i) {
+            addNode(snapshot.getNode(i));
+        }
+        
+        for (int i = 0; i < snapshot.getEdgeCount(); ++i) {
+            HyperGraphEdge<I, J, W> edge = snapshot.getEdge(i);
+            addEdge(edge);
+            
+            for (int j = 0; j < snapshot.getEdgeSize(i); ++j) {
+                connect(edge.getId(),
+                        snapshot.getNode(snapshot.getEdgeMember(i, j))
+                                .getId());
+            }
+        }
+    }
+}
@@ -9,13 +9,16 @@ import java.util.Set;
  * This class defines a hyperedge in a hypergraph. The type argument {@code J} 
  * is used for specifying the "identity" of a hyperedge. Two distinct hyperedges
  * must not share the same ID.
+ * <p>
+ * Connecting and disconnecting nodes keeps the {@link ComponentIndex} up to
+ * date.
  * 
  * @param <I> the type of the node identity object.
  * @param <J> the type of the edge identity object.
  * @param <W> the type of the weights.
  * 
  * @author Rodion "rodde" Efremov
- * @version 1.1.0 (Oct 6, 2025)
+ * @version 1.4.0 (Oct 17, 2026)
  * @since 1.0.0 (Sep 24, 2025)
  */
 public final class HyperGraphEdge<I, J, W> {
@@ -85,8 +88,30 @@ public final class HyperGraphEdge<I, J, W> {
     
     public void connectNode(HyperGraphNode<I, J, W> node) {
         Objects.requireNonNull(node);
-        edgeNodes.add(node);
+        
+        if (!edgeNodes.add(node)) {
+            return;
+        }
+        
         node.edges.add(this);
+        GraphVersion.increment();
+        
+        for (HyperGraphNode<I, J, W> member : edgeNodes) {
+            if (!member.equals(node)) {
+                // All the other members are already in the same component:
+                ComponentIndex.union(node, member);
+                break;
+            }
+        }
+    }
+    
+    /**
+     * Adds {@code node} to the members of this hyperedge without adding this
+     * hyperedge to {@code node} or uniting their components. The loaders fill
+     * the two sides of the incidence relation separately, in parallel.
+     */
+    void addMember(HyperGraphNode<I, J, W> node) {
+        edgeNodes.add(node);
     }
     
     public boolean containsNode(HyperGraphNode<I, J, W> node) {
@@ -95,11 +120,28 @@ public final class HyperGraphEdge<I, J, W> {
     
     public void disconnectNode(HyperGraphNode<I, J, W> node) {
         Objects.requireNonNull(node);
-        edgeNodes.remove(node);
-        node.edges.remove(this);
+        
+        if (edgeNodes.remove(node)) {
+            node.edges.remove(this);
+            GraphVersion.increment();
+            
+            if (!edgeNodes.isEmpty()) {
+                ComponentIndex.markDirty(node);
+            }
+        }
     }
     
     public void clear() {
+        if (edgeNodes.isEmpty()) {
+            return;
+        }
+        
+        GraphVersion.increment();
+        
+        if (edgeNodes.size() > 1) {
+            ComponentIndex.markDirty(edgeNodes.iterator().next());
+        }
+        
         for (HyperGraphNode<I, J, W> node : edgeNodes) {
             node.edges.remove(this);
         }
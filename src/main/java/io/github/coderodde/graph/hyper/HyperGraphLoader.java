@@ -0,0 +1,1381 @@
+package io.github.coderodde.graph.hyper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * This class loads hypergraphs from text files, either into a
+ * {@link HyperGraphSnapshot} or into connected {@link HyperGraphNode}s and
+ * {@link HyperGraphEdge}s. Two formats are understood:
+ * <ul>
+ * <li>{@link Format#HMETIS}: the first line holds the hyperedge count, the
+ *     node count and optionally the format code {@code 1} (hyperedge
+ *     weights), {@code 10} (node weights) or {@code 11} (both). Each of the
+ *     next lines holds a hyperedge: its weight if present, followed by its
+ *     members numbered from 1. If present, the node weights follow, one per
+ *     line. The hyperedges without a weight weigh 1, the nodes without one
+ *     weigh zero. The identity of a node is its number, the identity of a
+ *     hyperedge its position among the hyperedges, counting from 1.</li>
+ * <li>{@link Format#EDGE_LIST}: each line holds the identity of a hyperedge,
+ *     its weight and the identities of its members. The identities are
+ *     arbitrary {@code long}s, the nodes weigh zero, and the nodes are
+ *     indexed in an order that depends on their identities only.</li>
+ * </ul>
+ * The lines starting with {@code %} or {@code #} and the blank lines are
+ * skipped. A weight is the {@code long} representation of a
+ * {@link LongWeightFunction}, or the {@code double} representation of a
+ * {@link DoubleWeightFunction}.
+ * <p>
+ * The file is read sequentially in chunks of complete lines, which are parsed
+ * in parallel on the pool while the next chunks are read. At most a few
+ * chunks per worker are in flight, so that the memory held beyond the loaded
+ * hypergraph itself does not depend on the file size. The identities are
+ * mapped to node indices by shards in parallel, and the incidence arrays and
+ * the objects are built in parallel as well.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class HyperGraphLoader {
+    
+    /**
+     * The supported text formats.
+     */
+    public enum Format {
+        HMETIS,
+        EDGE_LIST
+    }
+    
+    private static final int CHUNK_SIZE = 1 << 22;
+    
+    /**
+     * The number of chunks per worker that are read but not yet parsed.
+     */
+    private static final int CHUNKS_PER_WORKER = 2;
+    
+    /**
+     * The number of tasks per worker of the pool when splitting index ranges.
+     */
+    private static final int TASKS_PER_WORKER = 4;
+    
+    /**
+     * The number of shards the identities are mapped by. It does not depend
+     * on the pool, so that the node indices do not either.
+     */
+    private static final int SHARD_BITS = 6;
+    private static final int SHARD_COUNT = 1 << SHARD_BITS;
+    
+    private HyperGraphLoader() {
+        
+    }
+    
+    public static <W> HyperGraphSnapshot<Long, Long, W>
+        loadSnapshot(Path file,
+                     Format format,
+                     WeightFunction<W> weights) throws IOException {
+        
+        return loadSnapshot(file, format, weights, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Loads the hypergraph in {@code file} into a snapshot. The nodes and the
+     * hyperedges of the snapshot are created on demand.
+     *
+     * @param <W>     the type of the weights.
+     * @param file    the file to load.
+     * @param format  the format of the file.
+     * @param weights the weight function, either a {@link LongWeightFunction}
+     *                or a {@link DoubleWeightFunction}.
+     * @param pool    the pool parsing and building in parallel.
+     * @return the snapshot.
+     * @throws IOException if an I/O error occurs or the file is malformed.
+     */
+    public static <W> HyperGraphSnapshot<Long, Long, W>
+        loadSnapshot(Path file,
+                     Format format,
+                     WeightFunction<W> weights,
+                     ForkJoinPool pool) throws IOException {
+        
+        return load(file, format, weights, pool).toSnapshot();
+    }
+    
+    public static <W> List<HyperGraphNode<Long, Long, W>>
+        loadNodes(Path file,
+                  Format format,
+                  WeightFunction<W> weights) throws IOException {
+        
+        return loadNodes(file, format, weights, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Loads the hypergraph in {@code file} into connected nodes and
+     * hyperedges.
+     *
+     * @param <W>     the type of the weights.
+     * @param file    the file to load.
+     * @param format  the format of the file.
+     * @param weights the weight function, either a {@link LongWeightFunction}
+     *                or a {@link DoubleWeightFunction}.
+     * @param pool    the pool parsing and building in parallel.
+     * @return all the nodes, in the order of their indices in
+     *         {@link #loadSnapshot(Path, Format, WeightFunction, ForkJoinPool)}.
+     * @throws IOException if an I/O error occurs or the file is malformed.
+     */
+    public static <W> List<HyperGraphNode<Long, Long, W>>
+        loadNodes(Path file,
+                  Format format,
+                  WeightFunction<W> weights,
+                  ForkJoinPool pool) throws IOException {
+        
+        return load(file, format, weights, pool).toNodes(pool);
+    }
+    
+    private static <W> Loaded<W> load(Path file,
+                                      Format format,
+                                      WeightFunction<W> weights,
+                                      ForkJoinPool pool) throws IOException {
+        
+        Objects.requireNonNull(file, "The file is null");
+        Objects.requireNonNull(format, "The format is null");
+        Objects.requireNonNull(pool, "The pool is null");
+        
+        Loaded<W> loaded = new Loaded<>(weights);
+        List<Chunk> chunks = readChunks(file, format, loaded.isDouble, pool);
+        int line = chunks instanceof HMetisChunks hmetisChunks
+                 ? hmetisChunks.headerLineCount
+                 : 0;
+        
+        for (Chunk chunk : chunks) {
+            if (chunk.error != null) {
+                throw new IOException(
+                        file + ":" + (line + chunk.errorLine + 1) + ": "
+                                + chunk.error);
+            }
+            
+            line += chunk.lineCount;
+        }
+        
+        try {
+            if (format == Format.HMETIS) {
+                buildHMetis(loaded, (HMetisChunks) chunks, pool);
+            } else {
+                buildEdgeList(loaded, chunks, pool);
+            }
+            
+            buildNodeEdges(loaded, pool);
+        } catch (UncheckedIOException ex) {
+            throw new IOException(file + ": " + ex.getCause().getMessage());
+        }
+        
+        return loaded;
+    }
+    
+    /**
+     * Reads {@code file} in chunks of complete lines and parses them on
+     * {@code pool}, keeping at most {@link #CHUNKS_PER_WORKER} chunks per
+     * worker in flight.
+     */
+    private static List<Chunk> readChunks(Path file,
+                                          Format format,
+                                          boolean isDouble,
+                                          ForkJoinPool pool)
+            throws IOException {
+        
+        List<Chunk> chunks = format == Format.HMETIS ? new HMetisChunks()
+                                                     : new ArrayList<>();
+        
+        ArrayDeque<ForkJoinTask<Chunk>> pending = new ArrayDeque<>();
+        int maximumPending = CHUNKS_PER_WORKER * pool.getParallelism();
+        ChunkParser parser =
+                format == Format.EDGE_LIST ? new ChunkParser(true, 1, 2, isDouble)
+                                           : null;
+        
+        try (FileChannel channel = FileChannel.open(file,
+                                                    StandardOpenOption.READ)) {
+            byte[] bytes = new byte[CHUNK_SIZE];
+            int length = 0;
+            boolean isEndOfFile = false;
+            
+            while (!isEndOfFile) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                buffer.position(length);
+                
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        isEndOfFile = true;
+                        break;
+                    }
+                }
+                
+                length = buffer.position();
+                int end = isEndOfFile ? length
+                                      : lastLineEnd(bytes, length);
+                
+                if (end == 0) {
+                    if (!isEndOfFile) {
+                        // A line longer than the buffer:
+                        bytes = Arrays.copyOf(bytes, 2 * bytes.length);
+                    }
+                    
+                    continue;
+                }
+                
+                int start = 0;
+                
+                if (parser == null) {
+                    HMetisChunks hmetisChunks = (HMetisChunks) chunks;
+                    start = hmetisChunks.parseHeader(bytes, end);
+                    
+                    if (start < 0) {
+                        throw new IOException(
+                                file + ": " + hmetisChunks.headerError);
+                    }
+                    
+                    if (hmetisChunks.hasHeader) {
+                        parser = hmetisChunks.getParser(isDouble);
+                    }
+                }
+                
+                byte[] next = bytes;
+                
+                if (parser != null && start < end) {
+                    ChunkParser chunkParser = parser;
+                    byte[] chunkBytes = bytes;
+                    int chunkStart = start;
+                    int chunkEnd = end;
+                    
+                    pending.addLast(
+                            pool.submit(() -> chunkParser.parse(chunkBytes,
+                                                                chunkStart,
+                                                                chunkEnd)));
+                    next = new byte[Math.max(CHUNK_SIZE, length - end)];
+                }
+                
+                System.arraycopy(bytes, end, next, 0, length - end);
+                bytes = next;
+                length -= end;
+                
+                while (pending.size() >= maximumPending) {
+                    chunks.add(pending.removeFirst().join());
+                }
+            }
+            
+            while (!pending.isEmpty()) {
+                chunks.add(pending.removeFirst().join());
+            }
+        }
+        
+        if (parser == null) {
+            throw new IOException(file + ": the hMETIS header is missing");
+        }
+        
+        return chunks;
+    }
+    
+    /**
+     * Returns the index after the last line feed in {@code bytes[0 ...
+     * length - 1]}, or zero if there is none.
+     */
+    private static int lastLineEnd(byte[] bytes, int length) {
+        for (int i = length - 1; i >= 0; --i) {
+            if (bytes[i] == '\n') {
+                return i + 1;
+            }
+        }
+        
+        return 0;
+    }
+    
+    private static <W> void buildHMetis(Loaded<W> loaded,
+                                        HMetisChunks chunks,
+                                        ForkJoinPool pool) {
+        
+        int edgeCount = chunks.edgeCount;
+        int nodeCount = chunks.nodeCount;
+        long expectedRows = edgeCount
+                          + (chunks.hasNodeWeights() ? nodeCount : 0);
+        int chunkCount = chunks.size();
+        int[] rowBases = new int[chunkCount + 1];
+        long[] memberBases = new long[chunkCount + 1];
+        
+        for (int c = 0; c < chunkCount; ++c) {
+            Chunk chunk = chunks.get(c);
+            int edgeRows = Math.max(0, Math.min(chunk.rowCount,
+                                                edgeCount - rowBases[c]));
+            
+            rowBases[c + 1] = (int) Math.min(Integer.MAX_VALUE,
+                                             (long) rowBases[c]
+                                                  + chunk.rowCount);
+            memberBases[c + 1] = memberBases[c]
+                               + chunk.memberOffsets[edgeRows];
+        }
+        
+        if (rowBases[chunkCount] != expectedRows) {
+            throw new UncheckedIOException(new IOException(
+                    "expected " + expectedRows + " hyperedge and node weight "
+                            + "lines, found " + rowBases[chunkCount]));
+        }
+        
+        checkIncidenceCount(memberBases[chunkCount]);
+        
+        long defaultEdgeWeight = loaded.encode(1L);
+        long defaultNodeWeight = loaded.encodeZero();
+        
+        loaded.allocate(nodeCount, edgeCount, (int) memberBases[chunkCount]);
+        
+        for (int i = 0; i < nodeCount; ++i) {
+            loaded.nodeIds[i] = i + 1;
+        }
+        
+        for (int i = 0; i < edgeCount; ++i) {
+            loaded.edgeIds[i] = i + 1;
+        }
+        
+        if (!chunks.hasNodeWeights()) {
+            Arrays.fill(loaded.nodeWeights, defaultNodeWeight);
+        }
+        
+        boolean hasEdgeWeights = chunks.hasEdgeWeights();
+        
+        invoke(pool, chunkCount, (from, to) -> {
+            for (int c = from; c < to; ++c) {
+                Chunk chunk = chunks.get(c);
+                int memberBase = (int) memberBases[c];
+                
+                for (int row = 0; row < chunk.rowCount; ++row) {
+                    int globalRow = rowBases[c] + row;
+                    int first = chunk.memberOffsets[row];
+                    int last = chunk.memberOffsets[row + 1];
+                    
+                    if (globalRow >= edgeCount) {
+                        loaded.nodeWeights[globalRow - edgeCount] =
+                                getNodeWeight(loaded,
+                                              chunk,
+                                              row,
+                                              hasEdgeWeights,
+                                              globalRow - edgeCount);
+                        continue;
+                    }
+                    
+                    loaded.edgeWeights[globalRow] =
+                            hasEdgeWeights ? chunk.weights[row]
+                                           : defaultEdgeWeight;
+                    loaded.edgeNodeOffsets[globalRow + 1] = memberBase + last;
+                    
+                    for (int i = first; i < last; ++i) {
+                        long member = chunk.members[i];
+                        
+                        if (member < 1 || member > nodeCount) {
+                            throw new UncheckedIOException(new IOException(
+                                    "hyperedge " + (globalRow + 1)
+                                            + " has the member " + member
+                                            + ", which is not in [1, "
+                                            + nodeCount + "]"));
+                        }
+                        
+                        loaded.edgeNodes[memberBase + i] = (int) member - 1;
+                    }
+                }
+            }
+        });
+    }
+    
+    /**
+     * Returns the weight on the node weight line {@code row} of
+     * {@code chunk}, which the parser has read either as a weight or as a
+     * member depending on the format code.
+     */
+    private static long getNodeWeight(Loaded<?> loaded,
+                                      Chunk chunk,
+                                      int row,
+                                      boolean hasEdgeWeights,
+                                      int node) {
+        
+        int memberCount = chunk.memberOffsets[row + 1]
+                        - chunk.memberOffsets[row];
+        
+        if (hasEdgeWeights && memberCount == 0) {
+            return chunk.weights[row];
+        }
+        
+        if (!hasEdgeWeights && memberCount == 1) {
+            long weight = chunk.members[chunk.memberOffsets[row]];
+            
+            if (weight < 0L) {
+                throw new UncheckedIOException(new IOException(
+                        "node " + (node + 1) + " has a negative weight"));
+            }
+            
+            return loaded.encode(weight);
+        }
+        
+        throw new UncheckedIOException(new IOException(
+                "the weight line of node " + (node + 1)
+                        + " does not hold exactly one weight"));
+    }
+    
+    private static <W> void buildEdgeList(Loaded<W> loaded,
+                                          List<Chunk> chunks,
+                                          ForkJoinPool pool) {
+        
+        int chunkCount = chunks.size();
+        int[] rowBases = new int[chunkCount + 1];
+        long[] memberBases = new long[chunkCount + 1];
+        long[][] edgeIdSegments = new long[chunkCount][];
+        long[][] memberSegments = new long[chunkCount][];
+        int[] edgeIdLengths = new int[chunkCount];
+        int[] memberLengths = new int[chunkCount];
+        
+        for (int c = 0; c < chunkCount; ++c) {
+            Chunk chunk = chunks.get(c);
+            long rowBase = (long) rowBases[c] + chunk.rowCount;
+            
+            if (rowBase > Integer.MAX_VALUE - 1) {
+                throw new UncheckedIOException(new IOException(
+                        "too many hyperedges"));
+            }
+            
+            rowBases[c + 1] = (int) rowBase;
+            memberBases[c + 1] = memberBases[c] + chunk.memberCount;
+            edgeIdSegments[c] = chunk.ids;
+            edgeIdLengths[c] = chunk.rowCount;
+            memberSegments[c] = chunk.members;
+            memberLengths[c] = chunk.memberCount;
+        }
+        
+        checkIncidenceCount(memberBases[chunkCount]);
+        
+        int edgeCount = rowBases[chunkCount];
+        KeyMapping edgeMapping = KeyMapping.of(edgeIdSegments,
+                                               edgeIdLengths,
+                                               pool);
+        
+        if (edgeMapping.keys.length != edgeCount) {
+            throw new UncheckedIOException(new IOException(
+                    (edgeCount - edgeMapping.keys.length)
+                            + " hyperedge identities are duplicates"));
+        }
+        
+        KeyMapping nodeMapping = KeyMapping.of(memberSegments,
+                                               memberLengths,
+                                               pool);
+        
+        loaded.allocate(nodeMapping.keys.length,
+                        edgeCount,
+                        (int) memberBases[chunkCount]);
+        
+        System.arraycopy(nodeMapping.keys,
+                         0,
+                         loaded.nodeIds,
+                         0,
+                         nodeMapping.keys.length);
+        
+        Arrays.fill(loaded.nodeWeights, loaded.encodeZero());
+        
+        invoke(pool, chunkCount, (from, to) -> {
+            for (int c = from; c < to; ++c) {
+                Chunk chunk = chunks.get(c);
+                int rowBase = rowBases[c];
+                int memberBase = (int) memberBases[c];
+                
+                System.arraycopy(chunk.ids,
+                                 0,
+                                 loaded.edgeIds,
+                                 rowBase,
+                                 chunk.rowCount);
+                
+                System.arraycopy(chunk.weights,
+                                 0,
+                                 loaded.edgeWeights,
+                                 rowBase,
+                                 chunk.rowCount);
+                
+                System.arraycopy(nodeMapping.indices[c],
+                                 0,
+                                 loaded.edgeNodes,
+                                 memberBase,
+                                 chunk.memberCount);
+                
+                for (int row = 0; row < chunk.rowCount; ++row) {
+                    loaded.edgeNodeOffsets[rowBase + row + 1] =
+                            memberBase + chunk.memberOffsets[row + 1];
+                }
+            }
+        });
+    }
+    
+    private static void checkIncidenceCount(long incidenceCount) {
+        if (incidenceCount > Integer.MAX_VALUE - 8) {
+            throw new UncheckedIOException(new IOException(
+                    "too many incidences: " + incidenceCount));
+        }
+    }
+    
+    /**
+     * Transposes the members of the hyperedges into the incident hyperedges of
+     * the nodes. The hyperedges of each node are sorted by index, so that the
+     * result does not depend on the scheduling.
+     */
+    private static void buildNodeEdges(Loaded<?> loaded, ForkJoinPool pool) {
+        int nodeCount = loaded.nodeIds.length;
+        int edgeCount = loaded.edgeIds.length;
+        int[] edgeNodeOffsets = loaded.edgeNodeOffsets;
+        int[] edgeNodes = loaded.edgeNodes;
+        AtomicIntegerArray cursors = new AtomicIntegerArray(nodeCount + 1);
+        
+        invoke(pool, edgeCount, (from, to) -> {
+            for (int i = edgeNodeOffsets[from]; i < edgeNodeOffsets[to]; ++i) {
+                cursors.getAndIncrement(edgeNodes[i] + 1);
+            }
+        });
+        
+        int[] nodeEdgeOffsets = new int[nodeCount + 1];
+        
+        for (int i = 0; i < nodeCount; ++i) {
+            nodeEdgeOffsets[i + 1] = nodeEdgeOffsets[i]
+                                   + cursors.getPlain(i + 1);
+            cursors.setPlain(i, nodeEdgeOffsets[i]);
+        }
+        
+        int[] nodeEdges = new int[edgeNodes.length];
+        
+        if (pool.getParallelism() == 1) {
+            // Filling in the order of the hyperedges sorts them already, and
+            // needs no atomic cursors:
+            int[] plainCursors = Arrays.copyOf(nodeEdgeOffsets, nodeCount);
+            
+            for (int e = 0; e < edgeCount; ++e) {
+                for (int i = edgeNodeOffsets[e];
+                         i < edgeNodeOffsets[e + 1];
+                         ++i) {
+                    nodeEdges[plainCursors[edgeNodes[i]]++] = e;
+                }
+            }
+        } else {
+            invoke(pool, edgeCount, (from, to) -> {
+                for (int e = from; e < to; ++e) {
+                    for (int i = edgeNodeOffsets[e];
+                             i < edgeNodeOffsets[e + 1];
+                             ++i) {
+                        nodeEdges[cursors.getAndIncrement(edgeNodes[i])] = e;
+                    }
+                }
+            });
+            
+            invoke(pool, nodeCount, (from, to) -> {
+                for (int u = from; u < to; ++u) {
+                    Arrays.sort(nodeEdges,
+                                nodeEdgeOffsets[u],
+                                nodeEdgeOffsets[u + 1]);
+                }
+            });
+        }
+        
+        loaded.nodeEdgeOffsets = nodeEdgeOffsets;
+        loaded.nodeEdges = nodeEdges;
+    }
+    
+    /**
+     * Runs {@code action} over {@code [0, count)} split into ranges on
+     * {@code pool}.
+     */
+    private static void invoke(ForkJoinPool pool,
+                               int count,
+                               RangeAction action) {
+        if (count > 0) {
+            pool.invoke(new RangeTask(count, pool, action));
+        }
+    }
+    
+    @FunctionalInterface
+    private interface RangeAction {
+        
+        void run(int from, int to);
+    }
+    
+    /**
+     * This class runs a {@link RangeAction} over {@code [from, to)}, splitting
+     * the range in halves until it is small enough for a single task. The
+     * tasks are never serialized.
+     */
+    @SuppressWarnings("serial")
+    private static final class RangeTask extends RecursiveAction {
+        
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final RangeAction action;
+        
+        RangeTask(int count, ForkJoinPool pool, RangeAction action) {
+            this(0,
+                 count,
+                 Math.max(1, count / (TASKS_PER_WORKER
+                                    * pool.getParallelism())),
+                 action);
+        }
+        
+        private RangeTask(int from, int to, int threshold, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.action = action;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                action.run(from, to);
+                return;
+            }
+            
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, threshold, action),
+                      new RangeTask(middle, to, threshold, action));
+        }
+    }
+    
+    /**
+     * This class holds the arrays of a loaded hypergraph. The weights are
+     * stored in their {@code long} representation, or as the bits of their
+     * {@code double} representation.
+     */
+    private static final class Loaded<W> {
+        
+        final WeightFunction<W> weights;
+        final boolean isDouble;
+        long[] nodeIds;
+        long[] edgeIds;
+        long[] nodeWeights;
+        long[] edgeWeights;
+        int[] nodeEdgeOffsets;
+        int[] nodeEdges;
+        int[] edgeNodeOffsets;
+        int[] edgeNodes;
+        
+        Loaded(WeightFunction<W> weights) {
+            Objects.requireNonNull(weights, "The weight function is null");
+            
+            if (weights instanceof LongWeightFunction<?>) {
+                this.isDouble = false;
+            } else if (weights instanceof DoubleWeightFunction<?>) {
+                this.isDouble = true;
+            } else {
+                throw new IllegalArgumentException(
+                        "The weight function is neither a LongWeightFunction "
+                                + "nor a DoubleWeightFunction");
+            }
+            
+            this.weights = weights;
+        }
+        
+        void allocate(int nodeCount, int edgeCount, int incidenceCount) {
+            nodeIds = new long[nodeCount];
+            edgeIds = new long[edgeCount];
+            nodeWeights = new long[nodeCount];
+            edgeWeights = new long[edgeCount];
+            edgeNodeOffsets = new int[edgeCount + 1];
+            edgeNodes = new int[incidenceCount];
+        }
+        
+        long encode(long weight) {
+            return isDouble ? Double.doubleToRawLongBits(weight) : weight;
+        }
+        
+        long encodeZero() {
+            return isDouble
+                    ? Double.doubleToRawLongBits(
+                            ((DoubleWeightFunction<W>) weights).zeroAsDouble())
+                    : ((LongWeightFunction<W>) weights).zeroAsLong();
+        }
+        
+        W decode(long weight) {
+            return isDouble
+                    ? ((DoubleWeightFunction<W>) weights)
+                            .fromDouble(Double.longBitsToDouble(weight))
+                    : ((LongWeightFunction<W>) weights).fromLong(weight);
+        }
+        
+        HyperGraphSnapshot<Long, Long, W> toSnapshot() {
+            HyperGraphSnapshot.ElementFactory<Long, Long, W> factory =
+                    new HyperGraphSnapshot.ElementFactory<>() {
+                
+                @Override
+                public HyperGraphNode<Long, Long, W> createNode(int i) {
+                    return new HyperGraphNode<>(nodeIds[i],
+                                                decode(nodeWeights[i]));
+                }
+                
+                @Override
+                public HyperGraphEdge<Long, Long, W> createEdge(int i) {
+                    return new HyperGraphEdge<>(edgeIds[i],
+                                                decode(edgeWeights[i]));
+                }
+            };
+            
+            HyperGraphSnapshot<Long, Long, W> graph =
+                    new HyperGraphSnapshot<>(nodeEdgeOffsets,
+                                             nodeEdges,
+                                             edgeNodeOffsets,
+                                             edgeNodes,
+                                             null,
+                                             0,
+                                             factory);
+            
+            if (isDouble) {
+                graph.cacheWeights(new HyperGraphSnapshot.DoubleWeights(
+                        (DoubleWeightFunction<W>) weights,
+                        toDoubles(nodeWeights),
+                        toDoubles(edgeWeights)));
+            } else {
+                graph.cacheWeights(new HyperGraphSnapshot.LongWeights(
+                        (LongWeightFunction<W>) weights,
+                        nodeWeights,
+                        edgeWeights));
+            }
+            
+            return graph;
+        }
+        
+        List<HyperGraphNode<Long, Long, W>> toNodes(ForkJoinPool pool) {
+            int nodeCount = nodeIds.length;
+            int edgeCount = edgeIds.length;
+            
+            HyperGraphNode<Long, Long, W>[] nodes =
+                    HyperGraphSnapshot.newNodeArray(nodeCount);
+            
+            HyperGraphEdge<Long, Long, W>[] edges =
+                    HyperGraphSnapshot.newEdgeArray(edgeCount);
+            
+            invoke(pool, nodeCount, (from, to) -> {
+                for (int i = from; i < to; ++i) {
+                    nodes[i] = new HyperGraphNode<>(nodeIds[i],
+                                                    decode(nodeWeights[i]));
+                }
+            });
+            
+            invoke(pool, edgeCount, (from, to) -> {
+                for (int e = from; e < to; ++e) {
+                    edges[e] = new HyperGraphEdge<>(edgeIds[e],
+                                                    decode(edgeWeights[e]));
+                    
+                    for (int i = edgeNodeOffsets[e];
+                             i < edgeNodeOffsets[e + 1];
+                             ++i) {
+                        edges[e].addMember(nodes[edgeNodes[i]]);
+                    }
+                }
+            });
+            
+            // The nodes of a component share the root element of the
+            // component in the ComponentIndex:
+            HyperGraphSnapshot<Long, Long, W> graph = toSnapshot();
+            ComponentIndex.Element[] roots =
+                    new ComponentIndex.Element[graph.getComponentCount()];
+            
+            for (int c = 0; c < roots.length; ++c) {
+                roots[c] = new ComponentIndex.Element();
+            }
+            
+            invoke(pool, nodeCount, (from, to) -> {
+                for (int u = from; u < to; ++u) {
+                    for (int i = nodeEdgeOffsets[u];
+                             i < nodeEdgeOffsets[u + 1];
+                             ++i) {
+                        nodes[u].edges.add(edges[nodeEdges[i]]);
+                    }
+                    
+                    nodes[u].component = roots[graph.getComponent(u)];
+                }
+            });
+            
+            GraphVersion.increment();
+            return Arrays.asList(nodes);
+        }
+        
+        private static double[] toDoubles(long[] bits) {
+            double[] values = new double[bits.length];
+            
+            for (int i = 0; i < bits.length; ++i) {
+                values[i] = Double.longBitsToDouble(bits[i]);
+            }
+            
+            return values;
+        }
+    }
+    
+    /**
+     * This class holds the chunks of an hMETIS file together with its header.
+     * The chunks are never serialized.
+     */
+    @SuppressWarnings("serial")
+    private static final class HMetisChunks extends ArrayList<Chunk> {
+        
+        int edgeCount;
+        int nodeCount;
+        int formatCode;
+        boolean hasHeader;
+        String headerError;
+        
+        /**
+         * The number of lines up to and including the header.
+         */
+        int headerLineCount;
+        
+        boolean hasEdgeWeights() {
+            return formatCode % 10 == 1;
+        }
+        
+        boolean hasNodeWeights() {
+            return formatCode / 10 == 1;
+        }
+        
+        ChunkParser getParser(boolean isDouble) {
+            return hasEdgeWeights() ? new ChunkParser(false, 0, 1, isDouble)
+                                    : new ChunkParser(false, -1, 0, isDouble);
+        }
+        
+        /**
+         * Looks for the header in the complete lines {@code bytes[0 ...
+         * end - 1]}. Returns the index after the header, or {@code end} if
+         * there is no header in the lines, or -1 if the header is malformed.
+         */
+        int parseHeader(byte[] bytes, int end) {
+            int lineStart = 0;
+            
+            while (lineStart < end) {
+                int lineEnd = lineStart;
+                
+                while (lineEnd < end && bytes[lineEnd] != '\n') {
+                    ++lineEnd;
+                }
+                
+                int index = ChunkParser.skipSpaces(bytes, lineStart, lineEnd);
+                lineStart = Math.min(end, lineEnd + 1);
+                ++headerLineCount;
+                
+                if (index == lineEnd
+                        || bytes[index] == '%'
+                        || bytes[index] == '#') {
+                    continue;
+                }
+                
+                long[] values = new long[3];
+                int valueCount = 0;
+                
+                try {
+                    while (index < lineEnd && valueCount < values.length) {
+                        int tokenEnd = ChunkParser.tokenEnd(bytes,
+                                                            index,
+                                                            lineEnd);
+                        
+                        values[valueCount++] =
+                                ChunkParser.parseLong(bytes, index, tokenEnd);
+                        index = ChunkParser.skipSpaces(bytes,
+                                                       tokenEnd,
+                                                       lineEnd);
+                    }
+                } catch (NumberFormatException ex) {
+                    headerError = "malformed hMETIS header: "
+                                + ex.getMessage();
+                    return -1;
+                }
+                
+                if (index < lineEnd
+                        || valueCount < 2
+                        || values[0] < 0
+                        || values[0] > Integer.MAX_VALUE - 1
+                        || values[1] < 0
+                        || values[1] > Integer.MAX_VALUE - 1) {
+                    headerError = "malformed hMETIS header";
+                    return -1;
+                }
+                
+                edgeCount = (int) values[0];
+                nodeCount = (int) values[1];
+                formatCode = (int) values[2];
+                
+                if (formatCode != 0
+                        && formatCode != 1
+                        && formatCode != 10
+                        && formatCode != 11) {
+                    headerError = "unknown hMETIS format code " + formatCode;
+                    return -1;
+                }
+                
+                hasHeader = true;
+                return lineStart;
+            }
+            
+            return end;
+        }
+    }
+    
+    /**
+     * This class holds the parsed lines of a chunk.
+     */
+    private static final class Chunk {
+        
+        int lineCount;
+        int rowCount;
+        
+        /**
+         * The identity, the weight and the member range of each row.
+         */
+        long[] ids;
+        long[] weights;
+        int[] memberOffsets;
+        long[] members;
+        int memberCount;
+        
+        /**
+         * The first malformed line relative to the chunk, and what is wrong
+         * with it.
+         */
+        int errorLine;
+        String error;
+    }
+    
+    /**
+     * This class parses the lines of a chunk. The tokens of a line are, in
+     * order: the identity if {@code hasIds}, the weight in the column
+     * {@code weightColumn} if not negative, and the members from the column
+     * {@code memberColumn} on. The members of a row are sorted and
+     * deduplicated, since a hyperedge is a set.
+     */
+    private static final class ChunkParser {
+        
+        private final boolean hasIds;
+        private final int weightColumn;
+        private final int memberColumn;
+        private final boolean isDouble;
+        
+        ChunkParser(boolean hasIds,
+                    int weightColumn,
+                    int memberColumn,
+                    boolean isDouble) {
+            this.hasIds = hasIds;
+            this.weightColumn = weightColumn;
+            this.memberColumn = memberColumn;
+            this.isDouble = isDouble;
+        }
+        
+        Chunk parse(byte[] bytes, int start, int end) {
+            Chunk chunk = new Chunk();
+            int rowCapacity = Math.max(16, (end - start) / 32);
+            int memberCapacity = Math.max(16, (end - start) / 4);
+            
+            chunk.ids = hasIds ? new long[rowCapacity] : null;
+            chunk.weights = weightColumn >= 0 ? new long[rowCapacity] : null;
+            chunk.memberOffsets = new int[rowCapacity + 1];
+            chunk.members = new long[memberCapacity];
+            
+            int lineStart = start;
+            
+            while (lineStart < end) {
+                int lineEnd = lineStart;
+                
+                while (lineEnd < end && bytes[lineEnd] != '\n') {
+                    ++lineEnd;
+                }
+                
+                try {
+                    parseLine(chunk, bytes, lineStart, lineEnd);
+                } catch (NumberFormatException ex) {
+                    chunk.errorLine = chunk.lineCount;
+                    chunk.error = ex.getMessage();
+                    return chunk;
+                }
+                
+                ++chunk.lineCount;
+                lineStart = lineEnd + 1;
+            }
+            
+            chunk.ids = hasIds ? Arrays.copyOf(chunk.ids, chunk.rowCount)
+                               : null;
+            chunk.weights = weightColumn >= 0
+                          ? Arrays.copyOf(chunk.weights, chunk.rowCount)
+                          : null;
+            chunk.memberOffsets = Arrays.copyOf(chunk.memberOffsets,
+                                                chunk.rowCount + 1);
+            chunk.members = Arrays.copyOf(chunk.members, chunk.memberCount);
+            return chunk;
+        }
+        
+        private void parseLine(Chunk chunk, byte[] bytes, int index, int end) {
+            index = skipSpaces(bytes, index, end);
+            
+            if (index == end || bytes[index] == '%' || bytes[index] == '#') {
+                return;
+            }
+            
+            int row = chunk.rowCount;
+            
+            if (row + 1 == chunk.memberOffsets.length) {
+                int capacity = 2 * row;
+                
+                if (chunk.ids != null) {
+                    chunk.ids = Arrays.copyOf(chunk.ids, capacity);
+                }
+                
+                if (chunk.weights != null) {
+                    chunk.weights = Arrays.copyOf(chunk.weights, capacity);
+                }
+                
+                chunk.memberOffsets = Arrays.copyOf(chunk.memberOffsets,
+                                                    capacity + 1);
+            }
+            
+            int rowStart = chunk.memberCount;
+            int column = 0;
+            
+            while (index < end) {
+                int tokenEnd = tokenEnd(bytes, index, end);
+                
+                if (hasIds && column == 0) {
+                    chunk.ids[row] = parseLong(bytes, index, tokenEnd);
+                } else if (column == weightColumn) {
+                    chunk.weights[row] = parseWeight(bytes, index, tokenEnd);
+                } else {
+                    if (chunk.memberCount == chunk.members.length) {
+                        chunk.members = Arrays.copyOf(chunk.members,
+                                                      2 * chunk.memberCount);
+                    }
+                    
+                    chunk.members[chunk.memberCount++] =
+                            parseLong(bytes, index, tokenEnd);
+                }
+                
+                ++column;
+                index = skipSpaces(bytes, tokenEnd, end);
+            }
+            
+            if (hasIds && column < memberColumn) {
+                throw new NumberFormatException(
+                        "expected an identity and a weight");
+            }
+            
+            chunk.memberCount = rowStart + sortUnique(chunk.members,
+                                                      rowStart,
+                                                      chunk.memberCount);
+            chunk.memberOffsets[row + 1] = chunk.memberCount;
+            chunk.rowCount = row + 1;
+        }
+        
+        private long parseWeight(byte[] bytes, int from, int to) {
+            if (!isDouble) {
+                long weight = parseLong(bytes, from, to);
+                
+                if (weight < 0L) {
+                    throw new NumberFormatException("negative weight "
+                                                            + weight);
+                }
+                
+                return weight;
+            }
+            
+            String token = new String(bytes,
+                                      from,
+                                      to - from,
+                                      StandardCharsets.ISO_8859_1);
+            double weight = Double.parseDouble(token);
+            
+            if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+                throw new NumberFormatException("invalid weight " + token);
+            }
+            
+            return Double.doubleToRawLongBits(weight);
+        }
+        
+        static long parseLong(byte[] bytes, int from, int to) {
+            int index = from;
+            boolean isNegative = false;
+            
+            if (bytes[index] == '-' || bytes[index] == '+') {
+                isNegative = bytes[index] == '-';
+                ++index;
+            }
+            
+            if (index == to) {
+                throw invalidNumber(bytes, from, to);
+            }
+            
+            long value = 0L;
+            
+            for (; index < to; ++index) {
+                int digit = bytes[index] - '0';
+                
+                if (digit < 0
+                        || digit > 9
+                        || value > (Long.MAX_VALUE - digit) / 10) {
+                    throw invalidNumber(bytes, from, to);
+                }
+                
+                value = 10 * value + digit;
+            }
+            
+            return isNegative ? -value : value;
+        }
+        
+        private static NumberFormatException invalidNumber(byte[] bytes,
+                                                           int from,
+                                                           int to) {
+            return new NumberFormatException(
+                    "invalid integer "
+                            + new String(bytes,
+                                         from,
+                                         to - from,
+                                         StandardCharsets.ISO_8859_1));
+        }
+        
+        /**
+         * Sorts {@code values[from ... to - 1]} and moves the distinct values
+         * to its start. Returns the number of distinct values.
+         */
+        private static int sortUnique(long[] values, int from, int to) {
+            if (to - from < 2) {
+                return to - from;
+            }
+            
+            Arrays.sort(values, from, to);
+            int last = from;
+            
+            for (int i = from + 1; i < to; ++i) {
+                if (values[i] != values[last]) {
+                    values[++last] = values[i];
+                }
+            }
+            
+            return last - from + 1;
+        }
+        
+        static int skipSpaces(byte[] bytes, int index, int end) {
+            while (index < end && isSpace(bytes[index])) {
+                ++index;
+            }
+            
+            return index;
+        }
+        
+        static int tokenEnd(byte[] bytes, int index, int end) {
+            while (index < end && !isSpace(bytes[index])) {
+                ++index;
+            }
+            
+            return index;
+        }
+        
+        private static boolean isSpace(byte b) {
+            return b == ' ' || b == '\t' || b == '\r';
+        }
+    }
+    
+    /**
+     * This class maps {@code long} keys given in segments to dense indices.
+     * The keys are split into {@link #SHARD_COUNT} shards by their hash, each
+     * shard is mapped by one task, and the indices of a shard follow the
+     * indices of the preceding shards.
+     */
+    private static final class KeyMapping {
+        
+        /**
+         * {@code indices[s][i]} is the index of the key {@code i} of the
+         * segment {@code s}.
+         */
+        final int[][] indices;
+        
+        /**
+         * The distinct keys, by index.
+         */
+        final long[] keys;
+        
+        private KeyMapping(int[][] indices, long[] keys) {
+            this.indices = indices;
+            this.keys = keys;
+        }
+        
+        static KeyMapping of(long[][] segments,
+                             int[] lengths,
+                             ForkJoinPool pool) {
+            
+            int segmentCount = segments.length;
+            int[][] shardOffsets = new int[segmentCount][];
+            int[][] positions = new int[segmentCount][];
+            int[][] indices = new int[segmentCount][];
+            
+            // Sort the positions of each segment by shard:
+            invoke(pool, segmentCount, (from, to) -> {
+                for (int s = from; s < to; ++s) {
+                    long[] keys = segments[s];
+                    int[] offsets = new int[SHARD_COUNT + 1];
+                    int[] shardPositions = new int[lengths[s]];
+                    
+                    for (int i = 0; i < lengths[s]; ++i) {
+                        ++offsets[shardOf(keys[i]) + 1];
+                    }
+                    
+                    for (int shard = 0; shard < SHARD_COUNT; ++shard) {
+                        offsets[shard + 1] += offsets[shard];
+                    }
+                    
+                    int[] cursors = Arrays.copyOf(offsets, SHARD_COUNT);
+                    
+                    for (int i = 0; i < lengths[s]; ++i) {
+                        shardPositions[cursors[shardOf(keys[i])]++] = i;
+                    }
+                    
+                    shardOffsets[s] = offsets;
+                    positions[s] = shardPositions;
+                    indices[s] = new int[lengths[s]];
+                }
+            });
+            
+            // Map each shard, visiting the segments in order:
+            LongIndexMap[] maps = new LongIndexMap[SHARD_COUNT];
+            
+            invoke(pool, SHARD_COUNT, (from, to) -> {
+                for (int shard = from; shard < to; ++shard) {
+                    LongIndexMap map = new LongIndexMap();
+                    
+                    for (int s = 0; s < segmentCount; ++s) {
+                        for (int i = shardOffsets[s][shard];
+                                 i < shardOffsets[s][shard + 1];
+                                 ++i) {
+                            int position = positions[s][i];
+                            indices[s][position] =
+                                    map.indexOf(segments[s][position]);
+                        }
+                    }
+                    
+                    maps[shard] = map;
+                }
+            });
+            
+            int[] shardBases = new int[SHARD_COUNT + 1];
+            
+            for (int shard = 0; shard < SHARD_COUNT; ++shard) {
+                shardBases[shard + 1] = shardBases[shard] + maps[shard].size;
+            }
+            
+            long[] keys = new long[shardBases[SHARD_COUNT]];
+            
+            for (int shard = 0; shard < SHARD_COUNT; ++shard) {
+                System.arraycopy(maps[shard].keys,
+                                 0,
+                                 keys,
+                                 shardBases[shard],
+                                 maps[shard].size);
+            }
+            
+            // Offset the local indices of each shard:
+            invoke(pool, segmentCount, (from, to) -> {
+                for (int s = from; s < to; ++s) {
+                    for (int shard = 0; shard < SHARD_COUNT; ++shard) {
+                        for (int i = shardOffsets[s][shard];
+                                 i < shardOffsets[s][shard + 1];
+                                 ++i) {
+                            indices[s][positions[s][i]] += shardBases[shard];
+                        }
+                    }
+                }
+            });
+            
+            return new KeyMapping(indices, keys);
+        }
+        
+        private static int shardOf(long key) {
+            return (int) (mix(key) >>> (Long.SIZE - SHARD_BITS));
+        }
+        
+        private static long mix(long key) {
+            key ^= key >>> 33;
+            key *= 0xff51afd7ed558ccdL;
+            key ^= key >>> 33;
+            return key;
+        }
+    }
+    
+    /**
+     * This class maps {@code long} keys to dense indices in the order of their
+     * first offer. It is an open-addressing hash table over primitive arrays.
+     */
+    private static final class LongIndexMap {
+        
+        private static final int MINIMUM_CAPACITY = 16;
+        
+        private long[] slotKeys = new long[2 * MINIMUM_CAPACITY];
+        
+        /**
+         * The index plus one of the key in each slot, or zero if the slot is
+         * empty.
+         */
+        private int[] slotIndices = new int[2 * MINIMUM_CAPACITY];
+        
+        long[] keys = new long[MINIMUM_CAPACITY];
+        int size;
+        
+        int indexOf(long key) {
+            int mask = slotKeys.length - 1;
+            int slot = (int) KeyMapping.mix(key) & mask;
+            
+            while (slotIndices[slot] != 0) {
+                if (slotKeys[slot] == key) {
+                    return slotIndices[slot] - 1;
+                }
+                
+                slot = (slot + 1) & mask;
+            }
+            
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, 2 * size);
+            }
+            
+            keys[size] = key;
+            slotKeys[slot] = key;
+            slotIndices[slot] = ++size;
+            
+            if (2 * size > slotKeys.length) {
+                grow();
+            }
+            
+            return size - 1;
+        }
+        
+        private void grow() {
+            long[] oldSlotKeys = slotKeys;
+            int[] oldSlotIndices = slotIndices;
+            
+            slotKeys = new long[2 * oldSlotKeys.length];
+            slotIndices = new int[2 * oldSlotKeys.length];
+            
+            int mask = slotKeys.length - 1;
+            
+            for (int i = 0; i < oldSlotKeys.length; ++i) {
+                if (oldSlotIndices[i] != 0) {
+                    int slot = (int) KeyMapping.mix(oldSlotKeys[i]) & mask;
+                    
+                    while (slotIndices[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    
+                    slotKeys[slot] = oldSlotKeys[i];
+                    slotIndices[slot] = oldSlotIndices[i];
+                }
+            }
+        }
+    }
+}
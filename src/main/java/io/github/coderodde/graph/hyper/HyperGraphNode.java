@@ -15,7 +15,7 @@ import java.util.Set;
  * @param <W> the type of the hypernode weight.
  * 
  * @author Rodion "rodde" Efremov
- * @version 1.1.0 (Oct 6, 2025)
+ * @version 1.2.0 (Oct 17, 2026)
  * @since 1.0.0 (Sep 24, 2025)
  */
 public final class HyperGraphNode<I, J, W> {
@@ -24,6 +24,12 @@ public final class HyperGraphNode<I, J, W> {
     private final W weight;
     protected final Set<HyperGraphEdge<I, J, W>> edges = new HashSet<>();
     
+    /**
+     * The element of this node in the {@link ComponentIndex}, or {@code null}
+     * if not yet created.
+     */
+    ComponentIndex.Element component;
+    
     public HyperGraphNode(I id, W weight) {
         this.id = Objects.requireNonNull(id);
         this.weight = Objects.requireNonNull(weight);
@@ -12,7 +12,7 @@ import java.util.Objects;
  * @param <W> the weight type.
  * 
  * @author Rodion "rodde" Efremov
- * @version 1.0.0 (Oct 1, 2025)
+ * @version 1.1.0 (Oct 17, 2026)
  * @since 1.0.0 (Oct 1, 2025)
  */
 public final class HyperGraphPath<I, J, W> {
@@ -30,6 +30,19 @@ public final class HyperGraphPath<I, J, W> {
     public HyperGraphPath(List<HyperGraphNode<I, J, W>> nodes,
                           List<HyperGraphEdge<I, J, W>> edges,
                           WeightFunction<W> weightFunction) {
+        this(nodes, edges, weightFunction, true);
+    }
+    
+    /**
+     * Constructs a path found by a search over a {@link HyperGraphSnapshot}.
+     * Such a path is valid by construction, and the nodes and the hyperedges
+     * of an opened snapshot are not connected to each other, so that the
+     * incidences are checked only if {@code check} is {@code true}.
+     */
+    HyperGraphPath(List<HyperGraphNode<I, J, W>> nodes,
+                   List<HyperGraphEdge<I, J, W>> edges,
+                   WeightFunction<W> weightFunction,
+                   boolean check) {
         
         Objects.requireNonNull(nodes);
         Objects.requireNonNull(edges);
@@ -48,7 +61,10 @@ public final class HyperGraphPath<I, J, W> {
                         "Node count, edge count mismatch");
             }
             
-            check(nodes, edges);
+            if (check) {
+                check(nodes, edges);
+            }
+            
             this.nodes = nodes;
             this.edges = edges;
             
@@ -132,7 +148,7 @@ public final class HyperGraphPath<I, J, W> {
             }
         }
         
-        if (!edges.get(edges.size() - 1)
+        if (!edges.isEmpty() && !edges.get(edges.size() - 1)
                 .containsNode(nodes.getLast())) {
             throw new IllegalArgumentException("Invalid hyper graph path");
         }
@@ -0,0 +1,1206 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.IndexedBucketQueue;
+import io.github.coderodde.graph.hyper.queue.IndexedDaryHeap;
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueue;
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueueFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This class implements a point-to-point Dijkstra's algorithm over a 
+ * hypergraph. The nodes reached by a search are assigned dense indices in the
+ * order they are discovered, and the open set is an 
+ * {@link IndexedPriorityQueue} over those indices, so that an improved 
+ * distance decreases the key of the node instead of adding a duplicate entry.
+ * <p>
+ * Unless the caller chooses a queue, a {@link LongWeightFunction} declaring
+ * small bounded weights gets a monotone {@link IndexedBucketQueue}, and any 
+ * other weight function gets a 4-ary heap.
+ * <p>
+ * All the search state lives in a {@link SearchContext}. The searches taking
+ * a context reuse its arrays and queues, so that a thread running many 
+ * queries with the same context allocates little but the resulting paths.
+ * Each label records the hyperedge it was relaxed through, so that the path 
+ * is reconstructed in time linear in its length.
+ * <p>
+ * A query between two nodes that the {@link ComponentIndex} reports as 
+ * disconnected returns the nonexistent path without searching. If another
+ * thread is rebuilding a dirty component at the time, the query is left to
+ * the search itself.
+ * <p>
+ * The {@code findTree} methods run a single search from a source to all the
+ * nodes, or to all the nodes within a distance, and return a 
+ * {@link ShortestPathTree} answering the distance and path queries for any 
+ * number of targets.
+ * <p>
+ * The {@code find} and {@code biFind} methods report their 
+ * {@link SearchStatistics} through the context.
+ * <p>
+ * The {@code find} and {@code biFind} methods taking {@link SearchLimits} 
+ * bound the cost and the hops of the path, the duration of the search, and 
+ * stop on cancellation. They return a {@link SearchResult} telling a query
+ * stopped by a limit apart from a query between disconnected nodes.
+ * <p>
+ * The {@code findNearest} methods find the nearest of many targets from any
+ * of many sources, each source with an optional start offset, in a single
+ * search, and return the winning pair as a {@link NearestPath}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.10.2 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 1, 2025)
+ */
+public final class HyperGraphPathFinder {
+    
+    /**
+     * The priority queue used unless the caller chooses one.
+     */
+    public static final IndexedPriorityQueueFactory DEFAULT_QUEUE_FACTORY = 
+            IndexedDaryHeap.factory(4);
+    
+    /**
+     * The largest bucket queue step worth allocating the buckets for. Beyond 
+     * it, the heap is faster since most buckets are empty.
+     */
+    public static final long MAXIMUM_BUCKET_QUEUE_STEP = 1L << 16;
+    
+    private static final int INITIAL_QUEUE_CAPACITY = 64;
+    
+    private static final String FIND = "HyperGraphPathFinder.find";
+    private static final String BI_FIND = "HyperGraphPathFinder.biFind";
+    
+    private static final String FIND_NEAREST = 
+            "HyperGraphPathFinder.findNearest";
+    
+    public static <I, J, W> 
+        HyperGraphPath<I, J, W> biFind(HyperGraphNode<I, J, W> source,
+                                       HyperGraphNode<I, J, W> target,
+                                       WeightFunction<W> weights) {
+        
+        return biFind(source, target, weights, new SearchContext());
+    }
+    
+    public static <I, J, W>
+         HyperGraphPath<I, J, W> find(HyperGraphNode<I, J, W> source,
+                                      HyperGraphNode<I, J, W> target,
+                                      WeightFunction<W> weights) {
+        
+        return find(source, target, weights, new SearchContext());
+    }
+    
+    public static <I, J, W> 
+        HyperGraphPath<I, J, W> biFind(HyperGraphNode<I, J, W> source,
+                                       HyperGraphNode<I, J, W> target,
+                                       WeightFunction<W> weights,
+                                       SearchContext context) {
+        
+        return biFind(source, 
+                      target, 
+                      weights, 
+                      SearchLimits.none(), 
+                      context).getPath();
+    }
+    
+    public static <I, J, W>
+         HyperGraphPath<I, J, W> find(HyperGraphNode<I, J, W> source,
+                                      HyperGraphNode<I, J, W> target,
+                                      WeightFunction<W> weights,
+                                      SearchContext context) {
+        
+        return find(source, 
+                    target, 
+                    weights, 
+                    SearchLimits.none(), 
+                    context).getPath();
+    }
+    
+    public static <I, J, W> 
+        SearchResult<I, J, W> biFind(HyperGraphNode<I, J, W> source,
+                                     HyperGraphNode<I, J, W> target,
+                                     WeightFunction<W> weights,
+                                     SearchLimits<W> limits) {
+        
+        return biFind(source, target, weights, limits, new SearchContext());
+    }
+    
+    public static <I, J, W>
+         SearchResult<I, J, W> find(HyperGraphNode<I, J, W> source,
+                                    HyperGraphNode<I, J, W> target,
+                                    WeightFunction<W> weights,
+                                    SearchLimits<W> limits) {
+        
+        return find(source, target, weights, limits, new SearchContext());
+    }
+    
+    public static <I, J, W> 
+        HyperGraphPath<I, J, W> biFind(
+                HyperGraphNode<I, J, W> source,
+                HyperGraphNode<I, J, W> target,
+                WeightFunction<W> weights,
+                IndexedPriorityQueueFactory queueFactory) {
+        
+        return biFind(source, target, weights, new SearchContext(queueFactory));
+    }
+    
+    public static <I, J, W>
+         HyperGraphPath<I, J, W> find(
+                 HyperGraphNode<I, J, W> source,
+                 HyperGraphNode<I, J, W> target,
+                 WeightFunction<W> weights,
+                 IndexedPriorityQueueFactory queueFactory) {
+        
+        return find(source, target, weights, new SearchContext(queueFactory));
+    }
+    
+    /**
+     * Returns the queue factory best suited to {@code weights}. A relaxation
+     * adds the weight of a hyperedge and the weight of a node, so that a 
+     * bounded {@link LongWeightFunction} needs a bucket queue with twice the
+     * bound as the maximum step.
+     * 
+     * @param weights the weight function.
+     * @return a queue factory.
+     */
+    public static IndexedPriorityQueueFactory 
+        queueFactory(WeightFunction<?> weights) {
+            
+        if (weights instanceof LongWeightFunction<?> longWeights) {
+            long bound = longWeights.maxElementWeightAsLong();
+            
+            if (bound >= 0L && bound <= MAXIMUM_BUCKET_QUEUE_STEP / 2) {
+                return IndexedBucketQueue.factory(2 * bound);
+            }
+        }
+        
+        return DEFAULT_QUEUE_FACTORY;
+    }
+    
+    /**
+     * Runs the bidirectional Dijkstra's algorithm. The forward search labels
+     * each node with the cost of a path from {@code source}, excluding the
+     * weight of the source node. The backward search labels each node with the
+     * cost of a path to {@code target}, including the weights of both the node
+     * itself and the target node. Hence, the two labels can be combined 
+     * through a hyperedge without counting any node weight twice.
+     * <p>
+     * Each hyperedge is scanned at most once per direction: the first member
+     * of a hyperedge to be settled has the smallest label among all the 
+     * members, so scanning the hyperedge again cannot improve any label.
+     * <p>
+     * The search stops as soon as the lower bound on the weight of the 
+     * remaining paths exceeds the maximum cost of {@code limits}. A hop limit
+     * makes the search run {@link #find(HyperGraphNode, HyperGraphNode, 
+     * WeightFunction, SearchLimits, SearchContext)} instead, since the hop
+     * counts of the two directions cannot be combined through the labels.
+     * 
+     * @param source  the source node.
+     * @param target  the target node.
+     * @param weights the weight function.
+     * @param limits  the limits of the search.
+     * @param context the search context.
+     * @return the result of the search.
+     */
+    public static <I, J, W> 
+        SearchResult<I, J, W> biFind(HyperGraphNode<I, J, W> source,
+                                     HyperGraphNode<I, J, W> target,
+                                     WeightFunction<W> weights,
+                                     SearchLimits<W> limits,
+                                     SearchContext context) {
+        
+        long start = context.startSearch();
+        W maximumCost = limits.getMaximumCost();
+        
+        if (source.equals(target)) {
+            if (maximumCost != null 
+                    && weights.compare(source.getWeight(), maximumCost) > 0) {
+                
+                return finish(context, 
+                              BI_FIND, 
+                              start, 
+                              0L, 
+                              null, 
+                              0, 
+                              new SearchResult<>(
+                                      SearchResult.Status.COST_LIMIT_EXCEEDED,
+                                      weights));
+            }
+            
+            long tracebackStart = context.startTraceback(start);
+            
+            return finish(context,
+                          BI_FIND,
+                          start,
+                          tracebackStart,
+                          null,
+                          0,
+                          new SearchResult<>(
+                                  new HyperGraphPath<>(List.of(source),
+                                                       List.of(),
+                                                       weights)));
+        }
+        
+        if (!ComponentIndex.mayBeConnected(source, target)) {
+            return finish(context, 
+                          BI_FIND, 
+                          start, 
+                          0L, 
+                          null, 
+                          0, 
+                          new SearchResult<>(SearchResult.Status.UNREACHABLE,
+                                             weights));
+        }
+        
+        if (limits.hasMaximumHops()) {
+            return findWithinHops(source, 
+                                  target, 
+                                  weights, 
+                                  limits, 
+                                  context, 
+                                  BI_FIND, 
+                                  start);
+        }
+        
+        boolean polled = limits.isPolled();
+        long deadline = limits.deadline();
+        SearchResult.Status status = null;
+        
+        NodeLabels nodes = context.nodeLabels(weights);
+        NodeLabels.Direction labelsa = nodes.forward;
+        NodeLabels.Direction labelsb = nodes.backward;
+        
+        IndexedPriorityQueue opena = context.queue(SearchContext.FORWARD,
+                                                   weights,
+                                                   labelsa,
+                                                   INITIAL_QUEUE_CAPACITY);
+        
+        IndexedPriorityQueue openb = context.queue(SearchContext.BACKWARD,
+                                                   weights,
+                                                   labelsb,
+                                                   INITIAL_QUEUE_CAPACITY);
+        
+        W mu = weights.max();
+        int toucha = -1;
+        int touchb = -1;
+        int touchEdge = -1;
+        
+        int sourceIndex = nodes.indexOf(source);
+        int targetIndex = nodes.indexOf(target);
+        
+        labelsa.setLabel(sourceIndex, weights.zero(), -1, -1);
+        labelsb.setLabel(targetIndex, target.getWeight(), -1, -1);
+        
+        opena.insert(sourceIndex);
+        openb.insert(targetIndex);
+        int maximumQueueSize = 2;
+        
+        while (!opena.isEmpty() && !openb.isEmpty()) {
+            
+            if (polled 
+                    && (labelsa.closedCount + labelsb.closedCount) 
+                            % SearchLimits.POLL_INTERVAL == 0
+                    && (status = limits.poll(deadline)) != null) {
+                break;
+            }
+            
+            if (toucha != -1 || maximumCost != null) {
+                W score = weights.apply(labelsa.getDistance(opena.minimum()),
+                                        labelsb.getDistance(openb.minimum()));
+                
+                if (toucha != -1 && weights.compare(score, mu) >= 0) {
+                    break;
+                }
+                
+                // No path found later weighs less than the source plus the
+                // score:
+                if (maximumCost != null 
+                        && weights.compare(weights.apply(source.getWeight(), 
+                                                         score), 
+                                           maximumCost) > 0) {
+                    
+                    status = SearchResult.Status.COST_LIMIT_EXCEEDED;
+                    break;
+                }
+            }
+            
+            maximumQueueSize = Math.max(maximumQueueSize, 
+                                        opena.size() + openb.size());
+            
+            if (opena.size() + labelsa.closedCount <= 
+                openb.size() + labelsb.closedCount) {
+                
+                int currentIndex = opena.extractMinimum();
+                HyperGraphNode<I, J, W> currenta = 
+                        getNode(nodes, currentIndex);
+                
+                labelsa.close(currentIndex);
+                
+                for (HyperGraphEdge<I, J, W> edge 
+                        : currenta.getIncidentHyperEdges()) {
+                    
+                    int edgeIndex = nodes.edgeIndexOf(edge);
+                    Set<HyperGraphNode<I, J, W>> members = 
+                            edge.getIncidentHyperNodes();
+                    
+                    if (!labelsa.scanEdge(edgeIndex, members.size())) {
+                        continue;
+                    }
+                    
+                    W edgeDistance = 
+                            weights.apply(labelsa.getDistance(currentIndex), 
+                                          edge.getWeight());
+                    
+                    for (HyperGraphNode<I, J, W> child : members) {
+                        
+                        if (child.equals(currenta)) {
+                            continue;
+                        }
+                        
+                        int childIndex = nodes.indexOf(child);
+                        
+                        if (labelsb.isLabeled(childIndex)) {
+                            W w = weights.apply(
+                                    edgeDistance,
+                                    labelsb.getDistance(childIndex));
+                            
+                            if (weights.compare(mu, w) > 0) {
+                                mu = w;
+                                toucha = currentIndex;
+                                touchb = childIndex;
+                                touchEdge = edgeIndex;
+                            }
+                        }
+                        
+                        if (labelsa.isClosed(childIndex)) {
+                            continue;
+                        }
+                        
+                        W tentative = weights.apply(edgeDistance, 
+                                                    child.getWeight());
+                        
+                        relax(opena, 
+                              labelsa, 
+                              childIndex, 
+                              currentIndex, 
+                              edgeIndex,
+                              tentative, 
+                              weights);
+                    }
+                }
+            } else {
+                int currentIndex = openb.extractMinimum();
+                HyperGraphNode<I, J, W> currentb = 
+                        getNode(nodes, currentIndex);
+                
+                labelsb.close(currentIndex);
+                
+                for (HyperGraphEdge<I, J, W> edge 
+                    : currentb.getIncidentHyperEdges()) {
+                    
+                    int edgeIndex = nodes.edgeIndexOf(edge);
+                    Set<HyperGraphNode<I, J, W>> members = 
+                            edge.getIncidentHyperNodes();
+                    
+                    if (!labelsb.scanEdge(edgeIndex, members.size())) {
+                        continue;
+                    }
+                    
+                    W edgeDistance = 
+                            weights.apply(labelsb.getDistance(currentIndex), 
+                                          edge.getWeight());
+                    
+                    for (HyperGraphNode<I, J, W> parent : members) {
+                        
+                        if (parent.equals(currentb)) {
+                            continue;
+                        }
+                        
+                        int parentIndex = nodes.indexOf(parent);
+                        
+                        if (labelsa.isLabeled(parentIndex)) {
+                            W w = weights.apply(
+                                    edgeDistance,
+                                    labelsa.getDistance(parentIndex));
+                            
+                            if (weights.compare(mu, w) > 0) {
+                                mu = w;
+                                toucha = parentIndex;
+                                touchb = currentIndex;
+                                touchEdge = edgeIndex;
+                            }
+                        }
+                        
+                        if (labelsb.isClosed(parentIndex)) {
+                            continue;
+                        }
+                        
+                        W tentative = weights.apply(edgeDistance, 
+                                                    parent.getWeight());
+                        
+                        relax(openb, 
+                              labelsb, 
+                              parentIndex, 
+                              currentIndex, 
+                              edgeIndex,
+                              tentative, 
+                              weights);
+                    }
+                }
+            }
+        }
+        
+        if (status == null && toucha != -1 && maximumCost != null
+                && weights.compare(weights.apply(source.getWeight(), mu),
+                                   maximumCost) > 0) {
+            
+            status = SearchResult.Status.COST_LIMIT_EXCEEDED;
+        }
+        
+        if (status == null && toucha != -1) {
+            long tracebackStart = context.startTraceback(start);
+            
+            return finish(context,
+                          BI_FIND,
+                          start,
+                          tracebackStart,
+                          nodes,
+                          maximumQueueSize,
+                          new SearchResult<>(tracebackPath(nodes, 
+                                                           toucha, 
+                                                           touchb, 
+                                                           touchEdge, 
+                                                           weights)));
+        }
+        
+        return finish(context, 
+                      BI_FIND, 
+                      start, 
+                      0L, 
+                      nodes, 
+                      maximumQueueSize, 
+                      new SearchResult<>(
+                              status != null ? 
+                                      status : 
+                                      SearchResult.Status.UNREACHABLE,
+                              weights));
+    }
+    
+    /**
+     * Runs the Dijkstra's algorithm within {@code limits}. The search stops as
+     * soon as the weight of the path to the next node to settle exceeds the
+     * maximum cost. A hop limit makes the search run over the pairs of a node
+     * and a hop count, and find the cheapest path with at most that many 
+     * hyperedges.
+     * 
+     * @param source  the source node.
+     * @param target  the target node.
+     * @param weights the weight function.
+     * @param limits  the limits of the search.
+     * @param context the search context.
+     * @return the result of the search.
+     */
+    public static <I, J, W>
+         SearchResult<I, J, W> find(HyperGraphNode<I, J, W> source,
+                                    HyperGraphNode<I, J, W> target,
+                                    WeightFunction<W> weights,
+                                    SearchLimits<W> limits,
+                                    SearchContext context) {
+        
+        long start = context.startSearch();
+        
+        if (!ComponentIndex.mayBeConnected(source, target)) {
+            return finish(context, 
+                          FIND, 
+                          start, 
+                          0L, 
+                          null, 
+                          0, 
+                          new SearchResult<>(SearchResult.Status.UNREACHABLE,
+                                             weights));
+        }
+        
+        if (limits.hasMaximumHops()) {
+            return findWithinHops(source, 
+                                  target, 
+                                  weights, 
+                                  limits, 
+                                  context, 
+                                  FIND, 
+                                  start);
+        }
+        
+        boolean polled = limits.isPolled();
+        long deadline = limits.deadline();
+        W maximumCost = limits.getMaximumCost();
+        SearchResult.Status status = SearchResult.Status.UNREACHABLE;
+        
+        NodeLabels nodes = context.nodeLabels(weights);
+        NodeLabels.Direction labels = nodes.forward;
+        IndexedPriorityQueue open = context.queue(SearchContext.FORWARD,
+                                                  weights,
+                                                  labels,
+                                                  INITIAL_QUEUE_CAPACITY);
+        
+        int sourceIndex = nodes.indexOf(source);
+        
+        labels.setLabel(sourceIndex, 
+                        weights.zero(),
+                        -1,
+                        -1);
+        
+        open.insert(sourceIndex);
+        int maximumQueueSize = 1;
+        
+        while (!open.isEmpty()) {
+            if (polled 
+                    && labels.closedCount % SearchLimits.POLL_INTERVAL == 0) {
+                
+                SearchResult.Status pollStatus = limits.poll(deadline);
+                
+                if (pollStatus != null) {
+                    status = pollStatus;
+                    break;
+                }
+            }
+            
+            maximumQueueSize = Math.max(maximumQueueSize, open.size());
+            int currentIndex = open.extractMinimum();
+            
+            if (maximumCost != null 
+                    && weights.compare(
+                            weights.apply(source.getWeight(), 
+                                          labels.getDistance(currentIndex)),
+                            maximumCost) > 0) {
+                
+                status = SearchResult.Status.COST_LIMIT_EXCEEDED;
+                break;
+            }
+            
+            HyperGraphNode<I, J, W> current = getNode(nodes, currentIndex);
+            
+            if (current.equals(target)) {
+                long tracebackStart = context.startTraceback(start);
+                
+                return finish(context,
+                              FIND,
+                              start,
+                              tracebackStart,
+                              nodes,
+                              maximumQueueSize,
+                              new SearchResult<>(tracebackPath(nodes, 
+                                                               currentIndex, 
+                                                               weights)));
+            }
+            
+            settle(nodes, open, current, currentIndex, weights);
+        }
+        
+        return finish(context, 
+                      FIND, 
+                      start, 
+                      0L, 
+                      nodes, 
+                      maximumQueueSize, 
+                      new SearchResult<>(status, weights));
+    }
+    
+    /**
+     * Runs the Dijkstra's algorithm over the pairs of a node and the number of
+     * hyperedges on a path to it, without extending any path beyond the 
+     * maximum number of hops of {@code limits}. The first state of 
+     * {@code target} to be settled ends the cheapest path within the hop 
+     * limit.
+     */
+    private static <I, J, W> 
+        SearchResult<I, J, W> findWithinHops(HyperGraphNode<I, J, W> source,
+                                             HyperGraphNode<I, J, W> target,
+                                             WeightFunction<W> weights,
+                                             SearchLimits<W> limits,
+                                             SearchContext context,
+                                             String algorithm,
+                                             long start) {
+        
+        boolean polled = limits.isPolled();
+        long deadline = limits.deadline();
+        W maximumCost = limits.getMaximumCost();
+        int maximumHops = limits.getMaximumHops();
+        
+        // A connected target is out of reach only because of the hop limit:
+        SearchResult.Status status = SearchResult.Status.HOP_LIMIT_EXCEEDED;
+        
+        NodeLabels nodes = context.nodeLabels(weights);
+        HopLabels labels = context.hopLabels(weights);
+        IndexedPriorityQueue open = context.heap(SearchContext.FORWARD,
+                                                 labels,
+                                                 INITIAL_QUEUE_CAPACITY);
+        
+        int targetIndex = nodes.indexOf(target);
+        int sourceState = -labels.stateOf(nodes.indexOf(source), 0) - 1;
+        
+        labels.setLabel(sourceState, weights.zero(), -1, -1);
+        open.insert(sourceState);
+        
+        int settledNodeCount = 0;
+        long scannedEdgeCount = 0L;
+        long scannedMemberCount = 0L;
+        int maximumQueueSize = 1;
+        
+        while (!open.isEmpty()) {
+            if (polled && settledNodeCount % SearchLimits.POLL_INTERVAL == 0) {
+                SearchResult.Status pollStatus = limits.poll(deadline);
+                
+                if (pollStatus != null) {
+                    status = pollStatus;
+                    break;
+                }
+            }
+            
+            maximumQueueSize = Math.max(maximumQueueSize, open.size());
+            int state = open.extractMinimum();
+            int currentIndex = labels.getNode(state);
+            int hops = labels.getHops(state);
+            
+            if (labels.isDominated(currentIndex, hops)) {
+                continue;
+            }
+            
+            W distance = labels.getDistance(state);
+            
+            if (maximumCost != null 
+                    && weights.compare(weights.apply(source.getWeight(), 
+                                                     distance),
+                                       maximumCost) > 0) {
+                
+                status = SearchResult.Status.COST_LIMIT_EXCEEDED;
+                break;
+            }
+            
+            if (currentIndex == targetIndex) {
+                long tracebackStart = context.startTraceback(start);
+                
+                return finish(context,
+                              algorithm,
+                              start,
+                              tracebackStart,
+                              settledNodeCount,
+                              scannedEdgeCount,
+                              scannedMemberCount,
+                              maximumQueueSize,
+                              new SearchResult<>(tracebackPath(nodes, 
+                                                               labels, 
+                                                               state, 
+                                                               weights)));
+            }
+            
+            labels.settle(state);
+            settledNodeCount++;
+            
+            if (hops == maximumHops) {
+                continue;
+            }
+            
+            HyperGraphNode<I, J, W> current = getNode(nodes, currentIndex);
+            
+            for (HyperGraphEdge<I, J, W> edge 
+                    : current.getIncidentHyperEdges()) {
+                
+                int edgeIndex = nodes.edgeIndexOf(edge);
+                Set<HyperGraphNode<I, J, W>> members = 
+                        edge.getIncidentHyperNodes();
+                
+                // A hyperedge is scanned once per hop count of its members:
+                scannedEdgeCount++;
+                scannedMemberCount += members.size();
+                
+                W edgeDistance = weights.apply(distance, edge.getWeight());
+                
+                for (HyperGraphNode<I, J, W> child : members) {
+                    int childIndex = nodes.indexOf(child);
+                    
+                    if (labels.isDominated(childIndex, hops + 1)) {
+                        continue;
+                    }
+                    
+                    W tentative = weights.apply(edgeDistance, 
+                                                child.getWeight());
+                    
+                    int childState = labels.stateOf(childIndex, hops + 1);
+                    
+                    if (childState < 0) {
+                        childState = -childState - 1;
+                        labels.setLabel(childState, 
+                                        tentative, 
+                                        state, 
+                                        edgeIndex);
+                        open.insert(childState);
+                    } else if (weights.compare(labels.getDistance(childState),
+                                               tentative) > 0) {
+                        labels.setLabel(childState, 
+                                        tentative, 
+                                        state, 
+                                        edgeIndex);
+                        open.decreaseKey(childState);
+                    }
+                }
+            }
+        }
+        
+        return finish(context, 
+                      algorithm, 
+                      start, 
+                      0L, 
+                      settledNodeCount, 
+                      scannedEdgeCount, 
+                      scannedMemberCount, 
+                      maximumQueueSize, 
+                      new SearchResult<>(status, weights));
+    }
+    
+    public static <I, J, W> 
+        ShortestPathTree<I, J, W> findTree(HyperGraphNode<I, J, W> source,
+                                           WeightFunction<W> weights) {
+        
+        return findTree(source, weights, weights.max(), new SearchContext());
+    }
+    
+    public static <I, J, W> 
+        ShortestPathTree<I, J, W> findTree(HyperGraphNode<I, J, W> source,
+                                           WeightFunction<W> weights,
+                                           W maxDistance) {
+        
+        return findTree(source, weights, maxDistance, new SearchContext());
+    }
+    
+    /**
+     * Runs the Dijkstra's algorithm from {@code source} until all the nodes 
+     * within {@code maxDistance} are settled, and returns their shortest-path
+     * tree. The distances are path weights, including the weight of the
+     * source.
+     * 
+     * @param source      the source node.
+     * @param weights     the weight function.
+     * @param maxDistance the largest distance of a node in the tree.
+     * @param context     the search context.
+     * @return the shortest-path tree.
+     */
+    public static <I, J, W> 
+        ShortestPathTree<I, J, W> findTree(HyperGraphNode<I, J, W> source,
+                                           WeightFunction<W> weights,
+                                           W maxDistance,
+                                           SearchContext context) {
+        
+        NodeLabels nodes = context.nodeLabels(weights);
+        NodeLabels.Direction labels = nodes.forward;
+        IndexedPriorityQueue open = context.queue(SearchContext.FORWARD,
+                                                  weights,
+                                                  labels,
+                                                  INITIAL_QUEUE_CAPACITY);
+        
+        ShortestPathTree<I, J, W> tree = new ShortestPathTree<>(source, 
+                                                                weights);
+        int sourceIndex = nodes.indexOf(source);
+        
+        labels.setLabel(sourceIndex, source.getWeight(), -1, -1);
+        open.insert(sourceIndex);
+        
+        while (!open.isEmpty()) {
+            int currentIndex = open.extractMinimum();
+            W distance = labels.getDistance(currentIndex);
+            
+            if (weights.compare(distance, maxDistance) > 0) {
+                break;
+            }
+            
+            HyperGraphNode<I, J, W> current = getNode(nodes, currentIndex);
+            int parentIndex = labels.getParent(currentIndex);
+            
+            if (parentIndex == -1) {
+                tree.add(current, distance, null, null);
+            } else {
+                tree.add(current,
+                         distance,
+                         getNode(nodes, parentIndex),
+                         getEdge(nodes, labels.getParentEdge(currentIndex)));
+            }
+            
+            settle(nodes, open, current, currentIndex, weights);
+        }
+        
+        tree.trim();
+        return tree;
+    }
+    
+    public static <I, J, W> 
+        NearestPath<I, J, W> findNearest(
+                Collection<HyperGraphNode<I, J, W>> sources,
+                Collection<HyperGraphNode<I, J, W>> targets,
+                WeightFunction<W> weights) {
+        
+        return findNearest(sources, targets, weights, new SearchContext());
+    }
+    
+    public static <I, J, W> 
+        NearestPath<I, J, W> findNearest(
+                Map<HyperGraphNode<I, J, W>, W> sourceOffsets,
+                Collection<HyperGraphNode<I, J, W>> targets,
+                WeightFunction<W> weights) {
+        
+        return findNearest(sourceOffsets, 
+                           targets, 
+                           weights, 
+                           new SearchContext());
+    }
+    
+    /**
+     * Finds the cheapest path from any of {@code sources} to any of 
+     * {@code targets} by a single search started from all the sources at 
+     * once.
+     * 
+     * @param sources the source nodes.
+     * @param targets the target nodes.
+     * @param weights the weight function.
+     * @param context the search context.
+     * @return the nearest pair and the path between them.
+     */
+    public static <I, J, W> 
+        NearestPath<I, J, W> findNearest(
+                Collection<HyperGraphNode<I, J, W>> sources,
+                Collection<HyperGraphNode<I, J, W>> targets,
+                WeightFunction<W> weights,
+                SearchContext context) {
+        
+        Map<HyperGraphNode<I, J, W>, W> sourceOffsets = 
+                new LinkedHashMap<>(2 * sources.size());
+        
+        for (HyperGraphNode<I, J, W> source : sources) {
+            sourceOffsets.put(source, weights.zero());
+        }
+        
+        return findNearest(sourceOffsets, targets, weights, context);
+    }
+    
+    /**
+     * Finds the source and the target minimizing the start offset of the 
+     * source plus the weight of the path between them. Each source starts 
+     * with its offset plus its own weight as its label, after which the 
+     * Dijkstra's algorithm runs as from a single source, and stops at the 
+     * first settled target. Hence, a query over any number of sources and 
+     * targets costs one search.
+     * <p>
+     * The start labels are not within one step of each other, so that the
+     * search runs over a heap even if the weights would get a bucket queue.
+     * 
+     * @param sourceOffsets the map from the source nodes to their offsets.
+     * @param targets       the target nodes.
+     * @param weights       the weight function.
+     * @param context       the search context.
+     * @return the nearest pair and the path between them.
+     */
+    public static <I, J, W> 
+        NearestPath<I, J, W> findNearest(
+                Map<HyperGraphNode<I, J, W>, W> sourceOffsets,
+                Collection<HyperGraphNode<I, J, W>> targets,
+                WeightFunction<W> weights,
+                SearchContext context) {
+        
+        long start = context.startSearch();
+        Set<HyperGraphNode<I, J, W>> targetSet = 
+                targets instanceof Set<HyperGraphNode<I, J, W>> set ? 
+                        set : 
+                        new HashSet<>(targets);
+        
+        NodeLabels nodes = context.nodeLabels(weights);
+        NodeLabels.Direction labels = nodes.forward;
+        IndexedPriorityQueue open = context.heap(SearchContext.FORWARD,
+                                                 labels,
+                                                 INITIAL_QUEUE_CAPACITY);
+        
+        for (Map.Entry<HyperGraphNode<I, J, W>, W> entry 
+                : sourceOffsets.entrySet()) {
+            
+            HyperGraphNode<I, J, W> source = entry.getKey();
+            W offset = Objects.requireNonNull(
+                    entry.getValue(), 
+                    "The offset of " + source + " is null");
+            
+            int sourceIndex = nodes.indexOf(source);
+            
+            labels.setLabel(sourceIndex, 
+                            weights.apply(offset, source.getWeight()), 
+                            -1, 
+                            -1);
+            open.insert(sourceIndex);
+        }
+        
+        int maximumQueueSize = open.size();
+        
+        while (!open.isEmpty()) {
+            maximumQueueSize = Math.max(maximumQueueSize, open.size());
+            
+            int currentIndex = open.extractMinimum();
+            HyperGraphNode<I, J, W> current = getNode(nodes, currentIndex);
+            
+            if (targetSet.contains(current)) {
+                long tracebackStart = context.startTraceback(start);
+                HyperGraphPath<I, J, W> path = tracebackPath(nodes, 
+                                                             currentIndex, 
+                                                             weights);
+                labels.close(currentIndex);
+                finish(context,
+                       FIND_NEAREST,
+                       start,
+                       tracebackStart,
+                       nodes,
+                       maximumQueueSize,
+                       new SearchResult<>(path));
+                
+                return new NearestPath<>(path, 
+                                         labels.getDistance(currentIndex));
+            }
+            
+            settle(nodes, open, current, currentIndex, weights);
+        }
+        
+        finish(context, 
+               FIND_NEAREST, 
+               start, 
+               0L, 
+               nodes, 
+               maximumQueueSize, 
+               new SearchResult<>(SearchResult.Status.UNREACHABLE, weights));
+        
+        return new NearestPath<>(weights);
+    }
+    
+    /**
+     * Closes {@code current} in the forward direction and relaxes its incident
+     * hyperedges.
+     */
+    private static <I, J, W> void settle(NodeLabels nodes,
+                                         IndexedPriorityQueue open,
+                                         HyperGraphNode<I, J, W> current,
+                                         int currentIndex,
+                                         WeightFunction<W> weights) {
+        
+        NodeLabels.Direction labels = nodes.forward;
+        labels.close(currentIndex);
+        
+        for (HyperGraphEdge<I, J, W> edge 
+                : current.getIncidentHyperEdges()) {
+            
+            int edgeIndex = nodes.edgeIndexOf(edge);
+            Set<HyperGraphNode<I, J, W>> members = 
+                    edge.getIncidentHyperNodes();
+            
+            // The first settled member of an edge has the smallest 
+            // distance, so scanning the edge again is of no use:
+            if (!labels.scanEdge(edgeIndex, members.size())) {
+                continue;
+            }
+            
+            for (HyperGraphNode<I, J, W> child : members) {
+                
+                int childIndex = nodes.indexOf(child);
+                
+                if (labels.isClosed(childIndex)) {
+                    continue;
+                }
+                
+                // Add edge weight:
+                W tentative = 
+                        weights.apply(labels.getDistance(currentIndex),
+                                      edge.getWeight());
+                
+                // Add child weight:
+                tentative = weights.apply(tentative, child.getWeight());
+                
+                relax(open, 
+                      labels, 
+                      childIndex, 
+                      currentIndex, 
+                      edgeIndex,
+                      tentative, 
+                      weights);
+            }
+        }
+    }
+    
+    /**
+     * Offers {@code tentative} as the distance of {@code node} reached from
+     * {@code parent} through {@code parentEdge}, and inserts {@code node} into
+     * {@code open} or decreases its key on improvement.
+     */
+    private static <W> void relax(IndexedPriorityQueue open,
+                                  NodeLabels.Direction labels,
+                                  int node,
+                                  int parent,
+                                  int parentEdge,
+                                  W tentative,
+                                  WeightFunction<W> weights) {
+        
+        if (!labels.isLabeled(node)) {
+            labels.setLabel(node, tentative, parent, parentEdge);
+            open.insert(node);
+        } else if (weights.compare(labels.getDistance(node), tentative) > 0) {
+            labels.setLabel(node, tentative, parent, parentEdge);
+            open.decreaseKey(node);
+        }
+    }
+    
+    /**
+     * Reports the statistics of a search to {@code context}, and returns 
+     * {@code result}. The counts are summed over both directions of 
+     * {@code nodes}, or zero if {@code nodes} is {@code null}.
+     */
+    private static <I, J, W> 
+        SearchResult<I, J, W> finish(SearchContext context,
+                                     String algorithm,
+                                     long start,
+                                     long tracebackStart,
+                                     NodeLabels nodes,
+                                     int maximumQueueSize,
+                                     SearchResult<I, J, W> result) {
+        
+        if (start == SearchContext.UNINSTRUMENTED) {
+            return result;
+        }
+        
+        if (nodes == null) {
+            return finish(context,
+                          algorithm,
+                          start,
+                          tracebackStart,
+                          0,
+                          0L,
+                          0L,
+                          maximumQueueSize,
+                          result);
+        }
+        
+        return finish(context,
+                      algorithm,
+                      start,
+                      tracebackStart,
+                      nodes.forward.closedCount + nodes.backward.closedCount,
+                      nodes.forward.scannedEdgeCount
+                              + nodes.backward.scannedEdgeCount,
+                      nodes.forward.scannedMemberCount
+                              + nodes.backward.scannedMemberCount,
+                      maximumQueueSize,
+                      result);
+    }
+    
+    private static <I, J, W> 
+        SearchResult<I, J, W> finish(SearchContext context,
+                                     String algorithm,
+                                     long start,
+                                     long tracebackStart,
+                                     int settledNodeCount,
+                                     long scannedEdgeCount,
+                                     long scannedMemberCount,
+                                     int maximumQueueSize,
+                                     SearchResult<I, J, W> result) {
+        
+        context.finishSearch(algorithm,
+                             start,
+                             tracebackStart,
+                             settledNodeCount,
+                             scannedEdgeCount,
+                             scannedMemberCount,
+                             maximumQueueSize,
+                             result.isFound());
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <I, J, W> 
+        HyperGraphNode<I, J, W> getNode(NodeLabels nodes, int index) {
+        return (HyperGraphNode<I, J, W>) nodes.nodes.key(index);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <I, J, W> 
+        HyperGraphEdge<I, J, W> getEdge(NodeLabels nodes, int index) {
+        return (HyperGraphEdge<I, J, W>) nodes.edges.key(index);
+    }
+    
+    private static <I, J, W> 
+        HyperGraphPath<I, J, W> tracebackPath(NodeLabels nodes,
+                                              int target,
+                                              WeightFunction<W> weights) {
+        
+        List<HyperGraphNode<I, J, W>> pathNodes = new ArrayList<>();
+        List<HyperGraphEdge<I, J, W>> pathEdges = new ArrayList<>();
+        
+        traceback(nodes, nodes.forward, target, pathNodes, pathEdges);
+        Collections.reverse(pathNodes);
+        Collections.reverse(pathEdges);
+        return new HyperGraphPath<>(pathNodes, pathEdges, weights);
+    }
+    
+    private static <I, J, W> 
+        HyperGraphPath<I, J, W> tracebackPath(NodeLabels nodes,
+                                              int toucha,
+                                              int touchb,
+                                              int touchEdge,
+                                              WeightFunction<W> weights) {
+        
+        List<HyperGraphNode<I, J, W>> pathNodes = new ArrayList<>();
+        List<HyperGraphEdge<I, J, W>> pathEdges = new ArrayList<>();
+        
+        traceback(nodes, nodes.forward, toucha, pathNodes, pathEdges);
+        Collections.reverse(pathNodes);
+        Collections.reverse(pathEdges);
+        pathEdges.add(getEdge(nodes, touchEdge));
+        traceback(nodes, nodes.backward, touchb, pathNodes, pathEdges);
+        return new HyperGraphPath<>(pathNodes, pathEdges, weights);
+    }
+    
+    private static <I, J, W> 
+        HyperGraphPath<I, J, W> tracebackPath(NodeLabels nodes,
+                                              HopLabels labels,
+                                              int state,
+                                              WeightFunction<W> weights) {
+        
+        List<HyperGraphNode<I, J, W>> pathNodes = new ArrayList<>();
+        List<HyperGraphEdge<I, J, W>> pathEdges = new ArrayList<>();
+        
+        pathNodes.add(getNode(nodes, labels.getNode(state)));
+        
+        while (labels.getParentEdge(state) != -1) {
+            pathEdges.add(getEdge(nodes, labels.getParentEdge(state)));
+            state = labels.getParent(state);
+            pathNodes.add(getNode(nodes, labels.getNode(state)));
+        }
+        
+        Collections.reverse(pathNodes);
+        Collections.reverse(pathEdges);
+        return new HyperGraphPath<>(pathNodes, pathEdges, weights);
+    }
+    
+    /**
+     * Appends the nodes and the hyperedges on the path from {@code node} back
+     * to the start node of {@code labels}.
+     */
+    private static <I, J, W> 
+        void traceback(NodeLabels nodes,
+                       NodeLabels.Direction labels,
+                       int node,
+                       List<HyperGraphNode<I, J, W>> pathNodes,
+                       List<HyperGraphEdge<I, J, W>> pathEdges) {
+        
+        pathNodes.add(getNode(nodes, node));
+        
+        while (labels.getParentEdge(node) != -1) {
+            pathEdges.add(getEdge(nodes, labels.getParentEdge(node)));
+            node = labels.getParent(node);
+            pathNodes.add(getNode(nodes, node));
+        }
+    }
+}
@@ -0,0 +1,614 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class implements an immutable, compacted snapshot of a hypergraph. All
+ * the hypernodes and hyperedges are assigned dense integer indices, and the
+ * incidence relation is stored in compressed sparse row (CSR) layout: for each
+ * node, the indices of its incident hyperedges, and for each hyperedge, the
+ * indices of its member nodes.
+ * <p>
+ * The snapshot does not track later modifications of the hypergraph it was
+ * built from.
+ * <p>
+ * The connected components are numbered when the snapshot is built, so that
+ * the path finders reject a query between two disconnected nodes in constant
+ * time.
+ * <p>
+ * A snapshot may be written to a file and opened again by
+ * {@link HyperGraphSnapshotFile}, and loaded from a text file by
+ * {@link HyperGraphLoader}. The nodes and the hyperedges of an opened or a
+ * loaded snapshot are created on demand, and are not connected to each other.
+ * <p>
+ * For the searches with a {@link LongWeightFunction} or a 
+ * {@link DoubleWeightFunction}, the weights are converted once into primitive
+ * arrays, which are cached until a weight function that is not 
+ * {@linkplain Object#equals(java.lang.Object) equal} to the cached one is 
+ * used.
+ *
+ * @param <I> the type of the node identity object.
+ * @param <J> the type of the edge identity object.
+ * @param <W> the type of the weights.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.3.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class HyperGraphSnapshot<I, J, W> {
+    
+    private final HyperGraphNode<I, J, W>[] nodes;
+    private final HyperGraphEdge<I, J, W>[] edges;
+    
+    /**
+     * Creates the nodes and the hyperedges on demand, or is {@code null} if 
+     * they were all given when this snapshot was built.
+     */
+    private final ElementFactory<I, J, W> factory;
+    
+    /**
+     * The index maps and the weight objects. They are built on demand if this
+     * snapshot has a factory.
+     */
+    private volatile Map<HyperGraphNode<I, J, W>, Integer> nodeIndexMap;
+    private volatile Map<HyperGraphEdge<I, J, W>, Integer> edgeIndexMap;
+    private volatile Object[] nodeWeights;
+    private volatile Object[] edgeWeights;
+    
+    /**
+     * {@code nodeEdges[nodeEdgeOffsets[u] ... nodeEdgeOffsets[u + 1] - 1]} are
+     * the hyperedges incident to the node {@code u}.
+     */
+    final int[] nodeEdgeOffsets;
+    final int[] nodeEdges;
+    
+    /**
+     * {@code edgeNodes[edgeNodeOffsets[e] ... edgeNodeOffsets[e + 1] - 1]} are
+     * the member nodes of the hyperedge {@code e}.
+     */
+    final int[] edgeNodeOffsets;
+    final int[] edgeNodes;
+    
+    /**
+     * {@code components[u]} is the index of the connected component of the
+     * node {@code u}.
+     */
+    private final int[] components;
+    private final int componentCount;
+    
+    /**
+     * The weights converted by the most recently used primitive weight 
+     * functions.
+     */
+    private volatile LongWeights longWeights;
+    private volatile DoubleWeights doubleWeights;
+    
+    private HyperGraphSnapshot(List<HyperGraphNode<I, J, W>> nodeList,
+                               List<HyperGraphEdge<I, J, W>> edgeList,
+                               Map<HyperGraphNode<I, J, W>, Integer> nodeIndexMap,
+                               Map<HyperGraphEdge<I, J, W>, Integer> edgeIndexMap) {
+        
+        this.nodes = nodeList.toArray(newNodeArray(nodeList.size()));
+        this.edges = edgeList.toArray(newEdgeArray(edgeList.size()));
+        this.factory = null;
+        this.nodeIndexMap = nodeIndexMap;
+        this.edgeIndexMap = edgeIndexMap;
+        this.nodeEdgeOffsets = new int[nodes.length + 1];
+        this.edgeNodeOffsets = new int[edges.length + 1];
+        
+        Object[] nodeWeights = new Object[nodes.length];
+        Object[] edgeWeights = new Object[edges.length];
+        
+        for (int i = 0; i < nodes.length; ++i) {
+            nodeWeights[i] = nodes[i].getWeight();
+            nodeEdgeOffsets[i + 1] = nodeEdgeOffsets[i]
+                                   + nodes[i].edges.size();
+        }
+        
+        for (int i = 0; i < edges.length; ++i) {
+            edgeWeights[i] = edges[i].getWeight();
+            edgeNodeOffsets[i + 1] = edgeNodeOffsets[i]
+                                   + edges[i].getIncidentHyperNodes().size();
+        }
+        
+        this.nodeEdges = new int[nodeEdgeOffsets[nodes.length]];
+        this.edgeNodes = new int[edgeNodeOffsets[edges.length]];
+        
+        for (int i = 0; i < nodes.length; ++i) {
+            int index = nodeEdgeOffsets[i];
+            
+            for (HyperGraphEdge<I, J, W> edge : nodes[i].edges) {
+                nodeEdges[index++] = edgeIndexMap.get(edge);
+            }
+        }
+        
+        for (int i = 0; i < edges.length; ++i) {
+            int index = edgeNodeOffsets[i];
+            
+            for (HyperGraphNode<I, J, W> node
+                    : edges[i].getIncidentHyperNodes()) {
+                edgeNodes[index++] = nodeIndexMap.get(node);
+            }
+        }
+        
+        this.nodeWeights = nodeWeights;
+        this.edgeWeights = edgeWeights;
+        this.components = new int[nodes.length];
+        this.componentCount = computeComponents();
+    }
+    
+    /**
+     * Builds a snapshot out of the given incidence arrays and components, 
+     * whose nodes and hyperedges are created by {@code factory} on demand. If
+     * {@code components} is {@code null}, the components are computed from
+     * the incidence arrays.
+     */
+    HyperGraphSnapshot(int[] nodeEdgeOffsets,
+                       int[] nodeEdges,
+                       int[] edgeNodeOffsets,
+                       int[] edgeNodes,
+                       int[] components,
+                       int componentCount,
+                       ElementFactory<I, J, W> factory) {
+        
+        this.nodes = newNodeArray(nodeEdgeOffsets.length - 1);
+        this.edges = newEdgeArray(edgeNodeOffsets.length - 1);
+        this.factory = factory;
+        this.nodeEdgeOffsets = nodeEdgeOffsets;
+        this.nodeEdges = nodeEdges;
+        this.edgeNodeOffsets = edgeNodeOffsets;
+        this.edgeNodes = edgeNodes;
+        
+        if (components == null) {
+            this.components = new int[nodes.length];
+            this.componentCount = computeComponents();
+        } else {
+            this.components = components;
+            this.componentCount = componentCount;
+        }
+    }
+    
+    /**
+     * Builds the snapshot of the hypergraph containing the input nodes. The
+     * nodes are indexed in the iteration order of {@code nodes}. Nodes not in
+     * {@code nodes} but reachable through an incident hyperedge of an indexed
+     * node are indexed as well, so that the snapshot is closed under the
+     * incidence relation.
+     *
+     * @param <I>   the type of the node identity object.
+     * @param <J>   the type of the edge identity object.
+     * @param <W>   the type of the weights.
+     * @param nodes the nodes of the hypergraph.
+     * @return the snapshot of the hypergraph.
+     */
+    public static <I, J, W> HyperGraphSnapshot<I, J, W>
+        of(Collection<? extends HyperGraphNode<I, J, W>> nodes) {
+        
+        Objects.requireNonNull(nodes);
+        
+        List<HyperGraphNode<I, J, W>> nodeList = new ArrayList<>(nodes.size());
+        List<HyperGraphEdge<I, J, W>> edgeList = new ArrayList<>();
+        Map<HyperGraphNode<I, J, W>, Integer> nodeIndexMap =
+                new HashMap<>(2 * nodes.size());
+        
+        Map<HyperGraphEdge<I, J, W>, Integer> edgeIndexMap = new HashMap<>();
+        
+        for (HyperGraphNode<I, J, W> node : nodes) {
+            addNode(node, nodeList, nodeIndexMap);
+        }
+        
+        // nodeList may grow while being scanned:
+        for (int i = 0; i < nodeList.size(); ++i) {
+            for (HyperGraphEdge<I, J, W> edge : nodeList.get(i).edges) {
+                if (edgeIndexMap.containsKey(edge)) {
+                    continue;
+                }
+                
+                edgeIndexMap.put(edge, edgeList.size());
+                edgeList.add(edge);
+                
+                for (HyperGraphNode<I, J, W> node
+                        : edge.getIncidentHyperNodes()) {
+                    addNode(node, nodeList, nodeIndexMap);
+                }
+            }
+        }
+        
+        return new HyperGraphSnapshot<>(nodeList,
+                                        edgeList,
+                                        nodeIndexMap,
+                                        edgeIndexMap);
+    }
+    
+    public int getNodeCount() {
+        return nodes.length;
+    }
+    
+    public int getEdgeCount() {
+        return edges.length;
+    }
+    
+    public HyperGraphNode<I, J, W> getNode(int nodeIndex) {
+        HyperGraphNode<I, J, W> node = nodes[nodeIndex];
+        
+        if (node == null) {
+            // Two racing threads may create two equal nodes, which is
+            // harmless since a detached node is never modified:
+            node = factory.createNode(nodeIndex);
+            nodes[nodeIndex] = node;
+        }
+        
+        return node;
+    }
+    
+    public HyperGraphEdge<I, J, W> getEdge(int edgeIndex) {
+        HyperGraphEdge<I, J, W> edge = edges[edgeIndex];
+        
+        if (edge == null) {
+            edge = factory.createEdge(edgeIndex);
+            edges[edgeIndex] = edge;
+        }
+        
+        return edge;
+    }
+    
+    /**
+     * Returns the index of {@code node} in this snapshot, or -1 if the node is
+     * not in this snapshot.
+     *
+     * @param node the node to look up.
+     * @return the index of {@code node} or -1.
+     */
+    public int getNodeIndex(HyperGraphNode<I, J, W> node) {
+        Integer index = getNodeIndexMap().get(node);
+        return index == null ? -1 : index;
+    }
+    
+    /**
+     * Returns the index of {@code edge} in this snapshot, or -1 if the edge is
+     * not in this snapshot.
+     *
+     * @param edge the edge to look up.
+     * @return the index of {@code edge} or -1.
+     */
+    public int getEdgeIndex(HyperGraphEdge<I, J, W> edge) {
+        Integer index = getEdgeIndexMap().get(edge);
+        return index == null ? -1 : index;
+    }
+    
+    /**
+     * Creates an array of nodes. A generic array cannot be created directly.
+     */
+    @SuppressWarnings("unchecked")
+    static <I, J, W> HyperGraphNode<I, J, W>[] newNodeArray(int length) {
+        return (HyperGraphNode<I, J, W>[]) new HyperGraphNode<?, ?, ?>[length];
+    }
+    
+    /**
+     * Creates an array of hyperedges. A generic array cannot be created
+     * directly.
+     */
+    @SuppressWarnings("unchecked")
+    static <I, J, W> HyperGraphEdge<I, J, W>[] newEdgeArray(int length) {
+        return (HyperGraphEdge<I, J, W>[]) new HyperGraphEdge<?, ?, ?>[length];
+    }
+    
+    @SuppressWarnings("unchecked")
+    public W getNodeWeight(int nodeIndex) {
+        Object[] weights = nodeWeights;
+        return weights == null ? getNode(nodeIndex).getWeight() 
+                               : (W) weights[nodeIndex];
+    }
+    
+    @SuppressWarnings("unchecked")
+    public W getEdgeWeight(int edgeIndex) {
+        Object[] weights = edgeWeights;
+        return weights == null ? getEdge(edgeIndex).getWeight() 
+                               : (W) weights[edgeIndex];
+    }
+    
+    public int getIncidentEdgeCount(int nodeIndex) {
+        return nodeEdgeOffsets[nodeIndex + 1] - nodeEdgeOffsets[nodeIndex];
+    }
+    
+    public int getIncidentEdge(int nodeIndex, int i) {
+        return nodeEdges[nodeEdgeOffsets[nodeIndex] + i];
+    }
+    
+    public int getEdgeSize(int edgeIndex) {
+        return edgeNodeOffsets[edgeIndex + 1] - edgeNodeOffsets[edgeIndex];
+    }
+    
+    public int getEdgeMember(int edgeIndex, int i) {
+        return edgeNodes[edgeNodeOffsets[edgeIndex] + i];
+    }
+    
+    public int getComponentCount() {
+        return componentCount;
+    }
+    
+    /**
+     * Returns the index of the connected component of the given node. The
+     * components are indexed from zero to {@code getComponentCount() - 1}.
+     *
+     * @param nodeIndex the index of the node.
+     * @return the index of the component of the node.
+     */
+    public int getComponent(int nodeIndex) {
+        return components[nodeIndex];
+    }
+    
+    public boolean areConnected(int nodeIndex1, int nodeIndex2) {
+        return components[nodeIndex1] == components[nodeIndex2];
+    }
+    
+    /**
+     * Returns the weights of all the nodes, indexed by the node indices.
+     */
+    Object[] getNodeWeightArray() {
+        Object[] weights = nodeWeights;
+        
+        if (weights == null) {
+            synchronized (this) {
+                weights = nodeWeights;
+                
+                if (weights == null) {
+                    weights = new Object[nodes.length];
+                    
+                    for (int i = 0; i < weights.length; ++i) {
+                        weights[i] = getNode(i).getWeight();
+                    }
+                    
+                    nodeWeights = weights;
+                }
+            }
+        }
+        
+        return weights;
+    }
+    
+    /**
+     * Returns the weights of all the hyperedges, indexed by the edge indices.
+     */
+    Object[] getEdgeWeightArray() {
+        Object[] weights = edgeWeights;
+        
+        if (weights == null) {
+            synchronized (this) {
+                weights = edgeWeights;
+                
+                if (weights == null) {
+                    weights = new Object[edges.length];
+                    
+                    for (int i = 0; i < weights.length; ++i) {
+                        weights[i] = getEdge(i).getWeight();
+                    }
+                    
+                    edgeWeights = weights;
+                }
+            }
+        }
+        
+        return weights;
+    }
+    
+    /**
+     * Caches the primitive weights read along with this snapshot, so that they
+     * need no conversion.
+     */
+    void cacheWeights(LongWeights weights) {
+        longWeights = weights;
+    }
+    
+    void cacheWeights(DoubleWeights weights) {
+        doubleWeights = weights;
+    }
+    
+    LongWeights getLongWeights(LongWeightFunction<W> weightFunction) {
+        LongWeights weights = longWeights;
+        
+        if (weights == null || !weights.weightFunction.equals(weightFunction)) {
+            long[] nodeWeightArray = new long[nodes.length];
+            long[] edgeWeightArray = new long[edges.length];
+            
+            for (int i = 0; i < nodeWeightArray.length; ++i) {
+                nodeWeightArray[i] = weightFunction.toLong(getNodeWeight(i));
+            }
+            
+            for (int i = 0; i < edgeWeightArray.length; ++i) {
+                edgeWeightArray[i] = weightFunction.toLong(getEdgeWeight(i));
+            }
+            
+            weights = new LongWeights(weightFunction,
+                                      nodeWeightArray, 
+                                      edgeWeightArray);
+            longWeights = weights;
+        }
+        
+        return weights;
+    }
+    
+    DoubleWeights getDoubleWeights(DoubleWeightFunction<W> weightFunction) {
+        DoubleWeights weights = doubleWeights;
+        
+        if (weights == null || !weights.weightFunction.equals(weightFunction)) {
+            double[] nodeWeightArray = new double[nodes.length];
+            double[] edgeWeightArray = new double[edges.length];
+            
+            for (int i = 0; i < nodeWeightArray.length; ++i) {
+                nodeWeightArray[i] = weightFunction.toDouble(getNodeWeight(i));
+            }
+            
+            for (int i = 0; i < edgeWeightArray.length; ++i) {
+                edgeWeightArray[i] = weightFunction.toDouble(getEdgeWeight(i));
+            }
+            
+            weights = new DoubleWeights(weightFunction,
+                                        nodeWeightArray, 
+                                        edgeWeightArray);
+            doubleWeights = weights;
+        }
+        
+        return weights;
+    }
+    
+    /**
+     * Unites the members of each hyperedge in a disjoint-set forest over 
+     * {@code components} and numbers the resulting sets. Returns the number of
+     * components.
+     */
+    private int computeComponents() {
+        for (int i = 0; i < components.length; ++i) {
+            components[i] = i;
+        }
+        
+        for (int e = 0; e < edges.length; ++e) {
+            int first = edgeNodeOffsets[e];
+            int last = edgeNodeOffsets[e + 1];
+            
+            if (first == last) {
+                continue;
+            }
+            
+            int root = findRoot(edgeNodes[first]);
+            
+            for (int i = first + 1; i < last; ++i) {
+                int otherRoot = findRoot(edgeNodes[i]);
+                
+                if (otherRoot != root) {
+                    // Hang the larger index below the smaller one:
+                    if (otherRoot < root) {
+                        components[root] = otherRoot;
+                        root = otherRoot;
+                    } else {
+                        components[otherRoot] = root;
+                    }
+                }
+            }
+        }
+        
+        // Roots are the smallest indices of their sets, so that a single 
+        // ascending pass can replace parents with dense component indices:
+        int count = 0;
+        
+        for (int i = 0; i < components.length; ++i) {
+            if (components[i] == i) {
+                components[i] = count++;
+            } else {
+                components[i] = components[components[i]];
+            }
+        }
+        
+        return count;
+    }
+    
+    private int findRoot(int node) {
+        while (components[node] != node) {
+            components[node] = components[components[node]];
+            node = components[node];
+        }
+        
+        return node;
+    }
+    
+    private Map<HyperGraphNode<I, J, W>, Integer> getNodeIndexMap() {
+        Map<HyperGraphNode<I, J, W>, Integer> map = nodeIndexMap;
+        
+        if (map == null) {
+            synchronized (this) {
+                map = nodeIndexMap;
+                
+                if (map == null) {
+                    map = new HashMap<>(2 * nodes.length);
+                    
+                    for (int i = 0; i < nodes.length; ++i) {
+                        map.put(getNode(i), i);
+                    }
+                    
+                    nodeIndexMap = map;
+                }
+            }
+        }
+        
+        return map;
+    }
+    
+    private Map<HyperGraphEdge<I, J, W>, Integer> getEdgeIndexMap() {
+        Map<HyperGraphEdge<I, J, W>, Integer> map = edgeIndexMap;
+        
+        if (map == null) {
+            synchronized (this) {
+                map = edgeIndexMap;
+                
+                if (map == null) {
+                    map = new HashMap<>(2 * edges.length);
+                    
+                    for (int i = 0; i < edges.length; ++i) {
+                        map.put(getEdge(i), i);
+                    }
+                    
+                    edgeIndexMap = map;
+                }
+            }
+        }
+        
+        return map;
+    }
+    
+    private static <I, J, W> void
+        addNode(HyperGraphNode<I, J, W> node,
+                List<HyperGraphNode<I, J, W>> nodeList,
+                Map<HyperGraphNode<I, J, W>, Integer> nodeIndexMap) {
+        
+        if (!nodeIndexMap.containsKey(node)) {
+            nodeIndexMap.put(node, nodeList.size());
+            nodeList.add(node);
+        }
+    }
+    
+    /**
+     * This interface creates the nodes and the hyperedges of a snapshot on 
+     * demand.
+     */
+    interface ElementFactory<I, J, W> {
+        
+        HyperGraphNode<I, J, W> createNode(int nodeIndex);
+        
+        HyperGraphEdge<I, J, W> createEdge(int edgeIndex);
+    }
+    
+    static final class LongWeights {
+        
+        final LongWeightFunction<?> weightFunction;
+        final long[] nodeWeights;
+        final long[] edgeWeights;
+        
+        LongWeights(LongWeightFunction<?> weightFunction,
+                    long[] nodeWeights,
+                    long[] edgeWeights) {
+            this.weightFunction = weightFunction;
+            this.nodeWeights = nodeWeights;
+            this.edgeWeights = edgeWeights;
+        }
+    }
+    
+    static final class DoubleWeights {
+        
+        final DoubleWeightFunction<?> weightFunction;
+        final double[] nodeWeights;
+        final double[] edgeWeights;
+        
+        DoubleWeights(DoubleWeightFunction<?> weightFunction,
+                      double[] nodeWeights,
+                      double[] edgeWeights) {
+            this.weightFunction = weightFunction;
+            this.nodeWeights = nodeWeights;
+            this.edgeWeights = edgeWeights;
+        }
+    }
+}
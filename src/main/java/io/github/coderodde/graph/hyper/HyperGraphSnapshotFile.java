@@ -0,0 +1,607 @@
+package io.github.coderodde.graph.hyper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32C;
+
+/**
+ * This class writes a {@link HyperGraphSnapshot} to a binary file, and opens
+ * such a file as a snapshot again by mapping it into memory. Opening a file
+ * creates no node and no hyperedge: the incidence arrays, the components and
+ * the primitive weights are copied out of the mapping in bulk, and each node
+ * or hyperedge is decoded from the mapping when it is first asked for.
+ * <p>
+ * All the numbers are stored in the little-endian byte order. The file starts
+ * with a header of {@value #HEADER_SIZE} bytes:
+ * <pre>
+ *  0  int   magic, the bytes "HGSF"
+ *  4  int   format version
+ *  8  int   flags; bit 0 is set if the weights are doubles
+ * 12  int   node count n
+ * 16  int   edge count m
+ * 20  int   incidence count k
+ * 24  int   component count
+ * 28  int   CRC-32C of all the bytes after the header
+ * 32  long  total size of the node identities
+ * 40  long  total size of the edge identities
+ * 48  long  file size
+ * 56  long  reserved, zero
+ * </pre>
+ * The header is followed by the sections:
+ * <pre>
+ * long[n]     node weights, or double[n]
+ * long[m]     edge weights, or double[m]
+ * int[n + 1]  node edge offsets
+ * int[k]      node edges
+ * int[m + 1]  edge node offsets
+ * int[k]      edge nodes
+ * int[n]      node components
+ * int[n + 1]  node identity offsets
+ * byte[]      node identities
+ * int[m + 1]  edge identity offsets
+ * byte[]      edge identities
+ * </pre>
+ * The identities are converted by {@link SnapshotCodec}s, and the weights by
+ * a {@link LongWeightFunction} or a {@link DoubleWeightFunction}. A file must
+ * be smaller than 2 GiB so that a single buffer maps it.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class HyperGraphSnapshotFile {
+    
+    /**
+     * The bytes "HGSF" read as a little-endian {@code int}.
+     */
+    static final int MAGIC = 0x46534748;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    
+    private static final int DOUBLE_WEIGHTS = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+    
+    private HyperGraphSnapshotFile() {
+        
+    }
+    
+    /**
+     * Writes {@code graph} to {@code file}, replacing the file if it exists.
+     *
+     * @param <I>          the type of the node identity object.
+     * @param <J>          the type of the edge identity object.
+     * @param <W>          the type of the weights.
+     * @param graph        the snapshot to write.
+     * @param file         the file to write to.
+     * @param nodeIdCodec  the codec of the node identities.
+     * @param edgeIdCodec  the codec of the edge identities.
+     * @param weights      the weight function, either a
+     *                     {@link LongWeightFunction} or a
+     *                     {@link DoubleWeightFunction}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static <I, J, W> void write(HyperGraphSnapshot<I, J, W> graph,
+                                       Path file,
+                                       SnapshotCodec<I> nodeIdCodec,
+                                       SnapshotCodec<J> edgeIdCodec,
+                                       WeightFunction<W> weights)
+            throws IOException {
+        
+        Objects.requireNonNull(graph, "The graph is null");
+        Objects.requireNonNull(file, "The file is null");
+        Objects.requireNonNull(nodeIdCodec, "The node identity codec is null");
+        Objects.requireNonNull(edgeIdCodec, "The edge identity codec is null");
+        
+        int nodeCount = graph.getNodeCount();
+        int edgeCount = graph.getEdgeCount();
+        int incidenceCount = graph.nodeEdges.length;
+        boolean isDouble = checkWeights(weights);
+        
+        byte[][] nodeIds = new byte[nodeCount][];
+        byte[][] edgeIds = new byte[edgeCount][];
+        long nodeIdSize = 0L;
+        long edgeIdSize = 0L;
+        
+        for (int i = 0; i < nodeCount; ++i) {
+            nodeIds[i] = nodeIdCodec.encode(graph.getNode(i).getId());
+            nodeIdSize += nodeIds[i].length;
+        }
+        
+        for (int i = 0; i < edgeCount; ++i) {
+            edgeIds[i] = edgeIdCodec.encode(graph.getEdge(i).getId());
+            edgeIdSize += edgeIds[i].length;
+        }
+        
+        long fileSize = getFileSize(nodeCount,
+                                    edgeCount,
+                                    incidenceCount,
+                                    nodeIdSize,
+                                    edgeIdSize);
+        
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "The snapshot takes " + fileSize + " bytes, which is too "
+                            + "large to be mapped");
+        }
+        
+        try (FileChannel channel =
+                FileChannel.open(file,
+                                 StandardOpenOption.CREATE,
+                                 StandardOpenOption.TRUNCATE_EXISTING,
+                                 StandardOpenOption.WRITE)) {
+            
+            SectionWriter writer = new SectionWriter(channel);
+            
+            if (isDouble) {
+                HyperGraphSnapshot.DoubleWeights doubleWeights =
+                        graph.getDoubleWeights(
+                                (DoubleWeightFunction<W>) weights);
+                
+                writer.putDoubles(doubleWeights.nodeWeights);
+                writer.putDoubles(doubleWeights.edgeWeights);
+            } else {
+                HyperGraphSnapshot.LongWeights longWeights =
+                        graph.getLongWeights((LongWeightFunction<W>) weights);
+                
+                writer.putLongs(longWeights.nodeWeights);
+                writer.putLongs(longWeights.edgeWeights);
+            }
+            
+            writer.putInts(graph.nodeEdgeOffsets);
+            writer.putInts(graph.nodeEdges);
+            writer.putInts(graph.edgeNodeOffsets);
+            writer.putInts(graph.edgeNodes);
+            
+            for (int i = 0; i < nodeCount; ++i) {
+                writer.putInt(graph.getComponent(i));
+            }
+            
+            writer.putIdentities(nodeIds);
+            writer.putIdentities(edgeIds);
+            writer.flush();
+            
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                                          .order(ByteOrder.LITTLE_ENDIAN);
+            
+            header.putInt(MAGIC)
+                  .putInt(VERSION)
+                  .putInt(isDouble ? DOUBLE_WEIGHTS : 0)
+                  .putInt(nodeCount)
+                  .putInt(edgeCount)
+                  .putInt(incidenceCount)
+                  .putInt(graph.getComponentCount())
+                  .putInt((int) writer.checksum.getValue())
+                  .putLong(nodeIdSize)
+                  .putLong(edgeIdSize)
+                  .putLong(fileSize)
+                  .putLong(0L)
+                  .flip();
+            
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+    
+    /**
+     * Opens a snapshot written by
+     * {@link #write(HyperGraphSnapshot, Path, SnapshotCodec, SnapshotCodec, WeightFunction)}.
+     * The whole file is mapped and its checksum verified. The searches with
+     * {@code weights} need no weight conversion.
+     *
+     * @param <I>          the type of the node identity object.
+     * @param <J>          the type of the edge identity object.
+     * @param <W>          the type of the weights.
+     * @param file         the file to open.
+     * @param nodeIdCodec  the codec of the node identities.
+     * @param edgeIdCodec  the codec of the edge identities.
+     * @param weights      the weight function the file was written with.
+     * @return the snapshot.
+     * @throws IOException if an I/O error occurs, or if the file is not a
+     *                     valid snapshot file.
+     */
+    public static <I, J, W> HyperGraphSnapshot<I, J, W>
+        open(Path file,
+             SnapshotCodec<I> nodeIdCodec,
+             SnapshotCodec<J> edgeIdCodec,
+             WeightFunction<W> weights) throws IOException {
+        
+        Objects.requireNonNull(file, "The file is null");
+        Objects.requireNonNull(nodeIdCodec, "The node identity codec is null");
+        Objects.requireNonNull(edgeIdCodec, "The edge identity codec is null");
+        
+        boolean isDouble = checkWeights(weights);
+        MappedByteBuffer buffer;
+        
+        try (FileChannel channel = FileChannel.open(file,
+                                                    StandardOpenOption.READ)) {
+            long size = channel.size();
+            
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException(
+                        file + " is not a snapshot file: its size is " + size);
+            }
+            
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+        }
+        
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException(file + " is not a snapshot file");
+        }
+        
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException(
+                    "Unsupported snapshot file version " + buffer.getInt(4));
+        }
+        
+        int flags = buffer.getInt(8);
+        int nodeCount = buffer.getInt(12);
+        int edgeCount = buffer.getInt(16);
+        int incidenceCount = buffer.getInt(20);
+        int componentCount = buffer.getInt(24);
+        int checksum = buffer.getInt(28);
+        long nodeIdSize = buffer.getLong(32);
+        long edgeIdSize = buffer.getLong(40);
+        
+        if (nodeCount < 0
+                || edgeCount < 0
+                || incidenceCount < 0
+                || nodeIdSize < 0L
+                || edgeIdSize < 0L
+                || buffer.getLong(48) != buffer.capacity()
+                || getFileSize(nodeCount,
+                               edgeCount,
+                               incidenceCount,
+                               nodeIdSize,
+                               edgeIdSize) != buffer.capacity()) {
+            throw new IOException(file + " is truncated or corrupted");
+        }
+        
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(HEADER_SIZE,
+                                buffer.capacity() - HEADER_SIZE));
+        
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException(file + " fails its checksum");
+        }
+        
+        if (((flags & DOUBLE_WEIGHTS) != 0) != isDouble) {
+            throw new IllegalArgumentException(
+                    "The weights of " + file + " are stored as "
+                            + (isDouble ? "longs" : "doubles"));
+        }
+        
+        SectionReader reader = new SectionReader(buffer);
+        IntFunction<W> nodeWeights;
+        IntFunction<W> edgeWeights;
+        HyperGraphSnapshot.LongWeights longWeights = null;
+        HyperGraphSnapshot.DoubleWeights doubleWeights = null;
+        
+        if (isDouble) {
+            DoubleWeightFunction<W> doubleWeightFunction =
+                    (DoubleWeightFunction<W>) weights;
+            
+            doubleWeights = new HyperGraphSnapshot.DoubleWeights(
+                    doubleWeightFunction,
+                    reader.getDoubles(nodeCount),
+                    reader.getDoubles(edgeCount));
+            
+            double[] nodeWeightArray = doubleWeights.nodeWeights;
+            double[] edgeWeightArray = doubleWeights.edgeWeights;
+            
+            nodeWeights =
+                    i -> doubleWeightFunction.fromDouble(nodeWeightArray[i]);
+            edgeWeights =
+                    i -> doubleWeightFunction.fromDouble(edgeWeightArray[i]);
+        } else {
+            LongWeightFunction<W> longWeightFunction =
+                    (LongWeightFunction<W>) weights;
+            
+            longWeights = new HyperGraphSnapshot.LongWeights(
+                    longWeightFunction,
+                    reader.getLongs(nodeCount),
+                    reader.getLongs(edgeCount));
+            
+            long[] nodeWeightArray = longWeights.nodeWeights;
+            long[] edgeWeightArray = longWeights.edgeWeights;
+            
+            nodeWeights = i -> longWeightFunction.fromLong(nodeWeightArray[i]);
+            edgeWeights = i -> longWeightFunction.fromLong(edgeWeightArray[i]);
+        }
+        
+        int[] nodeEdgeOffsets = reader.getOffsets(nodeCount, incidenceCount);
+        int[] nodeEdges = reader.getInts(incidenceCount);
+        int[] edgeNodeOffsets = reader.getOffsets(edgeCount, incidenceCount);
+        int[] edgeNodes = reader.getInts(incidenceCount);
+        int[] components = reader.getInts(nodeCount);
+        
+        int nodeIdOffsets = reader.position;
+        int nodeIds = nodeIdOffsets + Integer.BYTES * (nodeCount + 1);
+        int edgeIdOffsets = nodeIds + (int) nodeIdSize;
+        int edgeIds = edgeIdOffsets + Integer.BYTES * (edgeCount + 1);
+        
+        if (buffer.getInt(nodeIds - Integer.BYTES) != nodeIdSize
+                || buffer.getInt(edgeIds - Integer.BYTES) != edgeIdSize) {
+            throw new IOException("The identity offsets are corrupted");
+        }
+        
+        MappedElements<I, J, W> elements =
+                new MappedElements<>(buffer,
+                                     nodeIdOffsets,
+                                     nodeIds,
+                                     nodeIdCodec,
+                                     nodeWeights,
+                                     edgeIdOffsets,
+                                     edgeIds,
+                                     edgeIdCodec,
+                                     edgeWeights);
+        
+        HyperGraphSnapshot<I, J, W> graph =
+                new HyperGraphSnapshot<>(nodeEdgeOffsets,
+                                         nodeEdges,
+                                         edgeNodeOffsets,
+                                         edgeNodes,
+                                         components,
+                                         componentCount,
+                                         elements);
+        
+        if (isDouble) {
+            graph.cacheWeights(doubleWeights);
+        } else {
+            graph.cacheWeights(longWeights);
+        }
+        
+        return graph;
+    }
+    
+    /**
+     * Returns {@code true} if {@code weights} is stored as doubles, and
+     * {@code false} if as longs.
+     */
+    private static boolean checkWeights(WeightFunction<?> weights) {
+        Objects.requireNonNull(weights, "The weight function is null");
+        
+        if (weights instanceof LongWeightFunction<?>) {
+            return false;
+        }
+        
+        if (weights instanceof DoubleWeightFunction<?>) {
+            return true;
+        }
+        
+        throw new IllegalArgumentException(
+                "The weight function is neither a LongWeightFunction nor a "
+                        + "DoubleWeightFunction");
+    }
+    
+    private static long getFileSize(long nodeCount,
+                                    long edgeCount,
+                                    long incidenceCount,
+                                    long nodeIdSize,
+                                    long edgeIdSize) {
+        return HEADER_SIZE
+             + Long.BYTES * (nodeCount + edgeCount)
+             + Integer.BYTES * (3 * nodeCount + 2 * edgeCount + 4
+                                + 2 * incidenceCount)
+             + nodeIdSize
+             + edgeIdSize;
+    }
+    
+    /**
+     * This class writes the sections of a snapshot file through a buffer,
+     * updating the checksum on the way.
+     */
+    private static final class SectionWriter {
+        
+        private final FileChannel channel;
+        private final ByteBuffer buffer =
+                ByteBuffer.allocateDirect(BUFFER_SIZE)
+                          .order(ByteOrder.LITTLE_ENDIAN);
+        
+        final CRC32C checksum = new CRC32C();
+        
+        SectionWriter(FileChannel channel) throws IOException {
+            this.channel = channel;
+            channel.position(HEADER_SIZE);
+        }
+        
+        void putInt(int value) throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush();
+            }
+            
+            buffer.putInt(value);
+        }
+        
+        void putInts(int[] values) throws IOException {
+            for (int value : values) {
+                putInt(value);
+            }
+        }
+        
+        void putLongs(long[] values) throws IOException {
+            for (long value : values) {
+                if (buffer.remaining() < Long.BYTES) {
+                    flush();
+                }
+                
+                buffer.putLong(value);
+            }
+        }
+        
+        void putDoubles(double[] values) throws IOException {
+            for (double value : values) {
+                if (buffer.remaining() < Double.BYTES) {
+                    flush();
+                }
+                
+                buffer.putDouble(value);
+            }
+        }
+        
+        /**
+         * Writes the offsets of the encoded identities followed by the
+         * identities themselves.
+         */
+        void putIdentities(byte[][] identities) throws IOException {
+            int offset = 0;
+            putInt(offset);
+            
+            for (byte[] identity : identities) {
+                offset += identity.length;
+                putInt(offset);
+            }
+            
+            for (byte[] identity : identities) {
+                int index = 0;
+                
+                while (index < identity.length) {
+                    if (!buffer.hasRemaining()) {
+                        flush();
+                    }
+                    
+                    int length = Math.min(buffer.remaining(),
+                                          identity.length - index);
+                    
+                    buffer.put(identity, index, length);
+                    index += length;
+                }
+            }
+        }
+        
+        void flush() throws IOException {
+            buffer.flip();
+            checksum.update(buffer.duplicate());
+            
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            
+            buffer.clear();
+        }
+    }
+    
+    /**
+     * This class copies the sections of a mapped snapshot file into arrays.
+     */
+    private static final class SectionReader {
+        
+        private final ByteBuffer buffer;
+        int position = HEADER_SIZE;
+        
+        SectionReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+        
+        int[] getInts(int count) {
+            int[] values = new int[count];
+            section(Integer.BYTES * count).asIntBuffer().get(values);
+            return values;
+        }
+        
+        long[] getLongs(int count) {
+            long[] values = new long[count];
+            section(Long.BYTES * count).asLongBuffer().get(values);
+            return values;
+        }
+        
+        double[] getDoubles(int count) {
+            double[] values = new double[count];
+            section(Double.BYTES * count).asDoubleBuffer().get(values);
+            return values;
+        }
+        
+        /**
+         * Reads {@code count + 1} offsets, the last of which must be
+         * {@code total}.
+         */
+        int[] getOffsets(int count, int total) throws IOException {
+            int[] offsets = getInts(count + 1);
+            
+            if (offsets[0] != 0 || offsets[count] != total) {
+                throw new IOException("The incidence offsets are corrupted");
+            }
+            
+            return offsets;
+        }
+        
+        private ByteBuffer section(int size) {
+            ByteBuffer section = buffer.slice(position, size)
+                                       .order(ByteOrder.LITTLE_ENDIAN);
+            position += size;
+            return section;
+        }
+    }
+    
+    /**
+     * This class creates the nodes and the hyperedges of an opened snapshot
+     * out of the identity sections of the mapping.
+     */
+    private static final class MappedElements<I, J, W>
+            implements HyperGraphSnapshot.ElementFactory<I, J, W> {
+        
+        private final ByteBuffer buffer;
+        private final int nodeIdOffsets;
+        private final int nodeIds;
+        private final int edgeIdOffsets;
+        private final int edgeIds;
+        private final SnapshotCodec<I> nodeIdCodec;
+        private final SnapshotCodec<J> edgeIdCodec;
+        private final IntFunction<W> nodeWeights;
+        private final IntFunction<W> edgeWeights;
+        
+        MappedElements(ByteBuffer buffer,
+                       int nodeIdOffsets,
+                       int nodeIds,
+                       SnapshotCodec<I> nodeIdCodec,
+                       IntFunction<W> nodeWeights,
+                       int edgeIdOffsets,
+                       int edgeIds,
+                       SnapshotCodec<J> edgeIdCodec,
+                       IntFunction<W> edgeWeights) {
+            
+            this.buffer = buffer;
+            this.nodeIdOffsets = nodeIdOffsets;
+            this.nodeIds = nodeIds;
+            this.edgeIdOffsets = edgeIdOffsets;
+            this.edgeIds = edgeIds;
+            this.nodeIdCodec = nodeIdCodec;
+            this.edgeIdCodec = edgeIdCodec;
+            this.nodeWeights = nodeWeights;
+            this.edgeWeights = edgeWeights;
+        }
+        
+        @Override
+        public HyperGraphNode<I, J, W> createNode(int nodeIndex) {
+            return new HyperGraphNode<>(
+                    nodeIdCodec.decode(identity(nodeIdOffsets,
+                                                nodeIds,
+                                                nodeIndex)),
+                    nodeWeights.apply(nodeIndex));
+        }
+        
+        @Override
+        public HyperGraphEdge<I, J, W> createEdge(int edgeIndex) {
+            return new HyperGraphEdge<>(
+                    edgeIdCodec.decode(identity(edgeIdOffsets,
+                                                edgeIds,
+                                                edgeIndex)),
+                    edgeWeights.apply(edgeIndex));
+        }
+        
+        private ByteBuffer identity(int offsets, int identities, int index) {
+            int from = buffer.getInt(offsets + Integer.BYTES * index);
+            int to = buffer.getInt(offsets + Integer.BYTES * (index + 1));
+            return buffer.slice(identities + from, to - from);
+        }
+    }
+}
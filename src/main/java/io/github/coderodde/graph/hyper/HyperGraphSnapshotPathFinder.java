@@ -0,0 +1,689 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class implements point-to-point Dijkstra's algorithms over a
+ * {@link HyperGraphSnapshot}. All the search state is kept in arrays indexed
+ * by the dense node indices of the snapshot.
+ * <p>
+ * The cost model is the same as in {@link HyperGraphPathFinder}: moving from
+ * a node to another node through a hyperedge costs the weight of the
+ * hyperedge plus the weight of the node being entered. Each hyperedge is 
+ * scanned at most once per search direction. A query between two nodes in
+ * distinct connected components of the snapshot returns the nonexistent path
+ * without searching.
+ * <p>
+ * The searches over a bounded {@link LongWeightFunction} use the monotone
+ * bucket queue chosen by {@link HyperGraphPathFinder#queueFactory}, unless 
+ * the caller chooses a queue.
+ * <p>
+ * The searches over the node indices take a {@link SearchContext}, which 
+ * holds the labels and the queues. Reusing a context for consecutive searches
+ * over the same snapshot makes them allocate nothing but the resulting path.
+ * The point-to-point searches report their {@link SearchStatistics} through
+ * the context.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class HyperGraphSnapshotPathFinder {
+    
+    private static final String FIND = "HyperGraphSnapshotPathFinder.find";
+    
+    private static final String BI_FIND = 
+            "HyperGraphSnapshotPathFinder.biFind";
+    
+    private HyperGraphSnapshotPathFinder() {
+        
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> find(HyperGraphSnapshot<I, J, W> graph,
+                                     HyperGraphNode<I, J, W> source,
+                                     HyperGraphNode<I, J, W> target,
+                                     WeightFunction<W> weights) {
+        
+        return find(graph,
+                    checkNode(graph, source),
+                    checkNode(graph, target),
+                    weights,
+                    new SearchContext());
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> biFind(HyperGraphSnapshot<I, J, W> graph,
+                                       HyperGraphNode<I, J, W> source,
+                                       HyperGraphNode<I, J, W> target,
+                                       WeightFunction<W> weights) {
+        
+        return biFind(graph,
+                      checkNode(graph, source),
+                      checkNode(graph, target),
+                      weights,
+                      new SearchContext());
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> find(HyperGraphSnapshot<I, J, W> graph,
+                                     HyperGraphNode<I, J, W> source,
+                                     HyperGraphNode<I, J, W> target,
+                                     LongWeightFunction<W> weights) {
+        
+        return find(graph,
+                    checkNode(graph, source),
+                    checkNode(graph, target),
+                    weights,
+                    new SearchContext());
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> biFind(HyperGraphSnapshot<I, J, W> graph,
+                                       HyperGraphNode<I, J, W> source,
+                                       HyperGraphNode<I, J, W> target,
+                                       LongWeightFunction<W> weights) {
+        
+        return biFind(graph,
+                      checkNode(graph, source),
+                      checkNode(graph, target),
+                      weights,
+                      new SearchContext());
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> find(HyperGraphSnapshot<I, J, W> graph,
+                                     HyperGraphNode<I, J, W> source,
+                                     HyperGraphNode<I, J, W> target,
+                                     DoubleWeightFunction<W> weights) {
+        
+        return find(graph,
+                    checkNode(graph, source),
+                    checkNode(graph, target),
+                    weights,
+                    new SearchContext());
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> biFind(HyperGraphSnapshot<I, J, W> graph,
+                                       HyperGraphNode<I, J, W> source,
+                                       HyperGraphNode<I, J, W> target,
+                                       DoubleWeightFunction<W> weights) {
+        
+        return biFind(graph,
+                      checkNode(graph, source),
+                      checkNode(graph, target),
+                      weights,
+                      new SearchContext());
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> find(HyperGraphSnapshot<I, J, W> graph,
+                                     int source,
+                                     int target,
+                                     WeightFunction<W> weights,
+                                     SearchContext context) {
+        
+        return find(graph, 
+                    source,
+                    target,
+                    context.objectLabels(SearchContext.FORWARD,
+                                         graph,
+                                         weights),
+                    weights,
+                    context);
+    }
+    
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> biFind(HyperGraphSnapshot<I, J, W> graph,
+                                       int source,
+                                       int target,
+                                       WeightFunction<W> weights,
+                                       SearchContext context) {
+        
+        return biFind(graph, 
+                      source,
+                      target,
+                      context.objectLabels(SearchContext.FORWARD,
+                                           graph,
+                                           weights),
+                      context.objectLabels(SearchContext.BACKWARD,
+                                           graph,
+                                           weights),
+                      weights,
+                      context);
+    }
+    
+    /**
+     * Runs the Dijkstra's algorithm on {@code long} weights. No weight 
+     * object is created before the shortest path is found.
+     */
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> find(HyperGraphSnapshot<I, J, W> graph,
+                                     int source,
+                                     int target,
+                                     LongWeightFunction<W> weights,
+                                     SearchContext context) {
+        
+        return find(graph, 
+                    source,
+                    target,
+                    context.longLabels(SearchContext.FORWARD,
+                                       graph,
+                                       weights),
+                    weights,
+                    context);
+    }
+    
+    /**
+     * Runs the bidirectional Dijkstra's algorithm on {@code long} weights.
+     * No weight object is created before the shortest path is found.
+     */
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> biFind(HyperGraphSnapshot<I, J, W> graph,
+                                       int source,
+                                       int target,
+                                       LongWeightFunction<W> weights,
+                                       SearchContext context) {
+        
+        return biFind(graph, 
+                      source,
+                      target,
+                      context.longLabels(SearchContext.FORWARD,
+                                         graph,
+                                         weights),
+                      context.longLabels(SearchContext.BACKWARD,
+                                         graph,
+                                         weights),
+                      weights,
+                      context);
+    }
+    
+    /**
+     * Runs the Dijkstra's algorithm on {@code double} weights. No weight 
+     * object is created before the shortest path is found.
+     */
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> find(HyperGraphSnapshot<I, J, W> graph,
+                                     int source,
+                                     int target,
+                                     DoubleWeightFunction<W> weights,
+                                     SearchContext context) {
+        
+        return find(graph, 
+                    source,
+                    target,
+                    context.doubleLabels(SearchContext.FORWARD,
+                                         graph,
+                                         weights),
+                    weights,
+                    context);
+    }
+    
+    /**
+     * Runs the bidirectional Dijkstra's algorithm on {@code double} weights.
+     * No weight object is created before the shortest path is found.
+     */
+    public static <I, J, W>
+        HyperGraphPath<I, J, W> biFind(HyperGraphSnapshot<I, J, W> graph,
+                                       int source,
+                                       int target,
+                                       DoubleWeightFunction<W> weights,
+                                       SearchContext context) {
+        
+        return biFind(graph, 
+                      source,
+                      target,
+                      context.doubleLabels(SearchContext.FORWARD,
+                                           graph,
+                                           weights),
+                      context.doubleLabels(SearchContext.BACKWARD,
+                                           graph,
+                                           weights),
+                      weights,
+                      context);
+    }
+    
+    private static <I, J, W>
+        HyperGraphPath<I, J, W> find(HyperGraphSnapshot<I, J, W> graph,
+                                     int source,
+                                     int target,
+                                     SearchLabels labels,
+                                     WeightFunction<W> weights,
+                                     SearchContext context) {
+        
+        long start = context.startSearch();
+        
+        if (!graph.areConnected(source, target)) {
+            return finish(context, 
+                          FIND, 
+                          start, 
+                          0L, 
+                          labels, 
+                          null, 
+                          0, 
+                          new HyperGraphPath<>(weights));
+        }
+        
+        IndexedPriorityQueue open = context.queue(SearchContext.FORWARD,
+                                                  weights,
+                                                  labels,
+                                                  graph.getNodeCount());
+        
+        labels.start(source, false);
+        open.insert(source);
+        int maximumQueueSize = 1;
+        
+        while (!open.isEmpty()) {
+            maximumQueueSize = Math.max(maximumQueueSize, open.size());
+            int current = open.extractMinimum();
+            
+            if (current == target) {
+                long tracebackStart = context.startTraceback(start);
+                
+                return finish(context,
+                              FIND,
+                              start,
+                              tracebackStart,
+                              labels,
+                              null,
+                              maximumQueueSize,
+                              tracebackPath(graph,
+                                            current,
+                                            labels.parents,
+                                            labels.parentEdges,
+                                            weights));
+            }
+            
+            labels.close(current);
+            
+            for (int i = graph.nodeEdgeOffsets[current],
+                     iEnd = graph.nodeEdgeOffsets[current + 1];
+                     i < iEnd; 
+                     ++i) {
+                
+                int edge = graph.nodeEdges[i];
+                
+                if (!labels.scanEdge(edge)) {
+                    continue;
+                }
+                
+                labels.loadEdge(current, edge);
+                
+                for (int j = graph.edgeNodeOffsets[edge],
+                         jEnd = graph.edgeNodeOffsets[edge + 1];
+                         j < jEnd; 
+                         ++j) {
+                    
+                    int child = graph.edgeNodes[j];
+                    
+                    if (!labels.isClosed(child) && 
+                            labels.relax(child, current, edge)) {
+                        update(open, child);
+                    }
+                }
+            }
+        }
+        
+        // Return empty path:
+        return finish(context, 
+                      FIND, 
+                      start, 
+                      0L, 
+                      labels, 
+                      null, 
+                      maximumQueueSize, 
+                      new HyperGraphPath<>(weights));
+    }
+    
+    /**
+     * Runs the bidirectional Dijkstra's algorithm. The forward search labels
+     * each node with the cost of a path from {@code source}, excluding the
+     * weight of the source node. The backward search labels each node with the
+     * cost of a path to {@code target}, including the weights of both the node
+     * itself and the target node. Hence, the two labels can be combined 
+     * through a hyperedge without counting any node weight twice.
+     */
+    private static <I, J, W>
+        HyperGraphPath<I, J, W> biFind(HyperGraphSnapshot<I, J, W> graph,
+                                       int source,
+                                       int target,
+                                       SearchLabels labelsa,
+                                       SearchLabels labelsb,
+                                       WeightFunction<W> weights,
+                                       SearchContext context) {
+        long start = context.startSearch();
+        
+        if (source == target) {
+            long tracebackStart = context.startTraceback(start);
+            
+            return finish(context,
+                          BI_FIND,
+                          start,
+                          tracebackStart,
+                          labelsa,
+                          labelsb,
+                          0,
+                          new HyperGraphPath<>(List.of(graph.getNode(source)),
+                                               List.of(),
+                                               weights));
+        }
+        
+        if (!graph.areConnected(source, target)) {
+            return finish(context, 
+                          BI_FIND, 
+                          start, 
+                          0L, 
+                          labelsa, 
+                          labelsb, 
+                          0, 
+                          new HyperGraphPath<>(weights));
+        }
+        
+        IndexedPriorityQueue opena = context.queue(SearchContext.FORWARD,
+                                                   weights,
+                                                   labelsa,
+                                                   graph.getNodeCount());
+        
+        IndexedPriorityQueue openb = context.queue(SearchContext.BACKWARD,
+                                                   weights,
+                                                   labelsb,
+                                                   graph.getNodeCount());
+        
+        labelsa.start(source, false);
+        labelsb.start(target, true);
+        opena.insert(source);
+        openb.insert(target);
+        int maximumQueueSize = 2;
+        
+        while (!opena.isEmpty() && !openb.isEmpty()) {
+            if (labelsa.isMeetingOptimal(opena.minimum(),
+                                         labelsb,
+                                         openb.minimum())) {
+                break;
+            }
+            
+            maximumQueueSize = Math.max(maximumQueueSize, 
+                                        opena.size() + openb.size());
+            
+            if (opena.size() + labelsa.closedCount <= 
+                openb.size() + labelsb.closedCount) {
+                
+                expand(graph, opena, labelsa, labelsb, labelsa, true, true);
+            } else {
+                expand(graph, openb, labelsb, labelsa, labelsa, false, true);
+            }
+        }
+        
+        if (!labelsa.hasMeeting) {
+            // Return empty path:
+            return finish(context, 
+                          BI_FIND, 
+                          start, 
+                          0L, 
+                          labelsa, 
+                          labelsb, 
+                          maximumQueueSize, 
+                          new HyperGraphPath<>(weights));
+        }
+        
+        long tracebackStart = context.startTraceback(start);
+        
+        return finish(context,
+                      BI_FIND,
+                      start,
+                      tracebackStart,
+                      labelsa,
+                      labelsb,
+                      maximumQueueSize,
+                      tracebackPath(graph,
+                                    labelsa.meetingNodea,
+                                    labelsa.meetingNodeb,
+                                    labelsa.meetingEdge,
+                                    labelsa.parents,
+                                    labelsa.parentEdges,
+                                    labelsb.parents,
+                                    labelsb.parentEdges,
+                                    weights));
+    }
+    
+    /**
+     * Reports the statistics of a search to {@code context}, and returns 
+     * {@code path}. The counts are summed over {@code labelsa} and 
+     * {@code labelsb}, if not {@code null}.
+     */
+    private static <I, J, W> 
+        HyperGraphPath<I, J, W> finish(SearchContext context,
+                                       String algorithm,
+                                       long start,
+                                       long tracebackStart,
+                                       SearchLabels labelsa,
+                                       SearchLabels labelsb,
+                                       int maximumQueueSize,
+                                       HyperGraphPath<I, J, W> path) {
+        
+        if (start == SearchContext.UNINSTRUMENTED) {
+            return path;
+        }
+        
+        int settledNodeCount = labelsa.closedCount;
+        long scannedEdgeCount = labelsa.scannedEdgeCount;
+        long scannedMemberCount = labelsa.scannedMemberCount;
+        
+        if (labelsb != null) {
+            settledNodeCount += labelsb.closedCount;
+            scannedEdgeCount += labelsb.scannedEdgeCount;
+            scannedMemberCount += labelsb.scannedMemberCount;
+        }
+        
+        context.finishSearch(algorithm,
+                             start,
+                             tracebackStart,
+                             settledNodeCount,
+                             scannedEdgeCount,
+                             scannedMemberCount,
+                             maximumQueueSize,
+                             !path.isNonExistent());
+        return path;
+    }
+    
+    /**
+     * Settles the top node of {@code open} in a bidirectional search and
+     * relaxes its incident hyperedges, offering each member labeled by the 
+     * opposite direction as a meeting to {@code forward}. If 
+     * {@code scanOnce} is set, the hyperedges already relaxed in this 
+     * direction are skipped, which is valid only if the nodes are settled in
+     * the order of their labels.
+     */
+    static void expand(HyperGraphSnapshot<?, ?, ?> graph,
+                       IndexedPriorityQueue open,
+                       SearchLabels labels,
+                       SearchLabels opposite,
+                       SearchLabels forward,
+                       boolean isForward,
+                       boolean scanOnce) {
+        
+        int current = open.extractMinimum();
+        labels.close(current);
+        
+        for (int i = graph.nodeEdgeOffsets[current],
+                 iEnd = graph.nodeEdgeOffsets[current + 1];
+                 i < iEnd; 
+                 ++i) {
+            
+            int edge = graph.nodeEdges[i];
+            
+            if (scanOnce && !labels.scanEdge(edge)) {
+                continue;
+            }
+            
+            labels.loadEdge(current, edge);
+            
+            for (int j = graph.edgeNodeOffsets[edge],
+                     jEnd = graph.edgeNodeOffsets[edge + 1];
+                     j < jEnd; 
+                     ++j) {
+                
+                int member = graph.edgeNodes[j];
+                
+                if (member == current) {
+                    continue;
+                }
+                
+                if (opposite.isLabeled(member)) {
+                    if (isForward) {
+                        forward.offerMeeting(labels, 
+                                             opposite, 
+                                             member, 
+                                             current, 
+                                             member, 
+                                             edge);
+                    } else {
+                        forward.offerMeeting(labels,
+                                             opposite,
+                                             member,
+                                             member,
+                                             current,
+                                             edge);
+                    }
+                }
+                
+                if (!labels.isClosed(member) && 
+                        labels.relax(member, current, edge)) {
+                    update(open, member);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Runs the Dijkstra's algorithm from {@code source} until the 
+     * {@code targetCount} nodes marked in {@code isTarget} are settled, or all
+     * the reachable nodes are. The labels include the weight of the source, so
+     * that the label of a settled node is the weight of its shortest path.
+     */
+    static void settleTargets(HyperGraphSnapshot<?, ?, ?> graph,
+                              int source,
+                              boolean[] isTarget,
+                              int targetCount,
+                              SearchLabels labels,
+                              IndexedPriorityQueue open) {
+        
+        labels.start(source, true);
+        open.insert(source);
+        
+        while (!open.isEmpty() && targetCount > 0) {
+            int current = open.extractMinimum();
+            labels.close(current);
+            
+            if (isTarget[current]) {
+                targetCount--;
+            }
+            
+            for (int i = graph.nodeEdgeOffsets[current],
+                     iEnd = graph.nodeEdgeOffsets[current + 1];
+                     i < iEnd; 
+                     ++i) {
+                
+                int edge = graph.nodeEdges[i];
+                
+                if (!labels.scanEdge(edge)) {
+                    continue;
+                }
+                
+                labels.loadEdge(current, edge);
+                
+                for (int j = graph.edgeNodeOffsets[edge],
+                         jEnd = graph.edgeNodeOffsets[edge + 1];
+                         j < jEnd; 
+                         ++j) {
+                    
+                    int child = graph.edgeNodes[j];
+                    
+                    if (!labels.isClosed(child) && 
+                            labels.relax(child, current, edge)) {
+                        update(open, child);
+                    }
+                }
+            }
+        }
+    }
+    
+    static void update(IndexedPriorityQueue open, int node) {
+        if (open.contains(node)) {
+            open.decreaseKey(node);
+        } else {
+            open.insert(node);
+        }
+    }
+    
+    static <I, J, W> int checkNode(HyperGraphSnapshot<I, J, W> graph,
+                                           HyperGraphNode<I, J, W> node) {
+        int index = graph.getNodeIndex(node);
+        
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                    "Node " + node + " is not in the snapshot");
+        }
+        
+        return index;
+    }
+    
+    static <I, J, W>
+        HyperGraphPath<I, J, W> tracebackPath(HyperGraphSnapshot<I, J, W> graph,
+                                              int target,
+                                              int[] parents,
+                                              int[] parentEdges,
+                                              WeightFunction<W> weights) {
+        
+        List<HyperGraphNode<I, J, W>> pathNodes = new ArrayList<>();
+        List<HyperGraphEdge<I, J, W>> pathEdges = new ArrayList<>();
+        
+        traceback(graph, target, parents, parentEdges, pathNodes, pathEdges);
+        Collections.reverse(pathNodes);
+        Collections.reverse(pathEdges);
+        return new HyperGraphPath<>(pathNodes, pathEdges, weights, false);
+    }
+    
+    static <I, J, W>
+        HyperGraphPath<I, J, W> tracebackPath(HyperGraphSnapshot<I, J, W> graph,
+                                              int toucha,
+                                              int touchb,
+                                              int touchEdge,
+                                              int[] parentsa,
+                                              int[] parentEdgesa,
+                                              int[] parentsb,
+                                              int[] parentEdgesb,
+                                              WeightFunction<W> weights) {
+        
+        List<HyperGraphNode<I, J, W>> pathNodes = new ArrayList<>();
+        List<HyperGraphEdge<I, J, W>> pathEdges = new ArrayList<>();
+        
+        traceback(graph, toucha, parentsa, parentEdgesa, pathNodes, pathEdges);
+        Collections.reverse(pathNodes);
+        Collections.reverse(pathEdges);
+        pathEdges.add(graph.getEdge(touchEdge));
+        traceback(graph, touchb, parentsb, parentEdgesb, pathNodes, pathEdges);
+        return new HyperGraphPath<>(pathNodes, pathEdges, weights, false);
+    }
+    
+    private static <I, J, W>
+        void traceback(HyperGraphSnapshot<I, J, W> graph,
+                       int node,
+                       int[] parents,
+                       int[] parentEdges,
+                       List<HyperGraphNode<I, J, W>> pathNodes,
+                       List<HyperGraphEdge<I, J, W>> pathEdges) {
+        
+        pathNodes.add(graph.getNode(node));
+        
+        while (parentEdges[node] != -1) {
+            pathEdges.add(graph.getEdge(parentEdges[node]));
+            node = parents[node];
+            pathNodes.add(graph.getNode(node));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.Arrays;
+
+/**
+ * This class maps the keys it is offered to dense indices in the order of 
+ * their first offer. It is an open-addressing hash table whose slots are 
+ * stamped with the epoch they were written in, so that {@link #clear()} runs in
+ * constant time and a cleared map is reused without allocating.
+ * 
+ * @param <K> the type of the keys.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+final class IndexMap<K> {
+    
+    private static final int MINIMUM_CAPACITY = 16;
+    
+    /**
+     * The hash table. {@code slotKeys[s]} and {@code slotIndices[s]} are valid
+     * if and only if {@code slotStamps[s] == epoch}.
+     */
+    private Object[] slotKeys;
+    private int[] slotIndices;
+    private int[] slotStamps;
+    private int epoch = 1;
+    
+    /**
+     * {@code keys[i]} is the key with index {@code i}.
+     */
+    private Object[] keys;
+    private int size;
+    
+    IndexMap() {
+        this.slotKeys = new Object[2 * MINIMUM_CAPACITY];
+        this.slotIndices = new int[2 * MINIMUM_CAPACITY];
+        this.slotStamps = new int[2 * MINIMUM_CAPACITY];
+        this.keys = new Object[MINIMUM_CAPACITY];
+    }
+    
+    /**
+     * Returns the index of {@code key}, assigning the next index to it if it
+     * has none.
+     */
+    int indexOf(K key) {
+        int mask = slotKeys.length - 1;
+        int slot = hash(key) & mask;
+        
+        while (slotStamps[slot] == epoch) {
+            if (slotKeys[slot].equals(key)) {
+                return slotIndices[slot];
+            }
+            
+            slot = (slot + 1) & mask;
+        }
+        
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, 2 * size);
+        }
+        
+        keys[size] = key;
+        slotKeys[slot] = key;
+        slotIndices[slot] = size;
+        slotStamps[slot] = epoch;
+        
+        if (2 * ++size > slotKeys.length) {
+            rehash(2 * slotKeys.length);
+        }
+        
+        return size - 1;
+    }
+    
+    /**
+     * Returns the index of {@code key}, or -1 if it has none.
+     */
+    int get(K key) {
+        int mask = slotKeys.length - 1;
+        int slot = hash(key) & mask;
+        
+        while (slotStamps[slot] == epoch) {
+            if (slotKeys[slot].equals(key)) {
+                return slotIndices[slot];
+            }
+            
+            slot = (slot + 1) & mask;
+        }
+        
+        return -1;
+    }
+    
+    @SuppressWarnings("unchecked")
+    K key(int index) {
+        return (K) keys[index];
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    /**
+     * Removes all the keys. The references to the removed keys are kept until 
+     * overwritten.
+     */
+    void clear() {
+        size = 0;
+        
+        if (++epoch == 0) {
+            Arrays.fill(slotStamps, 0);
+            epoch = 1;
+        }
+    }
+    
+    private void rehash(int capacity) {
+        slotKeys = new Object[capacity];
+        slotIndices = new int[capacity];
+        slotStamps = new int[capacity];
+        epoch = 1;
+        
+        int mask = capacity - 1;
+        
+        for (int i = 0; i < size; ++i) {
+            int slot = hash(keys[i]) & mask;
+            
+            while (slotStamps[slot] == epoch) {
+                slot = (slot + 1) & mask;
+            }
+            
+            slotKeys[slot] = keys[i];
+            slotIndices[slot] = i;
+            slotStamps[slot] = epoch;
+        }
+    }
+    
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,561 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.ElementComparator;
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * This class implements the Yen's algorithm for the k shortest loopless paths
+ * between two nodes of a hypergraph. A path is loopless if no node appears on
+ * it twice. A hyperedge may appear on it more than once, each time joining
+ * another pair of its members, as the hypergraph induces a multigraph with an
+ * arc between each two members of each hyperedge, over which the paths are
+ * counted. The paths are returned in non-decreasing
+ * order of their weights, either as a list of at most {@code k} paths, or
+ * lazily through an {@link Iterator}, so that a caller needing only a few
+ * alternatives stops early and pays for no more.
+ * <p>
+ * Each path found is the root of the candidate paths deviating from it. The
+ * candidate deviating at the node {@code i} shares the first {@code i}
+ * hyperedges with its root path, and continues by the cheapest spur path
+ * avoiding the nodes before the node {@code i}, and the arcs leaving it on
+ * any path found with the same prefix. With the
+ * Lawler's modification, a path spurs only at or after the node it deviated
+ * at from its own root, since the earlier spurs were tried already. The paths
+ * found are kept in a prefix tree, so that the arcs leaving a prefix are found
+ * in time linear in the prefix.
+ * <p>
+ * The spur searches share the {@link ShortestPathTree} of the target, built
+ * once per query:
+ * <ul>
+ *   <li>if the tree path from the spur node to the target avoids all the
+ *       banned nodes and arcs, it is the spur path, and no search runs,</li>
+ *   <li>otherwise, an A* search runs with the tree distances as the
+ *       heuristic. They are the exact distances without the bans, so that the
+ *       search settles few nodes beyond the cheapest detour,</li>
+ *   <li>the nodes outside the tree cannot reach the target, and are never
+ *       labeled.</li>
+ * </ul>
+ * The labels of the spur searches are indexed by the tree and stamped with
+ * the epoch of the search, so that all the spur searches of a query reuse the
+ * same arrays. The labels are owned by the iterator, not by a
+ * {@link SearchContext}, since the iterators advance independently of each
+ * other; the context only builds the tree.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.2 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class KShortestPathFinder {
+    
+    private KShortestPathFinder() {
+        
+    }
+    
+    public static <I, J, W>
+        List<HyperGraphPath<I, J, W>> find(HyperGraphNode<I, J, W> source,
+                                           HyperGraphNode<I, J, W> target,
+                                           WeightFunction<W> weights,
+                                           int k) {
+        
+        return find(source, target, weights, k, new SearchContext());
+    }
+    
+    /**
+     * Returns the {@code k} shortest loopless paths from {@code source} to
+     * {@code target}, or all of them if there are fewer.
+     *
+     * @param source  the source node.
+     * @param target  the target node.
+     * @param weights the weight function.
+     * @param k       the maximum number of paths.
+     * @param context the search context.
+     * @return the paths in non-decreasing order of their weights.
+     */
+    public static <I, J, W>
+        List<HyperGraphPath<I, J, W>> find(HyperGraphNode<I, J, W> source,
+                                           HyperGraphNode<I, J, W> target,
+                                           WeightFunction<W> weights,
+                                           int k,
+                                           SearchContext context) {
+        
+        if (k < 0) {
+            throw new IllegalArgumentException(
+                    "The number of paths is negative: " + k);
+        }
+        
+        List<HyperGraphPath<I, J, W>> paths = new ArrayList<>();
+        
+        if (k == 0) {
+            return paths;
+        }
+        
+        Iterator<HyperGraphPath<I, J, W>> iterator =
+                iterator(source, target, weights, context);
+        
+        while (paths.size() < k && iterator.hasNext()) {
+            paths.add(iterator.next());
+        }
+        
+        return paths;
+    }
+    
+    public static <I, J, W>
+        Iterator<HyperGraphPath<I, J, W>>
+        iterator(HyperGraphNode<I, J, W> source,
+                 HyperGraphNode<I, J, W> target,
+                 WeightFunction<W> weights) {
+        
+        return iterator(source, target, weights, new SearchContext());
+    }
+    
+    /**
+     * Returns an iterator over the loopless paths from {@code source} to
+     * {@code target} in non-decreasing order of their weights. The
+     * shortest-path tree of the target is built before this method returns,
+     * after which {@code context} is not used by the iterator. Each call to
+     * {@link Iterator#hasNext()} finding a new path runs the spur searches of
+     * the previous path only.
+     *
+     * @param source  the source node.
+     * @param target  the target node.
+     * @param weights the weight function.
+     * @param context the search context.
+     * @return the iterator over the paths.
+     */
+    public static <I, J, W>
+        Iterator<HyperGraphPath<I, J, W>>
+        iterator(HyperGraphNode<I, J, W> source,
+                 HyperGraphNode<I, J, W> target,
+                 WeightFunction<W> weights,
+                 SearchContext context) {
+        
+        if (!ComponentIndex.mayBeConnected(source, target)) {
+            return Collections.emptyIterator();
+        }
+        
+        ShortestPathTree<I, J, W> tree = 
+                HyperGraphPathFinder.findTree(target,
+                                              weights,
+                                              weights.max(),
+                                              context);
+        
+        // The index may not rule out every unreachable pair:
+        if (!tree.contains(source)) {
+            return Collections.emptyIterator();
+        }
+        
+        return new PathIterator<>(source, tree, weights);
+    }
+    
+    /**
+     * This class holds a path found, together with the node it deviates at
+     * from the path it was spurred from.
+     */
+    private static final class Candidate<I, J, W> {
+        
+        final HyperGraphPath<I, J, W> path;
+        final int deviation;
+        final long sequence;
+        
+        Candidate(HyperGraphPath<I, J, W> path, int deviation, long sequence) {
+            this.path = path;
+            this.deviation = deviation;
+            this.sequence = sequence;
+        }
+    }
+    
+    /**
+     * This class implements a node of the prefix tree of the paths found. A
+     * node stands for the prefix ending in {@code node}, entered through
+     * {@code edge}, and its children for the hyperedges and the nodes
+     * following that prefix on the paths found.
+     */
+    private static final class Prefix {
+        
+        final HyperGraphEdge<?, ?, ?> edge;
+        final HyperGraphNode<?, ?, ?> node;
+        final List<Prefix> children = new ArrayList<>(2);
+        
+        Prefix(HyperGraphEdge<?, ?, ?> edge, HyperGraphNode<?, ?, ?> node) {
+            this.edge = edge;
+            this.node = node;
+        }
+        
+        Prefix child(HyperGraphEdge<?, ?, ?> edge,
+                     HyperGraphNode<?, ?, ?> node) {
+            
+            for (Prefix child : children) {
+                if (child.edge.equals(edge) && child.node.equals(node)) {
+                    return child;
+                }
+            }
+            
+            Prefix child = new Prefix(edge, node);
+            children.add(child);
+            return child;
+        }
+        
+        boolean hasChild(HyperGraphEdge<?, ?, ?> edge,
+                         HyperGraphNode<?, ?, ?> node) {
+            
+            for (Prefix child : children) {
+                if (child.edge.equals(edge) && child.node.equals(node)) {
+                    return true;
+                }
+            }
+            
+            return false;
+        }
+    }
+    
+    private static final class PathIterator<I, J, W>
+            implements Iterator<HyperGraphPath<I, J, W>> {
+        
+        private final HyperGraphNode<I, J, W> source;
+        private final WeightFunction<W> weights;
+        private final SpurSearch<I, J, W> spurSearch;
+        private final Prefix prefixes;
+        private final PriorityQueue<Candidate<I, J, W>> candidates;
+        private final Set<List<?>> candidateKeys = new HashSet<>();
+        private Candidate<I, J, W> last;
+        private HyperGraphPath<I, J, W> next;
+        private long sequence;
+        private boolean exhausted;
+        
+        PathIterator(HyperGraphNode<I, J, W> source,
+                     ShortestPathTree<I, J, W> tree,
+                     WeightFunction<W> weights) {
+            
+            this.source = source;
+            this.weights = weights;
+            this.spurSearch = new SpurSearch<>(tree, weights);
+            this.prefixes = new Prefix(null, source);
+            this.candidates = new PriorityQueue<>((c1, c2) -> {
+                int cmp = weights.compare(c1.path.getWeight(),
+                                          c2.path.getWeight());
+                
+                return cmp != 0 ? cmp : Long.compare(c1.sequence,
+                                                     c2.sequence);
+            });
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (next == null && !exhausted) {
+                next = advance();
+                exhausted = next == null;
+            }
+            
+            return next != null;
+        }
+        
+        @Override
+        public HyperGraphPath<I, J, W> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more paths");
+            }
+            
+            HyperGraphPath<I, J, W> path = next;
+            next = null;
+            return path;
+        }
+        
+        private HyperGraphPath<I, J, W> advance() {
+            if (last == null) {
+                List<HyperGraphNode<I, J, W>> pathNodes = new ArrayList<>();
+                List<HyperGraphEdge<I, J, W>> pathEdges = new ArrayList<>();
+                
+                spurSearch.treePath(source, pathNodes, pathEdges);
+                offer(pathNodes, pathEdges, 0);
+            } else {
+                spur(last);
+            }
+            
+            last = candidates.poll();
+            
+            if (last == null) {
+                return null;
+            }
+            
+            List<HyperGraphNode<I, J, W>> pathNodes =
+                    last.path.getPathHyperNodes();
+            List<HyperGraphEdge<I, J, W>> pathEdges =
+                    last.path.getPathHyperEdges();
+            
+            Prefix prefix = prefixes;
+            
+            for (int i = 0; i < pathEdges.size(); ++i) {
+                prefix = prefix.child(pathEdges.get(i), pathNodes.get(i + 1));
+            }
+            
+            return last.path;
+        }
+        
+        /**
+         * Offers the candidates deviating from {@code root} at or after the
+         * node it deviated at itself.
+         */
+        private void spur(Candidate<I, J, W> root) {
+            List<HyperGraphNode<I, J, W>> rootNodes =
+                    root.path.getPathHyperNodes();
+            List<HyperGraphEdge<I, J, W>> rootEdges =
+                    root.path.getPathHyperEdges();
+            
+            Prefix prefix = prefixes;
+            
+            for (int i = 0; i < root.deviation; ++i) {
+                prefix = prefix.child(rootEdges.get(i), rootNodes.get(i + 1));
+            }
+            
+            for (int i = root.deviation; i < rootEdges.size(); ++i) {
+                List<HyperGraphNode<I, J, W>> pathNodes =
+                        new ArrayList<>(rootNodes.subList(0, i));
+                List<HyperGraphEdge<I, J, W>> pathEdges =
+                        new ArrayList<>(rootEdges.subList(0, i));
+                
+                if (spurSearch.search(rootNodes,
+                                      i,
+                                      prefix,
+                                      pathNodes,
+                                      pathEdges)) {
+                    
+                    offer(pathNodes, pathEdges, i);
+                }
+                
+                prefix = prefix.child(rootEdges.get(i), rootNodes.get(i + 1));
+            }
+        }
+        
+        private void offer(List<HyperGraphNode<I, J, W>> pathNodes,
+                           List<HyperGraphEdge<I, J, W>> pathEdges,
+                           int deviation) {
+            
+            // Two roots may spur the same candidate:
+            if (candidateKeys.add(List.of(pathNodes, pathEdges))) {
+                candidates.add(
+                        new Candidate<>(new HyperGraphPath<>(pathNodes,
+                                                             pathEdges,
+                                                             weights,
+                                                             false),
+                                        deviation,
+                                        sequence++));
+            }
+        }
+    }
+    
+    /**
+     * This class implements the A* spur searches over the nodes of the
+     * shortest-path tree of the target, indexed as in the tree. The label of
+     * a node is the cost of the spur path to it, excluding the weight of the
+     * node itself, so that the label plus the tree distance of the node is
+     * the key of the node.
+     */
+    private static final class SpurSearch<I, J, W>
+            implements ElementComparator {
+        
+        private static final int TARGET = 0;
+        
+        private final ShortestPathTree<I, J, W> tree;
+        private final WeightFunction<W> weights;
+        private final IndexedPriorityQueue open;
+        private final Object[] costs;
+        private final Object[] keys;
+        private final int[] parents;
+        private final HyperGraphEdge<?, ?, ?>[] parentEdges;
+        private final int[] labeledStamps;
+        private final int[] closedStamps;
+        private final int[] bannedStamps;
+        private int epoch;
+        
+        SpurSearch(ShortestPathTree<I, J, W> tree, WeightFunction<W> weights) {
+            int size = tree.size();
+            this.tree = tree;
+            this.weights = weights;
+            this.costs = new Object[size];
+            this.keys = new Object[size];
+            this.parents = new int[size];
+            this.parentEdges = new HyperGraphEdge<?, ?, ?>[size];
+            this.labeledStamps = new int[size];
+            this.closedStamps = new int[size];
+            this.bannedStamps = new int[size];
+            this.open = HyperGraphPathFinder.DEFAULT_QUEUE_FACTORY.create(
+                    size,
+                    this);
+        }
+        
+        /**
+         * Appends the tree path from {@code node} to the target.
+         */
+        void treePath(HyperGraphNode<I, J, W> node,
+                      List<HyperGraphNode<I, J, W>> pathNodes,
+                      List<HyperGraphEdge<I, J, W>> pathEdges) {
+            
+            int index = tree.indexOf(node);
+            pathNodes.add(node);
+            
+            while (index != TARGET) {
+                pathEdges.add(tree.getParentEdge(index));
+                index = tree.getParent(index);
+                pathNodes.add(tree.getNode(index));
+            }
+        }
+        
+        /**
+         * Finds the cheapest spur path from the node {@code spur} of the
+         * root path to the target, and appends it to {@code pathNodes} and
+         * {@code pathEdges}. The spur path avoids the nodes of the root path
+         * before the spur node, and the arcs following {@code prefix}.
+         *
+         * @return {@code true} if the spur path exists.
+         */
+        boolean search(List<HyperGraphNode<I, J, W>> rootNodes,
+                       int spur,
+                       Prefix prefix,
+                       List<HyperGraphNode<I, J, W>> pathNodes,
+                       List<HyperGraphEdge<I, J, W>> pathEdges) {
+            
+            if (++epoch == 0) {
+                Arrays.fill(labeledStamps, 0);
+                Arrays.fill(closedStamps, 0);
+                Arrays.fill(bannedStamps, 0);
+                epoch = 1;
+            }
+            
+            for (int i = 0; i < spur; ++i) {
+                bannedStamps[tree.indexOf(rootNodes.get(i))] = epoch;
+            }
+            
+            int spurIndex = tree.indexOf(rootNodes.get(spur));
+            
+            if (isTreePathFree(spurIndex, prefix)) {
+                treePath(rootNodes.get(spur), pathNodes, pathEdges);
+                return true;
+            }
+            
+            open.clear();
+            setLabel(spurIndex, weights.zero(), -1, null);
+            open.insert(spurIndex);
+            
+            while (!open.isEmpty()) {
+                int current = open.extractMinimum();
+                
+                if (current == TARGET) {
+                    traceback(spurIndex, pathNodes, pathEdges);
+                    return true;
+                }
+                
+                closedStamps[current] = epoch;
+                expand(current, current == spurIndex ? prefix : null);
+            }
+            
+            return false;
+        }
+        
+        private void expand(int current, Prefix prefix) {
+            HyperGraphNode<I, J, W> node = tree.getNode(current);
+            W base = weights.apply(getCost(current), node.getWeight());
+            
+            for (HyperGraphEdge<I, J, W> edge : node.getIncidentHyperEdges()) {
+                W tentative = weights.apply(base, edge.getWeight());
+                
+                for (HyperGraphNode<I, J, W> child
+                        : edge.getIncidentHyperNodes()) {
+                    
+                    int childIndex = tree.indexOf(child);
+                    
+                    if (childIndex < 0
+                            || closedStamps[childIndex] == epoch
+                            || bannedStamps[childIndex] == epoch
+                            || (prefix != null
+                                    && prefix.hasChild(edge, child))) {
+                        continue;
+                    }
+                    
+                    if (labeledStamps[childIndex] != epoch) {
+                        setLabel(childIndex, tentative, current, edge);
+                        open.insert(childIndex);
+                    } else if (weights.compare(getCost(childIndex),
+                                               tentative) > 0) {
+                        setLabel(childIndex, tentative, current, edge);
+                        open.decreaseKey(childIndex);
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Returns {@code true} if the tree path from the node with index
+         * {@code index} to the target avoids the bans of the current search.
+         */
+        private boolean isTreePathFree(int index, Prefix prefix) {
+            if (index != TARGET
+                    && prefix.hasChild(tree.getParentEdge(index),
+                                       tree.getNode(tree.getParent(index)))) {
+                return false;
+            }
+            
+            while (index != TARGET) {
+                index = tree.getParent(index);
+                
+                if (bannedStamps[index] == epoch) {
+                    return false;
+                }
+            }
+            
+            return true;
+        }
+        
+        @SuppressWarnings("unchecked")
+        private void traceback(int spurIndex,
+                               List<HyperGraphNode<I, J, W>> pathNodes,
+                               List<HyperGraphEdge<I, J, W>> pathEdges) {
+            
+            List<HyperGraphNode<I, J, W>> spurNodes = new ArrayList<>();
+            List<HyperGraphEdge<I, J, W>> spurEdges = new ArrayList<>();
+            int index = TARGET;
+            spurNodes.add(tree.getNode(index));
+            
+            while (index != spurIndex) {
+                spurEdges.add((HyperGraphEdge<I, J, W>) parentEdges[index]);
+                index = parents[index];
+                spurNodes.add(tree.getNode(index));
+            }
+            
+            Collections.reverse(spurNodes);
+            Collections.reverse(spurEdges);
+            pathNodes.addAll(spurNodes);
+            pathEdges.addAll(spurEdges);
+        }
+        
+        @SuppressWarnings("unchecked")
+        private W getCost(int index) {
+            return (W) costs[index];
+        }
+        
+        private void setLabel(int index,
+                              W cost,
+                              int parent,
+                              HyperGraphEdge<?, ?, ?> parentEdge) {
+            costs[index] = cost;
+            keys[index] = weights.apply(cost, tree.getDistance(index));
+            parents[index] = parent;
+            parentEdges[index] = parentEdge;
+            labeledStamps[index] = epoch;
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        public int compare(int index1, int index2) {
+            return weights.compare((W) keys[index1], (W) keys[index2]);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueue;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * This class implements the landmark heuristic of the ALT algorithm. A small
+ * set of landmark nodes is chosen, and the weights of the shortest paths 
+ * between each landmark and every node are precomputed. By the triangle 
+ * inequality, the distances to a landmark {@code L} bound the cost of the 
+ * cheapest path from {@code u} to {@code g} from below by both
+ * {@code D(L, g) - D(L, u)} and {@code D(L, u) - D(L, g) + w(g) - w(u)}, 
+ * where {@code D} is the weight of a shortest path, counting both of its end
+ * nodes. The resulting heuristic is consistent.
+ * <p>
+ * Since {@code D} counts both end nodes, a path and its reversal have the
+ * same {@code D}, and a single distance array per landmark serves the
+ * distances both from and to the landmark. The estimates, in contrast, follow
+ * the convention of {@link Heuristic}: the estimate from {@code u} to
+ * {@code g} leaves out {@code w(u)}, and the estimate from {@code g} to
+ * {@code u} leaves out {@code w(g)} instead.
+ * <p>
+ * The landmarks are chosen greedily: each next landmark is the node farthest
+ * from all the landmarks chosen so far, starting from the node farthest from
+ * the node with index 0. A node unreachable from all the chosen landmarks is
+ * the farthest, so that each connected component gets a landmark before any
+ * component gets two.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.2 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class Landmarks implements Heuristic {
+    
+    private final int[] landmarks;
+    
+    /**
+     * {@code distances[i][u]} is the weight of a shortest path between the
+     * {@code i}th landmark and {@code u}, or positive infinity if there is no
+     * such path.
+     */
+    private final double[][] distances;
+    private final double[] nodeWeights;
+    
+    private Landmarks(int[] landmarks, 
+                      double[][] distances, 
+                      double[] nodeWeights) {
+        this.landmarks = landmarks;
+        this.distances = distances;
+        this.nodeWeights = nodeWeights;
+    }
+    
+    /**
+     * Chooses {@code landmarkCount} landmarks in {@code graph} and computes 
+     * their distances.
+     * 
+     * @param <W>           the type of the weights.
+     * @param graph         the snapshot.
+     * @param weights       the weight function.
+     * @param landmarkCount the maximum number of the landmarks.
+     * @return the landmark heuristic.
+     */
+    public static <W> Landmarks of(HyperGraphSnapshot<?, ?, W> graph,
+                                   LongWeightFunction<W> weights,
+                                   int landmarkCount) {
+        
+        return of(graph, 
+                  weights, 
+                  landmarkCount,
+                  context -> context.longLabels(SearchContext.FORWARD, 
+                                                graph, 
+                                                weights));
+    }
+    
+    /**
+     * Chooses {@code landmarkCount} landmarks in {@code graph} and computes 
+     * their distances.
+     * 
+     * @param <W>           the type of the weights.
+     * @param graph         the snapshot.
+     * @param weights       the weight function.
+     * @param landmarkCount the maximum number of the landmarks.
+     * @return the landmark heuristic.
+     */
+    public static <W> Landmarks of(HyperGraphSnapshot<?, ?, W> graph,
+                                   DoubleWeightFunction<W> weights,
+                                   int landmarkCount) {
+        
+        return of(graph, 
+                  weights, 
+                  landmarkCount,
+                  context -> context.doubleLabels(SearchContext.FORWARD, 
+                                                  graph, 
+                                                  weights));
+    }
+    
+    public int getLandmarkCount() {
+        return landmarks.length;
+    }
+    
+    /**
+     * Returns the snapshot index of the {@code index}th landmark.
+     */
+    public int getLandmark(int index) {
+        return landmarks[index];
+    }
+    
+    @Override
+    public double estimate(int node, int goal) {
+        double estimate = 0.0;
+        
+        for (double[] d : distances) {
+            double toNode = d[node];
+            double toGoal = d[goal];
+            
+            if (toNode == Double.POSITIVE_INFINITY 
+                    || toGoal == Double.POSITIVE_INFINITY) {
+                continue;
+            }
+            
+            estimate = Math.max(estimate, toGoal - toNode);
+            estimate = Math.max(estimate, 
+                                toNode - toGoal 
+                                       + nodeWeights[goal] 
+                                       - nodeWeights[node]);
+        }
+        
+        return estimate;
+    }
+    
+    private static Landmarks
+        of(HyperGraphSnapshot<?, ?, ?> graph,
+           WeightFunction<?> weights,
+           int landmarkCount,
+           Function<SearchContext, SearchLabels.PrimitiveLabels> labels) {
+        
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException(
+                    "Landmark count " + landmarkCount + " is less than 1");
+        }
+        
+        int nodeCount = graph.getNodeCount();
+        landmarkCount = Math.min(landmarkCount, nodeCount);
+        
+        int[] landmarks = new int[landmarkCount];
+        double[][] distances = new double[landmarkCount][];
+        double[] nodeWeights = new double[nodeCount];
+        
+        if (landmarkCount == 0) {
+            return new Landmarks(landmarks, distances, nodeWeights);
+        }
+        
+        SearchContext context = new SearchContext();
+        
+        // The distance from each node to the nearest landmark so far:
+        double[] nearest = 
+                computeDistances(graph, 0, weights, labels.apply(context), 
+                                 context);
+        
+        for (int i = 0; i < landmarkCount; ++i) {
+            int landmark = getFarthestNode(nearest);
+            SearchLabels.PrimitiveLabels landmarkLabels = 
+                    labels.apply(context);
+            
+            landmarks[i] = landmark;
+            distances[i] = computeDistances(graph, 
+                                            landmark, 
+                                            weights, 
+                                            landmarkLabels, 
+                                            context);
+            
+            if (i == 0) {
+                Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+                
+                for (int node = 0; node < nodeCount; ++node) {
+                    nodeWeights[node] = 
+                            landmarkLabels.getNodeWeightAsDouble(node);
+                }
+            }
+            
+            for (int node = 0; node < nodeCount; ++node) {
+                nearest[node] = Math.min(nearest[node], distances[i][node]);
+            }
+            
+            nearest[landmark] = Double.NEGATIVE_INFINITY;
+        }
+        
+        return new Landmarks(landmarks, distances, nodeWeights);
+    }
+    
+    private static double[]
+        computeDistances(HyperGraphSnapshot<?, ?, ?> graph,
+                         int source,
+                         WeightFunction<?> weights,
+                         SearchLabels.PrimitiveLabels labels,
+                         SearchContext context) {
+        
+        int nodeCount = graph.getNodeCount();
+        IndexedPriorityQueue open = context.queue(SearchContext.FORWARD,
+                                                  weights,
+                                                  labels,
+                                                  nodeCount);
+        
+        // No targets; settle all the reachable nodes:
+        HyperGraphSnapshotPathFinder.settleTargets(graph, 
+                                                   source, 
+                                                   new boolean[nodeCount], 
+                                                   Integer.MAX_VALUE, 
+                                                   labels, 
+                                                   open);
+        
+        double[] distances = new double[nodeCount];
+        
+        for (int node = 0; node < nodeCount; ++node) {
+            distances[node] = labels.isClosed(node) ? 
+                              labels.getLabelAsDouble(node) : 
+                              Double.POSITIVE_INFINITY;
+        }
+        
+        return distances;
+    }
+    
+    /**
+     * Returns the node with the largest distance in {@code distances}. The 
+     * landmarks chosen so far have the distance of negative infinity.
+     */
+    private static int getFarthestNode(double[] distances) {
+        int farthest = 0;
+        
+        for (int node = 1; node < distances.length; ++node) {
+            if (distances[node] > distances[farthest]) {
+                farthest = node;
+            }
+        }
+        
+        return farthest;
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.Arrays;
+
+/**
+ * This class implements a matrix of the {@code long} distances from a list of
+ * source nodes to a list of target nodes. The entry at row {@code i} and column
+ * {@code j} is the weight of the shortest path from the {@code i}th source to
+ * the {@code j}th target, including the weights of both end nodes, or the 
+ * maximum weight of the weight function if no path exists. The entries are 
+ * kept in a single row-major array.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class LongDistanceMatrix {
+    
+    private final int sourceCount;
+    private final int targetCount;
+    private final long unreachable;
+    private final long[] distances;
+    
+    LongDistanceMatrix(int sourceCount, int targetCount, long unreachable) {
+        this.sourceCount = sourceCount;
+        this.targetCount = targetCount;
+        this.unreachable = unreachable;
+        this.distances = new long[Math.multiplyExact(sourceCount, targetCount)];
+        Arrays.fill(distances, unreachable);
+    }
+    
+    public int getSourceCount() {
+        return sourceCount;
+    }
+    
+    public int getTargetCount() {
+        return targetCount;
+    }
+    
+    public long get(int sourceIndex, int targetIndex) {
+        return distances[index(sourceIndex, targetIndex)];
+    }
+    
+    public boolean isReachable(int sourceIndex, int targetIndex) {
+        return get(sourceIndex, targetIndex) != unreachable;
+    }
+    
+    /**
+     * Returns a copy of the distances from the {@code sourceIndex}th source.
+     * 
+     * @param sourceIndex the index of the source.
+     * @return the row of the source.
+     */
+    public long[] getRow(int sourceIndex) {
+        checkSourceIndex(sourceIndex);
+        int from = sourceIndex * targetCount;
+        return Arrays.copyOfRange(distances, from, from + targetCount);
+    }
+    
+    void set(int sourceIndex, int targetIndex, long distance) {
+        distances[sourceIndex * targetCount + targetIndex] = distance;
+    }
+    
+    private int index(int sourceIndex, int targetIndex) {
+        checkSourceIndex(sourceIndex);
+        
+        if (targetIndex < 0 || targetIndex >= targetCount) {
+            throw new IndexOutOfBoundsException(
+                    "Target index " + targetIndex + " is out of range");
+        }
+        
+        return sourceIndex * targetCount + targetIndex;
+    }
+    
+    private void checkSourceIndex(int sourceIndex) {
+        if (sourceIndex < 0 || sourceIndex >= sourceCount) {
+            throw new IndexOutOfBoundsException(
+                    "Source index " + sourceIndex + " is out of range");
+        }
+    }
+}
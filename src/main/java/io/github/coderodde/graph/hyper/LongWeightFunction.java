@@ -0,0 +1,61 @@
+package io.github.coderodde.graph.hyper;
+
+/**
+ * This interface defines the API for the weight functions whose weights can be
+ * represented as {@code long} values. The searches over a 
+ * {@link HyperGraphSnapshot} use the primitive methods only, so that no weight
+ * object is created during the search.
+ * <p>
+ * A weight function may declare its weights bounded by overriding 
+ * {@link #maxElementWeightAsLong()}. The searches then use a monotone bucket 
+ * queue instead of a heap.
+ * 
+ * @param <W> the type of the weight.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public interface LongWeightFunction<W> extends WeightFunction<W> {
+    
+    long toLong(W weight);
+    W fromLong(long weight);
+    long zeroAsLong();
+    long maxAsLong();
+    long applyAsLong(long w1, long w2);
+    int compareAsLong(long weight1, long weight2);
+    
+    /**
+     * Returns the largest weight of a single node or hyperedge, or a negative
+     * value if the weights are not bounded. By returning a non-negative bound,
+     * a weight function promises that all the weights are non-negative 
+     * integers not exceeding the bound, that {@link #applyAsLong(long, long)}
+     * adds, and that {@link #compareAsLong(long, long)} compares in the natural 
+     * order.
+     * 
+     * @return the bound of the weights or a negative value.
+     */
+    default long maxElementWeightAsLong() {
+        return -1L;
+    }
+    
+    @Override
+    default W zero() {
+        return fromLong(zeroAsLong());
+    }
+    
+    @Override
+    default W max() {
+        return fromLong(maxAsLong());
+    }
+    
+    @Override
+    default W apply(W w1, W w2) {
+        return fromLong(applyAsLong(toLong(w1), toLong(w2)));
+    }
+    
+    @Override
+    default int compare(W weight1, W weight2) {
+        return compareAsLong(toLong(weight1), toLong(weight2));
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.coderodde.graph.hyper;
+
+/**
+ * This class holds the outcome of a nearest-target search: the source and the
+ * target of the cheapest path from any of the sources to any of the targets,
+ * the path itself and its distance. The distance is the weight of the path
+ * plus the start offset of its source, and is the quantity minimized over all
+ * the pairs.
+ * <p>
+ * If no target is reachable from any source, the source, the target and the
+ * distance are {@code null}, and the path is the nonexistent path.
+ *
+ * @param <I> the type of the node identity object.
+ * @param <J> the type of the edge identity object.
+ * @param <W> the type of the weights.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class NearestPath<I, J, W> {
+    
+    private final HyperGraphNode<I, J, W> source;
+    private final HyperGraphNode<I, J, W> target;
+    private final HyperGraphPath<I, J, W> path;
+    private final W distance;
+    
+    NearestPath(HyperGraphPath<I, J, W> path, W distance) {
+        this.source = path.getPathHyperNodes().get(0);
+        this.target = path.getPathHyperNodes()
+                          .get(path.getPathHyperNodes().size() - 1);
+        this.path = path;
+        this.distance = distance;
+    }
+    
+    NearestPath(WeightFunction<W> weights) {
+        this.source = null;
+        this.target = null;
+        this.path = new HyperGraphPath<>(weights);
+        this.distance = null;
+    }
+    
+    public HyperGraphNode<I, J, W> getSource() {
+        return source;
+    }
+    
+    public HyperGraphNode<I, J, W> getTarget() {
+        return target;
+    }
+    
+    public HyperGraphPath<I, J, W> getPath() {
+        return path;
+    }
+    
+    /**
+     * Returns the weight of the path plus the start offset of its source, or
+     * {@code null} if no target is reachable.
+     *
+     * @return the distance of the nearest target.
+     */
+    public W getDistance() {
+        return distance;
+    }
+    
+    public boolean isFound() {
+        return source != null;
+    }
+    
+    @Override
+    public String toString() {
+        return isFound() ? distance + ": " + path : path.toString();
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.ElementKeys;
+import java.util.Arrays;
+
+/**
+ * This class holds the state of a search over the {@link HyperGraphNode} 
+ * objects. The nodes and the hyperedges reached by a search are assigned 
+ * dense indices in the order of discovery, and the labels of each search 
+ * direction are kept in arrays indexed by them. All the arrays are stamped 
+ * with the epoch of the search that wrote them, so that the state is reset in
+ * constant time and reused by the next search without allocating.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+final class NodeLabels {
+    
+    private static final int MINIMUM_CAPACITY = 16;
+    
+    final IndexMap<HyperGraphNode<?, ?, ?>> nodes = new IndexMap<>();
+    final IndexMap<HyperGraphEdge<?, ?, ?>> edges = new IndexMap<>();
+    final Direction forward = new Direction();
+    final Direction backward = new Direction();
+    
+    void reset(WeightFunction<?> weights) {
+        nodes.clear();
+        edges.clear();
+        forward.reset(weights);
+        backward.reset(weights);
+    }
+    
+    int indexOf(HyperGraphNode<?, ?, ?> node) {
+        int index = nodes.indexOf(node);
+        
+        if (index >= forward.parents.length) {
+            forward.ensureNodeCapacity(index + 1);
+            backward.ensureNodeCapacity(index + 1);
+        }
+        
+        return index;
+    }
+    
+    int edgeIndexOf(HyperGraphEdge<?, ?, ?> edge) {
+        int index = edges.indexOf(edge);
+        
+        if (index >= forward.scannedStamps.length) {
+            forward.ensureEdgeCapacity(index + 1);
+            backward.ensureEdgeCapacity(index + 1);
+        }
+        
+        return index;
+    }
+    
+    /**
+     * This class holds the labels of a single search direction. The distance,
+     * the parent and the parent hyperedge of a node are valid only if the node
+     * is labeled.
+     */
+    static final class Direction implements ElementKeys {
+        
+        private Object[] distances = new Object[MINIMUM_CAPACITY];
+        private int[] parents = new int[MINIMUM_CAPACITY];
+        private int[] parentEdges = new int[MINIMUM_CAPACITY];
+        private int[] labeledStamps = new int[MINIMUM_CAPACITY];
+        private int[] closedStamps = new int[MINIMUM_CAPACITY];
+        private int[] scannedStamps = new int[MINIMUM_CAPACITY];
+        private int epoch;
+        private WeightFunction<Object> weights;
+        private LongWeightFunction<Object> longWeights;
+        int closedCount;
+        long scannedEdgeCount;
+        long scannedMemberCount;
+        
+        @SuppressWarnings("unchecked")
+        void reset(WeightFunction<?> weights) {
+            this.weights = (WeightFunction<Object>) weights;
+            this.longWeights = 
+                    weights instanceof LongWeightFunction<?> ? 
+                    (LongWeightFunction<Object>) weights : 
+                    null;
+            
+            closedCount = 0;
+            scannedEdgeCount = 0L;
+            scannedMemberCount = 0L;
+            
+            if (++epoch == 0) {
+                Arrays.fill(labeledStamps, 0);
+                Arrays.fill(closedStamps, 0);
+                Arrays.fill(scannedStamps, 0);
+                epoch = 1;
+            }
+        }
+        
+        boolean isLabeled(int node) {
+            return labeledStamps[node] == epoch;
+        }
+        
+        boolean isClosed(int node) {
+            return closedStamps[node] == epoch;
+        }
+        
+        void close(int node) {
+            closedStamps[node] = epoch;
+            closedCount++;
+        }
+        
+        /**
+         * Marks the hyperedge with index {@code edge}, having 
+         * {@code memberCount} members, scanned.
+         * 
+         * @return {@code true} if the hyperedge was not scanned before.
+         */
+        boolean scanEdge(int edge, int memberCount) {
+            if (scannedStamps[edge] == epoch) {
+                return false;
+            }
+            
+            scannedStamps[edge] = epoch;
+            scannedEdgeCount++;
+            scannedMemberCount += memberCount;
+            return true;
+        }
+        
+        @SuppressWarnings("unchecked")
+        <W> W getDistance(int node) {
+            return (W) distances[node];
+        }
+        
+        int getParent(int node) {
+            return parents[node];
+        }
+        
+        int getParentEdge(int node) {
+            return parentEdges[node];
+        }
+        
+        /**
+         * Labels {@code node} with {@code distance}, reached from 
+         * {@code parent} through the hyperedge with index {@code parentEdge},
+         * or -1 and -1 for the start node.
+         */
+        void setLabel(int node, Object distance, int parent, int parentEdge) {
+            distances[node] = distance;
+            parents[node] = parent;
+            parentEdges[node] = parentEdge;
+            labeledStamps[node] = epoch;
+        }
+        
+        @Override
+        public long key(int node) {
+            return longWeights.toLong(distances[node]);
+        }
+        
+        @Override
+        public int compare(int node1, int node2) {
+            return weights.compare(distances[node1], distances[node2]);
+        }
+        
+        private void ensureNodeCapacity(int capacity) {
+            if (capacity > parents.length) {
+                capacity = Math.max(capacity, 2 * parents.length);
+                distances = Arrays.copyOf(distances, capacity);
+                parents = Arrays.copyOf(parents, capacity);
+                parentEdges = Arrays.copyOf(parentEdges, capacity);
+                labeledStamps = Arrays.copyOf(labeledStamps, capacity);
+                closedStamps = Arrays.copyOf(closedStamps, capacity);
+            }
+        }
+        
+        private void ensureEdgeCapacity(int capacity) {
+            scannedStamps = 
+                    Arrays.copyOf(scannedStamps,
+                                  Math.max(capacity, 2 * scannedStamps.length));
+        }
+    }
+}
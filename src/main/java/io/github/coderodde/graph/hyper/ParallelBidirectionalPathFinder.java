@@ -0,0 +1,406 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.IndexedDaryHeap;
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueue;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class implements a bidirectional Dijkstra's algorithm whose forward and
+ * backward searches run at the same time on two threads: the forward search
+ * runs on the calling thread, and the backward search on the executor. The
+ * labels are the same as in
+ * {@link HyperGraphSnapshotPathFinder#biFind(HyperGraphSnapshot, int, int, LongWeightFunction, SearchContext)}.
+ * <p>
+ * Each search owns its queue and its labels, and shares only three things
+ * with the other one: its labels, published through an
+ * {@link AtomicLongArray}; the key of the top of its queue, published before
+ * each node is settled; and the best meeting {@code mu}. While relaxing a
+ * hyperedge, a search first writes the label of each member and then reads the
+ * label of the member in the other direction. Hence, whenever the two
+ * searches relax the two ends of a shortest path concurrently, at least one of
+ * them sees the label written by the other, and no meeting is missed. A search
+ * stops as soon as the key of its top plus the last key published by the
+ * other search is no better than {@code mu}, or either queue is empty: since
+ * the published keys never decrease, the criterion is a valid lower bound on
+ * any path not yet found.
+ * <p>
+ * If the forward search stops before the backward search has even started,
+ * the backward search is cancelled instead of waited for.
+ * <p>
+ * The searches are on {@code long} weights only. An instance reuses its
+ * arrays from one query to the next and must not run two queries at the same
+ * time.
+ *
+ * @param <I> the type of the node identity object.
+ * @param <J> the type of the edge identity object.
+ * @param <W> the type of the weights.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class ParallelBidirectionalPathFinder<I, J, W> {
+    
+    /**
+     * The label of a node not labeled by a search. The weights are
+     * non-negative, so that no label equals this value.
+     */
+    private static final long UNLABELED = Long.MIN_VALUE;
+    
+    /**
+     * The published top key of a search whose queue is empty.
+     */
+    private static final long EXHAUSTED = Long.MAX_VALUE;
+    
+    private final HyperGraphSnapshot<I, J, W> graph;
+    private final LongWeightFunction<W> weights;
+    private final Executor executor;
+    private final long[] nodeWeights;
+    private final long[] edgeWeights;
+    private final Search forward;
+    private final Search backward;
+    private final Meeting meeting = new Meeting();
+    
+    public ParallelBidirectionalPathFinder(HyperGraphSnapshot<I, J, W> graph,
+                                           LongWeightFunction<W> weights) {
+        this(graph, weights, ForkJoinPool.commonPool());
+    }
+    
+    public ParallelBidirectionalPathFinder(HyperGraphSnapshot<I, J, W> graph,
+                                           LongWeightFunction<W> weights,
+                                           Executor executor) {
+        
+        this.graph = Objects.requireNonNull(graph, "The graph is null");
+        this.weights = Objects.requireNonNull(weights,
+                                              "The weight function is null");
+        this.executor = Objects.requireNonNull(executor,
+                                               "The executor is null");
+        
+        HyperGraphSnapshot.LongWeights longWeights =
+                graph.getLongWeights(weights);
+        
+        this.nodeWeights = longWeights.nodeWeights;
+        this.edgeWeights = longWeights.edgeWeights;
+        this.forward = new Search(true);
+        this.backward = new Search(false);
+        this.forward.opposite = backward;
+        this.backward.opposite = forward;
+    }
+    
+    public HyperGraphSnapshot<I, J, W> getGraph() {
+        return graph;
+    }
+    
+    public HyperGraphPath<I, J, W> find(HyperGraphNode<I, J, W> source,
+                                        HyperGraphNode<I, J, W> target) {
+        
+        return find(HyperGraphSnapshotPathFinder.checkNode(graph, source),
+                    HyperGraphSnapshotPathFinder.checkNode(graph, target));
+    }
+    
+    /**
+     * Finds a shortest path from {@code source} to {@code target}, running
+     * the backward search on the executor of this path finder.
+     *
+     * @param source the node index of the source.
+     * @param target the node index of the target.
+     * @return the shortest path, or the nonexistent path if {@code target} is
+     *         not reachable from {@code source}.
+     */
+    public HyperGraphPath<I, J, W> find(int source, int target) {
+        Objects.checkIndex(source, graph.getNodeCount());
+        Objects.checkIndex(target, graph.getNodeCount());
+        
+        if (source == target) {
+            return new HyperGraphPath<>(List.of(graph.getNode(source)),
+                                        List.of(),
+                                        weights);
+        }
+        
+        if (!graph.areConnected(source, target)) {
+            return new HyperGraphPath<>(weights);
+        }
+        
+        meeting.reset();
+        forward.start(source, weights.zeroAsLong());
+        backward.start(target, nodeWeights[target]);
+        
+        try {
+            run();
+            
+            if (!meeting.hasMeeting) {
+                // Return empty path:
+                return new HyperGraphPath<>(weights);
+            }
+            
+            return HyperGraphSnapshotPathFinder.tracebackPath(
+                    graph,
+                    meeting.nodea,
+                    meeting.nodeb,
+                    meeting.edge,
+                    forward.parents,
+                    forward.parentEdges,
+                    backward.parents,
+                    backward.parentEdges,
+                    weights);
+        } finally {
+            forward.clear();
+            backward.clear();
+        }
+    }
+    
+    /**
+     * Runs the forward search on the calling thread and the backward search on
+     * the executor, and returns when both have stopped.
+     */
+    private void run() {
+        AtomicBoolean claimed = new AtomicBoolean();
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                backward.run();
+            }
+        }, executor);
+        
+        try {
+            forward.run();
+        } finally {
+            if (!claimed.compareAndSet(false, true)) {
+                // The backward search has started, wait for it to stop:
+                join(future);
+            }
+        }
+    }
+    
+    private static void join(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            
+            throw ex;
+        }
+    }
+    
+    /**
+     * This class holds the best meeting of the two searches. It is read often
+     * and improved rarely, so that the improvements are synchronized and the
+     * reads are not.
+     */
+    private final class Meeting {
+        
+        volatile boolean hasMeeting;
+        volatile long weight;
+        int nodea;
+        int nodeb;
+        int edge;
+        
+        void reset() {
+            hasMeeting = false;
+            nodea = -1;
+            nodeb = -1;
+            edge = -1;
+        }
+        
+        synchronized void offer(long w, int nodea, int nodeb, int edge) {
+            if (!hasMeeting || weights.compareAsLong(weight, w) > 0) {
+                this.nodea = nodea;
+                this.nodeb = nodeb;
+                this.edge = edge;
+                weight = w;
+                hasMeeting = true;
+            }
+        }
+    }
+    
+    /**
+     * This class holds the state of one search direction.
+     */
+    private final class Search {
+        
+        private final boolean isForward;
+        private final AtomicLongArray labels;
+        private final int[] closedStamps;
+        private final IndexedPriorityQueue open;
+        final int[] parents;
+        final int[] parentEdges;
+        
+        /**
+         * The nodes labeled by the current query, so that only they are
+         * unlabeled after it.
+         */
+        private int[] labeled = new int[16];
+        private int labeledCount;
+        private int epoch;
+        
+        /**
+         * The key of the top of {@link #open}, or {@link #EXHAUSTED}.
+         */
+        volatile long top;
+        Search opposite;
+        
+        Search(boolean isForward) {
+            int nodeCount = graph.getNodeCount();
+            
+            this.isForward = isForward;
+            this.labels = new AtomicLongArray(nodeCount);
+            this.closedStamps = new int[nodeCount];
+            this.parents = new int[nodeCount];
+            this.parentEdges = new int[nodeCount];
+            this.open = new IndexedDaryHeap(4,
+                                            nodeCount,
+                                            (node1, node2) ->
+                                                weights.compareAsLong(
+                                                    labels.getPlain(node1),
+                                                    labels.getPlain(node2)));
+            
+            for (int i = 0; i < nodeCount; ++i) {
+                labels.setPlain(i, UNLABELED);
+            }
+        }
+        
+        void start(int node, long label) {
+            if (++epoch == 0) {
+                Arrays.fill(closedStamps, 0);
+                epoch = 1;
+            }
+            
+            label(node, label, -1, -1);
+            open.insert(node);
+            top = label;
+        }
+        
+        void run() {
+            while (!open.isEmpty()) {
+                int current = open.minimum();
+                long key = labels.getPlain(current);
+                top = key;
+                
+                if (canStop(key)) {
+                    return;
+                }
+                
+                open.extractMinimum();
+                closedStamps[current] = epoch;
+                expand(current, key);
+            }
+            
+            top = EXHAUSTED;
+        }
+        
+        /**
+         * Unlabels the nodes labeled by the current query.
+         */
+        void clear() {
+            for (int i = 0; i < labeledCount; ++i) {
+                labels.setPlain(labeled[i], UNLABELED);
+            }
+            
+            labeledCount = 0;
+            open.clear();
+        }
+        
+        private boolean canStop(long key) {
+            // Read the top of the opposite search before the meeting, so that
+            // the meetings found by the opposite search up to its top are
+            // visible:
+            long oppositeTop = opposite.top;
+            
+            if (oppositeTop == EXHAUSTED) {
+                return true;
+            }
+            
+            return meeting.hasMeeting
+                && weights.compareAsLong(
+                       weights.applyAsLong(key, oppositeTop),
+                       meeting.weight) >= 0;
+        }
+        
+        private void expand(int current, long key) {
+            for (int i = graph.nodeEdgeOffsets[current],
+                     iEnd = graph.nodeEdgeOffsets[current + 1];
+                     i < iEnd;
+                     ++i) {
+                
+                int edge = graph.nodeEdges[i];
+                long edgeLabel = weights.applyAsLong(key, edgeWeights[edge]);
+                
+                for (int j = graph.edgeNodeOffsets[edge],
+                         jEnd = graph.edgeNodeOffsets[edge + 1];
+                         j < jEnd;
+                         ++j) {
+                    
+                    int member = graph.edgeNodes[j];
+                    
+                    if (member == current) {
+                        continue;
+                    }
+                    
+                    if (closedStamps[member] != epoch) {
+                        relax(member,
+                              weights.applyAsLong(edgeLabel,
+                                                  nodeWeights[member]),
+                              current,
+                              edge);
+                    }
+                    
+                    // Only after writing the label of member:
+                    long oppositeLabel = opposite.labels.get(member);
+                    
+                    if (oppositeLabel != UNLABELED) {
+                        long w = weights.applyAsLong(edgeLabel, oppositeLabel);
+                        
+                        if (!meeting.hasMeeting
+                                || weights.compareAsLong(meeting.weight,
+                                                         w) > 0) {
+                            if (isForward) {
+                                meeting.offer(w, current, member, edge);
+                            } else {
+                                meeting.offer(w, member, current, edge);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        
+        private void relax(int member, long tentative, int node, int edge) {
+            long label = labels.getPlain(member);
+            
+            if (label == UNLABELED) {
+                label(member, tentative, node, edge);
+                open.insert(member);
+            } else if (weights.compareAsLong(label, tentative) > 0) {
+                label(member, tentative, node, edge);
+                open.decreaseKey(member);
+            }
+        }
+        
+        private void label(int node, long label, int parent, int parentEdge) {
+            if (labels.getPlain(node) == UNLABELED) {
+                if (labeledCount == labeled.length) {
+                    labeled = Arrays.copyOf(labeled, 2 * labeledCount);
+                }
+                
+                labeled[labeledCount++] = node;
+            }
+            
+            parents[node] = parent;
+            parentEdges[node] = parentEdge;
+            labels.set(node, label);
+        }
+    }
+}
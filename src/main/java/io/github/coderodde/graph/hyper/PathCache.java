@@ -0,0 +1,487 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * This class caches the shortest paths found by {@link HyperGraphPathFinder},
+ * keyed by the identities of the source and the target and by the weight
+ * function. The cache serves a single hypergraph: two nodes with equal
+ * identities are the same node to it.
+ * <p>
+ * Any modification of a hypergraph through
+ * {@link HyperGraphEdge#connectNode(HyperGraphNode)},
+ * {@link HyperGraphEdge#disconnectNode(HyperGraphNode)} or
+ * {@link HyperGraphEdge#clear()} advances a global version, and the cache
+ * discards all its paths when it sees a new version. A path whose search
+ * overlapped a modification is returned but not cached.
+ * <p>
+ * The cache is bounded both by the number of paths and by their estimated
+ * size in bytes. It follows the W-TinyLFU policy: a new path enters a small
+ * LRU window, and a path leaving the window replaces the least recently used
+ * path of the main area only if its pair has been asked for more often, as
+ * estimated by a count-min sketch that is halved periodically. Thus a burst of
+ * one-off queries does not flush the hot pairs.
+ * <p>
+ * {@link #find(HyperGraphNode, HyperGraphNode, WeightFunction)} and
+ * {@link #biFind(HyperGraphNode, HyperGraphNode, WeightFunction)} share the
+ * cached paths, since both return a shortest path.
+ * <p>
+ * Any number of threads may query a cache at the same time; the searches run
+ * outside its lock, and they only read the hypergraph and query its
+ * {@link ComponentIndex}, which is safe to query concurrently. As everywhere
+ * else in the object graph, the hypergraph must not be modified while a query
+ * is running.
+ *
+ * @param <I> the type of the node identity object.
+ * @param <J> the type of the edge identity object.
+ * @param <W> the type of the weights.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class PathCache<I, J, W> {
+    
+    /**
+     * The estimated size of a cached path with no nodes, including its key and
+     * its map entry.
+     */
+    static final long ENTRY_BYTES = 160L;
+    
+    /**
+     * The estimated size of each node and hyperedge reference of a path.
+     */
+    static final long REFERENCE_BYTES = 8L;
+    
+    /**
+     * The percentage of {@link #maximumSize} reserved for the window.
+     */
+    private static final int WINDOW_PERCENTAGE = 1;
+    
+    private final int maximumSize;
+    private final long maximumBytes;
+    private final int maximumWindowSize;
+    private final Map<Key, Entry<I, J, W>> window =
+            new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final Map<Key, Entry<I, J, W>> main =
+            new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final FrequencySketch sketch;
+    private long version = GraphVersion.get();
+    private long bytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long invalidationCount;
+    
+    public PathCache(int maximumSize) {
+        this(maximumSize, Long.MAX_VALUE);
+    }
+    
+    /**
+     * Constructs an empty cache.
+     *
+     * @param maximumSize  the maximum number of cached paths.
+     * @param maximumBytes the maximum estimated size of the cached paths.
+     */
+    public PathCache(int maximumSize, long maximumBytes) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException(
+                    "Maximum size " + maximumSize + " is less than 1");
+        }
+        
+        if (maximumBytes < 1L) {
+            throw new IllegalArgumentException(
+                    "Maximum bytes " + maximumBytes + " is less than 1");
+        }
+        
+        this.maximumSize = maximumSize;
+        this.maximumBytes = maximumBytes;
+        this.maximumWindowSize =
+                (int) Math.max(1L,
+                               (long) maximumSize * WINDOW_PERCENTAGE / 100);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+    
+    public HyperGraphPath<I, J, W> find(HyperGraphNode<I, J, W> source,
+                                        HyperGraphNode<I, J, W> target,
+                                        WeightFunction<W> weights) {
+        
+        return find(source, target, weights, new SearchContext());
+    }
+    
+    public HyperGraphPath<I, J, W> find(HyperGraphNode<I, J, W> source,
+                                        HyperGraphNode<I, J, W> target,
+                                        WeightFunction<W> weights,
+                                        SearchContext context) {
+        
+        return get(source, target, weights, () ->
+                HyperGraphPathFinder.find(source, target, weights, context));
+    }
+    
+    public HyperGraphPath<I, J, W> biFind(HyperGraphNode<I, J, W> source,
+                                          HyperGraphNode<I, J, W> target,
+                                          WeightFunction<W> weights) {
+        
+        return biFind(source, target, weights, new SearchContext());
+    }
+    
+    public HyperGraphPath<I, J, W> biFind(HyperGraphNode<I, J, W> source,
+                                          HyperGraphNode<I, J, W> target,
+                                          WeightFunction<W> weights,
+                                          SearchContext context) {
+        
+        return get(source, target, weights, () ->
+                HyperGraphPathFinder.biFind(source, target, weights, context));
+    }
+    
+    /**
+     * Discards all the cached paths. The statistics are kept.
+     */
+    public synchronized void clear() {
+        window.clear();
+        main.clear();
+        bytes = 0L;
+    }
+    
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hitCount,
+                              missCount,
+                              evictionCount,
+                              invalidationCount,
+                              window.size() + main.size(),
+                              bytes);
+    }
+    
+    private HyperGraphPath<I, J, W>
+        get(HyperGraphNode<I, J, W> source,
+            HyperGraphNode<I, J, W> target,
+            WeightFunction<W> weights,
+            Supplier<HyperGraphPath<I, J, W>> search) {
+        
+        Objects.requireNonNull(source, "The source node is null");
+        Objects.requireNonNull(target, "The target node is null");
+        Objects.requireNonNull(weights, "The weight function is null");
+        
+        Key key = new Key(source.getId(), target.getId(), weights);
+        long searchVersion;
+        
+        synchronized (this) {
+            searchVersion = GraphVersion.get();
+            synchronize(searchVersion);
+            sketch.increment(key.hash);
+            
+            Entry<I, J, W> entry = window.get(key);
+            
+            if (entry == null) {
+                entry = main.get(key);
+            }
+            
+            if (entry != null) {
+                ++hitCount;
+                return entry.path;
+            }
+            
+            ++missCount;
+        }
+        
+        HyperGraphPath<I, J, W> path = search.get();
+        
+        synchronized (this) {
+            if (GraphVersion.get() == searchVersion) {
+                synchronize(searchVersion);
+                put(key, path);
+            }
+        }
+        
+        return path;
+    }
+    
+    /**
+     * Discards all the paths if the hypergraph has been modified since they
+     * were cached.
+     */
+    private void synchronize(long currentVersion) {
+        if (version != currentVersion) {
+            invalidationCount += window.size() + main.size();
+            clear();
+            version = currentVersion;
+        }
+    }
+    
+    private void put(Key key, HyperGraphPath<I, J, W> path) {
+        if (window.containsKey(key) || main.containsKey(key)) {
+            // Another thread cached the pair during the search:
+            return;
+        }
+        
+        Entry<I, J, W> entry = new Entry<>(path);
+        window.put(key, entry);
+        bytes += entry.bytes;
+        
+        if (window.size() > maximumWindowSize) {
+            Map.Entry<Key, Entry<I, J, W>> candidate = removeEldest(window);
+            admit(candidate.getKey(), candidate.getValue());
+        }
+        
+        while (bytes > maximumBytes) {
+            Map<Key, Entry<I, J, W>> area = main.isEmpty() ? window : main;
+            
+            bytes -= removeEldest(area).getValue().bytes;
+            ++evictionCount;
+        }
+    }
+    
+    /**
+     * Moves a path leaving the window to the main area, unless the main area
+     * is full and its least recently used path is more frequent.
+     */
+    private void admit(Key key, Entry<I, J, W> entry) {
+        if (window.size() + main.size() + 1 <= maximumSize) {
+            main.put(key, entry);
+            return;
+        }
+        
+        Map.Entry<Key, Entry<I, J, W>> victim =
+                main.entrySet().iterator().next();
+        
+        if (sketch.frequency(key.hash)
+                > sketch.frequency(victim.getKey().hash)) {
+            removeEldest(main);
+            main.put(key, entry);
+            bytes -= victim.getValue().bytes;
+        } else {
+            bytes -= entry.bytes;
+        }
+        
+        ++evictionCount;
+    }
+    
+    private Map.Entry<Key, Entry<I, J, W>>
+        removeEldest(Map<Key, Entry<I, J, W>> area) {
+        
+        Iterator<Map.Entry<Key, Entry<I, J, W>>> iterator =
+                area.entrySet().iterator();
+        
+        Map.Entry<Key, Entry<I, J, W>> eldest = iterator.next();
+        iterator.remove();
+        return eldest;
+    }
+    
+    /**
+     * This class holds the counters of a cache at one point in time.
+     */
+    public static final class Statistics {
+        
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long invalidationCount;
+        private final int size;
+        private final long estimatedBytes;
+        
+        Statistics(long hitCount,
+                   long missCount,
+                   long evictionCount,
+                   long invalidationCount,
+                   int size,
+                   long estimatedBytes) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.invalidationCount = invalidationCount;
+            this.size = size;
+            this.estimatedBytes = estimatedBytes;
+        }
+        
+        public long getHitCount() {
+            return hitCount;
+        }
+        
+        public long getMissCount() {
+            return missCount;
+        }
+        
+        /**
+         * Returns the number of paths discarded or not admitted because the
+         * cache was full.
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+        
+        /**
+         * Returns the number of paths discarded because the hypergraph was
+         * modified.
+         */
+        public long getInvalidationCount() {
+            return invalidationCount;
+        }
+        
+        public int getSize() {
+            return size;
+        }
+        
+        public long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+        
+        public double getHitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0L ? 1.0 : (double) hitCount / requestCount;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("[hits = %d, misses = %d, evictions = %d, "
+                                         + "invalidations = %d, size = %d, "
+                                         + "bytes = %d]",
+                                 hitCount,
+                                 missCount,
+                                 evictionCount,
+                                 invalidationCount,
+                                 size,
+                                 estimatedBytes);
+        }
+    }
+    
+    private static final class Key {
+        
+        private final Object sourceId;
+        private final Object targetId;
+        private final WeightFunction<?> weights;
+        final int hash;
+        
+        Key(Object sourceId, Object targetId, WeightFunction<?> weights) {
+            this.sourceId = sourceId;
+            this.targetId = targetId;
+            this.weights = weights;
+            this.hash = 31 * (31 * sourceId.hashCode() + targetId.hashCode())
+                      + weights.hashCode();
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            
+            Key other = (Key) obj;
+            return hash == other.hash
+                && sourceId.equals(other.sourceId)
+                && targetId.equals(other.targetId)
+                && weights.equals(other.weights);
+        }
+    }
+    
+    private static final class Entry<I, J, W> {
+        
+        final HyperGraphPath<I, J, W> path;
+        final long bytes;
+        
+        Entry(HyperGraphPath<I, J, W> path) {
+            this.path = path;
+            this.bytes = ENTRY_BYTES
+                       + REFERENCE_BYTES
+                             * (path.getPathHyperNodes().size()
+                              + path.getPathHyperEdges().size());
+        }
+    }
+    
+    /**
+     * This class estimates the frequencies of the keys by a count-min sketch
+     * of four rows of 4-bit counters, sixteen counters to a {@code long}. All
+     * the counters are halved after a sample of ten times the cache size, so
+     * that the estimates follow the recent requests.
+     */
+    static final class FrequencySketch {
+        
+        private static final long[] SEEDS = {
+            0x9e3779b97f4a7c15L,
+            0xbf58476d1ce4e5b9L,
+            0x94d049bb133111ebL,
+            0xc2b2ae3d27d4eb4fL,
+        };
+        
+        private static final long HALVING_MASK = 0x7777777777777777L;
+        private static final int MAXIMUM_COUNT = 15;
+        
+        private final long[] table;
+        private final int sampleSize;
+        private int additionCount;
+        
+        FrequencySketch(int maximumSize) {
+            int length = Integer.highestOneBit(
+                    Math.max(8, Math.min(1 << 24, maximumSize)) - 1) << 1;
+            
+            this.table = new long[length];
+            this.sampleSize = (int) Math.min(Integer.MAX_VALUE,
+                                             10L * maximumSize);
+        }
+        
+        void increment(int hash) {
+            boolean isAdded = false;
+            
+            for (long seed : SEEDS) {
+                long h = mix(hash, seed);
+                int index = index(h);
+                int shift = shift(h);
+                
+                if (((table[index] >>> shift) & MAXIMUM_COUNT)
+                        < MAXIMUM_COUNT) {
+                    table[index] += 1L << shift;
+                    isAdded = true;
+                }
+            }
+            
+            if (isAdded && ++additionCount == sampleSize) {
+                for (int i = 0; i < table.length; ++i) {
+                    table[i] = (table[i] >>> 1) & HALVING_MASK;
+                }
+                
+                additionCount /= 2;
+            }
+        }
+        
+        int frequency(int hash) {
+            int frequency = MAXIMUM_COUNT;
+            
+            for (long seed : SEEDS) {
+                long h = mix(hash, seed);
+                frequency = Math.min(
+                        frequency,
+                        (int) ((table[index(h)] >>> shift(h))
+                                & MAXIMUM_COUNT));
+            }
+            
+            return frequency;
+        }
+        
+        private int index(long h) {
+            return (int) (h >>> 32) & (table.length - 1);
+        }
+        
+        private static int shift(long h) {
+            return ((int) h & 15) << 2;
+        }
+        
+        private static long mix(int hash, long seed) {
+            long h = (hash + seed) * seed;
+            return h ^ (h >>> 29);
+        }
+    }
+}
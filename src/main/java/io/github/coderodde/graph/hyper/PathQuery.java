@@ -0,0 +1,59 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.Objects;
+
+/**
+ * This class holds a single source/target pair of a batch of shortest path
+ * queries.
+ *
+ * @param <I> the type of the node identity object.
+ * @param <J> the type of the edge identity object.
+ * @param <W> the type of the weights.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class PathQuery<I, J, W> {
+    
+    private final HyperGraphNode<I, J, W> source;
+    private final HyperGraphNode<I, J, W> target;
+    
+    public PathQuery(HyperGraphNode<I, J, W> source,
+                     HyperGraphNode<I, J, W> target) {
+        this.source = Objects.requireNonNull(source, "The source is null");
+        this.target = Objects.requireNonNull(target, "The target is null");
+    }
+    
+    public HyperGraphNode<I, J, W> getSource() {
+        return source;
+    }
+    
+    public HyperGraphNode<I, J, W> getTarget() {
+        return target;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        
+        if (o == null || !getClass().equals(o.getClass())) {
+            return false;
+        }
+        
+        PathQuery<?, ?, ?> other = (PathQuery<?, ?, ?>) o;
+        return source.equals(other.source) && target.equals(other.target);
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * source.hashCode() + target.hashCode();
+    }
+    
+    @Override
+    public String toString() {
+        return "[" + source + " -> " + target + "]";
+    }
+}
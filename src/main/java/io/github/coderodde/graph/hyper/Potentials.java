@@ -0,0 +1,112 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.ElementComparator;
+import java.util.Arrays;
+
+/**
+ * This class holds the node potentials of a single direction of a 
+ * goal-directed search, and orders the nodes by their labels plus their 
+ * potentials. The potential of a node is computed once per search, when the 
+ * node is first compared.
+ * <p>
+ * The bidirectional search uses the average potentials. A move costs the
+ * weight of the hyperedge plus the weight of the entered node, so the cost of
+ * a move depends on its direction. Charging half the weight of each of the
+ * two nodes instead makes the costs symmetric, shifts the weight of every
+ * path from {@code s} to {@code t} by the same amount, and turns the
+ * heuristic into {@code h(v, g) + (w(v) - w(g)) / 2}. The average potentials
+ * of the symmetric costs are, up to constants,
+ * {@code p(v) = (h(v, t) - h(v, s) - w(v)) / 2} forwards and
+ * {@code q(v) = (h(v, s) - h(v, t) - w(v)) / 2} backwards. Since
+ * {@code p(v) + q(v) + w(v)} is zero, and the labels of the two directions
+ * at the same node sum to the weight of the path through it plus
+ * {@code w(v)}, both directions see the same reduced costs, and the search
+ * may stop as soon as the two queue tops sum to at least the best meeting.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.2 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+final class Potentials implements ElementComparator {
+    
+    static final int UNIDIRECTIONAL = 0;
+    static final int FORWARD = 1;
+    static final int BACKWARD = 2;
+    
+    final HyperGraphSnapshot<?, ?, ?> graph;
+    private final double[] potentials;
+    private final int[] stamps;
+    private int epoch;
+    
+    private SearchLabels.PrimitiveLabels labels;
+    private Heuristic heuristic;
+    private int source;
+    private int target;
+    private int mode;
+    
+    Potentials(HyperGraphSnapshot<?, ?, ?> graph) {
+        this.graph = graph;
+        this.potentials = new double[graph.getNodeCount()];
+        this.stamps = new int[graph.getNodeCount()];
+    }
+    
+    /**
+     * Clears all the potentials for a new search in {@code mode}.
+     */
+    void reset(SearchLabels.PrimitiveLabels labels,
+               Heuristic heuristic,
+               int source,
+               int target,
+               int mode) {
+        
+        this.labels = labels;
+        this.heuristic = heuristic;
+        this.source = source;
+        this.target = target;
+        this.mode = mode;
+        
+        if (++epoch == 0) {
+            Arrays.fill(stamps, 0);
+            epoch = 1;
+        }
+    }
+    
+    double key(int node) {
+        return labels.getLabelAsDouble(node) + potential(node);
+    }
+    
+    @Override
+    public int compare(int node1, int node2) {
+        return Double.compare(key(node1), key(node2));
+    }
+    
+    private double potential(int node) {
+        if (stamps[node] == epoch) {
+            return potentials[node];
+        }
+        
+        double potential;
+        
+        switch (mode) {
+            case UNIDIRECTIONAL:
+                potential = heuristic.estimate(node, target);
+                break;
+            
+            case FORWARD:
+                potential = 0.5 * (heuristic.estimate(node, target) 
+                                 - heuristic.estimate(node, source)
+                                 - labels.getNodeWeightAsDouble(node));
+                break;
+            
+            default:
+                potential = 0.5 * (heuristic.estimate(node, source) 
+                                 - heuristic.estimate(node, target)
+                                 - labels.getNodeWeightAsDouble(node));
+                break;
+        }
+        
+        stamps[node] = epoch;
+        potentials[node] = potential;
+        return potential;
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.coderodde.graph.hyper;
+
+/**
+ * This class implements a token for cancelling bounded searches from another
+ * thread. A search given a token in its {@link SearchLimits} polls it while
+ * settling nodes, and returns a {@link SearchResult.Status#CANCELLED} result
+ * shortly after {@link #cancel()} is called. A token stays cancelled, and may
+ * be shared by all the searches serving the same request.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SearchCancellation {
+    
+    private volatile boolean cancelled;
+    
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
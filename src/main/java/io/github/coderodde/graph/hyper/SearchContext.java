@@ -0,0 +1,410 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.ElementComparator;
+import io.github.coderodde.graph.hyper.queue.ElementKeys;
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueue;
+import io.github.coderodde.graph.hyper.queue.IndexedPriorityQueueFactory;
+import java.util.Objects;
+
+/**
+ * This class holds the working memory of the pathfinders: the labels and the 
+ * priority queues of both search directions. The labels are arrays stamped
+ * with the epoch of the search that wrote them, so that a context is reset in
+ * constant time. Passing the same context to consecutive searches makes them
+ * allocate essentially nothing but the resulting path, once the arrays have 
+ * grown to the size of the searched graph.
+ * <p>
+ * A context is not thread-safe, and may be used by one search at a time only.
+ * A server running concurrent queries should keep one context per thread, for 
+ * example in a {@link ThreadLocal}. A context used with a 
+ * {@link HyperGraphSnapshot} keeps a reference to it until a search over 
+ * another snapshot.
+ * <p>
+ * The point-to-point searches of {@link HyperGraphPathFinder} and 
+ * {@link HyperGraphSnapshotPathFinder} report their {@link SearchStatistics}
+ * to the statistics object and the {@link SearchListener} of the context, and
+ * commit a {@link SearchEvent} while the JDK Flight Recorder records it. If
+ * none of them is present, a search does not read the clock, and its only
+ * overhead is a couple of counters kept in its labels.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.3.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SearchContext {
+    
+    static final int FORWARD = 0;
+    static final int BACKWARD = 1;
+    
+    /**
+     * The start time returned by {@link #startSearch()} if the search is not
+     * instrumented.
+     */
+    static final long UNINSTRUMENTED = Long.MIN_VALUE;
+    
+    /**
+     * An event never committed, asked whether a recording enables the search
+     * events. 
+     */
+    private static final SearchEvent EVENT_PROBE = new SearchEvent();
+    
+    /**
+     * The queue factory chosen by the user, or {@code null} if the pathfinders
+     * should choose.
+     */
+    private final IndexedPriorityQueueFactory queueFactory;
+    private WeightFunction<?> chosenQueueFactoryWeights;
+    private IndexedPriorityQueueFactory chosenQueueFactory;
+    
+    private final IndexedPriorityQueue[] queues = 
+            new IndexedPriorityQueue[2];
+    
+    private final IndexedPriorityQueueFactory[] queueFactories = 
+            new IndexedPriorityQueueFactory[2];
+    
+    private final ElementComparator[] comparators = new ElementComparator[2];
+    private final SearchLabels[] labels = new SearchLabels[2];
+    private final Potentials[] potentials = new Potentials[2];
+    
+    private final HierarchyLabels[] hierarchyLabels = 
+            new HierarchyLabels[2];
+    
+    private NodeLabels nodeLabels;
+    private HopLabels hopLabels;
+    
+    private SearchStatistics statistics;
+    private SearchStatistics listenerStatistics;
+    private SearchListener listener;
+    private SearchEvent event;
+    
+    /**
+     * Constructs a context whose queues are chosen by 
+     * {@link HyperGraphPathFinder#queueFactory(WeightFunction)}.
+     */
+    public SearchContext() {
+        this.queueFactory = null;
+    }
+    
+    /**
+     * Constructs a context whose queues are created by {@code queueFactory}.
+     * 
+     * @param queueFactory the queue factory.
+     */
+    public SearchContext(IndexedPriorityQueueFactory queueFactory) {
+        this.queueFactory = Objects.requireNonNull(queueFactory);
+    }
+    
+    /**
+     * Sets the object receiving the statistics of each search run with this
+     * context, or {@code null} to stop collecting them.
+     * 
+     * @param statistics the statistics object.
+     */
+    public void setStatistics(SearchStatistics statistics) {
+        this.statistics = statistics;
+    }
+    
+    public SearchStatistics getStatistics() {
+        return statistics;
+    }
+    
+    /**
+     * Sets the listener notified after each search run with this context, or 
+     * {@code null} to remove it. The listener receives the statistics object
+     * of this context, if any.
+     * 
+     * @param listener the listener.
+     */
+    public void setListener(SearchListener listener) {
+        this.listener = listener;
+    }
+    
+    public SearchListener getListener() {
+        return listener;
+    }
+    
+    /**
+     * Begins an instrumented search, and returns its start time, or 
+     * {@link #UNINSTRUMENTED} if nothing would receive its statistics.
+     */
+    long startSearch() {
+        if (EVENT_PROBE.isEnabled()) {
+            event = new SearchEvent();
+            event.begin();
+        } else if (statistics == null && listener == null) {
+            return UNINSTRUMENTED;
+        }
+        
+        return System.nanoTime();
+    }
+    
+    /**
+     * Returns the start time of the reconstruction of the path of a search 
+     * started at {@code startNanos}.
+     */
+    long startTraceback(long startNanos) {
+        return startNanos == UNINSTRUMENTED ? 0L : System.nanoTime();
+    }
+    
+    /**
+     * Reports the statistics of a search started at {@code startNanos}, whose
+     * path, if found, was reconstructed from {@code tracebackStartNanos} on. 
+     * Does nothing if the search is not instrumented.
+     */
+    void finishSearch(String algorithm,
+                      long startNanos,
+                      long tracebackStartNanos,
+                      int settledNodeCount,
+                      long scannedEdgeCount,
+                      long scannedMemberCount,
+                      int maximumQueueSize,
+                      boolean pathFound) {
+        
+        if (startNanos == UNINSTRUMENTED) {
+            return;
+        }
+        
+        long endNanos = System.nanoTime();
+        long tracebackNanos = pathFound ? endNanos - tracebackStartNanos : 0L;
+        
+        if (event != null) {
+            event.end();
+            
+            if (event.shouldCommit()) {
+                event.algorithm = algorithm;
+                event.settledNodeCount = settledNodeCount;
+                event.scannedEdgeCount = scannedEdgeCount;
+                event.scannedMemberCount = scannedMemberCount;
+                event.maximumQueueSize = maximumQueueSize;
+                event.tracebackNanos = tracebackNanos;
+                event.pathFound = pathFound;
+                event.commit();
+            }
+            
+            event = null;
+        }
+        
+        SearchStatistics target = statistics;
+        
+        if (target == null) {
+            if (listener == null) {
+                return;
+            }
+            
+            if (listenerStatistics == null) {
+                listenerStatistics = new SearchStatistics();
+            }
+            
+            target = listenerStatistics;
+        }
+        
+        target.set(algorithm,
+                   settledNodeCount,
+                   scannedEdgeCount,
+                   scannedMemberCount,
+                   maximumQueueSize,
+                   endNanos - startNanos,
+                   tracebackNanos,
+                   pathFound);
+        
+        if (listener != null) {
+            listener.searchFinished(target);
+        }
+    }
+    
+    /**
+     * Returns the labels of a search over the {@link HyperGraphNode} objects, 
+     * reset for a new search.
+     */
+    NodeLabels nodeLabels(WeightFunction<?> weights) {
+        if (nodeLabels == null) {
+            nodeLabels = new NodeLabels();
+        }
+        
+        nodeLabels.reset(weights);
+        return nodeLabels;
+    }
+    
+    /**
+     * Returns the labels of a hop-limited search over the 
+     * {@link HyperGraphNode} objects, reset for a new search. The nodes and
+     * the hyperedges are indexed by the labels returned by 
+     * {@link #nodeLabels(WeightFunction)}.
+     */
+    HopLabels hopLabels(WeightFunction<?> weights) {
+        if (hopLabels == null) {
+            hopLabels = new HopLabels();
+        }
+        
+        hopLabels.reset(weights);
+        return hopLabels;
+    }
+    
+    @SuppressWarnings("unchecked")
+    <W> SearchLabels.ObjectLabels<W> 
+        objectLabels(int direction, 
+                     HyperGraphSnapshot<?, ?, W> graph,
+                     WeightFunction<W> weights) {
+        
+        if (!isReusable(direction, 
+                        SearchLabels.ObjectLabels.class, 
+                        graph, 
+                        weights)) {
+            labels[direction] = new SearchLabels.ObjectLabels<>(graph, weights);
+        }
+        
+        labels[direction].reset();
+        return (SearchLabels.ObjectLabels<W>) labels[direction];
+    }
+    
+    <W> SearchLabels.LongLabels longLabels(int direction, 
+                                           HyperGraphSnapshot<?, ?, W> graph,
+                                           LongWeightFunction<W> weights) {
+        
+        if (!isReusable(direction, 
+                        SearchLabels.LongLabels.class, 
+                        graph, 
+                        weights)) {
+            labels[direction] = new SearchLabels.LongLabels(graph, weights);
+        }
+        
+        labels[direction].reset();
+        return (SearchLabels.LongLabels) labels[direction];
+    }
+    
+    <W> SearchLabels.DoubleLabels 
+        doubleLabels(int direction, 
+                     HyperGraphSnapshot<?, ?, W> graph,
+                     DoubleWeightFunction<W> weights) {
+        
+        if (!isReusable(direction, 
+                        SearchLabels.DoubleLabels.class, 
+                        graph, 
+                        weights)) {
+            labels[direction] = new SearchLabels.DoubleLabels(graph, weights);
+        }
+        
+        labels[direction].reset();
+        return (SearchLabels.DoubleLabels) labels[direction];
+    }
+    
+    /**
+     * Returns an empty queue for {@code direction} ordered by 
+     * {@code comparator}. The queue of the previous search is reused if it was
+     * created by the same factory for the same comparator. Only a comparator
+     * exposing its {@link ElementKeys} may get a bucket queue; the others, 
+     * such as the labels over object weights, get a heap even if
+     * {@code weights} are bounded.
+     */
+    IndexedPriorityQueue queue(int direction,
+                               WeightFunction<?> weights,
+                               ElementComparator comparator,
+                               int capacity) {
+        
+        if (!(comparator instanceof ElementKeys)) {
+            return heap(direction, comparator, capacity);
+        }
+        
+        return queue(direction, getQueueFactory(weights), comparator, capacity);
+    }
+    
+    /**
+     * Returns an empty heap for {@code direction} ordered by 
+     * {@code comparator}. Unlike the labels, the keys of a goal-directed 
+     * search are not monotone integers, so that the bucket queues do not 
+     * apply.
+     */
+    IndexedPriorityQueue heap(int direction,
+                              ElementComparator comparator,
+                              int capacity) {
+        
+        return queue(direction,
+                     queueFactory != null ? 
+                             queueFactory : 
+                             HyperGraphPathFinder.DEFAULT_QUEUE_FACTORY,
+                     comparator,
+                     capacity);
+    }
+    
+    /**
+     * Returns the potentials of a goal-directed search over {@code graph} in
+     * {@code direction}. The potentials must be reset before the search.
+     */
+    Potentials potentials(int direction, HyperGraphSnapshot<?, ?, ?> graph) {
+        if (potentials[direction] == null 
+                || potentials[direction].graph != graph) {
+            
+            potentials[direction] = new Potentials(graph);
+        }
+        
+        return potentials[direction];
+    }
+    
+    /**
+     * Returns the labels of a search over {@code hierarchy} in 
+     * {@code direction}, reset for a new search.
+     */
+    HierarchyLabels hierarchyLabels(int direction,
+                                    ContractionHierarchy<?, ?, ?> hierarchy) {
+        
+        if (hierarchyLabels[direction] == null
+                || hierarchyLabels[direction].hierarchy != hierarchy) {
+            
+            hierarchyLabels[direction] = new HierarchyLabels(hierarchy);
+        }
+        
+        hierarchyLabels[direction].reset();
+        return hierarchyLabels[direction];
+    }
+    
+    private IndexedPriorityQueue queue(int direction,
+                                       IndexedPriorityQueueFactory factory,
+                                       ElementComparator comparator,
+                                       int capacity) {
+        
+        IndexedPriorityQueue queue = queues[direction];
+        
+        if (queue != null 
+                && queueFactories[direction] == factory
+                && comparators[direction] == comparator) {
+            
+            queue.clear();
+            return queue;
+        }
+        
+        queue = factory.create(capacity, comparator);
+        queues[direction] = queue;
+        queueFactories[direction] = factory;
+        comparators[direction] = comparator;
+        return queue;
+    }
+    
+    private IndexedPriorityQueueFactory 
+        getQueueFactory(WeightFunction<?> weights) {
+        
+        if (queueFactory != null) {
+            return queueFactory;
+        }
+        
+        if (chosenQueueFactory == null 
+                || !chosenQueueFactoryWeights.equals(weights)) {
+            
+            chosenQueueFactory = HyperGraphPathFinder.queueFactory(weights);
+            chosenQueueFactoryWeights = weights;
+        }
+        
+        return chosenQueueFactory;
+    }
+    
+    private boolean isReusable(int direction, 
+                               Class<?> labelsClass,
+                               HyperGraphSnapshot<?, ?, ?> graph,
+                               WeightFunction<?> weights) {
+        
+        SearchLabels current = labels[direction];
+        return current != null 
+                && current.getClass() == labelsClass
+                && current.graph == graph
+                && current.weightFunction.equals(weights);
+    }
+}
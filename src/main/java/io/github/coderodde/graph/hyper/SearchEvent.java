@@ -0,0 +1,47 @@
+package io.github.coderodde.graph.hyper;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * This class defines the JDK Flight Recorder event committed by each
+ * instrumented search while a recording enables it. The duration of the event
+ * is the duration of the search.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@Name("io.github.coderodde.graph.hyper.Search")
+@Label("Hypergraph Search")
+@Category("Hypergraph")
+@Description("A shortest-path search over a hypergraph")
+@StackTrace(false)
+final class SearchEvent extends jdk.jfr.Event {
+    
+    @Label("Algorithm")
+    String algorithm;
+    
+    @Label("Settled Nodes")
+    int settledNodeCount;
+    
+    @Label("Scanned Hyperedges")
+    long scannedEdgeCount;
+    
+    @Label("Scanned Members")
+    long scannedMemberCount;
+    
+    @Label("Maximum Queue Size")
+    int maximumQueueSize;
+    
+    @Label("Traceback Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long tracebackNanos;
+    
+    @Label("Path Found")
+    boolean pathFound;
+}
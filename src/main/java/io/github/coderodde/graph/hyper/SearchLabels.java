@@ -0,0 +1,503 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.queue.ElementComparator;
+import io.github.coderodde.graph.hyper.queue.ElementKeys;
+import java.util.Arrays;
+
+/**
+ * This class holds the distance labels of a single search direction over a
+ * {@link HyperGraphSnapshot}, and implements the weight arithmetic on them.
+ * The subclasses store the labels in {@code Object}, {@code long} and
+ * {@code double} arrays, so that the search loops can be shared by all the
+ * weight function flavours without boxing the primitive ones.
+ * <p>
+ * A hyperedge is relaxed in two steps: {@link #loadEdge(int, int)} computes
+ * the label of the scanned node plus the weight of the hyperedge, after which
+ * {@link #relax(int, int, int)} is called for each member of the hyperedge.
+ * Each hyperedge is relaxed at most once per search direction, since the 
+ * first member of a hyperedge to be settled has the smallest label among all 
+ * the members.
+ * <p>
+ * The {@code long} labels are {@link ElementKeys} as well, so that they can 
+ * drive the integer queues.
+ * <p>
+ * The labels are reused by consecutive searches over the same snapshot: a 
+ * node is labeled or closed, and a hyperedge scanned, only if its stamp equals
+ * the epoch of the current search, so that {@link #reset()} runs in constant
+ * time.
+ * <p>
+ * The labels count the settled nodes, the scanned hyperedges and their 
+ * members, so that an instrumented search can report them without counting 
+ * in its inner loops.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.2.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+abstract class SearchLabels implements ElementComparator {
+    
+    final HyperGraphSnapshot<?, ?, ?> graph;
+    final WeightFunction<?> weightFunction;
+    final int[] parents;
+    final int[] parentEdges;
+    private final int[] labeledStamps;
+    private final int[] closedStamps;
+    private final int[] scannedStamps;
+    private int epoch;
+    int closedCount;
+    long scannedEdgeCount;
+    long scannedMemberCount;
+    
+    /**
+     * The best meeting found so far in a bidirectional search. Only the
+     * labels of the forward direction keep track of it.
+     */
+    boolean hasMeeting;
+    int meetingNodea = -1;
+    int meetingNodeb = -1;
+    int meetingEdge = -1;
+    
+    SearchLabels(HyperGraphSnapshot<?, ?, ?> graph, 
+                 WeightFunction<?> weightFunction) {
+        this.graph = graph;
+        this.weightFunction = weightFunction;
+        this.parents = new int[graph.getNodeCount()];
+        this.parentEdges = new int[graph.getNodeCount()];
+        this.labeledStamps = new int[graph.getNodeCount()];
+        this.closedStamps = new int[graph.getNodeCount()];
+        this.scannedStamps = new int[graph.getEdgeCount()];
+    }
+    
+    /**
+     * Unlabels all the nodes, opens them and unscans all the hyperedges.
+     */
+    final void reset() {
+        closedCount = 0;
+        scannedEdgeCount = 0L;
+        scannedMemberCount = 0L;
+        hasMeeting = false;
+        meetingNodea = -1;
+        meetingNodeb = -1;
+        meetingEdge = -1;
+        
+        if (++epoch == 0) {
+            Arrays.fill(labeledStamps, 0);
+            Arrays.fill(closedStamps, 0);
+            Arrays.fill(scannedStamps, 0);
+            epoch = 1;
+        }
+    }
+    
+    final boolean isLabeled(int node) {
+        return labeledStamps[node] == epoch;
+    }
+    
+    final boolean isClosed(int node) {
+        return closedStamps[node] == epoch;
+    }
+    
+    final void close(int node) {
+        closedStamps[node] = epoch;
+        closedCount++;
+    }
+    
+    /**
+     * Marks {@code edge} scanned.
+     * 
+     * @return {@code true} if {@code edge} was not scanned before.
+     */
+    final boolean scanEdge(int edge) {
+        if (scannedStamps[edge] == epoch) {
+            return false;
+        }
+        
+        scannedStamps[edge] = epoch;
+        scannedEdgeCount++;
+        scannedMemberCount += graph.edgeNodeOffsets[edge + 1] 
+                            - graph.edgeNodeOffsets[edge];
+        return true;
+    }
+    
+    /**
+     * Labels the start node of a search with zero, or with its own weight if
+     * {@code includeNodeWeight} is set.
+     */
+    abstract void start(int node, boolean includeNodeWeight);
+    
+    abstract void loadEdge(int node, int edge);
+    
+    /**
+     * Offers the label of the loaded hyperedge plus the weight of
+     * {@code member} to {@code member}.
+     *
+     * @return {@code true} if the label of {@code member} was improved.
+     */
+    abstract boolean relax(int member, int node, int edge);
+    
+    @Override
+    public abstract int compare(int node1, int node2);
+    
+    /**
+     * Offers a meeting of a bidirectional search: the label of the hyperedge
+     * loaded in {@code scanning} plus the label of {@code member} in
+     * {@code opposite}.
+     */
+    abstract void offerMeeting(SearchLabels scanning,
+                               SearchLabels opposite,
+                               int member,
+                               int nodea,
+                               int nodeb,
+                               int edge);
+    
+    /**
+     * Returns {@code true} if the label of {@code topa} in this direction plus
+     * the label of {@code topb} in {@code backward} is no better than the best
+     * meeting so far.
+     */
+    abstract boolean isMeetingOptimal(int topa,
+                                      SearchLabels backward,
+                                      int topb);
+    
+    final void setParent(int member, int node, int edge) {
+        labeledStamps[member] = epoch;
+        parents[member] = node;
+        parentEdges[member] = edge;
+    }
+    
+    final void setMeeting(int nodea, int nodeb, int edge) {
+        hasMeeting = true;
+        meetingNodea = nodea;
+        meetingNodeb = nodeb;
+        meetingEdge = edge;
+    }
+    
+    static final class ObjectLabels<W> extends SearchLabels {
+        
+        private final WeightFunction<W> weights;
+        private final Object[] nodeWeights;
+        private final Object[] edgeWeights;
+        private final Object[] labels;
+        private W edgeLabel;
+        private W meeting;
+        
+        ObjectLabels(HyperGraphSnapshot<?, ?, W> graph,
+                     WeightFunction<W> weights) {
+            super(graph, weights);
+            this.weights = weights;
+            this.nodeWeights = graph.getNodeWeightArray();
+            this.edgeWeights = graph.getEdgeWeightArray();
+            this.labels = new Object[graph.getNodeCount()];
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        void start(int node, boolean includeNodeWeight) {
+            labels[node] = includeNodeWeight ? (W) nodeWeights[node] :
+                                               weights.zero();
+            setParent(node, -1, -1);
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        void loadEdge(int node, int edge) {
+            edgeLabel = weights.apply((W) labels[node],
+                                      (W) edgeWeights[edge]);
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean relax(int member, int node, int edge) {
+            W tentative = weights.apply(edgeLabel, (W) nodeWeights[member]);
+            
+            if (!isLabeled(member) ||
+                    weights.compare((W) labels[member], tentative) > 0) {
+                
+                labels[member] = tentative;
+                setParent(member, node, edge);
+                return true;
+            }
+            
+            return false;
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        public int compare(int node1, int node2) {
+            return weights.compare((W) labels[node1], (W) labels[node2]);
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        void offerMeeting(SearchLabels scanning,
+                          SearchLabels opposite,
+                          int member,
+                          int nodea,
+                          int nodeb,
+                          int edge) {
+            
+            W w = weights.apply(((ObjectLabels<W>) scanning).edgeLabel,
+                                (W) ((ObjectLabels<W>) opposite).labels[member]);
+            
+            if (!hasMeeting || weights.compare(meeting, w) > 0) {
+                meeting = w;
+                setMeeting(nodea, nodeb, edge);
+            }
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean isMeetingOptimal(int topa, SearchLabels backward, int topb) {
+            if (!hasMeeting) {
+                return false;
+            }
+            
+            W score = weights.apply((W) labels[topa],
+                                    (W) ((ObjectLabels<W>) backward)
+                                            .labels[topb]);
+            
+            return weights.compare(score, meeting) >= 0;
+        }
+    }
+    
+    /**
+     * This class is the base of the labels over the primitive weights. Only
+     * they have a {@code double} value, which the goal-directed searches
+     * combine with their potentials.
+     */
+    abstract static class PrimitiveLabels extends SearchLabels {
+        
+        PrimitiveLabels(HyperGraphSnapshot<?, ?, ?> graph, 
+                        WeightFunction<?> weightFunction) {
+            super(graph, weightFunction);
+        }
+        
+        /**
+         * Returns the label of {@code node} as a {@code double}, so that it
+         * can be combined with the potentials of a goal-directed search. 
+         */
+        abstract double getLabelAsDouble(int node);
+        
+        abstract double getNodeWeightAsDouble(int node);
+        
+        /**
+         * Returns the weight of the best meeting so far as a {@code double}.
+         */
+        abstract double getMeetingAsDouble();
+    }
+    
+    static final class LongLabels extends PrimitiveLabels
+                                 implements ElementKeys {
+        
+        private final LongWeightFunction<?> weights;
+        private final long[] nodeWeights;
+        private final long[] edgeWeights;
+        private final long[] labels;
+        private long edgeLabel;
+        private long meeting;
+        
+        <W> LongLabels(HyperGraphSnapshot<?, ?, W> graph,
+                       LongWeightFunction<W> weights) {
+            super(graph, weights);
+            HyperGraphSnapshot.LongWeights longWeights =
+                    graph.getLongWeights(weights);
+            
+            this.weights = weights;
+            this.nodeWeights = longWeights.nodeWeights;
+            this.edgeWeights = longWeights.edgeWeights;
+            this.labels = new long[graph.getNodeCount()];
+        }
+        
+        @Override
+        void start(int node, boolean includeNodeWeight) {
+            labels[node] = includeNodeWeight ? nodeWeights[node] :
+                                               weights.zeroAsLong();
+            setParent(node, -1, -1);
+        }
+        
+        @Override
+        void loadEdge(int node, int edge) {
+            edgeLabel = weights.applyAsLong(labels[node], edgeWeights[edge]);
+        }
+        
+        @Override
+        boolean relax(int member, int node, int edge) {
+            long tentative = weights.applyAsLong(edgeLabel,
+                                                 nodeWeights[member]);
+            
+            if (!isLabeled(member) ||
+                    weights.compareAsLong(labels[member], tentative) > 0) {
+                
+                labels[member] = tentative;
+                setParent(member, node, edge);
+                return true;
+            }
+            
+            return false;
+        }
+        
+        @Override
+        public int compare(int node1, int node2) {
+            return weights.compareAsLong(labels[node1], labels[node2]);
+        }
+        
+        @Override
+        public long key(int node) {
+            return labels[node];
+        }
+        
+        long getLabel(int node) {
+            return labels[node];
+        }
+        
+        @Override
+        double getLabelAsDouble(int node) {
+            return labels[node];
+        }
+        
+        @Override
+        double getNodeWeightAsDouble(int node) {
+            return nodeWeights[node];
+        }
+        
+        @Override
+        double getMeetingAsDouble() {
+            return meeting;
+        }
+        
+        @Override
+        void offerMeeting(SearchLabels scanning,
+                          SearchLabels opposite,
+                          int member,
+                          int nodea,
+                          int nodeb,
+                          int edge) {
+            
+            long w = weights.applyAsLong(((LongLabels) scanning).edgeLabel,
+                                         ((LongLabels) opposite).labels[member]);
+            
+            if (!hasMeeting || weights.compareAsLong(meeting, w) > 0) {
+                meeting = w;
+                setMeeting(nodea, nodeb, edge);
+            }
+        }
+        
+        @Override
+        boolean isMeetingOptimal(int topa, SearchLabels backward, int topb) {
+            if (!hasMeeting) {
+                return false;
+            }
+            
+            long score = weights.applyAsLong(labels[topa],
+                                             ((LongLabels) backward)
+                                                     .labels[topb]);
+            
+            return weights.compareAsLong(score, meeting) >= 0;
+        }
+    }
+    
+    static final class DoubleLabels extends PrimitiveLabels {
+        
+        private final DoubleWeightFunction<?> weights;
+        private final double[] nodeWeights;
+        private final double[] edgeWeights;
+        private final double[] labels;
+        private double edgeLabel;
+        private double meeting;
+        
+        <W> DoubleLabels(HyperGraphSnapshot<?, ?, W> graph,
+                         DoubleWeightFunction<W> weights) {
+            super(graph, weights);
+            HyperGraphSnapshot.DoubleWeights doubleWeights =
+                    graph.getDoubleWeights(weights);
+            
+            this.weights = weights;
+            this.nodeWeights = doubleWeights.nodeWeights;
+            this.edgeWeights = doubleWeights.edgeWeights;
+            this.labels = new double[graph.getNodeCount()];
+        }
+        
+        @Override
+        void start(int node, boolean includeNodeWeight) {
+            labels[node] = includeNodeWeight ? nodeWeights[node] :
+                                               weights.zeroAsDouble();
+            setParent(node, -1, -1);
+        }
+        
+        @Override
+        void loadEdge(int node, int edge) {
+            edgeLabel = weights.applyAsDouble(labels[node], edgeWeights[edge]);
+        }
+        
+        @Override
+        boolean relax(int member, int node, int edge) {
+            double tentative = weights.applyAsDouble(edgeLabel,
+                                                     nodeWeights[member]);
+            
+            if (!isLabeled(member) ||
+                    weights.compareAsDouble(labels[member], tentative) > 0) {
+                
+                labels[member] = tentative;
+                setParent(member, node, edge);
+                return true;
+            }
+            
+            return false;
+        }
+        
+        @Override
+        public int compare(int node1, int node2) {
+            return weights.compareAsDouble(labels[node1], labels[node2]);
+        }
+        
+        double getLabel(int node) {
+            return labels[node];
+        }
+        
+        @Override
+        double getLabelAsDouble(int node) {
+            return labels[node];
+        }
+        
+        @Override
+        double getNodeWeightAsDouble(int node) {
+            return nodeWeights[node];
+        }
+        
+        @Override
+        double getMeetingAsDouble() {
+            return meeting;
+        }
+        
+        @Override
+        void offerMeeting(SearchLabels scanning,
+                          SearchLabels opposite,
+                          int member,
+                          int nodea,
+                          int nodeb,
+                          int edge) {
+            
+            double w =
+                    weights.applyAsDouble(((DoubleLabels) scanning).edgeLabel,
+                                          ((DoubleLabels) opposite)
+                                                  .labels[member]);
+            
+            if (!hasMeeting || weights.compareAsDouble(meeting, w) > 0) {
+                meeting = w;
+                setMeeting(nodea, nodeb, edge);
+            }
+        }
+        
+        @Override
+        boolean isMeetingOptimal(int topa, SearchLabels backward, int topb) {
+            if (!hasMeeting) {
+                return false;
+            }
+            
+            double score = weights.applyAsDouble(labels[topa],
+                                                 ((DoubleLabels) backward)
+                                                         .labels[topb]);
+            
+            return weights.compareAsDouble(score, meeting) >= 0;
+        }
+    }
+}
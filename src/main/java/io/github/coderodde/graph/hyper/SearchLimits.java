@@ -0,0 +1,214 @@
+package io.github.coderodde.graph.hyper;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * This class holds the limits of a bounded search: a maximum path cost, a
+ * maximum number of hyperedges on the path, a timeout and a
+ * {@link SearchCancellation} token. The limits are immutable, and each
+ * {@code with} method returns a copy with one more limit, so that the same
+ * limits may be reused by any number of concurrent queries.
+ * <p>
+ * The timeout starts when a search starts. The timeout, the token and the
+ * interruption of the searching thread are polled every
+ * {@link #POLL_INTERVAL} settled nodes, so that a search overruns its
+ * deadline by the time of settling that many nodes at most. A search does not
+ * clear the interrupt flag of its thread.
+ *
+ * @param <W> the type of the weights.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SearchLimits<W> {
+    
+    /**
+     * The number of nodes settled between two polls of the clock and the
+     * cancellation.
+     */
+    public static final int POLL_INTERVAL = 64;
+    
+    /**
+     * The number of hops meaning no hop limit.
+     */
+    public static final int UNLIMITED_HOPS = Integer.MAX_VALUE;
+    
+    private static final SearchLimits<?> NONE =
+            new SearchLimits<>(null, UNLIMITED_HOPS, -1L, null);
+    
+    private final W maximumCost;
+    private final int maximumHops;
+    private final long timeoutNanos;
+    private final SearchCancellation cancellation;
+    
+    private SearchLimits(W maximumCost,
+                         int maximumHops,
+                         long timeoutNanos,
+                         SearchCancellation cancellation) {
+        this.maximumCost = maximumCost;
+        this.maximumHops = maximumHops;
+        this.timeoutNanos = timeoutNanos;
+        this.cancellation = cancellation;
+    }
+    
+    /**
+     * Returns the limits of an unbounded search. A search without limits
+     * polls nothing.
+     *
+     * @param <W> the type of the weights.
+     * @return the empty limits.
+     */
+    @SuppressWarnings("unchecked")
+    public static <W> SearchLimits<W> none() {
+        return (SearchLimits<W>) NONE;
+    }
+    
+    /**
+     * Limits the weight of the path, counting all its nodes and hyperedges.
+     *
+     * @param maximumCost the maximum weight of the path.
+     * @return the new limits.
+     */
+    public SearchLimits<W> withMaximumCost(W maximumCost) {
+        return new SearchLimits<>(
+                Objects.requireNonNull(maximumCost, "The cost is null"),
+                maximumHops,
+                timeoutNanos,
+                cancellation);
+    }
+    
+    /**
+     * Limits the number of hyperedges on the path. The search finds the
+     * cheapest path with at most {@code maximumHops} hyperedges, which may be
+     * more expensive than the shortest path.
+     *
+     * @param maximumHops the maximum number of hyperedges on the path.
+     * @return the new limits.
+     */
+    public SearchLimits<W> withMaximumHops(int maximumHops) {
+        if (maximumHops < 0) {
+            throw new IllegalArgumentException(
+                    "The maximum number of hops is negative: " + maximumHops);
+        }
+        
+        return new SearchLimits<>(maximumCost,
+                                  maximumHops,
+                                  timeoutNanos,
+                                  cancellation);
+    }
+    
+    /**
+     * Limits the duration of the search.
+     *
+     * @param timeout the maximum duration of the search.
+     * @return the new limits.
+     */
+    public SearchLimits<W> withTimeout(Duration timeout) {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException(
+                    "The timeout is negative: " + timeout);
+        }
+        
+        long nanos;
+        
+        try {
+            nanos = timeout.toNanos();
+        } catch (ArithmeticException ex) {
+            nanos = Long.MAX_VALUE;
+        }
+        
+        return new SearchLimits<>(maximumCost,
+                                  maximumHops,
+                                  nanos,
+                                  cancellation);
+    }
+    
+    /**
+     * Makes the search stop once {@code cancellation} is cancelled.
+     *
+     * @param cancellation the cancellation token.
+     * @return the new limits.
+     */
+    public SearchLimits<W> withCancellation(SearchCancellation cancellation) {
+        return new SearchLimits<>(
+                maximumCost,
+                maximumHops,
+                timeoutNanos,
+                Objects.requireNonNull(cancellation, "The token is null"));
+    }
+    
+    /**
+     * Returns the maximum weight of the path, or {@code null} if the cost is
+     * not limited.
+     */
+    public W getMaximumCost() {
+        return maximumCost;
+    }
+    
+    /**
+     * Returns the maximum number of hyperedges on the path, or
+     * {@link #UNLIMITED_HOPS}.
+     */
+    public int getMaximumHops() {
+        return maximumHops;
+    }
+    
+    /**
+     * Returns the timeout, or {@code null} if the duration is not limited.
+     */
+    public Duration getTimeout() {
+        return timeoutNanos < 0L ? null : Duration.ofNanos(timeoutNanos);
+    }
+    
+    public SearchCancellation getCancellation() {
+        return cancellation;
+    }
+    
+    boolean hasMaximumCost() {
+        return maximumCost != null;
+    }
+    
+    boolean hasMaximumHops() {
+        return maximumHops != UNLIMITED_HOPS;
+    }
+    
+    /**
+     * Returns {@code true} if the searches with these limits must poll the
+     * clock and the cancellation.
+     */
+    boolean isPolled() {
+        return this != NONE;
+    }
+    
+    /**
+     * Returns the deadline, in terms of {@link System#nanoTime()}, of a
+     * search started now.
+     */
+    long deadline() {
+        if (timeoutNanos < 0L) {
+            return 0L;
+        }
+        
+        // Compared by subtraction, the sum may overflow:
+        return System.nanoTime() + timeoutNanos;
+    }
+    
+    /**
+     * Returns the status ending a search with {@code deadline}, or
+     * {@code null} if the search may continue.
+     */
+    SearchResult.Status poll(long deadline) {
+        if ((cancellation != null && cancellation.isCancelled())
+                || Thread.currentThread().isInterrupted()) {
+            return SearchResult.Status.CANCELLED;
+        }
+        
+        if (timeoutNanos >= 0L && System.nanoTime() - deadline >= 0L) {
+            return SearchResult.Status.DEADLINE_EXCEEDED;
+        }
+        
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.coderodde.graph.hyper;
+
+/**
+ * This interface defines the API for receiving the statistics of the searches
+ * run with a {@link SearchContext}. It is the extension point for exporting
+ * the statistics to a metrics library; {@link SearchMetrics} is an
+ * implementation aggregating them in memory.
+ * <p>
+ * A listener is called on the thread that ran the search, after the path has
+ * been reconstructed, so that it should return quickly. The same listener may
+ * be set on the contexts of many threads, and must then be thread-safe.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@FunctionalInterface
+public interface SearchListener {
+    
+    /**
+     * Receives the statistics of a finished search. The statistics object is
+     * reused by the next search with the same context, and must be copied if
+     * it is needed after this method returns.
+     *
+     * @param statistics the statistics of the search.
+     */
+    void searchFinished(SearchStatistics statistics);
+}
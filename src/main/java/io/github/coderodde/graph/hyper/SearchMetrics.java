@@ -0,0 +1,221 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class implements a {@link SearchListener} aggregating the statistics
+ * of all the searches it receives into counters and histograms. It is
+ * thread-safe, so that a single instance may be set on the
+ * {@link SearchContext} of every thread of a server. The counters are
+ * {@link LongAdder}s, so that the threads contend little.
+ * <p>
+ * The histograms have a bucket per power of two, which bounds the relative
+ * error of a quantile by a factor of two in constant memory.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SearchMetrics implements SearchListener {
+    
+    private final LongAdder searchCount = new LongAdder();
+    private final LongAdder foundCount = new LongAdder();
+    private final LongAdder settledNodeCount = new LongAdder();
+    private final LongAdder scannedEdgeCount = new LongAdder();
+    private final LongAdder scannedMemberCount = new LongAdder();
+    private final LongAdder searchNanos = new LongAdder();
+    private final LongAdder tracebackNanos = new LongAdder();
+    
+    private final Histogram searchNanosHistogram = new Histogram();
+    private final Histogram settledNodeHistogram = new Histogram();
+    private final Histogram queueSizeHistogram = new Histogram();
+    
+    @Override
+    public void searchFinished(SearchStatistics statistics) {
+        searchCount.increment();
+        
+        if (statistics.isPathFound()) {
+            foundCount.increment();
+        }
+        
+        settledNodeCount.add(statistics.getSettledNodeCount());
+        scannedEdgeCount.add(statistics.getScannedEdgeCount());
+        scannedMemberCount.add(statistics.getScannedMemberCount());
+        searchNanos.add(statistics.getSearchNanos());
+        tracebackNanos.add(statistics.getTracebackNanos());
+        searchNanosHistogram.record(statistics.getSearchNanos());
+        settledNodeHistogram.record(statistics.getSettledNodeCount());
+        queueSizeHistogram.record(statistics.getMaximumQueueSize());
+    }
+    
+    public long getSearchCount() {
+        return searchCount.sum();
+    }
+    
+    public long getFoundCount() {
+        return foundCount.sum();
+    }
+    
+    public long getSettledNodeCount() {
+        return settledNodeCount.sum();
+    }
+    
+    public long getScannedEdgeCount() {
+        return scannedEdgeCount.sum();
+    }
+    
+    public long getScannedMemberCount() {
+        return scannedMemberCount.sum();
+    }
+    
+    public long getSearchNanos() {
+        return searchNanos.sum();
+    }
+    
+    public long getTracebackNanos() {
+        return tracebackNanos.sum();
+    }
+    
+    /**
+     * Returns the histogram of the durations of the searches in nanoseconds.
+     */
+    public Histogram getSearchNanosHistogram() {
+        return searchNanosHistogram;
+    }
+    
+    /**
+     * Returns the histogram of the numbers of nodes settled by the searches.
+     */
+    public Histogram getSettledNodeHistogram() {
+        return settledNodeHistogram;
+    }
+    
+    /**
+     * Returns the histogram of the maximum queue sizes of the searches.
+     */
+    public Histogram getQueueSizeHistogram() {
+        return queueSizeHistogram;
+    }
+    
+    /**
+     * Resets all the counters and the histograms. The searches finishing
+     * during a reset may be partially counted.
+     */
+    public void reset() {
+        searchCount.reset();
+        foundCount.reset();
+        settledNodeCount.reset();
+        scannedEdgeCount.reset();
+        scannedMemberCount.reset();
+        searchNanos.reset();
+        tracebackNanos.reset();
+        searchNanosHistogram.reset();
+        settledNodeHistogram.reset();
+        queueSizeHistogram.reset();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("[searches = %d, found = %d, settled = %d, "
+                                     + "edges = %d, members = %d, "
+                                     + "nanos = %d, traceback nanos = %d]",
+                             getSearchCount(),
+                             getFoundCount(),
+                             getSettledNodeCount(),
+                             getScannedEdgeCount(),
+                             getScannedMemberCount(),
+                             getSearchNanos(),
+                             getTracebackNanos());
+    }
+    
+    /**
+     * This class implements a histogram of non-negative values. The bucket 0
+     * counts the zeros, and the bucket {@code k > 0} counts the values in
+     * {@code [2^(k - 1), 2^k)}.
+     */
+    public static final class Histogram {
+        
+        /**
+         * The number of the buckets.
+         */
+        public static final int BUCKET_COUNT = Long.SIZE;
+        
+        private final AtomicLongArray counts =
+                new AtomicLongArray(BUCKET_COUNT);
+        
+        void record(long value) {
+            counts.incrementAndGet(bucketOf(Math.max(value, 0L)));
+        }
+        
+        public long getCount() {
+            long count = 0L;
+            
+            for (int bucket = 0; bucket < BUCKET_COUNT; ++bucket) {
+                count += counts.get(bucket);
+            }
+            
+            return count;
+        }
+        
+        public long getBucketCount(int bucket) {
+            return counts.get(bucket);
+        }
+        
+        /**
+         * Returns the upper bound of the bucket containing the
+         * {@code quantile} of the recorded values, or zero if there are none.
+         *
+         * @param quantile the quantile within {@code [0, 1]}.
+         * @return the upper bound of the quantile.
+         */
+        public long getQuantile(double quantile) {
+            if (!(quantile >= 0.0 && quantile <= 1.0)) {
+                throw new IllegalArgumentException(
+                        "The quantile is not within [0, 1]: " + quantile);
+            }
+            
+            long[] snapshot = new long[BUCKET_COUNT];
+            long count = 0L;
+            
+            for (int bucket = 0; bucket < BUCKET_COUNT; ++bucket) {
+                snapshot[bucket] = counts.get(bucket);
+                count += snapshot[bucket];
+            }
+            
+            if (count == 0L) {
+                return 0L;
+            }
+            
+            long rank = Math.max(1L, (long) Math.ceil(quantile * count));
+            
+            for (int bucket = 0; bucket < BUCKET_COUNT; ++bucket) {
+                rank -= snapshot[bucket];
+                
+                if (rank <= 0L) {
+                    return upperBoundOf(bucket);
+                }
+            }
+            
+            return Long.MAX_VALUE;
+        }
+        
+        void reset() {
+            for (int bucket = 0; bucket < BUCKET_COUNT; ++bucket) {
+                counts.set(bucket, 0L);
+            }
+        }
+        
+        static int bucketOf(long value) {
+            return Long.SIZE - Long.numberOfLeadingZeros(value);
+        }
+        
+        /**
+         * Returns the largest value counted in {@code bucket}. The shift 
+         * overflows to {@link Long#MAX_VALUE} for the last bucket.
+         */
+        static long upperBoundOf(int bucket) {
+            return (1L << bucket) - 1L;
+        }
+    }
+}
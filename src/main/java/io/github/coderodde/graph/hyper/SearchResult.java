@@ -0,0 +1,105 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.Objects;
+
+/**
+ * This class holds the outcome of a bounded search: the path, if one was
+ * found within the {@link SearchLimits}, and the reason the search ended. A
+ * search stopped by a limit reports which limit, so that it is not mistaken
+ * for a query between disconnected nodes.
+ *
+ * @param <I> the type of the node identity object.
+ * @param <J> the type of the edge identity object.
+ * @param <W> the type of the weights.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SearchResult<I, J, W> {
+    
+    /**
+     * The reasons for a search to end.
+     */
+    public enum Status {
+        
+        /**
+         * The path was found.
+         */
+        FOUND,
+        
+        /**
+         * There is no path from the source to the target.
+         */
+        UNREACHABLE,
+        
+        /**
+         * Every path from the source to the target, within the hop limit if
+         * any, weighs more than the maximum cost.
+         */
+        COST_LIMIT_EXCEEDED,
+        
+        /**
+         * Every path from the source to the target has more hyperedges than
+         * the maximum number of hops.
+         */
+        HOP_LIMIT_EXCEEDED,
+        
+        /**
+         * The search ran out of time.
+         */
+        DEADLINE_EXCEEDED,
+        
+        /**
+         * The search was cancelled through its {@link SearchCancellation}, or
+         * its thread was interrupted.
+         */
+        CANCELLED
+    }
+    
+    private final Status status;
+    private final HyperGraphPath<I, J, W> path;
+    
+    SearchResult(HyperGraphPath<I, J, W> path) {
+        this.status = Status.FOUND;
+        this.path = path;
+    }
+    
+    SearchResult(Status status, WeightFunction<W> weights) {
+        this.status = Objects.requireNonNull(status);
+        this.path = new HyperGraphPath<>(weights);
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    /**
+     * Returns the path found, or the nonexistent path if the status is not
+     * {@link Status#FOUND}.
+     *
+     * @return the path.
+     */
+    public HyperGraphPath<I, J, W> getPath() {
+        return path;
+    }
+    
+    public boolean isFound() {
+        return status == Status.FOUND;
+    }
+    
+    /**
+     * Returns {@code true} if the search was ended by one of its limits, so
+     * that a path may exist beyond them.
+     *
+     * @return {@code true} if a limit was exceeded.
+     */
+    public boolean isLimitExceeded() {
+        return status != Status.FOUND && status != Status.UNREACHABLE;
+    }
+    
+    @Override
+    public String toString() {
+        return status == Status.FOUND ? path.toString() : status.toString();
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.coderodde.graph.hyper;
+
+/**
+ * This class holds the statistics of a single search: how many nodes were
+ * settled, how many hyperedges and hyperedge members were scanned, how large
+ * the open set grew, and how long the search and the reconstruction of the
+ * path took. A search reports them only if its {@link SearchContext} has a
+ * statistics object or a {@link SearchListener}, or the {@link SearchEvent} is
+ * being recorded by the JDK Flight Recorder.
+ * <p>
+ * A statistics object set on a context is overwritten by each search run with
+ * the context, so that it always describes the latest search. The counts of a
+ * bidirectional search are the sums over both directions, and its maximum
+ * queue size is the largest total size of the two queues.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SearchStatistics {
+    
+    private String algorithm;
+    private int settledNodeCount;
+    private long scannedEdgeCount;
+    private long scannedMemberCount;
+    private int maximumQueueSize;
+    private long searchNanos;
+    private long tracebackNanos;
+    private boolean pathFound;
+    
+    void set(String algorithm,
+             int settledNodeCount,
+             long scannedEdgeCount,
+             long scannedMemberCount,
+             int maximumQueueSize,
+             long searchNanos,
+             long tracebackNanos,
+             boolean pathFound) {
+        
+        this.algorithm = algorithm;
+        this.settledNodeCount = settledNodeCount;
+        this.scannedEdgeCount = scannedEdgeCount;
+        this.scannedMemberCount = scannedMemberCount;
+        this.maximumQueueSize = maximumQueueSize;
+        this.searchNanos = searchNanos;
+        this.tracebackNanos = tracebackNanos;
+        this.pathFound = pathFound;
+    }
+    
+    /**
+     * Returns the name of the search, such as
+     * {@code "HyperGraphPathFinder.biFind"}, or {@code null} if no search has
+     * reported to this object yet.
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+    
+    public int getSettledNodeCount() {
+        return settledNodeCount;
+    }
+    
+    /**
+     * Returns the number of hyperedges relaxed by the search. Each hyperedge
+     * is relaxed at most once per search direction.
+     */
+    public long getScannedEdgeCount() {
+        return scannedEdgeCount;
+    }
+    
+    /**
+     * Returns the total number of members of the relaxed hyperedges.
+     */
+    public long getScannedMemberCount() {
+        return scannedMemberCount;
+    }
+    
+    public int getMaximumQueueSize() {
+        return maximumQueueSize;
+    }
+    
+    /**
+     * Returns the duration of the whole search in nanoseconds, including the
+     * reconstruction of the path.
+     */
+    public long getSearchNanos() {
+        return searchNanos;
+    }
+    
+    /**
+     * Returns the duration of the reconstruction of the path in nanoseconds,
+     * or zero if no path was found.
+     */
+    public long getTracebackNanos() {
+        return tracebackNanos;
+    }
+    
+    public boolean isPathFound() {
+        return pathFound;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("[algorithm = %s, settled = %d, edges = %d, "
+                                     + "members = %d, queue = %d, "
+                                     + "nanos = %d, traceback nanos = %d, "
+                                     + "found = %b]",
+                             algorithm,
+                             settledNodeCount,
+                             scannedEdgeCount,
+                             scannedMemberCount,
+                             maximumQueueSize,
+                             searchNanos,
+                             tracebackNanos,
+                             pathFound);
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class implements a shortest-path tree rooted at a source node. It holds
+ * the nodes settled by a single-source search in the order of their 
+ * distances, and for each node its distance, its parent node and the 
+ * hyperedge it was reached through. The path to a node is extracted only when
+ * asked for, in time linear in its length.
+ * <p>
+ * The distance of a node is the weight of the shortest path from the source 
+ * to it, as returned by {@link HyperGraphPath#getWeight()}, which includes the
+ * weights of both end nodes. A tree is immutable once built.
+ * 
+ * @param <I> the type of the node identity object.
+ * @param <J> the type of the edge identity object.
+ * @param <W> the type of the weights.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.2.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class ShortestPathTree<I, J, W> {
+    
+    private static final int MINIMUM_CAPACITY = 16;
+    
+    private final HyperGraphNode<I, J, W> source;
+    private final WeightFunction<W> weights;
+    private final IndexMap<HyperGraphNode<I, J, W>> indices = new IndexMap<>();
+    private HyperGraphNode<I, J, W>[] nodes;
+    private Object[] distances;
+    private int[] parents;
+    private HyperGraphEdge<I, J, W>[] parentEdges;
+    private int size;
+    
+    ShortestPathTree(HyperGraphNode<I, J, W> source, 
+                     WeightFunction<W> weights) {
+        this.source = source;
+        this.weights = weights;
+        this.nodes = HyperGraphSnapshot.newNodeArray(MINIMUM_CAPACITY);
+        this.distances = new Object[MINIMUM_CAPACITY];
+        this.parents = new int[MINIMUM_CAPACITY];
+        this.parentEdges = HyperGraphSnapshot.newEdgeArray(MINIMUM_CAPACITY);
+    }
+    
+    public HyperGraphNode<I, J, W> getSource() {
+        return source;
+    }
+    
+    /**
+     * Returns the number of nodes in this tree, including the source.
+     * 
+     * @return the number of nodes.
+     */
+    public int size() {
+        return size;
+    }
+    
+    public boolean contains(HyperGraphNode<I, J, W> node) {
+        return indices.get(node) >= 0;
+    }
+    
+    /**
+     * Returns the distance of {@code node} from the source, or {@code null} if
+     * the node is not in this tree.
+     * 
+     * @param node the node.
+     * @return the distance or {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public W getDistance(HyperGraphNode<I, J, W> node) {
+        int index = indices.get(node);
+        return index < 0 ? null : (W) distances[index];
+    }
+    
+    /**
+     * Returns the shortest path from the source to {@code target}, or the 
+     * empty path if {@code target} is not in this tree.
+     * 
+     * @param target the target node.
+     * @return the shortest path.
+     */
+    public HyperGraphPath<I, J, W> getPath(HyperGraphNode<I, J, W> target) {
+        int index = indices.get(target);
+        
+        if (index < 0) {
+            // Return empty path:
+            return new HyperGraphPath<>(weights);
+        }
+        
+        List<HyperGraphNode<I, J, W>> pathNodes = new ArrayList<>();
+        List<HyperGraphEdge<I, J, W>> pathEdges = new ArrayList<>();
+        pathNodes.add(nodes[index]);
+        
+        while (parents[index] != -1) {
+            pathEdges.add(parentEdges[index]);
+            index = parents[index];
+            pathNodes.add(nodes[index]);
+        }
+        
+        Collections.reverse(pathNodes);
+        Collections.reverse(pathEdges);
+        return new HyperGraphPath<>(pathNodes, pathEdges, weights, false);
+    }
+    
+    /**
+     * Returns the nodes of this tree in non-decreasing order of their 
+     * distances. The source is the first node.
+     * 
+     * @return the nodes of this tree.
+     */
+    public List<HyperGraphNode<I, J, W>> getNodes() {
+        return Collections.unmodifiableList(Arrays.asList(nodes).subList(0, 
+                                                                        size));
+    }
+    
+    /**
+     * Returns the index of {@code node} in this tree, or -1 if the node is not
+     * in it. The indices follow the order of {@link #getNodes()}, so that the
+     * source has the index 0.
+     */
+    int indexOf(HyperGraphNode<I, J, W> node) {
+        return indices.get(node);
+    }
+    
+    HyperGraphNode<I, J, W> getNode(int index) {
+        return nodes[index];
+    }
+    
+    @SuppressWarnings("unchecked")
+    W getDistance(int index) {
+        return (W) distances[index];
+    }
+    
+    /**
+     * Returns the index of the parent of the node with index {@code index}, 
+     * or -1 for the source.
+     */
+    int getParent(int index) {
+        return parents[index];
+    }
+    
+    HyperGraphEdge<I, J, W> getParentEdge(int index) {
+        return parentEdges[index];
+    }
+    
+    /**
+     * Appends {@code node} to this tree. The parent must have been appended
+     * before.
+     */
+    void add(HyperGraphNode<I, J, W> node,
+             W distance,
+             HyperGraphNode<I, J, W> parent,
+             HyperGraphEdge<I, J, W> parentEdge) {
+        
+        if (size == nodes.length) {
+            int capacity = 2 * size;
+            nodes = Arrays.copyOf(nodes, capacity);
+            distances = Arrays.copyOf(distances, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            parentEdges = Arrays.copyOf(parentEdges, capacity);
+        }
+        
+        indices.indexOf(node);
+        nodes[size] = node;
+        distances[size] = distance;
+        parents[size] = parent == null ? -1 : indices.get(parent);
+        parentEdges[size] = parentEdge;
+        size++;
+    }
+    
+    /**
+     * Releases the unused capacity after the last node is appended.
+     */
+    void trim() {
+        nodes = Arrays.copyOf(nodes, size);
+        distances = Arrays.copyOf(distances, size);
+        parents = Arrays.copyOf(parents, size);
+        parentEdges = Arrays.copyOf(parentEdges, size);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.coderodde.graph.hyper;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This interface defines the API for converting the node and the hyperedge
+ * identities to bytes and back, so that a {@link HyperGraphSnapshot} can be
+ * stored by {@link HyperGraphSnapshotFile}.
+ *
+ * @param <T> the type of the identity object.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public interface SnapshotCodec<T> {
+
+    SnapshotCodec<Integer> INTEGER = new SnapshotCodec<>() {
+
+        @Override
+        public byte[] encode(Integer value) {
+            return ByteBuffer.allocate(Integer.BYTES)
+                             .order(ByteOrder.LITTLE_ENDIAN)
+                             .putInt(value)
+                             .array();
+        }
+
+        @Override
+        public Integer decode(ByteBuffer bytes) {
+            return bytes.order(ByteOrder.LITTLE_ENDIAN).getInt(0);
+        }
+    };
+
+    SnapshotCodec<Long> LONG = new SnapshotCodec<>() {
+
+        @Override
+        public byte[] encode(Long value) {
+            return ByteBuffer.allocate(Long.BYTES)
+                             .order(ByteOrder.LITTLE_ENDIAN)
+                             .putLong(value)
+                             .array();
+        }
+
+        @Override
+        public Long decode(ByteBuffer bytes) {
+            return bytes.order(ByteOrder.LITTLE_ENDIAN).getLong(0);
+        }
+    };
+
+    SnapshotCodec<String> STRING = new SnapshotCodec<>() {
+
+        @Override
+        public byte[] encode(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(ByteBuffer bytes) {
+            return StandardCharsets.UTF_8.decode(bytes).toString();
+        }
+    };
+
+    byte[] encode(T value);
+
+    /**
+     * Decodes an identity from {@code bytes}, which holds exactly the bytes
+     * returned by {@link #encode(java.lang.Object)}, starting at index zero.
+     * The buffer may be a view of a memory-mapped file, and is not shared
+     * with any other call.
+     *
+     * @param bytes the encoded identity.
+     * @return the identity.
+     */
+    T decode(ByteBuffer bytes);
+}
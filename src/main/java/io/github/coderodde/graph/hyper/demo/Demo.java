@@ -11,7 +11,7 @@ import java.util.Random;
 /**
  *
  * @author Rodion "rodde" Efremov
- * @version 1.0.0 (Oct 1, 2025)
+ * @version 1.0.1 (Oct 17, 2026)
  * @since 1.0.0 (Oct 1, 2025)
  */
 public final class Demo {
@@ -25,8 +25,20 @@ public final class Demo {
     private static final int MINIMUM_HYPER_NODE_WEIGHT = 0;
     private static final int MAXIMUM_HYPER_NODE_WEIGHT = 5;
     
+    /**
+     * The largest weight of a node or a hyperedge. The random weights are the
+     * minimum plus a value in {@code [0, maximum]}, so that a hyperedge weighs
+     * up to {@code 1 + 10 = 11}.
+     */
+    private static final int MAXIMUM_ELEMENT_WEIGHT = 
+            Math.max(MINIMUM_HYPER_EDGE_WEIGHT + MAXIMUM_HYPER_EDGE_WEIGHT,
+                     MINIMUM_HYPER_NODE_WEIGHT + MAXIMUM_HYPER_NODE_WEIGHT);
+    
     private static final Random RND = new Random(13L);
     
+    private static final IntegerWeightFunction WEIGHT_FUNCTION = 
+            new IntegerWeightFunction(MAXIMUM_ELEMENT_WEIGHT);
+    
     public static void main(String[] args) {
         long ta = System.currentTimeMillis();
         
@@ -48,7 +60,7 @@ public final class Demo {
         HyperGraphPath<Integer, Integer, Integer> path1 =
                 HyperGraphPathFinder.find(source, 
                                           target,
-                                          new IntegerWeightFunction());
+                                          WEIGHT_FUNCTION);
         tb = System.currentTimeMillis();
         
         printPath(path1);
@@ -62,7 +74,7 @@ public final class Demo {
         HyperGraphPath<Integer, Integer, Integer> path2 = 
                 HyperGraphPathFinder.biFind(source,
                                             target, 
-                                            new IntegerWeightFunction());
+                                            WEIGHT_FUNCTION);
         
         System.out.println(path2);
         
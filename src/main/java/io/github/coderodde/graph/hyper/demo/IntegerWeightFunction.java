@@ -1,15 +1,42 @@
 package io.github.coderodde.graph.hyper.demo;
 
-import io.github.coderodde.graph.hyper.WeightFunction;
+import io.github.coderodde.graph.hyper.LongWeightFunction;
 
 /**
- * This class defines a weight function over integer valued weights.
+ * This class defines a weight function over integer valued weights. If 
+ * constructed with a bound on the node and hyperedge weights, the searches may
+ * use a monotone bucket queue.
  * 
  * @author Rodion "rodde" Efremov
- * @version 1.0.0 (Oct 1, 2025)
+ * @version 1.2.0 (Oct 17, 2026)
  * @since 1.0.0 (Oct 1, 2025)
  */
-public final class IntegerWeightFunction implements WeightFunction<Integer> {
+public final class IntegerWeightFunction 
+        implements LongWeightFunction<Integer> {
+    
+    private final int maxElementWeight;
+    
+    /**
+     * Constructs a weight function over unbounded weights.
+     */
+    public IntegerWeightFunction() {
+        this.maxElementWeight = -1;
+    }
+    
+    /**
+     * Constructs a weight function over the weights within 
+     * {@code [0, maxElementWeight]}.
+     * 
+     * @param maxElementWeight the largest weight of a node or a hyperedge.
+     */
+    public IntegerWeightFunction(int maxElementWeight) {
+        if (maxElementWeight < 0) {
+            throw new IllegalArgumentException(
+                    "Negative maximum weight " + maxElementWeight);
+        }
+        
+        this.maxElementWeight = maxElementWeight;
+    }
 
     @Override
     public Integer zero() {
@@ -31,4 +58,53 @@ public final class IntegerWeightFunction implements WeightFunction<Integer> {
         return Integer.compare(weight1,
                                weight2);
     }
+
+    @Override
+    public long toLong(Integer weight) {
+        return weight;
+    }
+
+    @Override
+    public Integer fromLong(long weight) {
+        return Math.toIntExact(weight);
+    }
+
+    @Override
+    public long zeroAsLong() {
+        return 0L;
+    }
+
+    @Override
+    public long maxAsLong() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public long applyAsLong(long w1, long w2) {
+        return w1 + w2;
+    }
+
+    @Override
+    public int compareAsLong(long weight1, long weight2) {
+        return Long.compare(weight1, 
+                            weight2);
+    }
+    
+    @Override
+    public long maxElementWeightAsLong() {
+        return maxElementWeight;
+    }
+    
+    @Override
+    public int hashCode() {
+        return IntegerWeightFunction.class.hashCode() ^ maxElementWeight;
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        return obj != null 
+                && obj.getClass().equals(getClass())
+                && ((IntegerWeightFunction) obj).maxElementWeight 
+                == maxElementWeight;
+    }
 }
@@ -0,0 +1,75 @@
+package io.github.coderodde.graph.hyper.demo;
+
+import io.github.coderodde.graph.hyper.DoubleWeightFunction;
+
+/**
+ * This class defines a weight function over real valued weights.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class RealWeightFunction implements DoubleWeightFunction<Double> {
+
+    @Override
+    public Double zero() {
+        return 0.0;
+    }
+
+    @Override
+    public Double max() {
+        return Double.POSITIVE_INFINITY;
+    }    
+
+    @Override
+    public Double apply(Double w1, Double w2) {
+        return w1 + w2;
+    }
+
+    @Override
+    public int compare(Double weight1, Double weight2) {
+        return Double.compare(weight1,
+                              weight2);
+    }
+
+    @Override
+    public double toDouble(Double weight) {
+        return weight;
+    }
+
+    @Override
+    public Double fromDouble(double weight) {
+        return weight;
+    }
+
+    @Override
+    public double zeroAsDouble() {
+        return 0.0;
+    }
+
+    @Override
+    public double maxAsDouble() {
+        return Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public double applyAsDouble(double w1, double w2) {
+        return w1 + w2;
+    }
+
+    @Override
+    public int compareAsDouble(double weight1, double weight2) {
+        return Double.compare(weight1, 
+                              weight2);
+    }
+    
+    @Override
+    public int hashCode() {
+        return RealWeightFunction.class.hashCode();
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        return obj != null && obj.getClass().equals(getClass());
+    }
+}
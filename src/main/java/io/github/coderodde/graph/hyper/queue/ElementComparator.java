@@ -0,0 +1,16 @@
+package io.github.coderodde.graph.hyper.queue;
+
+/**
+ * This interface defines the API for comparing the priorities of two elements
+ * of an {@link IndexedPriorityQueue}. The priorities are owned by the caller,
+ * which typically keeps them in an array indexed by the elements.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@FunctionalInterface
+public interface ElementComparator {
+    
+    int compare(int element1, int element2);
+}
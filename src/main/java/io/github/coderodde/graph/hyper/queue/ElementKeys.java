@@ -0,0 +1,22 @@
+package io.github.coderodde.graph.hyper.queue;
+
+/**
+ * This interface defines the API for the element comparators whose priorities
+ * are {@code long} keys compared in their natural order. The integer queues,
+ * such as {@link IndexedBucketQueue}, address the elements by their keys 
+ * instead of comparing them.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@FunctionalInterface
+public interface ElementKeys extends ElementComparator {
+    
+    long key(int element);
+    
+    @Override
+    default int compare(int element1, int element2) {
+        return Long.compare(key(element1), key(element2));
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.coderodde.graph.hyper.queue;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * This class implements a monotone bucket queue (Dial's algorithm) over
+ * non-negative integer keys. The queue is monotone: the key of an inserted or
+ * decreased element may not be smaller than the key of the last extracted
+ * element, nor exceed it by more than {@code maxStep}. Until the first 
+ * extraction, the key of the first inserted element plays the role of the last
+ * extracted key. This holds for Dijkstra's algorithm when each relaxation adds
+ * at most {@code maxStep} to a distance. Under these conditions, 
+ * {@code maxStep + 1} cyclic buckets suffice, {@link #insert(int)} and 
+ * {@link #decreaseKey(int)} run in constant time, and 
+ * {@link #extractMinimum()} skips at most {@code maxStep} empty buckets.
+ * <p>
+ * The buckets are doubly-linked lists threaded through arrays indexed by the
+ * elements, so that no operation allocates.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class IndexedBucketQueue implements IndexedPriorityQueue {
+    
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final int NIL = -1;
+    
+    private final ElementKeys keys;
+    private final long maxStep;
+    
+    /**
+     * {@code buckets[b]} is the first element in the bucket {@code b}.
+     */
+    private final int[] buckets;
+    
+    /**
+     * {@code bucketOf[e]} is the bucket of {@code e}, or {@code NIL} if 
+     * {@code e} is not in this queue.
+     */
+    private int[] bucketOf;
+    private int[] next;
+    private int[] prev;
+    
+    /**
+     * The key of the bucket {@code cursor}. No element in this queue has a 
+     * smaller key. The first insertion after construction or 
+     * {@link #clear()} sets it, after which it only follows the extracted 
+     * keys.
+     */
+    private long cursorKey;
+    private int cursor;
+    private boolean anchored;
+    private int size;
+    
+    public IndexedBucketQueue(long maxStep, int capacity, ElementKeys keys) {
+        if (maxStep < 0L || maxStep >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "Maximum step " + maxStep + " is out of range");
+        }
+        
+        this.keys = keys;
+        this.maxStep = maxStep;
+        this.buckets = new int[(int) maxStep + 1];
+        capacity = Math.max(capacity, MINIMUM_CAPACITY);
+        this.bucketOf = new int[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        Arrays.fill(buckets, NIL);
+        Arrays.fill(bucketOf, NIL);
+    }
+    
+    /**
+     * Returns a factory of bucket queues. The comparators passed to the 
+     * factory must be {@link ElementKeys}.
+     */
+    public static IndexedPriorityQueueFactory factory(long maxStep) {
+        return (capacity, comparator) -> {
+            if (!(comparator instanceof ElementKeys keys)) {
+                throw new IllegalArgumentException(
+                        "The bucket queue requires integer element keys");
+            }
+            
+            return new IndexedBucketQueue(maxStep, capacity, keys);
+        };
+    }
+    
+    @Override
+    public void insert(int element) {
+        ensureElementCapacity(element);
+        
+        if (bucketOf[element] != NIL) {
+            throw new IllegalStateException(
+                    "Element " + element + " is already in the queue");
+        }
+        
+        long key = keys.key(element);
+        
+        if (!anchored) {
+            checkKey(key);
+            cursorKey = key;
+            cursor = (int) (key % buckets.length);
+            anchored = true;
+        }
+        
+        link(element, bucketOf(key));
+        size++;
+    }
+    
+    @Override
+    public void decreaseKey(int element) {
+        int bucket = bucketOf(keys.key(element));
+        
+        if (bucket != bucketOf[element]) {
+            unlink(element);
+            link(element, bucket);
+        }
+    }
+    
+    @Override
+    public int minimum() {
+        if (size == 0) {
+            throw new NoSuchElementException("The bucket queue is empty");
+        }
+        
+        while (buckets[cursor] == NIL) {
+            cursor = cursor == buckets.length - 1 ? 0 : cursor + 1;
+            cursorKey++;
+        }
+        
+        return buckets[cursor];
+    }
+    
+    @Override
+    public int extractMinimum() {
+        int element = minimum();
+        unlink(element);
+        size--;
+        return element;
+    }
+    
+    @Override
+    public boolean contains(int element) {
+        return element < bucketOf.length && bucketOf[element] != NIL;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public void clear() {
+        for (int b = 0; b < buckets.length && size > 0; ++b) {
+            for (int e = buckets[b]; e != NIL; e = next[e]) {
+                bucketOf[e] = NIL;
+                size--;
+            }
+            
+            buckets[b] = NIL;
+        }
+        
+        anchored = false;
+    }
+    
+    private int bucketOf(long key) {
+        long step = key - cursorKey;
+        
+        if (step < 0L || step > maxStep) {
+            throw new IllegalArgumentException(
+                    "Key " + key + " is not within [" + cursorKey + ", " 
+                            + (cursorKey + maxStep) + "]");
+        }
+        
+        return (int) ((cursor + step) % buckets.length);
+    }
+    
+    private static void checkKey(long key) {
+        if (key < 0L) {
+            throw new IllegalArgumentException("Negative key " + key);
+        }
+    }
+    
+    private void link(int element, int bucket) {
+        int head = buckets[bucket];
+        next[element] = head;
+        prev[element] = NIL;
+        
+        if (head != NIL) {
+            prev[head] = element;
+        }
+        
+        buckets[bucket] = element;
+        bucketOf[element] = bucket;
+    }
+    
+    private void unlink(int element) {
+        int left = prev[element];
+        int right = next[element];
+        
+        if (left == NIL) {
+            buckets[bucketOf[element]] = right;
+        } else {
+            next[left] = right;
+        }
+        
+        if (right != NIL) {
+            prev[right] = left;
+        }
+        
+        bucketOf[element] = NIL;
+    }
+    
+    private void ensureElementCapacity(int element) {
+        if (element >= bucketOf.length) {
+            int oldLength = bucketOf.length;
+            int capacity = Math.max(element + 1, 2 * oldLength);
+            bucketOf = Arrays.copyOf(bucketOf, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+            Arrays.fill(bucketOf, oldLength, capacity, NIL);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.github.coderodde.graph.hyper.queue;
+
+import java.util.Arrays;
+
+/**
+ * This class implements an indexed d-ary heap. The position of each element in
+ * the heap array is tracked, so that {@link #decreaseKey(int)} runs in
+ * logarithmic time without any stale entries.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class IndexedDaryHeap implements IndexedPriorityQueue {
+    
+    private static final int MINIMUM_CAPACITY = 16;
+    
+    private final int degree;
+    private final ElementComparator comparator;
+    private int[] heap;
+    private int[] positions;
+    private int size;
+    
+    public IndexedDaryHeap(int degree,
+                           int capacity,
+                           ElementComparator comparator) {
+        if (degree < 2) {
+            throw new IllegalArgumentException(
+                    "Heap degree " + degree + " is less than 2");
+        }
+        
+        this.degree = degree;
+        this.comparator = comparator;
+        this.heap = new int[Math.max(capacity, MINIMUM_CAPACITY)];
+        this.positions = new int[heap.length];
+        Arrays.fill(positions, -1);
+    }
+    
+    public static IndexedPriorityQueueFactory factory(int degree) {
+        return (capacity, comparator) -> new IndexedDaryHeap(degree,
+                                                             capacity,
+                                                             comparator);
+    }
+    
+    @Override
+    public void insert(int element) {
+        ensureElementCapacity(element);
+        
+        if (positions[element] >= 0) {
+            throw new IllegalStateException(
+                    "Element " + element + " is already in the heap");
+        }
+        
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, 2 * size);
+        }
+        
+        siftUp(element, size++);
+    }
+    
+    @Override
+    public void decreaseKey(int element) {
+        siftUp(element, positions[element]);
+    }
+    
+    @Override
+    public int minimum() {
+        return heap[0];
+    }
+    
+    @Override
+    public int extractMinimum() {
+        int element = heap[0];
+        positions[element] = -1;
+        int last = heap[--size];
+        
+        if (size > 0) {
+            siftDown(last, 0);
+        }
+        
+        return element;
+    }
+    
+    @Override
+    public boolean contains(int element) {
+        return element < positions.length && positions[element] >= 0;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; ++i) {
+            positions[heap[i]] = -1;
+        }
+        
+        size = 0;
+    }
+    
+    private void ensureElementCapacity(int element) {
+        if (element >= positions.length) {
+            int oldLength = positions.length;
+            positions = Arrays.copyOf(positions,
+                                      Math.max(element + 1, 2 * oldLength));
+            
+            Arrays.fill(positions, oldLength, positions.length, -1);
+        }
+    }
+    
+    private void siftUp(int element, int index) {
+        while (index > 0) {
+            int parentIndex = (index - 1) / degree;
+            int parent = heap[parentIndex];
+            
+            if (comparator.compare(element, parent) >= 0) {
+                break;
+            }
+            
+            heap[index] = parent;
+            positions[parent] = index;
+            index = parentIndex;
+        }
+        
+        heap[index] = element;
+        positions[element] = index;
+    }
+    
+    private void siftDown(int element, int index) {
+        while (true) {
+            int firstChildIndex = degree * index + 1;
+            
+            if (firstChildIndex >= size) {
+                break;
+            }
+            
+            int lastChildIndex = Math.min(firstChildIndex + degree, size);
+            int minimumChildIndex = firstChildIndex;
+            
+            for (int i = firstChildIndex + 1; i < lastChildIndex; ++i) {
+                if (comparator.compare(heap[i], heap[minimumChildIndex]) < 0) {
+                    minimumChildIndex = i;
+                }
+            }
+            
+            int minimumChild = heap[minimumChildIndex];
+            
+            if (comparator.compare(element, minimumChild) <= 0) {
+                break;
+            }
+            
+            heap[index] = minimumChild;
+            positions[minimumChild] = index;
+            index = minimumChildIndex;
+        }
+        
+        heap[index] = element;
+        positions[element] = index;
+    }
+}
@@ -0,0 +1,211 @@
+package io.github.coderodde.graph.hyper.queue;
+
+import java.util.Arrays;
+
+/**
+ * This class implements an indexed pairing heap. The tree structure is kept in
+ * arrays indexed by the elements, so that neither an insertion nor a
+ * decrease-key allocates. {@link #insert(int)} and {@link #decreaseKey(int)}
+ * run in constant time, and {@link #extractMinimum()} runs in amortized
+ * logarithmic time using the two-pass merge.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class IndexedPairingHeap implements IndexedPriorityQueue {
+    
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final int NIL = -1;
+    
+    private final ElementComparator comparator;
+    
+    /**
+     * {@code child[e]} is the leftmost child of {@code e},
+     * {@code sibling[e]} is the right sibling of {@code e}, and {@code prev[e]}
+     * is the left sibling of {@code e} or its parent if {@code e} is the
+     * leftmost child.
+     */
+    private int[] child;
+    private int[] sibling;
+    private int[] prev;
+    
+    /**
+     * {@code stamps[e] == epoch} if and only if {@code e} is in this heap.
+     */
+    private int[] stamps;
+    private int epoch = 1;
+    
+    /**
+     * The scratch space of the two-pass merge.
+     */
+    private int[] pairs;
+    private int root = NIL;
+    private int size;
+    
+    public IndexedPairingHeap(int capacity, ElementComparator comparator) {
+        this.comparator = comparator;
+        capacity = Math.max(capacity, MINIMUM_CAPACITY);
+        this.child = new int[capacity];
+        this.sibling = new int[capacity];
+        this.prev = new int[capacity];
+        this.stamps = new int[capacity];
+        this.pairs = new int[MINIMUM_CAPACITY];
+    }
+    
+    public static IndexedPriorityQueueFactory factory() {
+        return IndexedPairingHeap::new;
+    }
+    
+    @Override
+    public void insert(int element) {
+        ensureElementCapacity(element);
+        
+        if (stamps[element] == epoch) {
+            throw new IllegalStateException(
+                    "Element " + element + " is already in the heap");
+        }
+        
+        stamps[element] = epoch;
+        child[element] = NIL;
+        sibling[element] = NIL;
+        prev[element] = NIL;
+        root = root == NIL ? element : link(root, element);
+        size++;
+    }
+    
+    @Override
+    public void decreaseKey(int element) {
+        if (element == root) {
+            return;
+        }
+        
+        // Cut the subtree rooted at element and link it with the root:
+        int left = prev[element];
+        int right = sibling[element];
+        
+        if (child[left] == element) {
+            child[left] = right;
+        } else {
+            sibling[left] = right;
+        }
+        
+        if (right != NIL) {
+            prev[right] = left;
+        }
+        
+        sibling[element] = NIL;
+        prev[element] = NIL;
+        root = link(root, element);
+    }
+    
+    @Override
+    public int minimum() {
+        return root;
+    }
+    
+    @Override
+    public int extractMinimum() {
+        int minimum = root;
+        stamps[minimum] = 0;
+        size--;
+        
+        int current = child[minimum];
+        int pairCount = 0;
+        
+        // First pass: link the children pairwise from left to right.
+        while (current != NIL) {
+            int first = current;
+            int second = sibling[first];
+            
+            if (second == NIL) {
+                prev[first] = NIL;
+                current = NIL;
+            } else {
+                current = sibling[second];
+                sibling[first] = NIL;
+                prev[first] = NIL;
+                sibling[second] = NIL;
+                prev[second] = NIL;
+                first = link(first, second);
+            }
+            
+            if (pairCount == pairs.length) {
+                pairs = Arrays.copyOf(pairs, 2 * pairCount);
+            }
+            
+            pairs[pairCount++] = first;
+        }
+        
+        // Second pass: link the pairs from right to left.
+        root = NIL;
+        
+        if (pairCount > 0) {
+            root = pairs[pairCount - 1];
+            
+            for (int i = pairCount - 2; i >= 0; --i) {
+                root = link(pairs[i], root);
+            }
+        }
+        
+        return minimum;
+    }
+    
+    @Override
+    public boolean contains(int element) {
+        return element < stamps.length && stamps[element] == epoch;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public void clear() {
+        root = NIL;
+        size = 0;
+        
+        if (++epoch == 0) {
+            Arrays.fill(stamps, 0);
+            epoch = 1;
+        }
+    }
+    
+    /**
+     * Links two tree roots and returns the root of the resulting tree.
+     */
+    private int link(int root1, int root2) {
+        if (comparator.compare(root2, root1) < 0) {
+            int tmp = root1;
+            root1 = root2;
+            root2 = tmp;
+        }
+        
+        int firstChild = child[root1];
+        sibling[root2] = firstChild;
+        
+        if (firstChild != NIL) {
+            prev[firstChild] = root2;
+        }
+        
+        prev[root2] = root1;
+        child[root1] = root2;
+        return root1;
+    }
+    
+    private void ensureElementCapacity(int element) {
+        if (element >= stamps.length) {
+            int capacity = Math.max(element + 1, 2 * stamps.length);
+            child = Arrays.copyOf(child, capacity);
+            sibling = Arrays.copyOf(sibling, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+            stamps = Arrays.copyOf(stamps, capacity);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.coderodde.graph.hyper.queue;
+
+/**
+ * This interface defines the API for the priority queues over dense 
+ * non-negative integer elements. Each element is in the queue at most once. 
+ * The queue does not store the priorities, but compares the elements through
+ * an {@link ElementComparator}. Whenever the caller decreases the priority of
+ * an element in the queue, it must call {@link #decreaseKey(int)}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public interface IndexedPriorityQueue {
+    
+    void insert(int element);
+    void decreaseKey(int element);
+    int minimum();
+    int extractMinimum();
+    boolean contains(int element);
+    boolean isEmpty();
+    int size();
+    void clear();
+}
@@ -0,0 +1,16 @@
+package io.github.coderodde.graph.hyper.queue;
+
+/**
+ * This interface defines the API for creating the priority queues used by the
+ * pathfinders. The capacity is a hint only: the queues grow as larger 
+ * elements are inserted.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@FunctionalInterface
+public interface IndexedPriorityQueueFactory {
+    
+    IndexedPriorityQueue create(int capacity, ElementComparator comparator);
+}
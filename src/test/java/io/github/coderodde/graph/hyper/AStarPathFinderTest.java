@@ -0,0 +1,279 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import io.github.coderodde.graph.hyper.demo.RealWeightFunction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AStarPathFinderTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void agreesWithDijkstra() {
+        Random random = new Random(23L);
+        SearchContext context = new SearchContext();
+        
+        for (int iteration = 0; iteration < 5; ++iteration) {
+            // Sparse graphs are disconnected:
+            HyperGraphSnapshot<Integer, Integer, Integer> graph = 
+                    HyperGraphSnapshot.of(
+                            TestGraphs.getRandomHyperGraph(random,
+                                                           200,
+                                                           40 + 40 * iteration,
+                                                           2,
+                                                           5));
+            
+            Landmarks landmarks = Landmarks.of(graph, weightFunction, 4);
+            
+            for (int i = 0; i < 100; ++i) {
+                int source = random.nextInt(graph.getNodeCount());
+                int target = random.nextInt(graph.getNodeCount());
+                
+                HyperGraphPath<Integer, Integer, Integer> expected = 
+                        HyperGraphSnapshotPathFinder.find(graph,
+                                                          source,
+                                                          target,
+                                                          weightFunction,
+                                                          context);
+                
+                for (Heuristic heuristic : List.of(landmarks, 
+                                                   Heuristic.ZERO)) {
+                    assertSameWeight(expected,
+                                     AStarPathFinder.find(graph,
+                                                          source,
+                                                          target,
+                                                          weightFunction,
+                                                          heuristic,
+                                                          context));
+                    
+                    assertSameWeight(expected,
+                                     AStarPathFinder.biFind(graph,
+                                                            source,
+                                                            target,
+                                                            weightFunction,
+                                                            heuristic,
+                                                            context));
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void biFindAgreesOnHeavyNodes() {
+        Random random = new Random(37L);
+        SearchContext context = new SearchContext();
+        
+        for (int iteration = 0; iteration < 20; ++iteration) {
+            List<HyperGraphNode<Integer, Integer, Integer>> nodes = 
+                    new ArrayList<>();
+            
+            // The node weights dominate the hyperedge weights:
+            for (int id = 0; id < 40; ++id) {
+                nodes.add(new HyperGraphNode<>(id, random.nextInt(31)));
+            }
+            
+            for (int id = 0; id < 80; ++id) {
+                connect(id,
+                        1 + random.nextInt(3),
+                        nodes.get(random.nextInt(nodes.size())),
+                        nodes.get(random.nextInt(nodes.size())));
+            }
+            
+            HyperGraphSnapshot<Integer, Integer, Integer> graph = 
+                    HyperGraphSnapshot.of(nodes);
+            
+            Landmarks landmarks = Landmarks.of(graph, weightFunction, 3);
+            
+            for (int source = 0; source < graph.getNodeCount(); ++source) {
+                for (int target = 0; 
+                         target < graph.getNodeCount(); 
+                         ++target) {
+                    
+                    assertSameWeight(
+                            AStarPathFinder.find(graph,
+                                                 source,
+                                                 target,
+                                                 weightFunction,
+                                                 landmarks,
+                                                 context),
+                            AStarPathFinder.biFind(graph,
+                                                   source,
+                                                   target,
+                                                   weightFunction,
+                                                   landmarks,
+                                                   context));
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void landmarksAreConsistent() {
+        Random random = new Random(29L);
+        HyperGraphSnapshot<Integer, Integer, Integer> graph = 
+                HyperGraphSnapshot.of(
+                        TestGraphs.getRandomHyperGraph(random, 100, 150, 2, 4));
+        
+        Landmarks landmarks = Landmarks.of(graph, weightFunction, 3);
+        
+        assertEquals(3, landmarks.getLandmarkCount());
+        
+        for (int goal = 0; goal < graph.getNodeCount(); ++goal) {
+            assertEquals(0.0, landmarks.estimate(goal, goal), 0.0);
+            
+            for (int edge = 0; edge < graph.getEdgeCount(); ++edge) {
+                for (int i = 0; i < graph.getEdgeSize(edge); ++i) {
+                    for (int j = 0; j < graph.getEdgeSize(edge); ++j) {
+                        int u = graph.getEdgeMember(edge, i);
+                        int v = graph.getEdgeMember(edge, j);
+                        
+                        assertTrue(landmarks.estimate(u, goal) <= 
+                                   graph.getEdgeWeight(edge)
+                                 + graph.getNodeWeight(v) 
+                                 + landmarks.estimate(v, goal));
+                    }
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void landmarksSettleFewerNodes() {
+        Random random = new Random(31L);
+        int width = 40;
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes = 
+                new ArrayList<>(width * width);
+        
+        for (int id = 0; id < width * width; ++id) {
+            nodes.add(new HyperGraphNode<>(id, 1));
+        }
+        
+        // A grid of random two-node hyperedges:
+        int edgeId = 0;
+        
+        for (int y = 0; y < width; ++y) {
+            for (int x = 0; x < width; ++x) {
+                if (x + 1 < width) {
+                    connect(edgeId++,
+                            1 + random.nextInt(10), 
+                            nodes.get(y * width + x),
+                            nodes.get(y * width + x + 1));
+                }
+                
+                if (y + 1 < width) {
+                    connect(edgeId++,
+                            1 + random.nextInt(10),
+                            nodes.get(y * width + x),
+                            nodes.get((y + 1) * width + x));
+                }
+            }
+        }
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> graph = 
+                HyperGraphSnapshot.of(nodes);
+        
+        Landmarks landmarks = Landmarks.of(graph, weightFunction, 8);
+        int source = graph.getNodeIndex(nodes.get(width / 2 * width));
+        int target = graph.getNodeIndex(nodes.get(width / 2 * width 
+                                                  + width - 1));
+        
+        int[] counts = new int[2];
+        
+        HyperGraphPath<Integer, Integer, Integer> path1 = 
+                AStarPathFinder.find(graph,
+                                     source,
+                                     target,
+                                     weightFunction,
+                                     (node, goal) -> {
+                                         counts[0]++;
+                                         return landmarks.estimate(node, 
+                                                                   goal);
+                                     },
+                                     new SearchContext());
+        
+        HyperGraphPath<Integer, Integer, Integer> path2 = 
+                AStarPathFinder.find(graph,
+                                     source,
+                                     target,
+                                     weightFunction,
+                                     (node, goal) -> {
+                                         counts[1]++;
+                                         return 0.0;
+                                     },
+                                     new SearchContext());
+        
+        assertEquals(path2.getWeight(), path1.getWeight());
+        assertTrue(2 * counts[0] < counts[1]);
+    }
+    
+    @Test
+    public void doubleWeights() {
+        HyperGraphNode<Integer, Integer, Double> node1 = new HyperGraphNode<>(1, 1.0);
+        HyperGraphNode<Integer, Integer, Double> node2 = new HyperGraphNode<>(2, 2.0);
+        HyperGraphNode<Integer, Integer, Double> node3 = new HyperGraphNode<>(3, 3.0);
+        HyperGraphNode<Integer, Integer, Double> node4 = new HyperGraphNode<>(4, 0.5);
+        
+        HyperGraphEdge<Integer, Integer, Double> edge1 = new HyperGraphEdge<>(1, 0.5);
+        HyperGraphEdge<Integer, Integer, Double> edge2 = new HyperGraphEdge<>(2, 1.5);
+        HyperGraphEdge<Integer, Integer, Double> edge3 = new HyperGraphEdge<>(3, 0.25);
+        
+        edge1.connectNode(node1);
+        edge1.connectNode(node2);
+        edge2.connectNode(node2);
+        edge2.connectNode(node3);
+        edge3.connectNode(node1);
+        edge3.connectNode(node4);
+        edge3.connectNode(node3);
+        
+        RealWeightFunction weights = new RealWeightFunction();
+        HyperGraphSnapshot<Integer, Integer, Double> graph = 
+                HyperGraphSnapshot.of(List.of(node1));
+        
+        Landmarks landmarks = Landmarks.of(graph, weights, 2);
+        
+        for (HyperGraphPath<Integer, Integer, Double> path 
+                : List.of(AStarPathFinder.find(graph, 
+                                               node1, 
+                                               node3, 
+                                               weights, 
+                                               landmarks),
+                          AStarPathFinder.biFind(graph, 
+                                                 node1, 
+                                                 node3, 
+                                                 weights, 
+                                                 landmarks))) {
+            
+            assertEquals(4.25, path.getWeight(), 0.0);
+            assertEquals(List.of(node1, node3), path.getPathHyperNodes());
+            assertEquals(List.of(edge3), path.getPathHyperEdges());
+        }
+    }
+    
+    private static void connect(int id, 
+                                int weight,
+                                HyperGraphNode<Integer, Integer, Integer> node1,
+                                HyperGraphNode<Integer, Integer, Integer> node2) {
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge = 
+                new HyperGraphEdge<>(id, weight);
+        
+        edge.connectNode(node1);
+        edge.connectNode(node2);
+    }
+    
+    private static void assertSameWeight(
+            HyperGraphPath<Integer, Integer, Integer> expected,
+            HyperGraphPath<Integer, Integer, Integer> path) {
+        
+        assertEquals(expected.isNonExistent(), path.isNonExistent());
+        
+        if (!expected.isNonExistent()) {
+            assertEquals(expected.getWeight(), path.getWeight());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class BatchPathFinderTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void agreesWithPathFinderOnCommonPool() {
+        Random random = new Random(17L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 300, 400, 2, 5);
+        
+        List<PathQuery<Integer, Integer, Integer>> queries =
+                getRandomQueries(random, nodes, 200);
+        
+        BatchPathFinder<Integer, Integer, Integer> finder = 
+                new BatchPathFinder<>(HyperGraphSnapshot.of(nodes), 
+                                      weightFunction);
+        
+        assertWeights(queries, finder.findAll(queries));
+        assertWeights(queries, finder.biFindAll(queries.stream()));
+    }
+    
+    @Test
+    public void agreesWithPathFinderOnVirtualThreads() {
+        Random random = new Random(19L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 300, 400, 2, 5);
+        
+        List<PathQuery<Integer, Integer, Integer>> queries =
+                getRandomQueries(random, nodes, 200);
+        
+        try (ExecutorService executor = 
+                Executors.newVirtualThreadPerTaskExecutor()) {
+            
+            BatchPathFinder<Integer, Integer, Integer> finder = 
+                    new BatchPathFinder<>(HyperGraphSnapshot.of(nodes), 
+                                          weightFunction,
+                                          executor,
+                                          16);
+            
+            assertWeights(queries, finder.findAll(queries));
+            assertWeights(queries, finder.biFindAll(queries));
+        }
+    }
+    
+    @Test
+    public void emptyBatch() {
+        HyperGraphNode<Integer, Integer, Integer> node = new HyperGraphNode<>(1, 1);
+        
+        BatchPathFinder<Integer, Integer, Integer> finder = 
+                new BatchPathFinder<>(HyperGraphSnapshot.of(List.of(node)), 
+                                      weightFunction);
+        
+        assertTrue(finder.findAll(List.of()).isEmpty());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnNodeNotInSnapshot() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 2);
+        
+        BatchPathFinder<Integer, Integer, Integer> finder = 
+                new BatchPathFinder<>(HyperGraphSnapshot.of(List.of(node1)), 
+                                      weightFunction);
+        
+        finder.findAll(List.of(new PathQuery<>(node1, node2)));
+    }
+    
+    private void assertWeights(
+            List<PathQuery<Integer, Integer, Integer>> queries,
+            List<HyperGraphPath<Integer, Integer, Integer>> paths) {
+        
+        assertEquals(queries.size(), paths.size());
+        
+        for (int i = 0; i < queries.size(); ++i) {
+            PathQuery<Integer, Integer, Integer> query = queries.get(i);
+            HyperGraphPath<Integer, Integer, Integer> expected = 
+                    HyperGraphPathFinder.find(query.getSource(), 
+                                              query.getTarget(),
+                                              weightFunction);
+            
+            HyperGraphPath<Integer, Integer, Integer> path = paths.get(i);
+            
+            assertEquals(expected.isNonExistent(), path.isNonExistent());
+            
+            if (!path.isNonExistent()) {
+                assertEquals(expected.getWeight(), path.getWeight());
+                assertEquals(query.getSource(), 
+                             path.getPathHyperNodes().get(0));
+                
+                assertEquals(query.getTarget(), 
+                             path.getPathHyperNodes()
+                                 .get(path.getPathHyperNodes().size() - 1));
+            }
+        }
+    }
+    
+    private static List<PathQuery<Integer, Integer, Integer>> 
+        getRandomQueries(Random random,
+                         List<HyperGraphNode<Integer, Integer, Integer>> nodes,
+                         int queryCount) {
+        
+        List<PathQuery<Integer, Integer, Integer>> queries = 
+                new ArrayList<>(queryCount);
+        
+        for (int i = 0; i < queryCount; ++i) {
+            queries.add(
+                    new PathQuery<>(nodes.get(random.nextInt(nodes.size())),
+                                    nodes.get(random.nextInt(nodes.size()))));
+        }
+        
+        return queries;
+    }
+}
@@ -0,0 +1,235 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ComponentIndexTest {
+    
+    private static final int CHAIN_LENGTH = 50_000;
+    private static final int THREADS = 8;
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void connectAndDisconnect() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 1);
+        HyperGraphNode<Integer, Integer, Integer> node3 = new HyperGraphNode<>(3, 1);
+        HyperGraphNode<Integer, Integer, Integer> node4 = new HyperGraphNode<>(4, 1);
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge1 = new HyperGraphEdge<>(1, 1);
+        HyperGraphEdge<Integer, Integer, Integer> edge2 = new HyperGraphEdge<>(2, 1);
+        
+        assertTrue(ComponentIndex.areConnected(node1, node1));
+        assertFalse(ComponentIndex.areConnected(node1, node2));
+        
+        edge1.connectNode(node1);
+        edge1.connectNode(node2);
+        edge2.connectNode(node2);
+        edge2.connectNode(node3);
+        
+        assertTrue(ComponentIndex.areConnected(node1, node3));
+        assertTrue(ComponentIndex.areConnected(node3, node1));
+        assertFalse(ComponentIndex.areConnected(node1, node4));
+        
+        edge2.disconnectNode(node2);
+        
+        assertTrue(ComponentIndex.areConnected(node1, node2));
+        assertFalse(ComponentIndex.areConnected(node1, node3));
+        assertFalse(ComponentIndex.areConnected(node3, node2));
+        
+        edge2.connectNode(node4);
+        edge2.connectNode(node1);
+        
+        assertTrue(ComponentIndex.areConnected(node4, node2));
+        
+        edge1.clear();
+        
+        assertFalse(ComponentIndex.areConnected(node2, node1));
+        assertTrue(ComponentIndex.areConnected(node3, node1));
+    }
+    
+    @Test
+    public void pathFindersSkipDisconnectedQueries() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 1);
+        HyperGraphNode<Integer, Integer, Integer> node3 = new HyperGraphNode<>(3, 1);
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge = new HyperGraphEdge<>(1, 1);
+        
+        edge.connectNode(node1);
+        edge.connectNode(node2);
+        
+        assertTrue(HyperGraphPathFinder.find(node1, node3, weightFunction)
+                                       .isNonExistent());
+        
+        assertTrue(HyperGraphPathFinder.biFind(node1, node3, weightFunction)
+                                       .isNonExistent());
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> graph =
+                HyperGraphSnapshot.of(List.of(node1, node3));
+        
+        assertEquals(2, graph.getComponentCount());
+        assertTrue(graph.areConnected(graph.getNodeIndex(node1),
+                                      graph.getNodeIndex(node2)));
+        assertFalse(graph.areConnected(graph.getNodeIndex(node1),
+                                       graph.getNodeIndex(node3)));
+        
+        assertTrue(HyperGraphSnapshotPathFinder.biFind(graph,
+                                                       node1,
+                                                       node3,
+                                                       weightFunction)
+                                               .isNonExistent());
+    }
+    
+    @Test
+    public void matchesSearchOnRandomEdits() {
+        Random random = new Random(15L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                new ArrayList<>();
+        
+        List<HyperGraphEdge<Integer, Integer, Integer>> edges =
+                new ArrayList<>();
+        
+        for (int i = 0; i < 60; ++i) {
+            nodes.add(new HyperGraphNode<>(i, 1));
+        }
+        
+        for (int i = 0; i < 30; ++i) {
+            edges.add(new HyperGraphEdge<>(i, 1));
+        }
+        
+        for (int round = 0; round < 400; ++round) {
+            HyperGraphEdge<Integer, Integer, Integer> edge =
+                    edges.get(random.nextInt(edges.size()));
+            
+            HyperGraphNode<Integer, Integer, Integer> node =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            switch (random.nextInt(10)) {
+                case 0 -> edge.clear();
+                case 1, 2, 3 -> edge.disconnectNode(node);
+                default -> edge.connectNode(node);
+            }
+            
+            HyperGraphNode<Integer, Integer, Integer> source =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            HyperGraphNode<Integer, Integer, Integer> target =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            HyperGraphSnapshot<Integer, Integer, Integer> graph =
+                    HyperGraphSnapshot.of(List.of(source));
+            
+            boolean expected = graph.getNodeIndex(target) != -1;
+            
+            assertEquals(expected,
+                         ComponentIndex.areConnected(source, target));
+        }
+    }
+    
+    @Test
+    public void queryRebuildsDirtyComponent() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 1);
+        HyperGraphNode<Integer, Integer, Integer> node3 = new HyperGraphNode<>(3, 1);
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge1 = new HyperGraphEdge<>(1, 1);
+        HyperGraphEdge<Integer, Integer, Integer> edge2 = new HyperGraphEdge<>(2, 1);
+        
+        edge1.connectNode(node1);
+        edge1.connectNode(node2);
+        edge2.connectNode(node2);
+        edge2.connectNode(node3);
+        edge2.disconnectNode(node3);
+        
+        assertTrue(ComponentIndex.areConnected(node1, node2));
+        
+        // The component of node1 is clean again, and node3 is left behind:
+        assertFalse(node1.component.dirty);
+        assertSame(node1.component, node2.component);
+        assertFalse(ComponentIndex.mayBeConnected(node1, node3));
+        assertFalse(ComponentIndex.mayBeConnected(node3, node2));
+    }
+    
+    @Test
+    public void concurrentQueriesOnDirtySet() throws Exception {
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                new ArrayList<>(CHAIN_LENGTH);
+        
+        for (int i = 0; i < CHAIN_LENGTH; ++i) {
+            nodes.add(new HyperGraphNode<>(i, 1));
+        }
+        
+        HyperGraphEdge<Integer, Integer, Integer> lastEdge = null;
+        
+        for (int i = 1; i < CHAIN_LENGTH; ++i) {
+            lastEdge = new HyperGraphEdge<>(i, 1);
+            lastEdge.connectNode(nodes.get(i - 1));
+            lastEdge.connectNode(nodes.get(i));
+        }
+        
+        // Splits off the last node and dirties the whole chain:
+        lastEdge.disconnectNode(nodes.get(CHAIN_LENGTH - 1));
+        
+        HyperGraphNode<Integer, Integer, Integer> first = nodes.get(0);
+        HyperGraphNode<Integer, Integer, Integer> last =
+                nodes.get(CHAIN_LENGTH - 2);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            
+            for (int t = 0; t < THREADS; ++t) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    int wrong = 0;
+                    
+                    for (int i = 0; i < 20; ++i) {
+                        int index1 = random.nextInt(CHAIN_LENGTH - 1);
+                        int index2 = random.nextInt(CHAIN_LENGTH - 1);
+                        
+                        if (!ComponentIndex.areConnected(
+                                nodes.get(index1), 
+                                nodes.get(index2))) {
+                            wrong++;
+                        }
+                        
+                        if (ComponentIndex.areConnected(
+                                nodes.get(index1),
+                                nodes.get(CHAIN_LENGTH - 1))) {
+                            wrong++;
+                        }
+                    }
+                    
+                    HyperGraphPath<Integer, Integer, Integer> path =
+                            HyperGraphPathFinder.find(first,
+                                                      last,
+                                                      weightFunction);
+                    
+                    if (path.isNonExistent()) {
+                        wrong++;
+                    }
+                    
+                    return wrong;
+                }));
+            }
+            
+            for (Future<Integer> future : futures) {
+                assertEquals(Integer.valueOf(0), future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ContractionHierarchyTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void find() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 2);
+        HyperGraphNode<Integer, Integer, Integer> node3 = new HyperGraphNode<>(3, 3);
+        HyperGraphNode<Integer, Integer, Integer> node4 = new HyperGraphNode<>(4, 4);
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge1 = new HyperGraphEdge<>(1, 3);
+        HyperGraphEdge<Integer, Integer, Integer> edge2 = new HyperGraphEdge<>(2, 4);
+        
+        edge1.connectNode(node1);
+        edge1.connectNode(node2);
+        edge2.connectNode(node2);
+        edge2.connectNode(node3);
+        
+        ContractionHierarchy<Integer, Integer, Integer> hierarchy = 
+                ContractionHierarchy.of(
+                        HyperGraphSnapshot.of(List.of(node1, node4)), 
+                        weightFunction);
+        
+        HyperGraphPath<Integer, Integer, Integer> path = 
+                ContractionHierarchyPathFinder.find(hierarchy, node1, node3);
+        
+        assertEquals((Integer) 13, path.getWeight());
+        assertEquals(List.of(node1, node2, node3), path.getPathHyperNodes());
+        assertEquals(List.of(edge1, edge2), path.getPathHyperEdges());
+        
+        assertTrue(ContractionHierarchyPathFinder.find(hierarchy, node1, node4)
+                                                 .isNonExistent());
+        
+        assertEquals(List.of(node4), 
+                     ContractionHierarchyPathFinder.find(hierarchy, 
+                                                         node4, 
+                                                         node4)
+                                                   .getPathHyperNodes());
+    }
+    
+    @Test
+    public void agreesWithDijkstra() {
+        Random random = new Random(37L);
+        SearchContext context = new SearchContext();
+        
+        for (int iteration = 0; iteration < 5; ++iteration) {
+            HyperGraphSnapshot<Integer, Integer, Integer> graph = 
+                    HyperGraphSnapshot.of(
+                            TestGraphs.getRandomHyperGraph(random,
+                                                           150,
+                                                           30 + 50 * iteration,
+                                                           2,
+                                                           6));
+            
+            ContractionHierarchy<Integer, Integer, Integer> hierarchy = 
+                    ContractionHierarchy.of(graph, weightFunction);
+            
+            for (int i = 0; i < 200; ++i) {
+                int source = random.nextInt(graph.getNodeCount());
+                int target = random.nextInt(graph.getNodeCount());
+                
+                HyperGraphPath<Integer, Integer, Integer> expected = 
+                        HyperGraphSnapshotPathFinder.find(graph,
+                                                          source,
+                                                          target,
+                                                          weightFunction,
+                                                          context);
+                
+                HyperGraphPath<Integer, Integer, Integer> path = 
+                        ContractionHierarchyPathFinder.find(hierarchy,
+                                                            source,
+                                                            target,
+                                                            context);
+                
+                assertEquals(expected.isNonExistent(), path.isNonExistent());
+                
+                if (!path.isNonExistent()) {
+                    assertEquals(expected.getWeight(), path.getWeight());
+                    assertEquals(graph.getNode(source), 
+                                 path.getPathHyperNodes().get(0));
+                    
+                    assertEquals(graph.getNode(target),
+                                 path.getPathHyperNodes()
+                                     .get(path.getPathHyperNodes().size() 
+                                          - 1));
+                    
+                    assertConnected(path);
+                }
+            }
+        }
+    }
+    
+    private static void assertConnected(
+            HyperGraphPath<Integer, Integer, Integer> path) {
+        
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes = 
+                path.getPathHyperNodes();
+        
+        List<HyperGraphEdge<Integer, Integer, Integer>> edges = 
+                path.getPathHyperEdges();
+        
+        for (int i = 0; i < edges.size(); ++i) {
+            assertTrue(edges.get(i).getIncidentHyperNodes()
+                                   .contains(nodes.get(i)));
+            
+            assertTrue(edges.get(i).getIncidentHyperNodes()
+                                   .contains(nodes.get(i + 1)));
+        }
+    }
+}
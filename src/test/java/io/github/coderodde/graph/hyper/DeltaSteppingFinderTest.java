@@ -0,0 +1,188 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DeltaSteppingFinderTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void agreesWithDijkstra() {
+        Random random = new Random(16L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 5000, 4000, 2, 5);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> graph =
+                HyperGraphSnapshot.of(nodes);
+        
+        ForkJoinPool pool = new ForkJoinPool(4);
+        
+        try {
+            for (int source = 0; source < 5; ++source) {
+                long[] expected = getDistances(graph, source, pool);
+                
+                for (long delta : new long[]{
+                        1L,
+                        7L,
+                        DeltaSteppingFinder.getDefaultDelta(graph,
+                                                            weightFunction),
+                        Long.MAX_VALUE / 4 }) {
+                    
+                    assertArrayEquals(
+                            expected,
+                            DeltaSteppingFinder.compute(graph,
+                                                        source,
+                                                        weightFunction,
+                                                        delta,
+                                                        pool));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    public void usesWeightFunctionOperations() {
+        Random random = new Random(17L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 2000, 1500, 2, 5);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> graph =
+                HyperGraphSnapshot.of(nodes);
+        
+        SaturatingWeightFunction saturating = new SaturatingWeightFunction(20L);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        
+        try {
+            for (int source = 0; source < 3; ++source) {
+                long[] expected = getDistances(graph, source, saturating, pool);
+                
+                for (long delta : new long[]{ 1L, 7L, 100L }) {
+                    assertArrayEquals(
+                            expected,
+                            DeltaSteppingFinder.compute(graph,
+                                                        source,
+                                                        saturating,
+                                                        delta,
+                                                        pool));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    public void unreachableNodes() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 2);
+        HyperGraphNode<Integer, Integer, Integer> node3 = new HyperGraphNode<>(3, 3);
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge = new HyperGraphEdge<>(1, 4);
+        
+        edge.connectNode(node1);
+        edge.connectNode(node2);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> graph =
+                HyperGraphSnapshot.of(List.of(node1, node3));
+        
+        long[] distances = DeltaSteppingFinder.compute(graph,
+                                                       node1,
+                                                       weightFunction);
+        
+        assertEquals(1L, distances[graph.getNodeIndex(node1)]);
+        assertEquals(7L, distances[graph.getNodeIndex(node2)]);
+        assertEquals(weightFunction.maxAsLong(),
+                     distances[graph.getNodeIndex(node3)]);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonPositiveDelta() {
+        HyperGraphSnapshot<Integer, Integer, Integer> graph =
+                HyperGraphSnapshot.of(List.of(new HyperGraphNode<>(1, 1)));
+        
+        DeltaSteppingFinder.compute(graph,
+                                    0,
+                                    weightFunction,
+                                    0L,
+                                    ForkJoinPool.commonPool());
+    }
+    
+    private long[] getDistances(HyperGraphSnapshot<Integer, Integer, Integer> graph,
+                                int source,
+                                ForkJoinPool pool) {
+        
+        return getDistances(graph, source, weightFunction, pool);
+    }
+    
+    private static long[] 
+        getDistances(HyperGraphSnapshot<Integer, Integer, Integer> graph,
+                     int source,
+                     LongWeightFunction<Integer> weights,
+                     ForkJoinPool pool) {
+        
+        int[] targets = new int[graph.getNodeCount()];
+        
+        for (int i = 0; i < targets.length; ++i) {
+            targets[i] = i;
+        }
+        
+        return DistanceMatrixFinder.compute(graph,
+                                            new int[]{ source },
+                                            targets,
+                                            weights,
+                                            pool)
+                                   .getRow(0);
+    }
+    
+    /**
+     * Adds the weights, but never past a cap, so that the sum of a move is not
+     * the difference of the distances at its ends.
+     */
+    private static final class SaturatingWeightFunction
+            implements LongWeightFunction<Integer> {
+        
+        private final long cap;
+        
+        SaturatingWeightFunction(long cap) {
+            this.cap = cap;
+        }
+        
+        @Override
+        public long toLong(Integer weight) {
+            return weight;
+        }
+        
+        @Override
+        public Integer fromLong(long weight) {
+            return Math.toIntExact(weight);
+        }
+        
+        @Override
+        public long zeroAsLong() {
+            return 0L;
+        }
+        
+        @Override
+        public long maxAsLong() {
+            return Integer.MAX_VALUE;
+        }
+        
+        @Override
+        public long applyAsLong(long w1, long w2) {
+            return Math.min(cap, w1 + w2);
+        }
+        
+        @Override
+        public int compareAsLong(long weight1, long weight2) {
+            return Long.compare(weight1, weight2);
+        }
+    }
+}
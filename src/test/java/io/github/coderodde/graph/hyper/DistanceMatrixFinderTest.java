@@ -0,0 +1,102 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import io.github.coderodde.graph.hyper.demo.RealWeightFunction;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DistanceMatrixFinderTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void agreesWithPathFinder() {
+        Random random = new Random(13L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 200, 300, 2, 5);
+        
+        List<HyperGraphNode<Integer, Integer, Integer>> sources =
+                nodes.subList(0, 20);
+        
+        List<HyperGraphNode<Integer, Integer, Integer>> targets =
+                nodes.subList(150, 170);
+        
+        ForkJoinPool pool = new ForkJoinPool(3);
+        
+        try {
+            LongDistanceMatrix matrix = 
+                    DistanceMatrixFinder.compute(sources,
+                                                 targets,
+                                                 weightFunction,
+                                                 pool);
+            
+            assertEquals(sources.size(), matrix.getSourceCount());
+            assertEquals(targets.size(), matrix.getTargetCount());
+            
+            for (int i = 0; i < sources.size(); ++i) {
+                for (int j = 0; j < targets.size(); ++j) {
+                    HyperGraphPath<Integer, Integer, Integer> path =
+                            HyperGraphPathFinder.find(sources.get(i),
+                                                      targets.get(j),
+                                                      weightFunction);
+                    
+                    if (path.isNonExistent()) {
+                        assertFalse(matrix.isReachable(i, j));
+                    } else {
+                        assertTrue(matrix.isReachable(i, j));
+                        assertEquals((long) path.getWeight(), 
+                                     matrix.get(i, j));
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    public void doubleWeights() {
+        HyperGraphNode<Integer, Integer, Double> node1 = new HyperGraphNode<>(1, 1.0);
+        HyperGraphNode<Integer, Integer, Double> node2 = new HyperGraphNode<>(2, 2.0);
+        HyperGraphNode<Integer, Integer, Double> node3 = new HyperGraphNode<>(3, 3.0);
+        HyperGraphNode<Integer, Integer, Double> node4 = new HyperGraphNode<>(4, 4.0);
+        
+        HyperGraphEdge<Integer, Integer, Double> edge1 = new HyperGraphEdge<>(1, 0.5);
+        HyperGraphEdge<Integer, Integer, Double> edge2 = new HyperGraphEdge<>(2, 1.5);
+        
+        edge1.connectNode(node1);
+        edge1.connectNode(node2);
+        edge2.connectNode(node2);
+        edge2.connectNode(node3);
+        
+        DoubleDistanceMatrix matrix = 
+                DistanceMatrixFinder.compute(List.of(node1, node3),
+                                             List.of(node1, node3, node4),
+                                             new RealWeightFunction());
+        
+        assertEquals(1.0, matrix.get(0, 0), 0.0);
+        assertEquals(8.0, matrix.get(0, 1), 0.0);
+        assertEquals(8.0, matrix.get(1, 0), 0.0);
+        assertEquals(3.0, matrix.get(1, 1), 0.0);
+        assertFalse(matrix.isReachable(0, 2));
+        assertFalse(matrix.isReachable(1, 2));
+        assertArrayEquals(new double[]{ 8.0, 3.0, Double.POSITIVE_INFINITY },
+                          matrix.getRow(1),
+                          0.0);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnForeignNodeIndex() {
+        HyperGraphNode<Integer, Integer, Integer> node = new HyperGraphNode<>(1, 1);
+        
+        DistanceMatrixFinder.compute(HyperGraphSnapshot.of(List.of(node)),
+                                     new int[]{ 0 },
+                                     new int[]{ 1 },
+                                     weightFunction,
+                                     ForkJoinPool.commonPool());
+    }
+}
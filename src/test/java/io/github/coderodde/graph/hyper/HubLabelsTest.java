@@ -0,0 +1,110 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class HubLabelsTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void distance() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 2);
+        HyperGraphNode<Integer, Integer, Integer> node3 = new HyperGraphNode<>(3, 3);
+        HyperGraphNode<Integer, Integer, Integer> node4 = new HyperGraphNode<>(4, 4);
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge1 = new HyperGraphEdge<>(1, 3);
+        HyperGraphEdge<Integer, Integer, Integer> edge2 = new HyperGraphEdge<>(2, 4);
+        
+        edge1.connectNode(node1);
+        edge1.connectNode(node2);
+        edge2.connectNode(node2);
+        edge2.connectNode(node3);
+        
+        HubLabels<Integer, Integer, Integer> labels = 
+                HubLabels.of(HyperGraphSnapshot.of(List.of(node1, node4)), 
+                             weightFunction,
+                             true);
+        
+        assertEquals(13L, labels.distance(node1, node3));
+        assertEquals(13L, labels.distance(node3, node1));
+        assertEquals(4L, labels.distance(node4, node4));
+        assertEquals(weightFunction.maxAsLong(), labels.distance(node1, node4));
+        
+        HyperGraphPath<Integer, Integer, Integer> path = 
+                labels.getPath(node1, node3);
+        
+        assertEquals(List.of(node1, node2, node3), path.getPathHyperNodes());
+        assertEquals(List.of(edge1, edge2), path.getPathHyperEdges());
+        assertTrue(labels.getPath(node1, node4).isNonExistent());
+    }
+    
+    @Test
+    public void agreesWithDijkstra() {
+        Random random = new Random(41L);
+        
+        for (int iteration = 0; iteration < 5; ++iteration) {
+            List<HyperGraphNode<Integer, Integer, Integer>> nodes = 
+                    TestGraphs.getRandomHyperGraph(random,
+                                                   150,
+                                                   30 + 50 * iteration,
+                                                   2,
+                                                   6);
+            
+            HyperGraphSnapshot<Integer, Integer, Integer> graph = 
+                    HyperGraphSnapshot.of(nodes);
+            
+            HubLabels<Integer, Integer, Integer> labels = 
+                    HubLabels.of(graph, weightFunction, true);
+            
+            for (int i = 0; i < 200; ++i) {
+                HyperGraphNode<Integer, Integer, Integer> source = 
+                        nodes.get(random.nextInt(nodes.size()));
+                
+                HyperGraphNode<Integer, Integer, Integer> target = 
+                        nodes.get(random.nextInt(nodes.size()));
+                
+                HyperGraphPath<Integer, Integer, Integer> expected = 
+                        HyperGraphPathFinder.find(source,
+                                                  target, 
+                                                  weightFunction);
+                
+                HyperGraphPath<Integer, Integer, Integer> path = 
+                        labels.getPath(source, target);
+                
+                assertEquals(expected.isNonExistent(), path.isNonExistent());
+                
+                if (expected.isNonExistent()) {
+                    assertEquals(weightFunction.maxAsLong(), 
+                                 labels.distance(source, target));
+                } else {
+                    assertEquals((long) expected.getWeight(), 
+                                 labels.distance(source, target));
+                    
+                    assertEquals(expected.getWeight(), path.getWeight());
+                    assertEquals(source, path.getPathHyperNodes().get(0));
+                    assertEquals(target, 
+                                 path.getPathHyperNodes()
+                                     .get(path.getPathHyperNodes().size() 
+                                          - 1));
+                }
+            }
+        }
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void throwsOnPathWithoutPaths() {
+        HyperGraphNode<Integer, Integer, Integer> node = new HyperGraphNode<>(1, 1);
+        HubLabels<Integer, Integer, Integer> labels = 
+                HubLabels.of(HyperGraphSnapshot.of(List.of(node)), 
+                             weightFunction);
+        
+        assertFalse(labels.storesPaths());
+        labels.getPath(node, node);
+    }
+}
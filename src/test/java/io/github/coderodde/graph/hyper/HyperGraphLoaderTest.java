@@ -0,0 +1,228 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import io.github.coderodde.graph.hyper.demo.RealWeightFunction;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public class HyperGraphLoaderTest {
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void loadsHMetis() throws IOException {
+        Path file = write("% a comment",
+                          "3 5 11",
+                          "2 1 2",
+                          "5 2 3 4 3",
+                          "",
+                          "1 5",
+                          "1",
+                          "2",
+                          "3",
+                          "4",
+                          "0");
+        
+        HyperGraphSnapshot<Long, Long, Integer> graph =
+                HyperGraphLoader.loadSnapshot(file,
+                                              HyperGraphLoader.Format.HMETIS,
+                                              weightFunction);
+        
+        assertEquals(5, graph.getNodeCount());
+        assertEquals(3, graph.getEdgeCount());
+        assertEquals(Long.valueOf(2L), graph.getNode(1).getId());
+        assertEquals(Integer.valueOf(2), graph.getNodeWeight(1));
+        assertEquals(Long.valueOf(2L), graph.getEdge(1).getId());
+        assertEquals(Integer.valueOf(5), graph.getEdgeWeight(1));
+        
+        // The duplicate member 3 is dropped:
+        assertEquals(3, graph.getEdgeSize(1));
+        assertEquals(2, graph.getIncidentEdgeCount(1));
+        assertEquals(2, graph.getComponentCount());
+        assertTrue(graph.areConnected(0, 3));
+        assertFalse(graph.areConnected(0, 4));
+        
+        HyperGraphPath<Long, Long, Integer> path =
+                HyperGraphSnapshotPathFinder.biFind(graph,
+                                                    0,
+                                                    3,
+                                                    weightFunction,
+                                                    new SearchContext());
+        
+        assertEquals(Integer.valueOf(1 + 2 + 2 + 5 + 4), path.getWeight());
+    }
+    
+    @Test
+    public void loadsUnweightedHMetis() throws IOException {
+        Path file = write("2 3", "1 2", "2 3");
+        
+        HyperGraphSnapshot<Long, Long, Double> graph =
+                HyperGraphLoader.loadSnapshot(file,
+                                              HyperGraphLoader.Format.HMETIS,
+                                              new RealWeightFunction());
+        
+        assertEquals(Double.valueOf(1.0), graph.getEdgeWeight(0));
+        assertEquals(Double.valueOf(0.0), graph.getNodeWeight(2));
+        assertEquals(1, graph.getComponentCount());
+    }
+    
+    @Test
+    public void loadsEdgeListNodes() throws IOException {
+        Path file = write("# id weight members",
+                          "10 3 100 200",
+                          "20 4 200 300 -7");
+        
+        List<HyperGraphNode<Long, Long, Integer>> nodes =
+                HyperGraphLoader.loadNodes(file,
+                                           HyperGraphLoader.Format.EDGE_LIST,
+                                           weightFunction);
+        
+        assertEquals(4, nodes.size());
+        
+        Map<Long, HyperGraphNode<Long, Long, Integer>> nodeMap =
+                nodes.stream()
+                     .collect(Collectors.toMap(HyperGraphNode::getId,
+                                               node -> node));
+        
+        HyperGraphNode<Long, Long, Integer> node200 = nodeMap.get(200L);
+        
+        Set<Long> edgeIds = node200.getIncidentHyperEdges()
+                                   .stream()
+                                   .map(HyperGraphEdge::getId)
+                                   .collect(Collectors.toSet());
+        
+        assertEquals(Set.of(10L, 20L), edgeIds);
+        
+        for (HyperGraphNode<Long, Long, Integer> node : nodes) {
+            assertTrue(ComponentIndex.areConnected(node, node200));
+        }
+        
+        HyperGraphPath<Long, Long, Integer> path =
+                HyperGraphPathFinder.find(nodeMap.get(100L),
+                                          nodeMap.get(-7L),
+                                          weightFunction);
+        
+        assertEquals(Integer.valueOf(7), path.getWeight());
+    }
+    
+    @Test
+    public void agreesWithSnapshotOfObjects() throws IOException {
+        Random random = new Random(19L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 3000, 2500, 2, 5);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> expected =
+                HyperGraphSnapshot.of(nodes);
+        
+        List<String> lines = new ArrayList<>();
+        Map<Long, Integer> expectedEdges = new HashMap<>();
+        
+        for (int e = 0; e < expected.getEdgeCount(); ++e) {
+            expectedEdges.put(expected.getEdge(e).getId().longValue(), e);
+            
+            StringBuilder sb = new StringBuilder();
+            sb.append(expected.getEdge(e).getId())
+              .append('\t')
+              .append(expected.getEdgeWeight(e));
+            
+            for (int i = 0; i < expected.getEdgeSize(e); ++i) {
+                sb.append(' ')
+                  .append(expected.getNode(expected.getEdgeMember(e, i))
+                                  .getId());
+            }
+            
+            lines.add(sb.toString());
+        }
+        
+        Path file = write(lines.toArray(String[]::new));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        
+        try {
+            HyperGraphSnapshot<Long, Long, Integer> graph =
+                    HyperGraphLoader.loadSnapshot(
+                            file,
+                            HyperGraphLoader.Format.EDGE_LIST,
+                            weightFunction,
+                            pool);
+            
+            assertEquals(expected.getEdgeCount(), graph.getEdgeCount());
+            
+            for (int e = 0; e < graph.getEdgeCount(); ++e) {
+                int expectedEdge = expectedEdges.get(graph.getEdge(e).getId());
+                
+                assertEquals(expected.getEdgeWeight(expectedEdge),
+                             graph.getEdgeWeight(e));
+                assertEquals(getMemberIds(expected, expectedEdge),
+                             getMemberIds(graph, e));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    public void reportsTheMalformedLine() throws IOException {
+        Path file = write("1 1 1 2", "", "2 x 1 2");
+        
+        try {
+            HyperGraphLoader.loadSnapshot(file,
+                                          HyperGraphLoader.Format.EDGE_LIST,
+                                          weightFunction);
+            fail();
+        } catch (IOException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().contains(":3: "));
+        }
+    }
+    
+    @Test(expected = IOException.class)
+    public void rejectsMemberOutOfRange() throws IOException {
+        HyperGraphLoader.loadSnapshot(write("1 2", "1 3"),
+                                      HyperGraphLoader.Format.HMETIS,
+                                      weightFunction);
+    }
+    
+    @Test(expected = IOException.class)
+    public void rejectsDuplicateEdgeIds() throws IOException {
+        HyperGraphLoader.loadSnapshot(write("1 1 1 2", "1 1 2 3"),
+                                      HyperGraphLoader.Format.EDGE_LIST,
+                                      weightFunction);
+    }
+    
+    private static Set<Long> getMemberIds(HyperGraphSnapshot<?, ?, ?> graph,
+                                          int edge) {
+        Set<Long> ids = new HashSet<>();
+        
+        for (int i = 0; i < graph.getEdgeSize(edge); ++i) {
+            Number id = (Number) graph.getNode(graph.getEdgeMember(edge, i))
+                                      .getId();
+            ids.add(id.longValue());
+        }
+        
+        return ids;
+    }
+    
+    private Path write(String... lines) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
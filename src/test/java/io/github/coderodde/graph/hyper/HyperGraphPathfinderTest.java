@@ -1,6 +1,12 @@
 package io.github.coderodde.graph.hyper;
 
 import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import io.github.coderodde.graph.hyper.queue.ElementKeys;
+import io.github.coderodde.graph.hyper.queue.IndexedBucketQueue;
+import io.github.coderodde.graph.hyper.queue.IndexedDaryHeap;
+import io.github.coderodde.graph.hyper.queue.IndexedPairingHeap;
+import java.util.List;
+import java.util.Random;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -85,4 +91,173 @@ public class HyperGraphPathfinderTest {
         assertTrue(path.getPathHyperNodes().isEmpty());
         assertTrue(path.getPathHyperEdges().isEmpty());
     }
+    
+    @Test
+    public void biFindAgreesWithFindOnWideHyperEdges() {
+        Random random = new Random(3L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 500, 60, 2, 40);
+        
+        for (int i = 0; i < 200; ++i) {
+            HyperGraphNode<Integer, Integer, Integer> source =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            HyperGraphNode<Integer, Integer, Integer> target =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            HyperGraphPath<Integer, Integer, Integer> path1 = 
+                    HyperGraphPathFinder.find(source, target, weightFunction);
+            
+            HyperGraphPath<Integer, Integer, Integer> path2 = 
+                    HyperGraphPathFinder.biFind(source, target, weightFunction);
+            
+            assertEquals(path1.isNonExistent(), path2.isNonExistent());
+            assertEquals(path1.getWeight(), path2.getWeight());
+        }
+    }
+    
+    @Test
+    public void queuesAgree() {
+        Random random = new Random(5L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 400, 200, 2, 8);
+        
+        for (int i = 0; i < 100; ++i) {
+            HyperGraphNode<Integer, Integer, Integer> source =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            HyperGraphNode<Integer, Integer, Integer> target =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            Integer expected = 
+                    HyperGraphPathFinder.find(source,
+                                              target,
+                                              weightFunction,
+                                              IndexedDaryHeap.factory(2))
+                                        .getWeight();
+            
+            assertEquals(expected,
+                         HyperGraphPathFinder.find(
+                                 source,
+                                 target,
+                                 weightFunction,
+                                 IndexedPairingHeap.factory()).getWeight());
+            
+            assertEquals(expected,
+                         HyperGraphPathFinder.biFind(
+                                 source,
+                                 target,
+                                 weightFunction,
+                                 IndexedPairingHeap.factory()).getWeight());
+        }
+    }
+    
+    @Test
+    public void boundedWeightsUseBucketQueue() {
+        Random random = new Random(9L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 400, 200, 2, 8);
+        
+        IntegerWeightFunction boundedWeightFunction = 
+                new IntegerWeightFunction(10);
+        
+        assertTrue(HyperGraphPathFinder.queueFactory(boundedWeightFunction)
+                                       .create(1, (ElementKeys) i -> 0L) 
+                    instanceof IndexedBucketQueue);
+        
+        for (int i = 0; i < 100; ++i) {
+            HyperGraphNode<Integer, Integer, Integer> source =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            HyperGraphNode<Integer, Integer, Integer> target =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            Integer expected = HyperGraphPathFinder.find(source,
+                                                         target,
+                                                         weightFunction)
+                                                   .getWeight();
+            
+            assertEquals(expected,
+                         HyperGraphPathFinder.find(
+                                 source,
+                                 target,
+                                 boundedWeightFunction).getWeight());
+            
+            assertEquals(expected,
+                         HyperGraphPathFinder.biFind(
+                                 source,
+                                 target,
+                                 boundedWeightFunction).getWeight());
+        }
+    }
+    
+    @Test
+    public void reusedContextAgreesWithFreshContext() {
+        Random random = new Random(17L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 400, 200, 2, 8);
+        
+        IntegerWeightFunction boundedWeightFunction = 
+                new IntegerWeightFunction(10);
+        
+        SearchContext context = new SearchContext();
+        
+        for (int i = 0; i < 100; ++i) {
+            HyperGraphNode<Integer, Integer, Integer> source =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            HyperGraphNode<Integer, Integer, Integer> target =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            HyperGraphPath<Integer, Integer, Integer> expected = 
+                    HyperGraphPathFinder.find(source, target, weightFunction);
+            
+            IntegerWeightFunction weights = 
+                    i % 2 == 0 ? weightFunction : boundedWeightFunction;
+            
+            assertEquals(expected.getWeight(),
+                         HyperGraphPathFinder.find(source,
+                                                   target,
+                                                   weights,
+                                                   context).getWeight());
+            
+            assertEquals(expected.getWeight(),
+                         HyperGraphPathFinder.biFind(source,
+                                                     target,
+                                                     weights,
+                                                     context).getWeight());
+        }
+    }
+    
+    @Test
+    public void pathContainsRelaxingHyperEdges() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 2);
+        HyperGraphNode<Integer, Integer, Integer> node3 = new HyperGraphNode<>(3, 3);
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge1 = new HyperGraphEdge<>(1, 5);
+        HyperGraphEdge<Integer, Integer, Integer> edge2 = new HyperGraphEdge<>(2, 3);
+        HyperGraphEdge<Integer, Integer, Integer> edge3 = new HyperGraphEdge<>(3, 4);
+        
+        edge1.connectNode(node1);
+        edge1.connectNode(node2);
+        edge2.connectNode(node1);
+        edge2.connectNode(node2);
+        edge2.connectNode(node3);
+        edge3.connectNode(node2);
+        edge3.connectNode(node3);
+        
+        for (HyperGraphPath<Integer, Integer, Integer> path 
+                : List.of(HyperGraphPathFinder.find(node1, 
+                                                    node3, 
+                                                    weightFunction),
+                          HyperGraphPathFinder.biFind(node1, 
+                                                      node3, 
+                                                      weightFunction))) {
+            
+            assertEquals(List.of(node1, node3), path.getPathHyperNodes());
+            assertEquals(List.of(edge2), path.getPathHyperEdges());
+            assertEquals((Integer) 7, path.getWeight());
+        }
+    }
 }
@@ -0,0 +1,183 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import io.github.coderodde.graph.hyper.demo.RealWeightFunction;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public class HyperGraphSnapshotFileTest {
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void roundTrip() throws IOException {
+        Random random = new Random(18L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 1000, 800, 2, 4);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> graph =
+                HyperGraphSnapshot.of(nodes);
+        
+        Path file = folder.newFile().toPath();
+        HyperGraphSnapshotFile.write(graph,
+                                     file,
+                                     SnapshotCodec.INTEGER,
+                                     SnapshotCodec.INTEGER,
+                                     weightFunction);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> opened =
+                HyperGraphSnapshotFile.open(file,
+                                            SnapshotCodec.INTEGER,
+                                            SnapshotCodec.INTEGER,
+                                            weightFunction);
+        
+        assertEquals(graph.getNodeCount(), opened.getNodeCount());
+        assertEquals(graph.getEdgeCount(), opened.getEdgeCount());
+        assertEquals(graph.getComponentCount(), opened.getComponentCount());
+        assertArrayEquals(graph.nodeEdgeOffsets, opened.nodeEdgeOffsets);
+        assertArrayEquals(graph.nodeEdges, opened.nodeEdges);
+        assertArrayEquals(graph.edgeNodeOffsets, opened.edgeNodeOffsets);
+        assertArrayEquals(graph.edgeNodes, opened.edgeNodes);
+        
+        for (int i = 0; i < graph.getNodeCount(); ++i) {
+            assertEquals(graph.getNode(i).getId(), opened.getNode(i).getId());
+            assertEquals(graph.getNodeWeight(i), opened.getNodeWeight(i));
+            assertEquals(graph.getComponent(i), opened.getComponent(i));
+            assertEquals(i, opened.getNodeIndex(graph.getNode(i)));
+        }
+        
+        for (int i = 0; i < graph.getEdgeCount(); ++i) {
+            assertEquals(graph.getEdge(i).getId(), opened.getEdge(i).getId());
+            assertEquals(graph.getEdgeWeight(i), opened.getEdgeWeight(i));
+        }
+        
+        SearchContext context = new SearchContext();
+        
+        for (int i = 0; i < 100; ++i) {
+            int source = random.nextInt(graph.getNodeCount());
+            int target = random.nextInt(graph.getNodeCount());
+            
+            HyperGraphPath<Integer, Integer, Integer> expected =
+                    HyperGraphSnapshotPathFinder.biFind(graph,
+                                                        source,
+                                                        target,
+                                                        weightFunction,
+                                                        context);
+            
+            HyperGraphPath<Integer, Integer, Integer> path =
+                    HyperGraphSnapshotPathFinder.biFind(opened,
+                                                        source,
+                                                        target,
+                                                        weightFunction,
+                                                        context);
+            
+            assertEquals(expected.isNonExistent(), path.isNonExistent());
+            
+            if (!path.isNonExistent()) {
+                assertEquals(expected.getWeight(), path.getWeight());
+            }
+        }
+    }
+    
+    @Test
+    public void roundTripWithDoubleWeights() throws IOException {
+        HyperGraphNode<String, String, Double> node1 =
+                new HyperGraphNode<>("a", 0.5);
+        HyperGraphNode<String, String, Double> node2 =
+                new HyperGraphNode<>("äö", 1.25);
+        HyperGraphEdge<String, String, Double> edge =
+                new HyperGraphEdge<>("e", 2.0);
+        
+        edge.connectNode(node1);
+        edge.connectNode(node2);
+        
+        RealWeightFunction weights = new RealWeightFunction();
+        Path file = folder.newFile().toPath();
+        
+        HyperGraphSnapshotFile.write(HyperGraphSnapshot.of(List.of(node1)),
+                                     file,
+                                     SnapshotCodec.STRING,
+                                     SnapshotCodec.STRING,
+                                     weights);
+        
+        HyperGraphSnapshot<String, String, Double> opened =
+                HyperGraphSnapshotFile.open(file,
+                                            SnapshotCodec.STRING,
+                                            SnapshotCodec.STRING,
+                                            weights);
+        
+        assertEquals("a", opened.getNode(0).getId());
+        assertEquals("äö", opened.getNode(1).getId());
+        assertEquals("e", opened.getEdge(0).getId());
+        assertEquals(Double.valueOf(1.25), opened.getNodeWeight(1));
+        assertEquals(Double.valueOf(2.0), opened.getEdgeWeight(0));
+    }
+    
+    @Test(expected = IOException.class)
+    public void detectsCorruption() throws IOException {
+        Path file = writeSmallSnapshot();
+        
+        try (FileChannel channel = FileChannel.open(file,
+                                                    StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            ByteBuffer b = ByteBuffer.allocate(1);
+            channel.read(b, HyperGraphSnapshotFile.HEADER_SIZE);
+            b.put(0, (byte) (b.get(0) ^ 1)).rewind();
+            channel.write(b, HyperGraphSnapshotFile.HEADER_SIZE);
+        }
+        
+        HyperGraphSnapshotFile.open(file,
+                                    SnapshotCodec.INTEGER,
+                                    SnapshotCodec.INTEGER,
+                                    weightFunction);
+    }
+    
+    @Test(expected = IOException.class)
+    public void detectsBadMagic() throws IOException {
+        Path file = writeSmallSnapshot();
+        
+        try (FileChannel channel = FileChannel.open(file,
+                                                    StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{ 'X' }), 0L);
+        }
+        
+        HyperGraphSnapshotFile.open(file,
+                                    SnapshotCodec.INTEGER,
+                                    SnapshotCodec.INTEGER,
+                                    weightFunction);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMismatchingWeights() throws IOException {
+        HyperGraphSnapshotFile.open(writeSmallSnapshot(),
+                                    SnapshotCodec.INTEGER,
+                                    SnapshotCodec.INTEGER,
+                                    new RealWeightFunction());
+    }
+    
+    private Path writeSmallSnapshot() throws IOException {
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(new Random(1L), 20, 10, 2, 3);
+        
+        Path file = folder.newFile().toPath();
+        HyperGraphSnapshotFile.write(HyperGraphSnapshot.of(nodes),
+                                     file,
+                                     SnapshotCodec.INTEGER,
+                                     SnapshotCodec.INTEGER,
+                                     weightFunction);
+        return file;
+    }
+}
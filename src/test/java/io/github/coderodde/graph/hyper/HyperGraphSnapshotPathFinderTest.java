@@ -0,0 +1,287 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class HyperGraphSnapshotPathFinderTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void find() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 2);
+        HyperGraphNode<Integer, Integer, Integer> node3 = new HyperGraphNode<>(3, 3);
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge1 = new HyperGraphEdge<>(1, 3);
+        HyperGraphEdge<Integer, Integer, Integer> edge2 = new HyperGraphEdge<>(2, 4);
+        
+        edge1.connectNode(node1);
+        edge1.connectNode(node2);
+        edge2.connectNode(node2);
+        edge2.connectNode(node3);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> snapshot =
+                HyperGraphSnapshot.of(List.of(node1));
+        
+        assertEquals(3, snapshot.getNodeCount());
+        assertEquals(2, snapshot.getEdgeCount());
+        
+        HyperGraphPath<Integer, Integer, Integer> path1 =
+                HyperGraphSnapshotPathFinder.find(snapshot,
+                                                  node1,
+                                                  node3,
+                                                  weightFunction);
+        
+        HyperGraphPath<Integer, Integer, Integer> path2 =
+                HyperGraphSnapshotPathFinder.biFind(snapshot,
+                                                    node1,
+                                                    node3,
+                                                    weightFunction);
+        
+        for (HyperGraphPath<Integer, Integer, Integer> path
+                : List.of(path1, path2)) {
+            
+            assertEquals((Integer) 13, path.getWeight());
+            assertEquals(List.of(node1, node2, node3),
+                         path.getPathHyperNodes());
+            
+            assertEquals(List.of(edge1, edge2), path.getPathHyperEdges());
+        }
+    }
+    
+    @Test
+    public void returnEmptyPathOnDisconnectedGraph() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 10);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 20);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> snapshot =
+                HyperGraphSnapshot.of(List.of(node1, node2));
+        
+        assertTrue(HyperGraphSnapshotPathFinder.find(snapshot,
+                                                     node1,
+                                                     node2,
+                                                     weightFunction)
+                                               .isNonExistent());
+        
+        assertTrue(HyperGraphSnapshotPathFinder.biFind(snapshot,
+                                                       node1,
+                                                       node2,
+                                                       weightFunction)
+                                               .isNonExistent());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwOnNodeNotInSnapshot() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 10);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 20);
+        
+        HyperGraphSnapshotPathFinder.find(HyperGraphSnapshot.of(List.of(node1)),
+                                          node1,
+                                          node2,
+                                          weightFunction);
+    }
+    
+    @Test
+    public void agreesWithHyperGraphPathFinder() {
+        Random random = new Random(1L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 300, 150, 2, 6);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> snapshot =
+                HyperGraphSnapshot.of(nodes);
+        
+        WeightFunction<Integer> objectWeightFunction = weightFunction;
+        IntegerWeightFunction boundedWeightFunction = 
+                new IntegerWeightFunction(10);
+        
+        for (int i = 0; i < 100; ++i) {
+            HyperGraphNode<Integer, Integer, Integer> source =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            HyperGraphNode<Integer, Integer, Integer> target =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            HyperGraphPath<Integer, Integer, Integer> expected =
+                    HyperGraphPathFinder.find(source, target, weightFunction);
+            
+            List<HyperGraphPath<Integer, Integer, Integer>> paths = 
+                    List.of(HyperGraphSnapshotPathFinder.find(
+                                    snapshot,
+                                    source,
+                                    target,
+                                    objectWeightFunction),
+                            HyperGraphSnapshotPathFinder.biFind(
+                                    snapshot,
+                                    source,
+                                    target,
+                                    objectWeightFunction),
+                            HyperGraphSnapshotPathFinder.find(
+                                    snapshot,
+                                    source,
+                                    target,
+                                    weightFunction),
+                            HyperGraphSnapshotPathFinder.biFind(
+                                    snapshot,
+                                    source,
+                                    target,
+                                    weightFunction),
+                            HyperGraphSnapshotPathFinder.find(
+                                    snapshot,
+                                    source,
+                                    target,
+                                    DOUBLE_WEIGHT_FUNCTION),
+                            HyperGraphSnapshotPathFinder.biFind(
+                                    snapshot,
+                                    source,
+                                    target,
+                                    DOUBLE_WEIGHT_FUNCTION),
+                            HyperGraphSnapshotPathFinder.find(
+                                    snapshot,
+                                    source,
+                                    target,
+                                    boundedWeightFunction),
+                            HyperGraphSnapshotPathFinder.biFind(
+                                    snapshot,
+                                    source,
+                                    target,
+                                    boundedWeightFunction));
+            
+            for (HyperGraphPath<Integer, Integer, Integer> path : paths) {
+                assertEquals(expected.isNonExistent(), path.isNonExistent());
+                assertEquals(expected.getWeight(), path.getWeight());
+            }
+        }
+    }
+    
+    @Test
+    public void reusedContextAgreesWithFreshContext() {
+        Random random = new Random(3L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 300, 150, 2, 6);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> snapshot =
+                HyperGraphSnapshot.of(nodes);
+        
+        SearchContext context = new SearchContext();
+        
+        for (int i = 0; i < 100; ++i) {
+            int source = random.nextInt(snapshot.getNodeCount());
+            int target = random.nextInt(snapshot.getNodeCount());
+            
+            Integer expected = 
+                    HyperGraphSnapshotPathFinder.find(snapshot,
+                                                      source,
+                                                      target,
+                                                      weightFunction,
+                                                      new SearchContext())
+                                                .getWeight();
+            
+            assertEquals(expected, 
+                         HyperGraphSnapshotPathFinder.find(snapshot,
+                                                           source,
+                                                           target,
+                                                           weightFunction,
+                                                           context)
+                                                     .getWeight());
+            
+            assertEquals(expected, 
+                         HyperGraphSnapshotPathFinder.biFind(snapshot,
+                                                             source,
+                                                             target,
+                                                             weightFunction,
+                                                             context)
+                                                     .getWeight());
+            
+            if (i % 10 == 0) {
+                assertEquals(expected, 
+                             HyperGraphSnapshotPathFinder.biFind(
+                                     snapshot,
+                                     source,
+                                     target,
+                                     DOUBLE_WEIGHT_FUNCTION,
+                                     context).getWeight());
+            }
+        }
+    }
+    
+    private static final DoubleWeightFunction<Integer> DOUBLE_WEIGHT_FUNCTION = 
+            new DoubleWeightFunction<>() {
+        
+        @Override
+        public double toDouble(Integer weight) {
+            return weight;
+        }
+        
+        @Override
+        public Integer fromDouble(double weight) {
+            return (int) weight;
+        }
+        
+        @Override
+        public double zeroAsDouble() {
+            return 0.0;
+        }
+        
+        @Override
+        public double maxAsDouble() {
+            return Double.POSITIVE_INFINITY;
+        }
+        
+        @Override
+        public double applyAsDouble(double w1, double w2) {
+            return w1 + w2;
+        }
+        
+        @Override
+        public int compareAsDouble(double weight1, double weight2) {
+            return Double.compare(weight1, weight2);
+        }
+    };
+    
+    @Test
+    public void genericOverloadsWithBoundedWeights() {
+        Random random = new Random(41L);
+        HyperGraphSnapshot<Integer, Integer, Integer> snapshot =
+                HyperGraphSnapshot.of(
+                        TestGraphs.getRandomHyperGraph(random, 100, 150, 2, 4));
+        
+        // Seen through the generic type, the weights go to the object labels:
+        WeightFunction<Integer> boundedWeights = new IntegerWeightFunction(10);
+        
+        for (int i = 0; i < 50; ++i) {
+            int source = random.nextInt(snapshot.getNodeCount());
+            int target = random.nextInt(snapshot.getNodeCount());
+            
+            HyperGraphPath<Integer, Integer, Integer> expected =
+                    HyperGraphSnapshotPathFinder.find(
+                            snapshot,
+                            snapshot.getNode(source),
+                            snapshot.getNode(target),
+                            weightFunction);
+            
+            for (HyperGraphPath<Integer, Integer, Integer> path 
+                    : List.of(HyperGraphSnapshotPathFinder.find(
+                                      snapshot, 
+                                      snapshot.getNode(source),
+                                      snapshot.getNode(target),
+                                      boundedWeights),
+                              HyperGraphSnapshotPathFinder.biFind(
+                                      snapshot, 
+                                      snapshot.getNode(source),
+                                      snapshot.getNode(target),
+                                      boundedWeights))) {
+                
+                assertEquals(expected.isNonExistent(), path.isNonExistent());
+                
+                if (!expected.isNonExistent()) {
+                    assertEquals(expected.getWeight(), path.getWeight());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class HyperGraphTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void appliesBatches() {
+        HyperGraph<Integer, String, Integer> graph = new HyperGraph<>();
+        
+        assertEquals(0L, graph.getVersion());
+        assertEquals(0, graph.getNodeCount());
+        
+        HyperGraph.Batch<Integer, String, Integer> batch = 
+                new HyperGraph.Batch<>();
+        
+        batch.addNode(1, 1);
+        batch.addNode(2, 2);
+        batch.addNode(3, 3);
+        batch.addEdge("a", 10);
+        batch.connect("a", 1);
+        batch.connect("a", 2);
+        batch.connect("a", 3);
+        batch.addEdge("b", 1);
+        batch.connect("b", 1);
+        batch.connect("b", 3);
+        
+        assertEquals(10, batch.size());
+        assertEquals(1L, graph.apply(batch));
+        
+        HyperGraphSnapshot<Integer, String, Integer> snapshot = 
+                graph.snapshot();
+        
+        assertEquals(3, snapshot.getNodeCount());
+        assertEquals(2, snapshot.getEdgeCount());
+        assertEquals(Integer.valueOf(2), graph.getNode(2).getWeight());
+        assertEquals(Integer.valueOf(10), graph.getEdge("a").getWeight());
+        assertEquals(Integer.valueOf(5), 
+                     HyperGraphSnapshotPathFinder.find(snapshot, 
+                                                       graph.getNode(1), 
+                                                       graph.getNode(3), 
+                                                       weightFunction)
+                                                 .getWeight());
+        
+        batch = new HyperGraph.Batch<>();
+        batch.removeEdge("b");
+        batch.disconnect("a", 2);
+        
+        assertEquals(2L, graph.apply(batch));
+        assertEquals(Integer.valueOf(14), 
+                     HyperGraphSnapshotPathFinder.find(graph.snapshot(), 
+                                                       graph.getNode(1), 
+                                                       graph.getNode(3), 
+                                                       weightFunction)
+                                                 .getWeight());
+        
+        assertFalse(graph.snapshot().areConnected(
+                graph.snapshot().getNodeIndex(graph.getNode(1)),
+                graph.snapshot().getNodeIndex(graph.getNode(2))));
+        
+        // The old snapshot is isolated from the later batches:
+        assertEquals(2, snapshot.getEdgeCount());
+        assertEquals(Integer.valueOf(5), 
+                     HyperGraphSnapshotPathFinder.find(snapshot, 
+                                                       graph.getNode(1), 
+                                                       graph.getNode(3), 
+                                                       weightFunction)
+                                                 .getWeight());
+        
+        batch = new HyperGraph.Batch<>();
+        batch.removeNode(3);
+        graph.apply(batch);
+        
+        assertNull(graph.getNode(3));
+        assertEquals(2, graph.getNodeCount());
+        assertEquals(1, graph.snapshot().getEdgeSize(0));
+    }
+    
+    @Test
+    public void rollsBackInvalidBatches() {
+        HyperGraph<Integer, String, Integer> graph = new HyperGraph<>();
+        HyperGraph.Batch<Integer, String, Integer> batch = 
+                new HyperGraph.Batch<>();
+        
+        batch.addNode(1, 1);
+        batch.addNode(2, 1);
+        batch.addEdge("a", 1);
+        batch.connect("a", 1);
+        batch.connect("a", 2);
+        graph.apply(batch);
+        
+        HyperGraphSnapshot<Integer, String, Integer> snapshot = 
+                graph.snapshot();
+        
+        batch = new HyperGraph.Batch<>();
+        batch.removeEdge("a");
+        batch.addNode(3, 1);
+        batch.connect("b", 3);
+        
+        try {
+            graph.apply(batch);
+            fail("The batch connects a missing edge");
+        } catch (IllegalArgumentException ex) {
+            
+        }
+        
+        assertEquals(1L, graph.getVersion());
+        assertSame(snapshot, graph.snapshot());
+        assertNull(graph.getNode(3));
+        
+        batch = new HyperGraph.Batch<>();
+        batch.addNode(3, 1);
+        batch.connect("a", 3);
+        
+        assertEquals(2L, graph.apply(batch));
+        assertEquals(3, graph.snapshot().getEdgeSize(0));
+        assertEquals(Integer.valueOf(3), 
+                     HyperGraphSnapshotPathFinder.find(graph.snapshot(), 
+                                                       graph.getNode(2), 
+                                                       graph.getNode(3), 
+                                                       weightFunction)
+                                                 .getWeight());
+        
+        // The failed batch may not leave the restored state half-applied:
+        batch = new HyperGraph.Batch<>();
+        batch.addNode(1, 1);
+        
+        try {
+            graph.apply(batch);
+            fail("The batch adds an existing node");
+        } catch (IllegalArgumentException ex) {
+            
+        }
+        
+        assertEquals(2L, graph.getVersion());
+    }
+    
+    @Test
+    public void findsPathsByIds() {
+        HyperGraph<Integer, String, Integer> graph = new HyperGraph<>();
+        HyperGraph.Batch<Integer, String, Integer> batch = 
+                new HyperGraph.Batch<>();
+        
+        batch.addNode(1, 1);
+        batch.addNode(2, 2);
+        batch.addNode(3, 3);
+        batch.addNode(4, 4);
+        batch.addEdge("a", 10);
+        batch.connect("a", 1);
+        batch.connect("a", 2);
+        batch.addEdge("b", 1);
+        batch.connect("b", 2);
+        batch.connect("b", 3);
+        graph.apply(batch);
+        
+        HyperGraphPath<Integer, String, Integer> path = 
+                graph.find(1, 3, weightFunction);
+        
+        assertEquals(Integer.valueOf(17), path.getWeight());
+        assertEquals(path.getWeight(), 
+                     graph.biFind(1, 3, weightFunction).getWeight());
+        assertEquals(Integer.valueOf(17), 
+                     graph.find(1, 3, (WeightFunction<Integer>) weightFunction)
+                          .getWeight());
+        
+        assertTrue(graph.find(1, 4, weightFunction).isNonExistent());
+        
+        // The nodes of the container have no hyperedges of their own:
+        assertTrue(HyperGraphPathFinder.find(graph.getNode(1), 
+                                             graph.getNode(3), 
+                                             weightFunction)
+                                       .isNonExistent());
+        
+        try {
+            graph.find(1, 5, weightFunction);
+            fail("Node 5 does not exist");
+        } catch (IllegalArgumentException ex) {
+            
+        }
+    }
+    
+    @Test
+    public void appliesBatchToSeveralGraphs() {
+        HyperGraph.Batch<Integer, String, Integer> batch = 
+                new HyperGraph.Batch<>();
+        
+        batch.addNode(1, 1);
+        batch.addNode(2, 2);
+        batch.addEdge("a", 3);
+        batch.connect("a", 1);
+        batch.connect("a", 2);
+        
+        HyperGraph<Integer, String, Integer> graph1 = new HyperGraph<>();
+        HyperGraph<Integer, String, Integer> graph2 = new HyperGraph<>();
+        
+        graph1.apply(batch);
+        graph2.apply(batch);
+        
+        assertNotSame(graph1.getNode(1), graph2.getNode(1));
+        assertNotSame(graph1.getEdge("a"), graph2.getEdge("a"));
+        
+        for (HyperGraph<Integer, String, Integer> graph 
+                : List.of(graph1, graph2)) {
+            
+            assertEquals(Integer.valueOf(6), 
+                         HyperGraphSnapshotPathFinder.find(graph.snapshot(), 
+                                                           graph.getNode(1), 
+                                                           graph.getNode(2), 
+                                                           weightFunction)
+                                                     .getWeight());
+        }
+    }
+    
+    /**
+     * Grows a path one node and one hyperedge per batch while the readers 
+     * query the whole path, which exists only if no batch is seen 
+     * half-applied.
+     */
+    @Test
+    public void isolatesTheReadersFromTheWriter() throws Exception {
+        HyperGraph<Integer, Integer, Integer> graph = new HyperGraph<>();
+        HyperGraph.Batch<Integer, Integer, Integer> batch = 
+                new HyperGraph.Batch<>();
+        
+        batch.addNode(0, 1);
+        graph.apply(batch);
+        
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicLong growingReads = new AtomicLong();
+        CountDownLatch started = new CountDownLatch(2);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        
+        for (int i = 0; i < 2; ++i) {
+            Thread reader = new Thread(() -> {
+                try {
+                    started.countDown();
+                    
+                    while (!done.get()) {
+                        HyperGraphSnapshot<Integer, Integer, Integer> 
+                                snapshot = graph.snapshot();
+                        
+                        int last = snapshot.getNodeCount() - 1;
+                        
+                        assertEquals(last, snapshot.getEdgeCount());
+                        assertEquals(
+                                Integer.valueOf(1 + 2 * last), 
+                                HyperGraphSnapshotPathFinder.find(
+                                        snapshot,
+                                        0,
+                                        last,
+                                        weightFunction,
+                                        new SearchContext())
+                                        .getWeight());
+                        
+                        if (last > 0 && !done.get()) {
+                            growingReads.incrementAndGet();
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            });
+            
+            readers.add(reader);
+            reader.start();
+        }
+        
+        started.await();
+        
+        for (int id = 1; id <= 300; ++id) {
+            batch = new HyperGraph.Batch<>();
+            batch.addNode(id, 1);
+            batch.addEdge(id, 1);
+            batch.connect(id, id - 1);
+            batch.connect(id, id);
+            graph.apply(batch);
+            Thread.yield();
+        }
+        
+        // Lets the readers query the final version too:
+        Thread.sleep(10L);
+        done.set(true);
+        
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        
+        assertNull(failure.get());
+        assertTrue(growingReads.get() > 0L);
+        assertEquals(301L, graph.getVersion());
+    }
+}
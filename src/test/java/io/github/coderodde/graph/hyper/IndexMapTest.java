@@ -0,0 +1,40 @@
+package io.github.coderodde.graph.hyper;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class IndexMapTest {
+    
+    @Test
+    public void assignsDenseIndices() {
+        IndexMap<String> map = new IndexMap<>();
+        
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(i, map.indexOf("key" + i));
+        }
+        
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(i, map.indexOf("key" + i));
+            assertEquals(i, map.get("key" + i));
+            assertEquals("key" + i, map.key(i));
+        }
+        
+        assertEquals(1000, map.size());
+        assertEquals(-1, map.get("absent"));
+    }
+    
+    @Test
+    public void clear() {
+        IndexMap<Integer> map = new IndexMap<>();
+        
+        for (int round = 0; round < 10; ++round) {
+            for (int i = 0; i < 100; ++i) {
+                assertEquals(-1, map.get(round * 100 + i));
+                assertEquals(i, map.indexOf(round * 100 + i));
+            }
+            
+            map.clear();
+            assertEquals(0, map.size());
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class KShortestPathFinderTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void findsTheShortestLooplessPaths() {
+        Random random = new Random(24L);
+        SearchContext context = new SearchContext();
+        
+        for (int graph = 0; graph < 40; ++graph) {
+            List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                    TestGraphs.getRandomHyperGraph(random, 9, 12, 2, 3);
+            
+            HyperGraphNode<Integer, Integer, Integer> source =
+                    nodes.get(random.nextInt(nodes.size()));
+            HyperGraphNode<Integer, Integer, Integer> target =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            List<Integer> expected = getAllWeights(source, target);
+            int k = 1 + random.nextInt(30);
+            
+            List<HyperGraphPath<Integer, Integer, Integer>> paths =
+                    KShortestPathFinder.find(source,
+                                             target,
+                                             weightFunction,
+                                             k,
+                                             context);
+            
+            assertEquals(Math.min(k, expected.size()), paths.size());
+            
+            Set<List<?>> distinct = new HashSet<>();
+            
+            for (int i = 0; i < paths.size(); ++i) {
+                HyperGraphPath<Integer, Integer, Integer> path = paths.get(i);
+                
+                assertEquals(expected.get(i), path.getWeight());
+                assertEquals(source, path.getPathHyperNodes().get(0));
+                assertEquals(target, 
+                             path.getPathHyperNodes()
+                                 .get(path.getPathHyperNodes().size() - 1));
+                assertTrue(isLoopless(path));
+                assertTrue(distinct.add(List.of(path.getPathHyperNodes(),
+                                                path.getPathHyperEdges())));
+                
+                // Checks the incidences:
+                new HyperGraphPath<>(path.getPathHyperNodes(),
+                                     path.getPathHyperEdges(),
+                                     weightFunction);
+            }
+        }
+    }
+    
+    @Test
+    public void iteratesLazily() {
+        Random random = new Random(124L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 300, 600, 2, 4);
+        
+        HyperGraphNode<Integer, Integer, Integer> source = nodes.get(0);
+        HyperGraphNode<Integer, Integer, Integer> target = nodes.get(1);
+        
+        Iterator<HyperGraphPath<Integer, Integer, Integer>> iterator =
+                KShortestPathFinder.iterator(source, target, weightFunction);
+        
+        assertTrue(iterator.hasNext());
+        
+        HyperGraphPath<Integer, Integer, Integer> previous = iterator.next();
+        
+        assertEquals(HyperGraphPathFinder.find(source, 
+                                               target, 
+                                               weightFunction).getWeight(),
+                     previous.getWeight());
+        
+        for (int i = 0; i < 50; ++i) {
+            assertTrue(iterator.hasNext());
+            assertTrue(iterator.hasNext());
+            
+            HyperGraphPath<Integer, Integer, Integer> path = iterator.next();
+            
+            assertTrue(previous.getWeight() <= path.getWeight());
+            assertTrue(isLoopless(path));
+            previous = path;
+        }
+    }
+    
+    @Test
+    public void handlesTrivialQueries() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = 
+                new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = 
+                new HyperGraphNode<>(2, 1);
+        
+        Iterator<HyperGraphPath<Integer, Integer, Integer>> iterator =
+                KShortestPathFinder.iterator(node1, node2, weightFunction);
+        
+        assertFalse(iterator.hasNext());
+        
+        List<HyperGraphPath<Integer, Integer, Integer>> paths = 
+                KShortestPathFinder.find(node1, node1, weightFunction, 3);
+        
+        assertEquals(1, paths.size());
+        assertEquals(List.of(node1), paths.get(0).getPathHyperNodes());
+        
+        assertTrue(KShortestPathFinder.find(node1, 
+                                            node1, 
+                                            weightFunction, 
+                                            0).isEmpty());
+    }
+    
+    @Test
+    public void handlesDirtyUnreachablePairs() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = 
+                new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = 
+                new HyperGraphNode<>(2, 1);
+        HyperGraphNode<Integer, Integer, Integer> node3 = 
+                new HyperGraphNode<>(3, 1);
+        HyperGraphNode<Integer, Integer, Integer> node4 = 
+                new HyperGraphNode<>(4, 1);
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge = 
+                new HyperGraphEdge<>(1, 1);
+        
+        edge.connectNode(node1);
+        edge.connectNode(node2);
+        edge.disconnectNode(node2);
+        
+        assertTrue(KShortestPathFinder.find(node1, 
+                                            node2, 
+                                            weightFunction, 
+                                            3).isEmpty());
+        
+        // An index that cannot tell the two nodes apart, as while another
+        // thread rebuilds their component:
+        node3.component = node4.component = new ComponentIndex.Element();
+        
+        assertTrue(KShortestPathFinder.find(node3, 
+                                            node4, 
+                                            weightFunction, 
+                                            3).isEmpty());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeK() {
+        HyperGraphNode<Integer, Integer, Integer> node = 
+                new HyperGraphNode<>(1, 1);
+        
+        KShortestPathFinder.find(node, node, weightFunction, -1);
+    }
+    
+    private static boolean isLoopless(
+            HyperGraphPath<Integer, Integer, Integer> path) {
+        
+        return new HashSet<>(path.getPathHyperNodes()).size() 
+                == path.getPathHyperNodes().size();
+    }
+    
+    /**
+     * Returns the sorted weights of all the loopless paths from 
+     * {@code source} to {@code target} by a depth-first search.
+     */
+    private static List<Integer> getAllWeights(
+            HyperGraphNode<Integer, Integer, Integer> source,
+            HyperGraphNode<Integer, Integer, Integer> target) {
+        
+        List<Integer> weights = new ArrayList<>();
+        Set<HyperGraphNode<Integer, Integer, Integer>> visitedNodes = 
+                new HashSet<>();
+        
+        visitedNodes.add(source);
+        getAllWeights(source, 
+                      target, 
+                      source.getWeight(), 
+                      visitedNodes, 
+                      weights);
+        
+        Collections.sort(weights);
+        return weights;
+    }
+    
+    private static void getAllWeights(
+            HyperGraphNode<Integer, Integer, Integer> node,
+            HyperGraphNode<Integer, Integer, Integer> target,
+            int weight,
+            Set<HyperGraphNode<Integer, Integer, Integer>> visitedNodes,
+            List<Integer> weights) {
+        
+        if (node.equals(target)) {
+            weights.add(weight);
+            return;
+        }
+        
+        for (HyperGraphEdge<Integer, Integer, Integer> edge 
+                : node.getIncidentHyperEdges()) {
+            
+            for (HyperGraphNode<Integer, Integer, Integer> child 
+                    : edge.getIncidentHyperNodes()) {
+                
+                if (visitedNodes.add(child)) {
+                    getAllWeights(child, 
+                                  target, 
+                                  weight + edge.getWeight() 
+                                         + child.getWeight(), 
+                                  visitedNodes, 
+                                  weights);
+                    
+                    visitedNodes.remove(child);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class NearestPathTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void findsTheNearestPair() {
+        Random random = new Random(23L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 300, 200, 2, 4);
+        
+        SearchContext context = new SearchContext();
+        
+        for (int i = 0; i < 30; ++i) {
+            List<HyperGraphNode<Integer, Integer, Integer>> sources = 
+                    sample(random, nodes, 1 + random.nextInt(5));
+            List<HyperGraphNode<Integer, Integer, Integer>> targets = 
+                    sample(random, nodes, 1 + random.nextInt(20));
+            Map<HyperGraphNode<Integer, Integer, Integer>, Integer> offsets = 
+                    new HashMap<>();
+            
+            for (HyperGraphNode<Integer, Integer, Integer> source : sources) {
+                offsets.put(source, random.nextInt(30));
+            }
+            
+            checkNearest(sources, 
+                         targets, 
+                         HyperGraphPathFinder.findNearest(sources, 
+                                                          targets, 
+                                                          weightFunction, 
+                                                          context),
+                         new HashMap<>(),
+                         context);
+            
+            checkNearest(sources, 
+                         targets, 
+                         HyperGraphPathFinder.findNearest(offsets, 
+                                                          targets, 
+                                                          weightFunction, 
+                                                          context),
+                         offsets,
+                         context);
+        }
+    }
+    
+    @Test
+    public void startsAtTheSourceInTheTargets() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = 
+                new HyperGraphNode<>(1, 2);
+        HyperGraphNode<Integer, Integer, Integer> node2 = 
+                new HyperGraphNode<>(2, 3);
+        HyperGraphEdge<Integer, Integer, Integer> edge = 
+                new HyperGraphEdge<>(1, 1);
+        
+        edge.connectNode(node1);
+        edge.connectNode(node2);
+        
+        NearestPath<Integer, Integer, Integer> nearest = 
+                HyperGraphPathFinder.findNearest(List.of(node1, node2),
+                                                 List.of(node2),
+                                                 weightFunction);
+        
+        assertEquals(node2, nearest.getSource());
+        assertEquals(node2, nearest.getTarget());
+        assertEquals(Integer.valueOf(3), nearest.getDistance());
+        
+        // The offset makes the other source win:
+        nearest = HyperGraphPathFinder.findNearest(Map.of(node1, 0, node2, 7),
+                                                   List.of(node2),
+                                                   weightFunction);
+        
+        assertEquals(node1, nearest.getSource());
+        assertEquals(Integer.valueOf(6), nearest.getDistance());
+        assertEquals(Integer.valueOf(6), nearest.getPath().getWeight());
+    }
+    
+    @Test
+    public void reportsUnreachableTargets() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = 
+                new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = 
+                new HyperGraphNode<>(2, 1);
+        
+        NearestPath<Integer, Integer, Integer> nearest = 
+                HyperGraphPathFinder.findNearest(List.of(node1),
+                                                 List.of(node2),
+                                                 weightFunction);
+        
+        assertFalse(nearest.isFound());
+        assertNull(nearest.getSource());
+        assertNull(nearest.getDistance());
+        assertTrue(nearest.getPath().isNonExistent());
+        
+        assertFalse(HyperGraphPathFinder.findNearest(List.of(),
+                                                     List.of(node1),
+                                                     weightFunction)
+                                        .isFound());
+    }
+    
+    private void checkNearest(
+            List<HyperGraphNode<Integer, Integer, Integer>> sources,
+            List<HyperGraphNode<Integer, Integer, Integer>> targets,
+            NearestPath<Integer, Integer, Integer> nearest,
+            Map<HyperGraphNode<Integer, Integer, Integer>, Integer> offsets,
+            SearchContext context) {
+        
+        long expected = Long.MAX_VALUE;
+        
+        for (HyperGraphNode<Integer, Integer, Integer> source : sources) {
+            for (HyperGraphNode<Integer, Integer, Integer> target : targets) {
+                HyperGraphPath<Integer, Integer, Integer> path = 
+                        HyperGraphPathFinder.find(source, 
+                                                  target, 
+                                                  weightFunction, 
+                                                  context);
+                
+                if (!path.isNonExistent()) {
+                    expected = Math.min(expected, 
+                                        offsets.getOrDefault(source, 0) 
+                                                + path.getWeight());
+                }
+            }
+        }
+        
+        if (expected == Long.MAX_VALUE) {
+            assertFalse(nearest.isFound());
+            return;
+        }
+        
+        assertTrue(nearest.isFound());
+        assertEquals(expected, nearest.getDistance().longValue());
+        assertTrue(sources.contains(nearest.getSource()));
+        assertTrue(targets.contains(nearest.getTarget()));
+        assertEquals(expected, 
+                     offsets.getOrDefault(nearest.getSource(), 0) 
+                             + nearest.getPath().getWeight());
+    }
+    
+    private static List<HyperGraphNode<Integer, Integer, Integer>> sample(
+            Random random,
+            List<HyperGraphNode<Integer, Integer, Integer>> nodes,
+            int size) {
+        
+        List<HyperGraphNode<Integer, Integer, Integer>> sample = 
+                new ArrayList<>(size);
+        
+        for (int i = 0; i < size; ++i) {
+            sample.add(nodes.get(random.nextInt(nodes.size())));
+        }
+        
+        return sample;
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ParallelBidirectionalPathFinderTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void agreesWithBiFind() {
+        Random random = new Random(17L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 2000, 1800, 2, 4);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> graph =
+                HyperGraphSnapshot.of(nodes);
+        
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        
+        try {
+            ParallelBidirectionalPathFinder<Integer, Integer, Integer> finder =
+                    new ParallelBidirectionalPathFinder<>(graph,
+                                                          weightFunction,
+                                                          executor);
+            SearchContext context = new SearchContext();
+            
+            for (int i = 0; i < 300; ++i) {
+                int source = random.nextInt(graph.getNodeCount());
+                int target = random.nextInt(graph.getNodeCount());
+                
+                HyperGraphPath<Integer, Integer, Integer> expected =
+                        HyperGraphSnapshotPathFinder.biFind(graph,
+                                                            source,
+                                                            target,
+                                                            weightFunction,
+                                                            context);
+                
+                HyperGraphPath<Integer, Integer, Integer> path =
+                        finder.find(source, target);
+                
+                assertEquals(expected.isNonExistent(), path.isNonExistent());
+                
+                if (!path.isNonExistent()) {
+                    List<HyperGraphNode<Integer, Integer, Integer>> pathNodes =
+                            path.getPathHyperNodes();
+                    
+                    assertEquals(expected.getWeight(), path.getWeight());
+                    assertEquals(graph.getNode(source), pathNodes.get(0));
+                    assertEquals(graph.getNode(target),
+                                 pathNodes.get(pathNodes.size() - 1));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    public void trivialPaths() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 2);
+        HyperGraphNode<Integer, Integer, Integer> node3 = new HyperGraphNode<>(3, 3);
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge = new HyperGraphEdge<>(1, 4);
+        
+        edge.connectNode(node1);
+        edge.connectNode(node2);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> graph =
+                HyperGraphSnapshot.of(List.of(node1, node3));
+        
+        ParallelBidirectionalPathFinder<Integer, Integer, Integer> finder =
+                new ParallelBidirectionalPathFinder<>(graph, weightFunction);
+        
+        assertEquals(Integer.valueOf(7), finder.find(node1, node2).getWeight());
+        assertEquals(Integer.valueOf(7), finder.find(node2, node1).getWeight());
+        assertEquals(Integer.valueOf(1), finder.find(node1, node1).getWeight());
+        assertTrue(finder.find(node1, node3).isNonExistent());
+    }
+}
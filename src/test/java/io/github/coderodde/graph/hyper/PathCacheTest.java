@@ -0,0 +1,167 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PathCacheTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void hitsAndInvalidates() {
+        HyperGraphNode<Integer, Integer, Integer> node1 = new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 = new HyperGraphNode<>(2, 2);
+        HyperGraphNode<Integer, Integer, Integer> node3 = new HyperGraphNode<>(3, 3);
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge1 = new HyperGraphEdge<>(1, 10);
+        HyperGraphEdge<Integer, Integer, Integer> edge2 = new HyperGraphEdge<>(2, 1);
+        
+        edge1.connectNode(node1);
+        edge1.connectNode(node3);
+        
+        PathCache<Integer, Integer, Integer> cache = new PathCache<>(100);
+        
+        HyperGraphPath<Integer, Integer, Integer> path =
+                cache.find(node1, node3, weightFunction);
+        
+        assertEquals(Integer.valueOf(14), path.getWeight());
+        assertSame(path, cache.biFind(node1, node3, weightFunction));
+        assertEquals(1L, cache.getStatistics().getHitCount());
+        assertEquals(1L, cache.getStatistics().getMissCount());
+        assertEquals(1, cache.getStatistics().getSize());
+        
+        // A shortcut through node2:
+        edge2.connectNode(node1);
+        edge2.connectNode(node2);
+        edge2.connectNode(node3);
+        
+        assertEquals(Integer.valueOf(5),
+                     cache.find(node1, node3, weightFunction).getWeight());
+        
+        PathCache.Statistics statistics = cache.getStatistics();
+        
+        assertEquals(1L, statistics.getInvalidationCount());
+        assertEquals(2L, statistics.getMissCount());
+        
+        edge2.clear();
+        
+        assertEquals(Integer.valueOf(14),
+                     cache.find(node1, node3, weightFunction).getWeight());
+        
+        edge1.disconnectNode(node3);
+        
+        assertTrue(cache.find(node1, node3, weightFunction).isNonExistent());
+        assertEquals(3L, cache.getStatistics().getInvalidationCount());
+    }
+    
+    @Test
+    public void keepsFrequentPairs() {
+        Random random = new Random(20L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 500, 600, 2, 4);
+        
+        PathCache<Integer, Integer, Integer> cache = new PathCache<>(200);
+        
+        for (int i = 0; i < 5; ++i) {
+            cache.find(nodes.get(0), nodes.get(1), weightFunction);
+        }
+        
+        // A scan of one-off pairs:
+        for (int i = 0; i < 2000; ++i) {
+            cache.find(nodes.get(2 + i % 498),
+                       nodes.get(random.nextInt(500)),
+                       weightFunction);
+        }
+        
+        PathCache.Statistics statistics = cache.getStatistics();
+        assertTrue(statistics.getSize() <= 200);
+        assertTrue(statistics.getEvictionCount() > 0L);
+        
+        long hits = statistics.getHitCount();
+        cache.find(nodes.get(0), nodes.get(1), weightFunction);
+        assertEquals(hits + 1, cache.getStatistics().getHitCount());
+    }
+    
+    @Test
+    public void boundsTheEstimatedBytes() {
+        Random random = new Random(21L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 200, 300, 2, 4);
+        
+        long maximumBytes = 10 * PathCache.ENTRY_BYTES;
+        PathCache<Integer, Integer, Integer> cache =
+                new PathCache<>(1000, maximumBytes);
+        
+        for (int i = 0; i < 100; ++i) {
+            cache.find(nodes.get(i), nodes.get(i + 100), weightFunction);
+            assertTrue(cache.getStatistics().getEstimatedBytes()
+                    <= maximumBytes);
+        }
+        
+        assertTrue(cache.getStatistics().getSize() < 10);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZeroSize() {
+        new PathCache<Integer, Integer, Integer>(0);
+    }
+    
+    @Test
+    public void concurrentMissesOnDirtySet() throws Exception {
+        int chainLength = 20_000;
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                new ArrayList<>(chainLength);
+        
+        for (int i = 0; i < chainLength; ++i) {
+            nodes.add(new HyperGraphNode<>(i, 1));
+        }
+        
+        HyperGraphEdge<Integer, Integer, Integer> lastEdge = null;
+        
+        for (int i = 1; i < chainLength; ++i) {
+            lastEdge = new HyperGraphEdge<>(i, 1);
+            lastEdge.connectNode(nodes.get(i - 1));
+            lastEdge.connectNode(nodes.get(i));
+        }
+        
+        // Splits off the last node and dirties the whole chain:
+        lastEdge.disconnectNode(nodes.get(chainLength - 1));
+        
+        PathCache<Integer, Integer, Integer> cache = new PathCache<>(1000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        
+        try {
+            List<Future<HyperGraphPath<Integer, Integer, Integer>>> futures =
+                    new ArrayList<>();
+            
+            for (int i = 0; i < 80; ++i) {
+                HyperGraphNode<Integer, Integer, Integer> target =
+                        nodes.get(chainLength - 2 - i % 4);
+                
+                futures.add(executor.submit(() ->
+                        cache.find(nodes.get(0), target, weightFunction)));
+            }
+            
+            for (Future<HyperGraphPath<Integer, Integer, Integer>> future
+                    : futures) {
+                assertFalse(future.get().isNonExistent());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        for (int i = 0; i < 4; ++i) {
+            assertFalse(cache.find(nodes.get(0),
+                                   nodes.get(chainLength - 2 - i),
+                                   weightFunction).isNonExistent());
+        }
+    }
+}
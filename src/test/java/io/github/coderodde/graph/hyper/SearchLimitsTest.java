@@ -0,0 +1,273 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SearchLimitsTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    private final HyperGraphNode<Integer, Integer, Integer> node1 =
+            new HyperGraphNode<>(1, 1);
+    private final HyperGraphNode<Integer, Integer, Integer> node2 =
+            new HyperGraphNode<>(2, 1);
+    private final HyperGraphNode<Integer, Integer, Integer> node3 =
+            new HyperGraphNode<>(3, 1);
+    private final HyperGraphNode<Integer, Integer, Integer> node4 =
+            new HyperGraphNode<>(4, 1);
+    private final HyperGraphNode<Integer, Integer, Integer> node5 =
+            new HyperGraphNode<>(5, 1);
+    
+    /**
+     * Builds the path 1 - 2 - 3 - 4 of weight 7 and the shortcut 1 - 4 of
+     * weight 12. The node 5 is isolated.
+     */
+    public SearchLimitsTest() {
+        connect(1, node1, node2);
+        connect(1, node2, node3);
+        connect(1, node3, node4);
+        connect(10, node1, node4);
+    }
+    
+    @Test
+    public void limitsTheCost() {
+        SearchLimits<Integer> limits =
+                SearchLimits.<Integer>none().withMaximumCost(6);
+        
+        SearchResult<Integer, Integer, Integer> result =
+                HyperGraphPathFinder.find(node1, node4, weightFunction, limits);
+        
+        assertEquals(SearchResult.Status.COST_LIMIT_EXCEEDED,
+                     result.getStatus());
+        assertTrue(result.isLimitExceeded());
+        assertTrue(result.getPath().isNonExistent());
+        assertEquals(SearchResult.Status.COST_LIMIT_EXCEEDED,
+                     HyperGraphPathFinder.biFind(node1,
+                                                 node4,
+                                                 weightFunction,
+                                                 limits).getStatus());
+        
+        limits = limits.withMaximumCost(7);
+        
+        assertEquals(Integer.valueOf(7),
+                     HyperGraphPathFinder.find(node1,
+                                               node4,
+                                               weightFunction,
+                                               limits).getPath().getWeight());
+        assertEquals(Integer.valueOf(7),
+                     HyperGraphPathFinder.biFind(node1,
+                                                 node4,
+                                                 weightFunction,
+                                                 limits).getPath().getWeight());
+    }
+    
+    @Test
+    public void limitsTheHops() {
+        SearchLimits<Integer> limits =
+                SearchLimits.<Integer>none().withMaximumHops(1);
+        
+        SearchResult<Integer, Integer, Integer> result =
+                HyperGraphPathFinder.biFind(node1,
+                                            node4,
+                                            weightFunction,
+                                            limits);
+        
+        assertTrue(result.isFound());
+        assertEquals(Integer.valueOf(12), result.getPath().getWeight());
+        assertEquals(1, result.getPath().getPathHyperEdges().size());
+        
+        assertEquals(SearchResult.Status.HOP_LIMIT_EXCEEDED,
+                     HyperGraphPathFinder.find(node1,
+                                               node4,
+                                               weightFunction,
+                                               limits.withMaximumHops(0))
+                                         .getStatus());
+        
+        assertEquals(SearchResult.Status.COST_LIMIT_EXCEEDED,
+                     HyperGraphPathFinder.find(node1,
+                                               node4,
+                                               weightFunction,
+                                               limits.withMaximumCost(11))
+                                         .getStatus());
+        
+        assertEquals(Integer.valueOf(7),
+                     HyperGraphPathFinder.find(node1,
+                                               node4,
+                                               weightFunction,
+                                               limits.withMaximumHops(3))
+                                         .getPath()
+                                         .getWeight());
+    }
+    
+    @Test
+    public void reportsUnreachableTargets() {
+        SearchLimits<Integer> limits =
+                SearchLimits.<Integer>none().withMaximumHops(2)
+                                            .withMaximumCost(1);
+        
+        SearchResult<Integer, Integer, Integer> result =
+                HyperGraphPathFinder.find(node1, node5, weightFunction, limits);
+        
+        assertEquals(SearchResult.Status.UNREACHABLE, result.getStatus());
+        assertFalse(result.isLimitExceeded());
+    }
+    
+    @Test
+    public void stopsOnCancellationAndDeadline() {
+        SearchCancellation cancellation = new SearchCancellation();
+        cancellation.cancel();
+        
+        SearchLimits<Integer> limits =
+                SearchLimits.<Integer>none().withCancellation(cancellation);
+        
+        assertEquals(SearchResult.Status.CANCELLED,
+                     HyperGraphPathFinder.biFind(node1,
+                                                 node4,
+                                                 weightFunction,
+                                                 limits).getStatus());
+        
+        assertEquals(SearchResult.Status.DEADLINE_EXCEEDED,
+                     HyperGraphPathFinder.find(
+                             node1,
+                             node4,
+                             weightFunction,
+                             SearchLimits.<Integer>none()
+                                         .withTimeout(Duration.ZERO))
+                                         .getStatus());
+        
+        Thread.currentThread().interrupt();
+        
+        try {
+            assertEquals(SearchResult.Status.CANCELLED,
+                         HyperGraphPathFinder.find(
+                                 node1,
+                                 node4,
+                                 weightFunction,
+                                 SearchLimits.<Integer>none()
+                                             .withMaximumHops(5))
+                                             .getStatus());
+            
+            // The unbounded searches ignore the interrupt:
+            assertEquals(Integer.valueOf(7),
+                         HyperGraphPathFinder.find(node1,
+                                                   node4,
+                                                   weightFunction)
+                                             .getWeight());
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+    }
+    
+    @Test
+    public void findsTheCheapestPathWithinTheHops() {
+        Random random = new Random(22L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 200, 150, 2, 4);
+        
+        SearchContext context = new SearchContext();
+        
+        for (int i = 0; i < 100; ++i) {
+            HyperGraphNode<Integer, Integer, Integer> source =
+                    nodes.get(random.nextInt(nodes.size()));
+            HyperGraphNode<Integer, Integer, Integer> target =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            int maximumHops = random.nextInt(6);
+            long expected = getWeightWithinHops(nodes,
+                                                source,
+                                                target,
+                                                maximumHops);
+            
+            SearchResult<Integer, Integer, Integer> result =
+                    HyperGraphPathFinder.find(
+                            source,
+                            target,
+                            weightFunction,
+                            SearchLimits.<Integer>none()
+                                        .withMaximumHops(maximumHops),
+                            context);
+            
+            if (expected == Long.MAX_VALUE) {
+                assertFalse(result.isFound());
+            } else {
+                assertTrue(result.isFound());
+                assertEquals(expected, result.getPath()
+                                             .getWeight()
+                                             .longValue());
+                assertTrue(result.getPath().getPathHyperEdges().size()
+                           <= maximumHops);
+            }
+        }
+    }
+    
+    /**
+     * Returns the weight of the cheapest path with at most
+     * {@code maximumHops} hyperedges by relaxing all the hyperedges once per
+     * hop.
+     */
+    private static long getWeightWithinHops(
+            List<HyperGraphNode<Integer, Integer, Integer>> nodes,
+            HyperGraphNode<Integer, Integer, Integer> source,
+            HyperGraphNode<Integer, Integer, Integer> target,
+            int maximumHops) {
+        
+        Set<HyperGraphEdge<Integer, Integer, Integer>> edges = new HashSet<>();
+        
+        for (HyperGraphNode<Integer, Integer, Integer> node : nodes) {
+            edges.addAll(node.getIncidentHyperEdges());
+        }
+        
+        long[] weights = new long[nodes.size()];
+        Arrays.fill(weights, Long.MAX_VALUE);
+        weights[source.getId()] = source.getWeight();
+        
+        for (int hop = 0; hop < maximumHops; ++hop) {
+            long[] next = weights.clone();
+            
+            for (HyperGraphEdge<Integer, Integer, Integer> edge : edges) {
+                for (HyperGraphNode<Integer, Integer, Integer> u
+                        : edge.getIncidentHyperNodes()) {
+                    
+                    if (weights[u.getId()] == Long.MAX_VALUE) {
+                        continue;
+                    }
+                    
+                    for (HyperGraphNode<Integer, Integer, Integer> v
+                            : edge.getIncidentHyperNodes()) {
+                        
+                        long w = weights[u.getId()]
+                               + edge.getWeight()
+                               + v.getWeight();
+                        
+                        next[v.getId()] = Math.min(next[v.getId()], w);
+                    }
+                }
+            }
+            
+            weights = next;
+        }
+        
+        return weights[target.getId()];
+    }
+    
+    private static void connect(
+            int weight,
+            HyperGraphNode<Integer, Integer, Integer> node1,
+            HyperGraphNode<Integer, Integer, Integer> node2) {
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge =
+                new HyperGraphEdge<>(node1.getId() * 10 + node2.getId(),
+                                     weight);
+        
+        edge.connectNode(node1);
+        edge.connectNode(node2);
+    }
+}
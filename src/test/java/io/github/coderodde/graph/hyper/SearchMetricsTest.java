@@ -0,0 +1,184 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public class SearchMetricsTest {
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void reportsObjectSearches() {
+        HyperGraphNode<Integer, Integer, Integer> node1 =
+                new HyperGraphNode<>(1, 1);
+        HyperGraphNode<Integer, Integer, Integer> node2 =
+                new HyperGraphNode<>(2, 2);
+        HyperGraphNode<Integer, Integer, Integer> node3 =
+                new HyperGraphNode<>(3, 3);
+        HyperGraphNode<Integer, Integer, Integer> node4 =
+                new HyperGraphNode<>(4, 4);
+        
+        HyperGraphEdge<Integer, Integer, Integer> edge1 =
+                new HyperGraphEdge<>(1, 1);
+        HyperGraphEdge<Integer, Integer, Integer> edge2 =
+                new HyperGraphEdge<>(2, 1);
+        
+        edge1.connectNode(node1);
+        edge1.connectNode(node2);
+        edge2.connectNode(node2);
+        edge2.connectNode(node3);
+        
+        SearchContext context = new SearchContext();
+        SearchStatistics statistics = new SearchStatistics();
+        context.setStatistics(statistics);
+        
+        HyperGraphPathFinder.find(node1, node3, weightFunction, context);
+        
+        assertEquals("HyperGraphPathFinder.find", statistics.getAlgorithm());
+        assertTrue(statistics.isPathFound());
+        assertEquals(2, statistics.getSettledNodeCount());
+        assertEquals(2L, statistics.getScannedEdgeCount());
+        assertEquals(4L, statistics.getScannedMemberCount());
+        assertTrue(statistics.getSearchNanos()
+                   >= statistics.getTracebackNanos());
+        
+        HyperGraphPathFinder.biFind(node1, node4, weightFunction, context);
+        
+        assertEquals("HyperGraphPathFinder.biFind",
+                     statistics.getAlgorithm());
+        assertFalse(statistics.isPathFound());
+        assertEquals(0, statistics.getSettledNodeCount());
+        assertEquals(0L, statistics.getTracebackNanos());
+        
+        // Not instrumented any more:
+        context.setStatistics(null);
+        HyperGraphPathFinder.find(node3, node1, weightFunction, context);
+        
+        assertEquals("HyperGraphPathFinder.biFind",
+                     statistics.getAlgorithm());
+    }
+    
+    @Test
+    public void aggregatesSnapshotSearches() {
+        Random random = new Random(21L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 500, 400, 2, 4);
+        
+        HyperGraphSnapshot<Integer, Integer, Integer> graph =
+                HyperGraphSnapshot.of(nodes);
+        
+        SearchMetrics metrics = new SearchMetrics();
+        SearchContext context = new SearchContext();
+        SearchStatistics statistics = new SearchStatistics();
+        context.setListener(metrics);
+        
+        long settledNodeCount = 0L;
+        int foundCount = 0;
+        
+        for (int i = 0; i < 100; ++i) {
+            int source = random.nextInt(graph.getNodeCount());
+            int target = random.nextInt(graph.getNodeCount());
+            
+            context.setStatistics(i % 2 == 0 ? statistics : null);
+            
+            HyperGraphPath<Integer, Integer, Integer> path =
+                    HyperGraphSnapshotPathFinder.biFind(graph,
+                                                        source,
+                                                        target,
+                                                        weightFunction,
+                                                        context);
+            
+            if (!path.isNonExistent()) {
+                foundCount++;
+            }
+            
+            if (i % 2 == 0) {
+                assertEquals(!path.isNonExistent(), statistics.isPathFound());
+                assertTrue(statistics.getScannedMemberCount()
+                           >= statistics.getScannedEdgeCount());
+                settledNodeCount += statistics.getSettledNodeCount();
+            }
+        }
+        
+        assertEquals(100L, metrics.getSearchCount());
+        assertEquals(foundCount, metrics.getFoundCount());
+        assertTrue(metrics.getSettledNodeCount() >= settledNodeCount);
+        assertEquals(100L, metrics.getSearchNanosHistogram().getCount());
+        assertEquals(100L, metrics.getSettledNodeHistogram().getCount());
+        
+        long median = metrics.getSettledNodeHistogram().getQuantile(0.5);
+        long maximum = metrics.getSettledNodeHistogram().getQuantile(1.0);
+        
+        assertTrue(median <= maximum);
+        assertTrue(maximum < 2L * graph.getNodeCount());
+        
+        metrics.reset();
+        
+        assertEquals(0L, metrics.getSearchCount());
+        assertEquals(0L, metrics.getQueueSizeHistogram().getQuantile(0.9));
+    }
+    
+    @Test
+    public void histogramBuckets() {
+        SearchMetrics.Histogram histogram = new SearchMetrics.Histogram();
+        
+        histogram.record(0L);
+        histogram.record(1L);
+        histogram.record(5L);
+        histogram.record(Long.MAX_VALUE);
+        
+        assertEquals(1L, histogram.getBucketCount(0));
+        assertEquals(1L, histogram.getBucketCount(1));
+        assertEquals(1L, histogram.getBucketCount(3));
+        assertEquals(0L, histogram.getQuantile(0.0));
+        assertEquals(1L, histogram.getQuantile(0.5));
+        assertEquals(7L, histogram.getQuantile(0.75));
+        assertEquals(Long.MAX_VALUE, histogram.getQuantile(1.0));
+    }
+    
+    @Test
+    public void commitsFlightRecorderEvents() throws IOException {
+        HyperGraphSnapshot<Integer, Integer, Integer> graph =
+                HyperGraphSnapshot.of(
+                        TestGraphs.getRandomHyperGraph(new Random(1L),
+                                                       50,
+                                                       40,
+                                                       2,
+                                                       3));
+        
+        Path file = folder.newFile("search.jfr").toPath();
+        
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.coderodde.graph.hyper.Search");
+            recording.start();
+            
+            HyperGraphSnapshotPathFinder.find(graph,
+                                              0,
+                                              1,
+                                              weightFunction,
+                                              new SearchContext());
+            recording.stop();
+            recording.dump(file);
+        }
+        
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        
+        assertEquals(1, events.size());
+        assertEquals("HyperGraphSnapshotPathFinder.find",
+                     events.get(0).getString("algorithm"));
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.coderodde.graph.hyper;
+
+import io.github.coderodde.graph.hyper.demo.IntegerWeightFunction;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ShortestPathTreeTest {
+    
+    private final IntegerWeightFunction weightFunction =
+            new IntegerWeightFunction();
+    
+    @Test
+    public void agreesWithFind() {
+        Random random = new Random(21L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 300, 120, 2, 6);
+        
+        SearchContext context = new SearchContext();
+        
+        for (int i = 0; i < 5; ++i) {
+            HyperGraphNode<Integer, Integer, Integer> source =
+                    nodes.get(random.nextInt(nodes.size()));
+            
+            ShortestPathTree<Integer, Integer, Integer> tree = 
+                    HyperGraphPathFinder.findTree(source,
+                                                  weightFunction,
+                                                  weightFunction.max(),
+                                                  context);
+            
+            assertEquals(source, tree.getSource());
+            assertEquals(source, tree.getNodes().get(0));
+            
+            for (HyperGraphNode<Integer, Integer, Integer> target : nodes) {
+                HyperGraphPath<Integer, Integer, Integer> expected =
+                        HyperGraphPathFinder.find(source, 
+                                                  target, 
+                                                  weightFunction);
+                
+                HyperGraphPath<Integer, Integer, Integer> path = 
+                        tree.getPath(target);
+                
+                assertEquals(!expected.isNonExistent(), 
+                             tree.contains(target));
+                
+                assertEquals(expected.isNonExistent(), path.isNonExistent());
+                assertEquals(expected.getWeight(), path.getWeight());
+                
+                if (!expected.isNonExistent()) {
+                    assertEquals(expected.getWeight(), 
+                                 tree.getDistance(target));
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void respectsMaximumDistance() {
+        Random random = new Random(23L);
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                TestGraphs.getRandomHyperGraph(random, 300, 120, 2, 6);
+        
+        HyperGraphNode<Integer, Integer, Integer> source = nodes.get(0);
+        Integer maxDistance = 20;
+        
+        ShortestPathTree<Integer, Integer, Integer> tree = 
+                HyperGraphPathFinder.findTree(source,
+                                              weightFunction,
+                                              maxDistance);
+        
+        Integer previous = 0;
+        
+        for (HyperGraphNode<Integer, Integer, Integer> node 
+                : tree.getNodes()) {
+            
+            assertTrue(tree.getDistance(node) <= maxDistance);
+            assertTrue(tree.getDistance(node) >= previous);
+            previous = tree.getDistance(node);
+        }
+        
+        for (HyperGraphNode<Integer, Integer, Integer> node : nodes) {
+            HyperGraphPath<Integer, Integer, Integer> path =
+                    HyperGraphPathFinder.find(source, node, weightFunction);
+            
+            boolean within = !path.isNonExistent() 
+                          && path.getWeight() <= maxDistance;
+            
+            assertEquals(within, tree.contains(node));
+            assertNull(within ? null : tree.getDistance(node));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.coderodde.graph.hyper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This class provides random hypergraphs for the unit tests.
+ */
+final class TestGraphs {
+    
+    private static final int MAXIMUM_HYPER_EDGE_WEIGHT = 10;
+    private static final int MAXIMUM_HYPER_NODE_WEIGHT = 5;
+    
+    private TestGraphs() {
+        
+    }
+    
+    static List<HyperGraphNode<Integer, Integer, Integer>>
+        getRandomHyperGraph(Random random,
+                            int nodeCount,
+                            int edgeCount,
+                            int minimumEdgeSize,
+                            int maximumEdgeSize) {
+        
+        List<HyperGraphNode<Integer, Integer, Integer>> nodes =
+                new ArrayList<>(nodeCount);
+        
+        for (int id = 0; id < nodeCount; ++id) {
+            nodes.add(
+                    new HyperGraphNode<>(
+                            id,
+                            random.nextInt(MAXIMUM_HYPER_NODE_WEIGHT + 1)));
+        }
+        
+        for (int id = 0; id < edgeCount; ++id) {
+            HyperGraphEdge<Integer, Integer, Integer> edge =
+                    new HyperGraphEdge<>(
+                            id,
+                            1 + random.nextInt(MAXIMUM_HYPER_EDGE_WEIGHT));
+            
+            int edgeSize = minimumEdgeSize
+                         + random.nextInt(maximumEdgeSize
+                                        - minimumEdgeSize + 1);
+            
+            for (int i = 0; i < edgeSize; ++i) {
+                edge.connectNode(nodes.get(random.nextInt(nodeCount)));
+            }
+        }
+        
+        return nodes;
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.coderodde.graph.hyper.queue;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class IndexedPriorityQueueTest {
+    
+    private static final int ELEMENTS = 1000;
+    private static final int OPERATIONS = 20_000;
+    private static final long MAX_STEP = 20L;
+    
+    @Test
+    public void binaryHeap() {
+        testQueue(IndexedDaryHeap.factory(2));
+    }
+    
+    @Test
+    public void quaternaryHeap() {
+        testQueue(IndexedDaryHeap.factory(4));
+    }
+    
+    @Test
+    public void pairingHeap() {
+        testQueue(IndexedPairingHeap.factory());
+    }
+    
+    @Test
+    public void bucketQueue() {
+        Random random = new Random(11L);
+        long[] keys = new long[ELEMENTS];
+        boolean[] inQueue = new boolean[ELEMENTS];
+        IndexedPriorityQueue queue = 
+                IndexedBucketQueue.factory(MAX_STEP)
+                                  .create(10, (ElementKeys) element -> keys[element]);
+        long lastKey = 0L;
+        queue.insert(0);
+        inQueue[0] = true;
+        int size = 1;
+        
+        for (int i = 0; i < OPERATIONS; ++i) {
+            int element = random.nextInt(ELEMENTS);
+            int operation = random.nextInt(3);
+            
+            if (operation == 0 && !inQueue[element]) {
+                keys[element] = lastKey + random.nextInt((int) MAX_STEP + 1);
+                queue.insert(element);
+                inQueue[element] = true;
+                size++;
+            } else if (operation == 1 && inQueue[element]) {
+                keys[element] = Math.max(lastKey,
+                                         keys[element] - random.nextInt(3));
+                queue.decreaseKey(element);
+            } else if (operation == 2 && size > 0) {
+                long minimumKey = Long.MAX_VALUE;
+                
+                for (int e = 0; e < ELEMENTS; ++e) {
+                    if (inQueue[e]) {
+                        minimumKey = Math.min(minimumKey, keys[e]);
+                    }
+                }
+                
+                int minimum = queue.extractMinimum();
+                assertEquals(minimumKey, keys[minimum]);
+                assertFalse(queue.contains(minimum));
+                inQueue[minimum] = false;
+                lastKey = minimumKey;
+                size--;
+            }
+            
+            assertEquals(size, queue.size());
+        }
+        
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        
+        for (int e = 0; e < ELEMENTS; ++e) {
+            assertFalse(queue.contains(e));
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void bucketQueueThrowsOnTooLargeStep() {
+        long[] keys = { 0L, MAX_STEP + 1 };
+        IndexedPriorityQueue queue = 
+                new IndexedBucketQueue(MAX_STEP, 2, element -> keys[element]);
+        
+        queue.insert(0);
+        queue.insert(1);
+    }
+    
+    @Test(expected = NoSuchElementException.class)
+    public void bucketQueueThrowsWhenEmpty() {
+        long[] keys = { 0L };
+        IndexedPriorityQueue queue = 
+                new IndexedBucketQueue(MAX_STEP, 1, element -> keys[element]);
+        
+        queue.insert(0);
+        queue.extractMinimum();
+        queue.minimum();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void bucketQueueRequiresKeys() {
+        IndexedBucketQueue.factory(MAX_STEP).create(10, Integer::compare);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwOnTooSmallDegree() {
+        new IndexedDaryHeap(1, 10, Integer::compare);
+    }
+    
+    private static void testQueue(IndexedPriorityQueueFactory factory) {
+        Random random = new Random(7L);
+        long[] keys = new long[ELEMENTS];
+        boolean[] inQueue = new boolean[ELEMENTS];
+        IndexedPriorityQueue queue = 
+                factory.create(10, (e1, e2) -> Long.compare(keys[e1], 
+                                                            keys[e2]));
+        int size = 0;
+        
+        for (int i = 0; i < OPERATIONS; ++i) {
+            int element = random.nextInt(ELEMENTS);
+            int operation = random.nextInt(3);
+            
+            if (operation == 0 && !inQueue[element]) {
+                keys[element] = random.nextInt(10_000);
+                queue.insert(element);
+                inQueue[element] = true;
+                size++;
+            } else if (operation == 1 && inQueue[element]) {
+                keys[element] -= random.nextInt(100);
+                queue.decreaseKey(element);
+            } else if (operation == 2 && size > 0) {
+                long minimumKey = Long.MAX_VALUE;
+                
+                for (int e = 0; e < ELEMENTS; ++e) {
+                    if (inQueue[e]) {
+                        minimumKey = Math.min(minimumKey, keys[e]);
+                    }
+                }
+                
+                assertEquals(minimumKey, keys[queue.minimum()]);
+                int minimum = queue.extractMinimum();
+                assertEquals(minimumKey, keys[minimum]);
+                assertFalse(queue.contains(minimum));
+                inQueue[minimum] = false;
+                size--;
+            }
+            
+            assertEquals(size, queue.size());
+            assertEquals(size == 0, queue.isEmpty());
+        }
+        
+        queue.clear();
+        Arrays.fill(inQueue, false);
+        assertTrue(queue.isEmpty());
+        
+        for (int e = 0; e < ELEMENTS; ++e) {
+            assertFalse(queue.contains(e));
+        }
+    }
+}